@@ -48,20 +48,28 @@ import java.util.NoSuchElementException;
 
 import com.ibm.j9ddr.AddressedCorruptDataException;
 import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.NoSuchFieldException;
+import com.ibm.j9ddr.vm29.pointer.U16Pointer;
+import com.ibm.j9ddr.vm29.pointer.U32Pointer;
+import com.ibm.j9ddr.vm29.pointer.U8Pointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9BuildFlags;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9HiddenInstanceFieldPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9JavaVMPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ROMClassPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ROMFieldShapePointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9UTF8Pointer;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ROMClassHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ROMFieldShapeHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9UTF8Helper;
 import com.ibm.j9ddr.vm29.pointer.helper.ValueTypeHelper;
 import com.ibm.j9ddr.vm29.structure.J9JavaAccessFlags;
+import com.ibm.j9ddr.vm29.structure.J9JavaClassFlags;
 import com.ibm.j9ddr.vm29.types.IDATA;
 import com.ibm.j9ddr.vm29.types.Scalar;
+import com.ibm.j9ddr.vm29.types.U16;
 import com.ibm.j9ddr.vm29.types.U32;
 import com.ibm.j9ddr.vm29.types.U64;
 import com.ibm.j9ddr.vm29.types.UDATA;
@@ -114,6 +122,7 @@ public class J9ObjectFieldOffsetIterator_V1 extends J9ObjectFieldOffsetIterator
 	private UDATA finalizeLinkOffset = new UDATA(0);
 	private int hiddenInstanceFieldWalkIndex = -1;
 	private ArrayList<HiddenInstanceField> hiddenInstanceFieldList = new ArrayList<HiddenInstanceField>();
+	private ArrayList<J9ROMFieldShapePointer> hotObjectFields = new ArrayList<J9ROMFieldShapePointer>();
 
 	private static final UDATA NO_LOCKWORD_NEEDED = new UDATA(-1);
 	private static final UDATA LOCKWORD_NEEDED = new UDATA(-2);
@@ -272,8 +281,7 @@ public class J9ObjectFieldOffsetIterator_V1 extends J9ObjectFieldOffsetIterator
 									offset = new UDATA(backfillOffsetToUse);
 									walkFlags = walkFlags.bitAnd(~J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD);
 								} else {
-									offset = firstObjectOffset.add(objectsSeen.mult(fj9object_t_SizeOf));
-									objectsSeen = objectsSeen.add(1);
+									offset = nextObjectFieldOffset(localField);
 								}
 							}
 						} else {
@@ -282,8 +290,7 @@ public class J9ObjectFieldOffsetIterator_V1 extends J9ObjectFieldOffsetIterator
 								offset = new UDATA(backfillOffsetToUse);
 								walkFlags = walkFlags.bitAnd(~J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD);
 							} else {
-								offset = firstObjectOffset.add(objectsSeen.mult(fj9object_t_SizeOf));
-								objectsSeen = objectsSeen.add(1);
+								offset = nextObjectFieldOffset(localField);
 							}
 						}
 						field = localField;
@@ -312,6 +319,109 @@ public class J9ObjectFieldOffsetIterator_V1 extends J9ObjectFieldOffsetIterator
 		return;
 	}
 
+	// Based on nextObjectFieldOffset in resolvefield.cpp
+	private UDATA nextObjectFieldOffset(J9ROMFieldShapePointer localField) {
+		int hotIndex = hotObjectFields.indexOf(localField);
+		if (hotIndex >= 0) {
+			return firstObjectOffset.add(hotIndex * fj9object_t_SizeOf);
+		}
+		UDATA result = firstObjectOffset.add(objectsSeen.add(hotObjectFields.size()).mult(fj9object_t_SizeOf));
+		objectsSeen = objectsSeen.add(1);
+		return result;
+	}
+
+	// Based on initializeHotObjectFields in HotFieldLayout.cpp
+	private void initializeHotObjectFields() throws CorruptDataException {
+		J9ClassPointer ramClassForRomClass = instanceClass;
+		while (!ramClassForRomClass.isNull() && (!romClass.equals(ramClassForRomClass.romClass()))) {
+			ramClassForRomClass = J9ClassHelper.superclass(ramClassForRomClass);
+		}
+		// the VM only sets the flag if the hot field layout profile moved some fields of the class
+		if (ramClassForRomClass.isNull() || !ramClassForRomClass.classFlags().allBitsIn(J9JavaClassFlags.J9ClassHasHotFieldLayout)) {
+			return;
+		}
+
+		String[] hotFieldNames = findHotFieldNames(J9UTF8Helper.stringValue(romClass.className()));
+		if (hotFieldNames == null) {
+			return;
+		}
+
+		J9ROMFieldShapePointer[] hotFields = new J9ROMFieldShapePointer[hotFieldNames.length];
+		/* The first reference field takes the backfill slot, if there is one; it is never reordered. */
+		boolean skipFirst = walkFlags.anyBitsIn(J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD);
+		Iterator<?> fieldIterator = new J9ROMFieldShapeIterator(romClass.romFields(), romClass.romFieldCount());
+		while (fieldIterator.hasNext()) {
+			J9ROMFieldShapePointer localField = (J9ROMFieldShapePointer) fieldIterator.next();
+			UDATA modifiers = localField.modifiers();
+
+			if (!modifiers.anyBitsIn(J9AccStatic) && modifiers.allBitsIn(J9FieldFlagObject)) {
+				if (skipFirst) {
+					skipFirst = false;
+				} else {
+					String fieldName = J9ROMFieldShapeHelper.getName(localField);
+					for (int i = 0; i < hotFieldNames.length; i++) {
+						if (hotFieldNames[i].equals(fieldName)) {
+							hotFields[i] = localField;
+							break;
+						}
+					}
+				}
+			}
+		}
+
+		/* Keep the profile order, which is hottest first. */
+		for (J9ROMFieldShapePointer hotField : hotFields) {
+			if (hotField != null) {
+				hotObjectFields.add(hotField);
+			}
+		}
+	}
+
+	/**
+	 * Find the hot fields of a class in the hot field layout profile (see HotFieldLayout.cpp for the format).
+	 * @param className the name of the class
+	 * @return the field names, hottest first, or null if the profile has no entry for the class
+	 * @throws CorruptDataException
+	 */
+	private String[] findHotFieldNames(String className) throws CorruptDataException {
+		U8Pointer cursor;
+		try {
+			cursor = vm.hotFieldLayoutData();
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+		if (cursor.isNull()) {
+			return null;
+		}
+
+		long entryCount = U32Pointer.cast(cursor).at(0).longValue();
+		cursor = cursor.add(U32.SIZEOF);
+		for (long i = 0; i < entryCount; i++) {
+			J9UTF8Pointer entryClassName = J9UTF8Pointer.cast(cursor);
+			cursor = cursor.add(serializedUTF8Size(entryClassName));
+			int fieldCount = U16Pointer.cast(cursor).at(0).intValue();
+			cursor = cursor.add(U16.SIZEOF);
+			boolean found = className.equals(J9UTF8Helper.stringValue(entryClassName));
+			String[] fieldNames = found ? new String[fieldCount] : null;
+			for (int j = 0; j < fieldCount; j++) {
+				J9UTF8Pointer fieldName = J9UTF8Pointer.cast(cursor);
+				if (found) {
+					fieldNames[j] = J9UTF8Helper.stringValue(fieldName);
+				}
+				cursor = cursor.add(serializedUTF8Size(fieldName));
+			}
+			if (found) {
+				return fieldNames;
+			}
+		}
+		return null;
+	}
+
+	private static long serializedUTF8Size(J9UTF8Pointer utf8) throws CorruptDataException {
+		/* the length, then the bytes padded to an even length */
+		return (U16.SIZEOF + utf8.length().longValue() + 1) & ~1L;
+	}
+
 	// Based on fieldOffsetsStartDo in resolvefield.cpp
 
 	private LinkedList<HiddenInstanceField> copyHiddenInstanceFieldsList(J9JavaVMPointer vm) throws CorruptDataException {
@@ -455,6 +565,14 @@ public class J9ObjectFieldOffsetIterator_V1 extends J9ObjectFieldOffsetIterator
 			}
 		}
 
+		/*
+		 * With -XX:+HotFieldLayout, the instance reference fields named by the hot field layout profile
+		 * take the first slots of the object area, so that they are close to the object header.
+		 */
+		if (walkFlags.anyBitsIn(J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE)) {
+			initializeHotObjectFields();
+		}
+
 		/*
 		 * Calculate offsets (from the object header) for hidden fields. Hidden fields follow immediately the instance fields of the same type.
 		 * Give instance fields priority for backfill slots.
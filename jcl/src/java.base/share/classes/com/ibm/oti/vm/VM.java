@@ -607,6 +607,16 @@ public static native long getJ9ConstantPoolFromJ9Class(long j9clazz);
  */
 public static native boolean isJVMInSingleThreadedMode();
 
+/**
+ * Write the JIT compilation ledger, enabled with -Xjit:compilationLedgerSize=<n>,
+ * to a file as comma separated values.
+ *
+ * @param fileName the file to write
+ * @return 0 if the ledger was written, 1 if the ledger is not enabled,
+ * -1 if the file could not be written
+ */
+public static native int dumpCompilationLedger(String fileName);
+
 /*[IF RAM_CLASS_CACHE_SUPPORT] */
 /**
  * Queries whether the JVM is running in RCP restore run.
@@ -696,12 +706,31 @@ public static native boolean isJFRV2SupportEnabled();
  */
 public static native boolean isJFRRecordingStarted();
 
+/**
+ * Check if the JFR recording in progress is continuous, meaning its data is kept on disk
+ * in a repository, limited by a maximum age or size.
+ *
+ * @return true if the recording in progress is continuous, false otherwise
+ */
+public static native boolean isJFRRepositoryEnabled();
+
 /**
  * JFR.dump - Flush all the thread buffers and write out the global buffer.
  *
  */
 public static native void jfrDump();
 
+/**
+ * JFR.dump - Write the recent part of a continuous recording to a file, without stopping the recording.
+ * If the recording has no maximum age or size, this is the same as {@link #jfrDump()}.
+ *
+ * @param fileName the file to write, or null for the recording file
+ * @param maxAgeMillis only data recorded within this many milliseconds is written, 0 writes all the data
+ *
+ * @return true on success, false on failure
+ */
+public static native boolean jfrDumpRepository(String fileName, long maxAgeMillis);
+
 /**
  * Set JFR recording file name.
  *
@@ -711,6 +740,16 @@ public static native void jfrDump();
  */
 public static native boolean setJFRRecordingFileName(String fileName);
 
+/**
+ * Set the maximum age and size of the data kept by the next JFR recording. If either is
+ * non-zero, the recording is continuous: its data is kept on disk and the oldest data is
+ * discarded once either limit is exceeded.
+ *
+ * @param maxAgeMillis the maximum age of the data in milliseconds, 0 for no limit
+ * @param maxSize the maximum size of the data in bytes, 0 for no limit
+ */
+public static native void setJFRRepositoryLimits(long maxAgeMillis, long maxSize);
+
 /**
  * Start JFR assuming this is after VM startup.
  *
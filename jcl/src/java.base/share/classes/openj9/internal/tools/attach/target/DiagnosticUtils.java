@@ -135,6 +135,11 @@ public class DiagnosticUtils {
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load";
 
+	/**
+	 * Write the JIT compilation ledger
+	 */
+	private static final String DIAGNOSTICS_COMPILER_LEDGER = "Compiler.ledger";
+
 	/**
 	 * Key for the command sent to executeDiagnosticCommand()
 	 */
@@ -445,6 +450,26 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	private static DiagnosticProperties dumpCompilationLedger(String diagnosticCommand) {
+		DiagnosticProperties result;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		// parts[0] is already verified as DIAGNOSTICS_COMPILER_LEDGER since we are here
+		if (parts.length != 2) {
+			result = DiagnosticProperties.makeErrorProperties("Error: a single <file path> argument is required: " + diagnosticCommand);
+		} else {
+			String filePath = parts[1];
+			int rc = VM.dumpCompilationLedger(filePath);
+			if (0 == rc) {
+				result = DiagnosticProperties.makeStringResult("Compilation ledger written to " + filePath);
+			} else if (rc > 0) {
+				result = DiagnosticProperties.makeErrorProperties("Error: the compilation ledger is not enabled, use -Xjit:compilationLedgerSize=<n>");
+			} else {
+				result = DiagnosticProperties.makeErrorProperties("Error: could not write " + filePath);
+			}
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties doHelp(String diagnosticCommand) {
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
 		/* print a list of the available commands */
@@ -589,6 +614,11 @@ public class DiagnosticUtils {
 			+ "          agentLibrary: the absolute path of the agent%n"
 			+ "          agent option: (Optional) the agent option string%n";
 
+	private static final String DIAGNOSTICS_COMPILER_LEDGER_HELP = "Write the JIT compilation ledger as comma separated values.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_COMPILER_LEDGER + " <file path>%n"
+			+ "          file path: the file to write%n"
+			+ "NOTE: the ledger must be enabled with -Xjit:compilationLedgerSize=<n>%n";
+
 /*[IF CRAC_SUPPORT]*/
 	private static final String DIAGNOSTICS_JDK_CHECKPOINT_HELP = "Produce a JVM checkpoint via CRIUSupport.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_JDK_CHECKPOINT + "%n"
@@ -644,6 +674,9 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
+		commandTable.put(DIAGNOSTICS_COMPILER_LEDGER, DiagnosticUtils::dumpCompilationLedger);
+		helpTable.put(DIAGNOSTICS_COMPILER_LEDGER, DIAGNOSTICS_COMPILER_LEDGER_HELP);
+
 /*[IF CRAC_SUPPORT]*/
 		if (InternalCRIUSupport.isCRaCSupportEnabled()) {
 			commandTable.put(DIAGNOSTICS_JDK_CHECKPOINT, DiagnosticUtils::doCRaCCheckpointJVM);
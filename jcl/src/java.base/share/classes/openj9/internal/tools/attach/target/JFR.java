@@ -51,6 +51,7 @@ public class JFR {
 
 	private static final int ERROR_NO_TIME_UNIT = -1;
 	private static final int ERROR_NO_TIME_DURATION = -2;
+	private static final int ERROR_INVALID_SIZE = -1;
 
 	private static String jfrRecordingFileName = "defaultJ9recording.jfr";
 	private static final String JFR_START_OPTION_HELP =
@@ -62,7 +63,15 @@ public class JFR {
 			+ "             (INTEGER followed by 's' for seconds 'm' for minutes or 'h' for hours)%n"
 			+ "%n"
 			+ "filename     (Optional) Name of the file to which the flight recording data is%n"
-			+ "              written when the recording is stopped.%n";
+			+ "              written when the recording is stopped.%n"
+			+ "%n"
+			+ "maxage       (Optional) Maximum age of the data kept on disk. The recording is%n"
+			+ "              continuous, and older data is discarded. (INTEGER followed by%n"
+			+ "              's' for seconds 'm' for minutes 'h' for hours or 'd' for days)%n"
+			+ "%n"
+			+ "maxsize      (Optional) Maximum size of the data kept on disk. The recording is%n"
+			+ "              continuous, and older data is discarded. (INTEGER optionally%n"
+			+ "              followed by 'k' 'm' or 'g')%n";
 
 	private static final String JFR_STOP_OPTION_HELP =
 			" [options]%n"
@@ -77,7 +86,11 @@ public class JFR {
 			+ "%n"
 			+ "Options:%n"
 			+ "%n"
-			+ "filename        (Optional) Name of the file to which the flight recording data is written.%n";
+			+ "filename        (Optional) Name of the file to which the flight recording data is written.%n"
+			+ "%n"
+			+ "maxage          (Optional) Only write the data recorded within this length of time,%n"
+			+ "                 for a recording started with maxage or maxsize. (INTEGER followed by%n"
+			+ "                 's' for seconds 'm' for minutes 'h' for hours or 'd' for days)%n";
 
 	private static final String JFR_CONFIGURE_OPTION_HELP =
 			" [options]%n"
@@ -156,6 +169,48 @@ public class JFR {
 		return ERROR_NO_TIME_DURATION;
 	}
 
+	/**
+	 * Parse a size parameter, and return the size in bytes.
+	 * The size may be followed by 'k', 'm' or 'g'.
+	 *
+	 * @param paramName the parameter name
+	 * @param parameters the parameter array
+	 *
+	 * @return the size in bytes, 0 if paramName wasn't found,
+	 *         ERROR_INVALID_SIZE if the size isn't valid.
+	 */
+	private static long parseSizeParameter(String paramName, String[] parameters) {
+		String sizeValue = parseStringParameter(paramName, parameters, null);
+		long size = 0L;
+
+		if (sizeValue != null) {
+			long multiplier = 1L;
+			switch (sizeValue.isEmpty() ? ' ' : Character.toLowerCase(sizeValue.charAt(sizeValue.length() - 1))) {
+			case 'k':
+				multiplier = 1024L;
+				break;
+			case 'm':
+				multiplier = 1024L * 1024L;
+				break;
+			case 'g':
+				multiplier = 1024L * 1024L * 1024L;
+				break;
+			default:
+				break;
+			}
+			String numericPart = (multiplier == 1L) ? sizeValue : sizeValue.substring(0, sizeValue.length() - 1);
+			try {
+				size = Math.multiplyExact(Long.parseLong(numericPart), multiplier);
+				if (size < 0) {
+					size = ERROR_INVALID_SIZE;
+				}
+			} catch (NumberFormatException | ArithmeticException e) {
+				size = ERROR_INVALID_SIZE;
+			}
+		}
+		return size;
+	}
+
 	private static String parseStringParameter(String paramName, String[] parameters, String defaultValue) {
 		for (String param : parameters) {
 			if (param.startsWith(paramName + "=")) {
@@ -247,6 +302,17 @@ public class JFR {
 					if (duration == ERROR_NO_TIME_UNIT) {
 						return DiagnosticProperties.makeErrorProperties("The duration doesn't have a time unit.");
 					}
+					long maxAge = parseTimeParameter("maxage", parameters);
+					if (maxAge == ERROR_NO_TIME_UNIT) {
+						return DiagnosticProperties.makeErrorProperties("The maxage doesn't have a time unit.");
+					}
+					long maxSize = parseSizeParameter("maxsize", parameters);
+					if (maxSize == ERROR_INVALID_SIZE) {
+						return DiagnosticProperties.makeErrorProperties("The maxsize isn't a valid size.");
+					}
+					IPC.logMessage("doJFR(): maxage = " + maxAge + ", maxsize = " + maxSize);
+					// A maximum age or size makes the recording continuous, it must be set before VM.startJFR().
+					VM.setJFRRepositoryLimits(Math.max(maxAge, 0L), maxSize);
 					VM.startJFR();
 					if (duration > 0) {
 						Timer timer = new Timer();
@@ -278,9 +344,27 @@ public class JFR {
 				if (!VM.isJFRRecordingStarted()) {
 					result = DiagnosticProperties.makeErrorProperties("Could not create a JFR recording ["
 							+ jfrRecordingFileName + "], run JFR.start first.");
-				} else {
+				} else if (!VM.isJFRRepositoryEnabled()) {
+					// The options only apply to a continuous recording.
 					VM.jfrDump();
 					result = DiagnosticProperties.makeStringResult("Dump all Java threads to " + jfrRecordingFileName);
+				} else {
+					long maxAge = parseTimeParameter("maxage", parameters);
+					if (maxAge == ERROR_NO_TIME_UNIT) {
+						return DiagnosticProperties.makeErrorProperties("The maxage doesn't have a time unit.");
+					}
+					if ((fileName == null) && (maxAge == ERROR_NO_TIME_DURATION)) {
+						VM.jfrDump();
+						result = DiagnosticProperties.makeStringResult("Dump all Java threads to " + jfrRecordingFileName);
+					} else {
+						// The recording continues, the data kept on disk is written to the file.
+						String dumpFileName = (fileName != null) ? fileName : jfrRecordingFileName;
+						if (VM.jfrDumpRepository(fileName, Math.max(maxAge, 0L))) {
+							result = DiagnosticProperties.makeStringResult("Dump JFR recording to " + dumpFileName);
+						} else {
+							result = DiagnosticProperties.makeErrorProperties("Could not write JFR recording to " + dumpFileName);
+						}
+					}
 				}
 				break;
 			default:
@@ -0,0 +1,228 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.CompactGroupStatisticsUtil;
+
+/**
+ * A snapshot of the occupancy of one compact group of the balanced garbage collector
+ * (<code>-Xgcpolicy:balanced</code>), taken at the end of the most recent collection.
+ * A compact group holds the regions of one age that belong to one allocation context.
+ *
+ * @see MemoryMXBean#getCompactGroupStatistics()
+ */
+public final class CompactGroupStatistics {
+
+	private final int compactGroup;
+	private final int allocationContext;
+	private final int age;
+	private final long regionCount;
+	private final long freeBytes;
+	private final long darkMatterBytes;
+	private final long projectedLiveBytes;
+	private final double historicalSurvivalRate;
+	private final double weightedSurvivalRate;
+	private final double projectedSurvivalRate;
+
+	/**
+	 * Creates a new {@link CompactGroupStatistics} instance.
+	 *
+	 * @param compactGroup				the compact group number
+	 * @param allocationContext			the allocation context the compact group belongs to
+	 * @param age						the age of the regions in the compact group
+	 * @param regionCount				the number of regions in the compact group
+	 * @param freeBytes					the free bytes in those regions
+	 * @param darkMatterBytes			the bytes in those regions that are free but too small to be reused
+	 * @param projectedLiveBytes		the projected live bytes in those regions
+	 * @param historicalSurvivalRate	the historical survival rate of the compact group, in the range [0..1]
+	 * @param weightedSurvivalRate		the historical survival rate weighted by that of older compact groups, in the range [0..1]
+	 * @param projectedSurvivalRate		the projected fraction of bytes surviving to the next age, in the range [0..1]
+	 */
+	public CompactGroupStatistics(int compactGroup, int allocationContext, int age, long regionCount,
+			long freeBytes, long darkMatterBytes, long projectedLiveBytes,
+			double historicalSurvivalRate, double weightedSurvivalRate, double projectedSurvivalRate) {
+		super();
+		this.compactGroup = compactGroup;
+		this.allocationContext = allocationContext;
+		this.age = age;
+		this.regionCount = regionCount;
+		this.freeBytes = freeBytes;
+		this.darkMatterBytes = darkMatterBytes;
+		this.projectedLiveBytes = projectedLiveBytes;
+		this.historicalSurvivalRate = historicalSurvivalRate;
+		this.weightedSurvivalRate = weightedSurvivalRate;
+		this.projectedSurvivalRate = projectedSurvivalRate;
+	}
+
+	/**
+	 * @return the compact group number
+	 */
+	public int getCompactGroup() {
+		return compactGroup;
+	}
+
+	/**
+	 * @return the allocation context the compact group belongs to
+	 */
+	public int getAllocationContext() {
+		return allocationContext;
+	}
+
+	/**
+	 * @return the age of the regions in the compact group
+	 */
+	public int getAge() {
+		return age;
+	}
+
+	/**
+	 * @return the number of regions in the compact group
+	 */
+	public long getRegionCount() {
+		return regionCount;
+	}
+
+	/**
+	 * @return the free bytes in the regions of the compact group
+	 */
+	public long getFreeBytes() {
+		return freeBytes;
+	}
+
+	/**
+	 * @return the bytes in the regions of the compact group that are free but too small to be reused
+	 */
+	public long getDarkMatterBytes() {
+		return darkMatterBytes;
+	}
+
+	/**
+	 * @return the projected live bytes in the regions of the compact group
+	 */
+	public long getProjectedLiveBytes() {
+		return projectedLiveBytes;
+	}
+
+	/**
+	 * @return the historical survival rate of the compact group, in the range [0..1]
+	 */
+	public double getHistoricalSurvivalRate() {
+		return historicalSurvivalRate;
+	}
+
+	/**
+	 * @return the historical survival rate weighted by that of older compact groups, in the range [0..1]
+	 */
+	public double getWeightedSurvivalRate() {
+		return weightedSurvivalRate;
+	}
+
+	/**
+	 * @return the projected fraction of bytes surviving to the next age, in the range [0..1]
+	 */
+	public double getProjectedSurvivalRate() {
+		return projectedSurvivalRate;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a {@link CompactGroupStatistics}
+	 * object and attempts to return the root {@link CompactGroupStatistics} instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents a {@link CompactGroupStatistics}
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link CompactGroupStatistics}, If <code>cd</code>
+	 * 		is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to a
+	 * 		{@link CompactGroupStatistics} with the attributes described by the getters of this class
+	 */
+	public static CompactGroupStatistics from(CompositeData cd) {
+		CompactGroupStatistics result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new CompactGroupStatistics ?
+			if (!CompactGroupStatisticsUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new CompactGroupStatistics(
+						((Integer) cd.get("compactGroup")).intValue(), //$NON-NLS-1$
+						((Integer) cd.get("allocationContext")).intValue(), //$NON-NLS-1$
+						((Integer) cd.get("age")).intValue(), //$NON-NLS-1$
+						((Long) cd.get("regionCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("freeBytes")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("darkMatterBytes")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("projectedLiveBytes")).longValue(), //$NON-NLS-1$
+						((Double) cd.get("historicalSurvivalRate")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("weightedSurvivalRate")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("projectedSurvivalRate")).doubleValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link CompactGroupStatistics} object.
+	 *
+	 * @return Text description of this {@link CompactGroupStatistics} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" [compactGroup="); //$NON-NLS-1$
+		sb.append(this.compactGroup);
+		sb.append(", allocationContext="); //$NON-NLS-1$
+		sb.append(this.allocationContext);
+		sb.append(", age="); //$NON-NLS-1$
+		sb.append(this.age);
+		sb.append(", regionCount="); //$NON-NLS-1$
+		sb.append(this.regionCount);
+		sb.append(", freeBytes="); //$NON-NLS-1$
+		sb.append(this.freeBytes);
+		sb.append(", darkMatterBytes="); //$NON-NLS-1$
+		sb.append(this.darkMatterBytes);
+		sb.append(", projectedLiveBytes="); //$NON-NLS-1$
+		sb.append(this.projectedLiveBytes);
+		sb.append(", historicalSurvivalRate="); //$NON-NLS-1$
+		sb.append(this.historicalSurvivalRate);
+		sb.append(", weightedSurvivalRate="); //$NON-NLS-1$
+		sb.append(this.weightedSurvivalRate);
+		sb.append(", projectedSurvivalRate="); //$NON-NLS-1$
+		sb.append(this.projectedSurvivalRate);
+		sb.append("]"); //$NON-NLS-1$
+		return sb.toString();
+	}
+
+}
@@ -322,4 +322,26 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
 	 * @return number of active GC worker threads
 	 */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the occupancy of each compact group of the balanced garbage collector
+	 * (<code>-Xgcpolicy:balanced</code>), as measured at the end of the most recent
+	 * collection. The statistics are gathered once per collection, so calling this
+	 * method does not walk the heap.
+	 *
+	 * @return an array with one element per compact group, which is empty if the
+	 * balanced garbage collector is not in use
+	 */
+	public CompactGroupStatistics[] getCompactGroupStatistics();
+
+	/**
+	 * Returns the total amount of free heap memory, in bytes, that has been returned to
+	 * the operating system because the container the VM runs in was under memory pressure
+	 * (<code>-Xgc:memoryPressureTrim</code>). Memory that is released, reused and released
+	 * again is counted each time it is released.
+	 *
+	 * @return bytes of heap memory released under memory pressure, or 0 if memory
+	 * pressure trimming is not active
+	 */
+	public long getHeapMemoryReleasedUnderPressure();
 }
@@ -103,4 +103,13 @@ public interface ThreadMXBean extends com.sun.management.ThreadMXBean
 			SecurityException,
 			/*[ENDIF] JAVA_SPEC_VERSION < 24 */
 			UnsupportedOperationException;
+
+	/**
+	 * Returns the number of times a virtual thread has parked or waited while pinned to
+	 * its carrier thread since the virtual machine started. Each of these blocks the
+	 * carrier thread rather than unmounting the virtual thread.
+	 * @return the number of times a pinned virtual thread has blocked its carrier thread,
+	 * 			or 0 if virtual threads are not supported
+	 */
+	public long getVirtualThreadPinnedCount();
 }
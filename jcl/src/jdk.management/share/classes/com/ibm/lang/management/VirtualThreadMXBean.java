@@ -0,0 +1,90 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * This interface provides statistics about the virtual threads of the virtual machine,
+ * as seen by the virtual machine: how often virtual threads are mounted on and unmounted
+ * from their carrier threads, how many continuations (the native state of a virtual thread)
+ * exist, how much native memory their stacks use, and how effective the continuation cache is.
+ * <p>
+ * All counts are cumulative from the start of the virtual machine, unless stated otherwise.
+ * Rates can be calculated by sampling the counts at intervals. The values are read without
+ * synchronization, so related values may be slightly inconsistent with each other.
+ * <p>
+ * The bean is registered with the object name <code>com.ibm.lang.management:type=VirtualThread</code>.
+ * Scheduler statistics such as the number of queued virtual threads are properties of the
+ * scheduler implemented in the class library, rather than of the virtual machine, and are not
+ * reported by this bean.
+ */
+public interface VirtualThreadMXBean extends PlatformManagedObject {
+
+	/**
+	 * @return the number of times a virtual thread has been mounted on a carrier thread
+	 */
+	public long getMountCount();
+
+	/**
+	 * @return the number of times a virtual thread has been unmounted from a carrier thread,
+	 * 			either because it yielded or because it terminated
+	 */
+	public long getUnmountCount();
+
+	/**
+	 * @return the number of virtual threads that are currently mounted on a carrier thread
+	 */
+	public long getMountedVirtualThreadCount();
+
+	/**
+	 * @return the number of virtual threads that have started and not yet terminated
+	 */
+	public long getContinuationCount();
+
+	/**
+	 * @return the number of bytes currently allocated for the stacks of virtual threads,
+	 * 			including stacks held in the continuation cache
+	 */
+	public long getContinuationStackMemoryUsed();
+
+	/**
+	 * @return the number of continuations that were satisfied from the per carrier thread (T1) cache
+	 */
+	public long getContinuationCacheT1HitCount();
+
+	/**
+	 * @return the number of continuations that were satisfied from the global (T2) cache
+	 */
+	public long getContinuationCacheT2HitCount();
+
+	/**
+	 * @return the number of continuations that were newly allocated because the caches were empty
+	 */
+	public long getContinuationCacheMissCount();
+
+	/**
+	 * @return the number of terminated continuations that were freed rather than cached
+	 */
+	public long getContinuationCacheFreeCount();
+}
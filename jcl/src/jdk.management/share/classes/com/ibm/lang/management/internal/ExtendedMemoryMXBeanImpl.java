@@ -34,6 +34,7 @@ import javax.management.NotificationFilter;
 import javax.management.NotificationListener;
 
 import com.ibm.java.lang.management.internal.MemoryMXBeanImpl;
+import com.ibm.lang.management.CompactGroupStatistics;
 import com.ibm.lang.management.MemoryMXBean;
 import com.ibm.oti.vm.VM;
 
@@ -141,6 +142,61 @@ public final class ExtendedMemoryMXBeanImpl extends MemoryMXBeanImpl implements
 	}
 /*[ENDIF] JAVA_SPEC_VERSION < 20 */
 
+	// Must match COMPACT_GROUP_*_FIELDS in mgmtmemory.cpp
+	private static final int COMPACT_GROUP_LONG_FIELDS = 7;
+	private static final int COMPACT_GROUP_DOUBLE_FIELDS = 3;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CompactGroupStatistics[] getCompactGroupStatistics() {
+		int count = getCompactGroupCountImpl();
+		long[] longStats = new long[count * COMPACT_GROUP_LONG_FIELDS];
+		double[] doubleStats = new double[count * COMPACT_GROUP_DOUBLE_FIELDS];
+
+		count = getCompactGroupStatisticsImpl(longStats, doubleStats);
+
+		CompactGroupStatistics[] result = new CompactGroupStatistics[count];
+		for (int i = 0; i < count; ++i) {
+			int l = i * COMPACT_GROUP_LONG_FIELDS;
+			int d = i * COMPACT_GROUP_DOUBLE_FIELDS;
+			result[i] = new CompactGroupStatistics((int) longStats[l], (int) longStats[l + 1], (int) longStats[l + 2],
+					longStats[l + 3], longStats[l + 4], longStats[l + 5], longStats[l + 6],
+					doubleStats[d], doubleStats[d + 1], doubleStats[d + 2]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of compact groups, or 0 if the balanced GC policy is not in use
+	 */
+	private native int getCompactGroupCountImpl();
+
+	/**
+	 * Copies the compact group statistics gathered at the end of the most recent collection.
+	 *
+	 * @param longStats receives COMPACT_GROUP_LONG_FIELDS integral values per compact group
+	 * @param doubleStats receives COMPACT_GROUP_DOUBLE_FIELDS survival rates per compact group
+	 * @return the number of compact groups copied
+	 * @see #getCompactGroupStatistics()
+	 */
+	private native int getCompactGroupStatisticsImpl(long[] longStats, double[] doubleStats);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getHeapMemoryReleasedUnderPressure() {
+		return getHeapMemoryReleasedUnderPressureImpl();
+	}
+
+	/**
+	 * @return bytes of heap memory released under memory pressure
+	 * @see #getHeapMemoryReleasedUnderPressure()
+	 */
+	private native long getHeapMemoryReleasedUnderPressureImpl();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -175,6 +175,16 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 		return result;
 	}
 
+	private native static long getVirtualThreadPinnedCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getVirtualThreadPinnedCount() {
+		return getVirtualThreadPinnedCountImpl();
+	}
+
 	private boolean isThreadAllocatedMemoryEnabled = true;
 
 	/**
@@ -121,6 +121,10 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 		ComponentBuilder.create("com.sun.management:type=HotSpotDiagnostic", ExtendedHotSpotDiagnostic.getInstance()) //$NON-NLS-1$
 			.addInterface(HotSpotDiagnosticMXBean.class)
 			.register(allComponents);
+
+		ComponentBuilder.create("com.ibm.lang.management:type=VirtualThread", VirtualThreadMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(com.ibm.lang.management.VirtualThreadMXBean.class)
+			.register(allComponents);
 		/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 		/*[IF JAVA_SPEC_VERSION >= 24]*/
@@ -0,0 +1,147 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.VirtualThreadMXBean;
+
+/**
+ * Runtime type for {@link VirtualThreadMXBean}.
+ */
+public final class VirtualThreadMXBeanImpl implements VirtualThreadMXBean {
+
+	/* The statistics returned by getStatisticImpl(); must match mgmtthread.c. */
+	private static final int STATISTIC_MOUNT_COUNT = 0;
+	private static final int STATISTIC_UNMOUNT_COUNT = 1;
+	private static final int STATISTIC_CONTINUATION_COUNT = 2;
+	private static final int STATISTIC_STACK_BYTES = 3;
+	private static final int STATISTIC_T1_CACHE_HIT_COUNT = 4;
+	private static final int STATISTIC_T2_CACHE_HIT_COUNT = 5;
+	private static final int STATISTIC_CACHE_MISS_COUNT = 6;
+	private static final int STATISTIC_CACHE_FREE_COUNT = 7;
+	private static final int STATISTIC_MOUNTED_COUNT = 8;
+
+	private static final VirtualThreadMXBeanImpl instance = new VirtualThreadMXBeanImpl();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the <code>VirtualThreadMXBeanImpl</code> singleton.
+	 */
+	public static VirtualThreadMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private VirtualThreadMXBeanImpl() {
+		super();
+	}
+
+	private static native long getStatisticImpl(int statistic);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			return new ObjectName("com.ibm.lang.management:type=VirtualThread"); //$NON-NLS-1$
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMountCount() {
+		return getStatisticImpl(STATISTIC_MOUNT_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getUnmountCount() {
+		return getStatisticImpl(STATISTIC_UNMOUNT_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMountedVirtualThreadCount() {
+		return getStatisticImpl(STATISTIC_MOUNTED_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationCount() {
+		return getStatisticImpl(STATISTIC_CONTINUATION_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationStackMemoryUsed() {
+		return getStatisticImpl(STATISTIC_STACK_BYTES);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationCacheT1HitCount() {
+		return getStatisticImpl(STATISTIC_T1_CACHE_HIT_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationCacheT2HitCount() {
+		return getStatisticImpl(STATISTIC_T2_CACHE_HIT_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationCacheMissCount() {
+		return getStatisticImpl(STATISTIC_CACHE_MISS_COUNT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getContinuationCacheFreeCount() {
+		return getStatisticImpl(STATISTIC_CACHE_FREE_COUNT);
+	}
+
+}
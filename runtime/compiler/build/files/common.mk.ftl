@@ -288,6 +288,7 @@ JIT_PRODUCT_SOURCE_FILES+=\
     compiler/compile/J9Compilation.cpp \
     compiler/compile/J9Method.cpp \
     compiler/compile/J9SymbolReferenceTable.cpp \
+    compiler/control/CompilationLedger.cpp \
     compiler/control/CompilationThread.cpp \
     compiler/control/CompileBeforeCheckpoint.cpp \
     compiler/control/DLLMain.cpp \
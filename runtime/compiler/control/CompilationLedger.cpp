@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2025
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "control/CompilationLedger.hpp"
+
+#include <string.h>
+#include "env/IO.hpp"
+#include "env/VerboseLog.hpp"
+#include "env/VMJ9.h"
+#include "infra/CriticalSection.hpp"
+#include "infra/Monitor.hpp"
+
+static const char *compilationKindNames[] = {
+    "local", // LocalCompilation
+    "remote", // RemoteCompilation
+    "aotLoad", // AOTLoad
+    "aotCacheLoad", // AOTCacheLoad
+};
+
+static_assert(sizeof(compilationKindNames) / sizeof(compilationKindNames[0])
+        == TR_CompilationLedger::NumCompilationKinds,
+    "compilationKindNames is not in sync with TR_CompilationLedger::CompilationKind");
+
+TR_CompilationLedger *TR_CompilationLedger::allocate(uint32_t capacity)
+{
+    if (capacity == 0)
+        return NULL;
+
+    Entry *entries = (Entry *)jitPersistentAlloc(capacity * sizeof(Entry));
+    if (!entries)
+        return NULL;
+
+    TR::Monitor *monitor = TR::Monitor::create("JIT-CompilationLedgerMonitor");
+    if (!monitor) {
+        jitPersistentFree(entries);
+        return NULL;
+    }
+
+    TR_CompilationLedger *ledger = new (PERSISTENT_NEW) TR_CompilationLedger(monitor, entries, capacity);
+    if (!ledger) {
+        TR::Monitor::destroy(monitor);
+        jitPersistentFree(entries);
+    }
+    return ledger;
+}
+
+TR_CompilationLedger::TR_CompilationLedger(TR::Monitor *monitor, Entry *entries, uint32_t capacity)
+    : _monitor(monitor)
+    , _entries(entries)
+    , _capacity(capacity)
+    , _numRecorded(0)
+{}
+
+const char *TR_CompilationLedger::getCompilationKindName(CompilationKind kind)
+{
+    return kind < NumCompilationKinds ? compilationKindNames[kind] : "unknown";
+}
+
+void TR_CompilationLedger::record(J9Method *method, const char *signature, const char *optLevelName,
+    CompilationKind kind, uint64_t timeStamp, uint32_t queueTime, uint32_t compTime, uint32_t cpuTime,
+    uint32_t scratchMemKB, uint32_t codeSize)
+{
+    OMR::CriticalSection recordCompilation(_monitor);
+
+    Entry &entry = _entries[_numRecorded % _capacity];
+    entry._method = method;
+    entry._timeStamp = timeStamp;
+    entry._queueTime = queueTime;
+    entry._compTime = compTime;
+    entry._cpuTime = cpuTime;
+    entry._scratchMemKB = scratchMemKB;
+    entry._codeSize = codeSize;
+    entry._optLevelName = optLevelName ? optLevelName : "unknown";
+    entry._kind = (uint8_t)kind;
+    strncpy(entry._signature, signature ? signature : "", MAX_SIGNATURE_LENGTH - 1);
+    entry._signature[MAX_SIGNATURE_LENGTH - 1] = '\0';
+
+    _numRecorded++;
+}
+
+uint32_t TR_CompilationLedger::forEachEntry(EntryVisitor visitor, void *userData)
+{
+    OMR::CriticalSection visitCompilations(_monitor);
+
+    uint32_t numEntries = _numRecorded < _capacity ? (uint32_t)_numRecorded : _capacity;
+    uint64_t first = _numRecorded - numEntries;
+    for (uint32_t i = 0; i < numEntries; i++)
+        visitor(_entries[(first + i) % _capacity], userData);
+    return numEntries;
+}
+
+static void writeEntryToFile(const TR_CompilationLedger::Entry &entry, void *userData)
+{
+    j9jit_fprintf((TR::FILE *)userData, "%llu,%s,%s,%u,%u,%u,%u,%u,%p,%s\n", (unsigned long long)entry._timeStamp,
+        TR_CompilationLedger::getCompilationKindName((TR_CompilationLedger::CompilationKind)entry._kind),
+        entry._optLevelName, entry._queueTime, entry._compTime, entry._cpuTime, entry._scratchMemKB,
+        entry._codeSize, entry._method, entry._signature);
+}
+
+bool TR_CompilationLedger::writeToFile(const char *fileName)
+{
+    TR::FILE *file = j9jit_fopen(fileName, "w", false);
+    if (!file)
+        return false;
+
+    j9jit_fprintf(file,
+        "timeMs,kind,optLevel,queueTimeUs,compTimeUs,cpuTimeUs,scratchMemKB,codeSize,j9method,method\n");
+    forEachEntry(writeEntryToFile, file);
+    j9jit_fclose(file);
+    return true;
+}
+
+static void writeEntryToVerboseLog(const TR_CompilationLedger::Entry &entry, void *userData)
+{
+    TR_VerboseLog::writeLine(TR_Vlog_PERF,
+        "t=%llu %s %s queueTime=%uus time=%uus cpu=%uus mem=%uKB codeSize=%uB j9m=%p %s",
+        (unsigned long long)entry._timeStamp,
+        TR_CompilationLedger::getCompilationKindName((TR_CompilationLedger::CompilationKind)entry._kind),
+        entry._optLevelName, entry._queueTime, entry._compTime, entry._cpuTime, entry._scratchMemKB,
+        entry._codeSize, entry._method, entry._signature);
+}
+
+void TR_CompilationLedger::writeToVerboseLog()
+{
+    TR_VerboseLog::CriticalSection vlogLock;
+    TR_VerboseLog::writeLine(TR_Vlog_PERF, "Compilation ledger: %llu compilations recorded, last %u shown",
+        (unsigned long long)_numRecorded, _numRecorded < _capacity ? (uint32_t)_numRecorded : _capacity);
+    forEachEntry(writeEntryToVerboseLog, NULL);
+}
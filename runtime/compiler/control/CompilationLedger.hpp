@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2025
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#ifndef COMPILATIONLEDGER_HPP
+#define COMPILATIONLEDGER_HPP
+
+#include <stdint.h>
+#include "env/TRMemory.hpp"
+
+struct J9Method;
+namespace TR {
+class Monitor;
+}
+
+//------------------------- class TR_CompilationLedger ------------------------
+// Bounded, in-memory record of the cost of the most recent compilations
+// (JIT compilations, remote compilations and AOT loads). Once the ledger is
+// full, new records overwrite the oldest ones. The ledger is created only
+// when -Xjit:compilationLedgerSize=<n> is specified with n > 0.
+//-----------------------------------------------------------------------------
+class TR_CompilationLedger {
+public:
+    TR_PERSISTENT_ALLOC(TR_MemoryBase::CompilationInfo);
+
+    enum CompilationKind {
+        LocalCompilation = 0,
+        RemoteCompilation, // compiled by a JITServer
+        AOTLoad, // relocated from the local shared class cache
+        AOTCacheLoad, // deserialized from the JITServer AOT cache
+        NumCompilationKinds
+    };
+
+    static const size_t MAX_SIGNATURE_LENGTH = 128; // longer signatures are truncated
+
+    struct Entry {
+        J9Method *_method;
+        uint64_t _timeStamp; // ms since JVM start when the compilation ended
+        uint32_t _queueTime; // usec spent in the compilation queue; 0 if unknown
+        uint32_t _compTime; // usec, wall clock
+        uint32_t _cpuTime; // usec of compilation thread CPU; 0 if unknown
+        uint32_t _scratchMemKB; // peak scratch memory obtained from the system; 0 if unknown
+        uint32_t _codeSize; // bytes of warm and cold code
+        const char *_optLevelName; // must point to a string with static storage duration
+        uint8_t _kind; // CompilationKind
+        char _signature[MAX_SIGNATURE_LENGTH];
+    };
+
+    typedef void (*EntryVisitor)(const Entry &entry, void *userData);
+
+    /**
+     * @brief Allocate a ledger that can hold the given number of records
+     *
+     * @return the ledger, or NULL if memory could not be allocated
+     */
+    static TR_CompilationLedger *allocate(uint32_t capacity);
+
+    static const char *getCompilationKindName(CompilationKind kind);
+
+    /**
+     * @brief Add a record for a completed compilation, evicting the oldest one if the ledger is full
+     */
+    void record(J9Method *method, const char *signature, const char *optLevelName, CompilationKind kind,
+        uint64_t timeStamp, uint32_t queueTime, uint32_t compTime, uint32_t cpuTime, uint32_t scratchMemKB,
+        uint32_t codeSize);
+
+    /**
+     * @brief Call visitor for each record, from the oldest to the most recent one.
+     *        The ledger lock is held while the visitor runs.
+     *
+     * @return the number of records visited
+     */
+    uint32_t forEachEntry(EntryVisitor visitor, void *userData);
+
+    /**
+     * @brief Write all records as comma separated values to the given file
+     *
+     * @return true if the file could be written; false otherwise
+     */
+    bool writeToFile(const char *fileName);
+
+    /**
+     * @brief Write all records to the verbose log
+     */
+    void writeToVerboseLog();
+
+    uint32_t getCapacity() const { return _capacity; }
+
+    uint64_t getNumRecorded() const { return _numRecorded; }
+
+private:
+    TR_CompilationLedger(TR::Monitor *monitor, Entry *entries, uint32_t capacity);
+
+    TR::Monitor *_monitor;
+    Entry *_entries; // circular buffer
+    uint32_t _capacity;
+    uint64_t _numRecorded; // total number of records added; the next record goes at _numRecorded % _capacity
+};
+
+#endif // COMPILATIONLEDGER_HPP
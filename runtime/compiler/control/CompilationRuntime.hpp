@@ -56,6 +56,7 @@ struct J9SharedClassJavacoreDataDescriptor;
 }
 
 class CpuUtilization;
+class TR_CompilationLedger;
 
 namespace TR {
 class CompilationInfoPerThread;
@@ -785,6 +786,7 @@ public:
     TR_MethodToBeCompiled *addOutOfProcessMethodToBeCompiled(JITServer::ServerStream *stream);
 #endif /* defined(J9VM_OPT_JITSERVER) */
     void queueEntry(TR_MethodToBeCompiled *entry);
+    void unlinkFromMethodQueue(TR_MethodToBeCompiled *prev, TR_MethodToBeCompiled *entry);
     void recycleCompilationEntry(TR_MethodToBeCompiled *cur);
 #if defined(J9VM_OPT_JITSERVER)
     void requeueOutOfProcessEntry(TR_MethodToBeCompiled *entry);
@@ -950,6 +952,7 @@ public:
     void decNumInvReqestsQueued(TR_MethodToBeCompiled *entry);
     void incNumInvRequestsQueued(TR_MethodToBeCompiled *entry);
     void updateCompQueueAccountingOnDequeue(TR_MethodToBeCompiled *entry);
+    void updateQueueWaitTimeStats(TR_MethodToBeCompiled *entry);
 
     int32_t getNumCompThreadsActive() const { return _numCompThreadsActive; }
 
@@ -1073,6 +1076,21 @@ public:
 
     void setCpuUtil(CpuUtilization *cpuUtil) { _cpuUtil = cpuUtil; }
 
+    TR_CompilationLedger *getCompilationLedger() const { return _compilationLedger; }
+
+    void setCompilationLedger(TR_CompilationLedger *ledger) { _compilationLedger = ledger; }
+
+    /**
+     * @brief Track the code cache full state for the JFR CodeCacheFull event, which is
+     *        reported once each time the code caches become full.
+     *
+     * @param[in] codeCacheFull : whether the code caches are currently full
+     * @param[out] fullCount : the number of times the code caches have become full
+     *
+     * @return true for the first caller after the code caches become full; false otherwise
+     */
+    bool codeCacheBecameFull(bool codeCacheFull, int32_t &fullCount);
+
     UDATA getVMStateOfCrashedThread() { return _vmStateOfCrashedThread; }
 
     void setVMStateOfCrashedThread(UDATA vmState) { _vmStateOfCrashedThread = vmState; }
@@ -1552,7 +1570,11 @@ private:
 
     TR::CompilationInfoPerThread **_arrayOfCompilationInfoPerThread; // First NULL entry means end of the array
     TR::CompilationInfoPerThread *_compInfoForDiagnosticCompilationThread; // compinfo for dump compilation thread
+    // Single priority-ordered queue shared by all compilation threads. It is not sharded per thread:
+    // the compilation monitor that protects it also protects the compilation thread states, so
+    // per-thread queues would still serialize on that monitor
     TR_MethodToBeCompiled *_methodQueue;
+    TR_MethodToBeCompiled *_methodQueueTail; // last entry in _methodQueue; used for constant time insertions
     TR_MethodToBeCompiled *_methodPool;
     int32_t _methodPoolSize; // shouldn't this and _methodPool be static?
 
@@ -1589,6 +1611,9 @@ private:
     int32_t _numQueuedFirstTimeCompilations; // these have oldStartPC==0
     int32_t _queueWeight; // approximation on overhead to process the entire queue
     CpuUtilization *_cpuUtil; // object to compute cpu utilization
+    TR_CompilationLedger *_compilationLedger; // cost of recent compilations; NULL unless enabled
+    volatile uint32_t _codeCacheFullReported; // 1 after a code cache full state has been reported to JFR
+    volatile uint32_t _numCodeCacheFullReports; // number of times the code caches have become full
     int32_t _overallCompCpuUtilization; // In percentage points. Valid only if TR::Options::_compThreadCPUEntitlement
                                         // has a positive value
     int32_t _idleThreshold; // % of entire machine CPU
@@ -1625,6 +1650,12 @@ private:
     uint32_t _statNumDowngradeInterpretedMethod;
     uint32_t _statNumUpgradeJittedMethod;
     uint32_t _statNumQueuePromotions;
+    uint32_t _statNumQueueTailInsertions; // requests appended to the queue without walking it
+    uint32_t _statNumDequeuedWithEntryTime; // requests taken from the queue that have a valid _entryTime
+    uint64_t _statTotalQueueWaitTime; // usec; only collected when requests record their _entryTime
+    uint64_t _statMaxQueueWaitTime; // usec
+    uint32_t _statNumCompMonitorAcquires; // acquisitions through acquireCompMonitor(), not counting reacquisitions after a wait
+    uint32_t _statNumContendedCompMonitorAcquires; // acquisitions that could not get the monitor right away
     uint32_t _statNumGCRInducedCompilations;
     uint32_t _statNumSamplingJProfilingBodies;
     uint32_t _statNumJProfilingBodies;
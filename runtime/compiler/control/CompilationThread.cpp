@@ -1019,6 +1019,7 @@ TR::CompilationInfoPerThreadBase::CompilationInfoPerThreadBase(TR::CompilationIn
     , _metadata(NULL)
     , _reservedDataCache(NULL)
     , _timeWhenCompStarted()
+    , _cpuTimeWhenCompStarted(-1)
     , _numJITCompilations()
     , _qszWhenCompStarted()
     , _compilationCanBeInterrupted(false)
@@ -1195,6 +1196,9 @@ TR::CompilationInfo::CompilationInfo(J9JITConfig *jitConfig)
 
     PORT_ACCESS_FROM_JAVAVM(jitConfig->javaVM);
     _cpuUtil = 0; // Field will be set in onLoadInternal after option processing
+    _compilationLedger = NULL; // Field will be set in onLoadInternal after option processing
+    _codeCacheFullReported = 0;
+    _numCodeCacheFullReports = 0;
     static char *verySmallQueue = feGetEnv("VERY_SMALL_QUEUE");
     if (verySmallQueue) {
         int temp = atoi(verySmallQueue);
@@ -1465,7 +1469,17 @@ void TR::CompilationInfo::rtlogRelease()
 
 void TR::CompilationInfo::acquireCompMonitor(J9VMThread *vmThread) // used when we know we have a compilation monitor
 {
-    getCompilationMonitor()->enter();
+    // Try to get the monitor without blocking first so that we can tell how often
+    // compilation threads and application threads fight over the compilation queue.
+    // All code entering the compilation monitor must come through here for the
+    // statistics to be complete; only reacquisitions after a wait are not counted
+    bool contended = getCompilationMonitor()->try_enter() != 0;
+    if (contended)
+        getCompilationMonitor()->enter();
+    // Statistics are updated only when we own the monitor
+    _statNumCompMonitorAcquires++;
+    if (contended)
+        _statNumContendedCompMonitorAcquires++;
 }
 
 void TR::CompilationInfo::releaseCompMonitor(J9VMThread *vmThread) // used when we know we have a compilation monitor
@@ -1913,6 +1927,27 @@ void TR::CompilationInfo::updateCompQueueAccountingOnDequeue(TR_MethodToBeCompil
     // compiled is considered as bringing some weight to the processing backlog
 }
 
+//----------------------- updateQueueWaitTimeStats -----------------------
+// Record how long a request waited in the compilation queue before a
+// compilation thread picked it up. Entry times are only collected with
+// TR_VerbosePerformance or when the compilation ledger is enabled.
+// Must have compilationQueueMonitor in hand
+//-------------------------------------------------------------------------
+void TR::CompilationInfo::updateQueueWaitTimeStats(TR_MethodToBeCompiled *entry)
+{
+    if (entry->_entryTime == 0)
+        return;
+    PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+    uint64_t crtTime = j9time_usec_clock();
+    if (crtTime < entry->_entryTime)
+        return;
+    uint64_t waitTime = crtTime - entry->_entryTime;
+    _statNumDequeuedWithEntryTime++;
+    _statTotalQueueWaitTime += waitTime;
+    if (waitTime > _statMaxQueueWaitTime)
+        _statMaxQueueWaitTime = waitTime;
+}
+
 //----------------------- useOptLevelAdjustment ---------------------
 // This scheme will be used only on multiprocessors because it is
 // based on compilation request queue size. On uniprocessors this
@@ -1990,10 +2025,7 @@ void TR::CompilationInfo::invalidateRequestsForNativeMethods(J9Class *clazz, J9V
             }
 
             // detach from queue
-            if (prev)
-                prev->_next = cur->_next;
-            else
-                _methodQueue = cur->_next;
+            unlinkFromMethodQueue(prev, cur);
             updateCompQueueAccountingOnDequeue(cur);
             // decrease the queue weight
             decreaseQueueWeightBy(cur->_weight);
@@ -2090,10 +2122,7 @@ void TR::CompilationInfo::invalidateRequestsForUnloadedMethods(TR_OpaqueClassBlo
                     }
                 }
                 // detach from queue
-                if (prev)
-                    prev->_next = cur->_next;
-                else
-                    _methodQueue = cur->_next;
+                unlinkFromMethodQueue(prev, cur);
                 updateCompQueueAccountingOnDequeue(cur);
                 // decrease the queue weight
                 decreaseQueueWeightBy(cur->_weight);
@@ -2427,7 +2456,7 @@ void TR::CompilationInfo::purgeMethodQueue(TR_CompilationErrorCode errorCode)
 
     while (_methodQueue) {
         TR_MethodToBeCompiled *cur = _methodQueue;
-        _methodQueue = cur->_next;
+        unlinkFromMethodQueue(NULL, cur);
         updateCompQueueAccountingOnDequeue(cur);
         // decrease the queue weight
         decreaseQueueWeightBy(cur->_weight);
@@ -2863,12 +2892,12 @@ uintptr_t TR::CompilationInfo::startCompilationThread(int32_t priority, int32_t
     //      is updated; for example on PPC, these two statements may be done in the wrong order;
     //      the calls to the monitor insert synchronization instructions and prevent this
     if (isDiagnosticThread) {
-        getCompilationMonitor()->enter();
+        acquireCompMonitor(NULL);
         _compInfoForDiagnosticCompilationThread = compInfoPT;
         _numDiagnosticThreads++;
         getCompilationMonitor()->exit();
     } else {
-        getCompilationMonitor()->enter();
+        acquireCompMonitor(NULL);
         if (_numCompThreads < TR::Options::_numUsableCompilationThreads) {
             _numCompThreads++;
         }
@@ -3194,6 +3223,9 @@ void TR::CompilationInfo::stopCompilationThreads()
 
         fprintf(stderr, "Compilation queue peak size = %d\n", getPeakMethodQueueSize());
         fprintf(stderr, "Compilation queue size at shutdown = %d\n", getMethodQueueSize());
+        fprintf(stderr, "Compilation queue tail insertions = %u\n", _statNumQueueTailInsertions);
+        fprintf(stderr, "Compilation monitor acquires (excluding reacquires after wait) = %u contended = %u\n",
+            _statNumCompMonitorAcquires, _statNumContendedCompMonitorAcquires);
 #ifdef MCT_STATS
         statCompReqResidencyTime.report(stderr); // MCT
         statCompReqProcessingTime.report(stderr); // MCT
@@ -3203,6 +3235,24 @@ void TR::CompilationInfo::stopCompilationThreads()
 #endif
     } // if (printCompStats)
 
+    if (TR::Options::getVerboseOption(TR_VerbosePerformance)) {
+        TR_VerboseLog::writeLineLocked(TR_Vlog_PERF,
+            "Compilation queue: dequeued=%u avgQueueWait=%llu usec maxQueueWait=%llu usec tailInsertions=%u "
+            "compMonitorAcquires=%u contended=%u",
+            _statNumDequeuedWithEntryTime,
+            _statNumDequeuedWithEntryTime ? _statTotalQueueWaitTime / _statNumDequeuedWithEntryTime : 0,
+            _statMaxQueueWaitTime, _statNumQueueTailInsertions, _statNumCompMonitorAcquires,
+            _statNumContendedCompMonitorAcquires);
+    }
+
+    if (_compilationLedger) {
+        static char *ledgerFileName = feGetEnv("TR_CompilationLedgerFile");
+        if (!ledgerFileName || !_compilationLedger->writeToFile(ledgerFileName)) {
+            if (TR::Options::getVerboseOption(TR_VerbosePerformance))
+                _compilationLedger->writeToVerboseLog();
+        }
+    }
+
     if (TR::Options::getAOTCmdLineOptions()->getOption(TR_EnableAOTRelocationTiming)) {
         fprintf(stderr, "Time spent relocating all AOT methods: %u ms\n", this->getAotRelocationTime() / 1000);
     }
@@ -3222,6 +3272,9 @@ void TR::CompilationInfo::stopCompilationThreads()
             _jitConfig->codeCacheTotalKB, currTotalUsedKB, maxUsedKB, (_jitConfig->codeCacheTotalKB - currTotalUsedKB));
     }
 
+    if (TR::Options::isAnyVerboseOptionSet(TR_VerboseCodeCache, TR_VerboseReclamation))
+        TR::CodeCacheManager::instance()->printFragmentationStats("At shutdown");
+
     if (printCompMem) {
         int32_t codeCacheAllocated
             = TR::CodeCacheManager::instance()->getCurrentNumberOfCodeCaches() * _jitConfig->codeCacheKB;
@@ -4702,7 +4755,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::addMethodToBeCompiled(TR::IlGenerato
 
         // Must re-position in the queue
         //
-        prev->_next = cur->_next; // take it out of the queue
+        unlinkFromMethodQueue(prev, cur); // take it out of the queue
     }
 
     // If method is not yet in the queue prepare the queue entry
@@ -4776,7 +4829,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::addMethodToBeCompiled(TR::IlGenerato
             _intervalStats._numFirstTimeCompilationsInInterval++;
             _numQueuedFirstTimeCompilations++;
         }
-        if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance)) {
+        if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance) || _compilationLedger) {
             PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
             cur->_entryTime = j9time_usec_clock();
         }
@@ -4928,9 +4981,19 @@ void TR::CompilationInfo::queueEntry(TR_MethodToBeCompiled *entry)
     if (!_methodQueue || _methodQueue->_priority < entry->_priority) {
         entry->_next = _methodQueue;
         _methodQueue = entry;
+        if (!entry->_next)
+            _methodQueueTail = entry;
+    } else if (_methodQueueTail->_priority >= entry->_priority) {
+        // Common case: the new request does not have a higher priority than anything
+        // already queued. Append it in constant time instead of walking the whole queue
+        entry->_next = NULL;
+        _methodQueueTail->_next = entry;
+        _methodQueueTail = entry;
+        _statNumQueueTailInsertions++;
     } else {
+        // The tail has a lower priority, so the loop below will find an insertion point before it
         for (TR_MethodToBeCompiled *prev = _methodQueue;; prev = prev->_next) {
-            if (!prev->_next || prev->_next->_priority < entry->_priority) {
+            if (prev->_next->_priority < entry->_priority) {
                 entry->_next = prev->_next;
                 prev->_next = entry;
                 break;
@@ -4939,6 +5002,22 @@ void TR::CompilationInfo::queueEntry(TR_MethodToBeCompiled *entry)
     }
 }
 
+//------------------------- unlinkFromMethodQueue ----------------------------
+// Detach the given entry from the compilation queue. 'prev' must be the entry
+// preceding it in the queue or NULL if the entry is at the head of the queue.
+// Must have compilationQueueMonitor in hand
+//----------------------------------------------------------------------------
+void TR::CompilationInfo::unlinkFromMethodQueue(TR_MethodToBeCompiled *prev, TR_MethodToBeCompiled *entry)
+{
+    TR_ASSERT(prev ? prev->_next == entry : _methodQueue == entry, "entry %p is not preceded by %p", entry, prev);
+    if (prev)
+        prev->_next = entry->_next;
+    else
+        _methodQueue = entry->_next;
+    if (_methodQueueTail == entry)
+        _methodQueueTail = prev;
+}
+
 //--------------------------------- requeue ----------------------------------
 // Put the request that is currently being compiled, back into the queue
 // and increment the number of queued methods
@@ -4994,10 +5073,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::adjustCompilationEntryAndRequeue(TR:
 
             if (cur->_priority < priority) {
                 // take the method out
-                if (prev)
-                    prev->_next = cur->_next;
-                else
-                    _methodQueue = cur->_next;
+                unlinkFromMethodQueue(prev, cur);
                 // put it back at its proper place
                 cur->_priority = priority;
                 queueEntry(cur);
@@ -5039,24 +5115,11 @@ int32_t TR::CompilationInfo::promoteMethodInAsyncQueue(J9Method *method, void *p
 #ifdef STATS
     fprintf(stderr, "Promoting method in queue QSZ=%d\n", getMethodQueueSize());
 #endif
+    // take the method out and put it back at its proper place
+    // FIXME: how about the compilation lag
+    unlinkFromMethodQueue(prev, cur);
     cur->_priority = CP_ASYNC_MAX;
-
-    // take the method out
-    prev->_next = cur->_next;
-    // find insertion point
-    if (_methodQueue->_priority < CP_ASYNC_MAX) // common case
-    {
-        cur->_next = _methodQueue;
-        _methodQueue = cur;
-        // FIXME: how about the compilation lag
-    } else {
-        for (prev = _methodQueue; prev->_next; prev = prev->_next)
-            if (prev->_next->_priority < CP_ASYNC_MAX) {
-                cur->_next = prev->_next;
-                prev->_next = cur;
-                break;
-            }
-    }
+    queueEntry(cur);
     return i;
 }
 
@@ -5090,7 +5153,7 @@ void TR::CompilationInfo::changeCompReqFromAsyncToSync(J9Method *method)
             //
             cur->_priority = CP_SYNC_NORMAL;
             if (prev) {
-                prev->_next = cur->_next;
+                unlinkFromMethodQueue(prev, cur);
                 queueEntry(cur);
             } else // method already at the top of the queue
             {
@@ -5179,7 +5242,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::getNextMethodToBeCompiled(TR::Compil
 
         if (_methodQueue) {
             nextMethodToBeCompiled = _methodQueue;
-            _methodQueue = _methodQueue->_next;
+            unlinkFromMethodQueue(NULL, nextMethodToBeCompiled);
 
             // See explanation at the start of this function of why it is important to ensure this
             TR_ASSERT_FATAL(nextMethodToBeCompiled->getMethodDetails().isJitDumpMethod(),
@@ -5202,7 +5265,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::getNextMethodToBeCompiled(TR::Compil
 #endif
             ) {
                 nextMethodToBeCompiled = _methodQueue;
-                _methodQueue = _methodQueue->_next;
+                unlinkFromMethodQueue(NULL, nextMethodToBeCompiled);
             }
             // Check if we need to throttle
             else if (exceedsCompCpuEntitlement() == TR_yes && !compThreadCameOutOfSleep
@@ -5221,7 +5284,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::getNextMethodToBeCompiled(TR::Compil
                 _methodQueue->_weight < TR::Options::_expensiveCompWeight) // This is a cheaper comp
             {
                 nextMethodToBeCompiled = _methodQueue;
-                _methodQueue = _methodQueue->_next;
+                unlinkFromMethodQueue(NULL, nextMethodToBeCompiled);
             } else // scan for a cold/warm method
             {
                 TR_MethodToBeCompiled *prev = _methodQueue;
@@ -5231,7 +5294,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::getNextMethodToBeCompiled(TR::Compil
                         nextMethodToBeCompiled->_priority >= CP_SYNC_MIN || // sync comp
                         nextMethodToBeCompiled->_methodIsInSharedCache == TR_yes) // very cheap relocation
                     {
-                        prev->_next = nextMethodToBeCompiled->_next;
+                        unlinkFromMethodQueue(prev, nextMethodToBeCompiled);
                         break;
                     }
                 }
@@ -5291,6 +5354,7 @@ TR_MethodToBeCompiled *TR::CompilationInfo::getNextMethodToBeCompiled(TR::Compil
             if (nextMethodToBeCompiled) // A request has been dequeued
             {
                 updateCompQueueAccountingOnDequeue(nextMethodToBeCompiled);
+                updateQueueWaitTimeStats(nextMethodToBeCompiled);
             }
         }
         // When no request is in the main queue we can look in the low priority queue
@@ -6065,7 +6129,7 @@ void *TR::CompilationInfo::compileOnSeparateThread(J9VMThread *vmThread, TR::IlG
             if (reqMe && reqMe->_priority < CP_ASYNC_ABOVE_NORMAL) {
                 reqMe->_priority = CP_ASYNC_ABOVE_NORMAL;
                 if (prevReq && prevReq->_priority < CP_ASYNC_ABOVE_NORMAL) {
-                    prevReq->_next = reqMe->_next;
+                    unlinkFromMethodQueue(prevReq, reqMe);
                     queueEntry(reqMe);
                 }
             }
@@ -6375,6 +6439,11 @@ TR_MethodMetaData *TR::CompilationInfoPerThreadBase::installAotCachedMethod(J9VM
         uintptr_t currentTime = 0;
         uintptr_t reloTime = 0;
 
+        if (entry && _compInfo.getCompilationLedger()) {
+            PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+            recordInCompilationLedger(compiler, metaData, TR_CompilationLedger::AOTLoad, j9time_usec_clock(), 0);
+        }
+
         if (TrcEnabled_Trc_JIT_AotLoadEnd) {
             PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
             currentTime = j9time_usec_clock();
@@ -7744,6 +7813,8 @@ void *TR::CompilationInfoPerThreadBase::compile(J9VMThread *vmThread, TR_MethodT
         PORT_ACCESS_FROM_JITCONFIG(jitConfig);
         setTimeWhenCompStarted(j9time_usec_clock());
     }
+    if (getCompilationInfo()->getCompilationLedger())
+        _cpuTimeWhenCompStarted = j9thread_get_self_cpu_time(j9thread_self());
 
     TR_MethodMetaData *metaData = NULL;
     void *startPC = NULL;
@@ -9425,6 +9496,10 @@ TR_MethodMetaData *TR::CompilationInfoPerThreadBase::compile(J9VMThread *vmThrea
         logCompilationSuccess(vmThread, vm, method, scratchSegmentProvider, compilee, compiler, metaData,
             optimizationPlan);
 
+#if defined(J9VM_OPT_JFR)
+        reportCompilationToJFR(vmThread, compiler, metaData);
+#endif /* defined(J9VM_OPT_JFR) */
+
         TRIGGER_J9HOOK_JIT_COMPILING_END(_jitConfig->hookInterface, vmThread, method);
     } catch (const std::exception &e) {
         const char *exceptionName;
@@ -10125,6 +10200,18 @@ void TR::CompilationInfoPerThreadBase::logCompilationSuccess(J9VMThread *vmThrea
             cipt->setLastCompilationDuration(translationTime / 1000);
         }
 
+        if (_compInfo.getCompilationLedger()) {
+            TR_CompilationLedger::CompilationKind kind = TR_CompilationLedger::LocalCompilation;
+#if defined(J9VM_OPT_JITSERVER)
+            if (compiler->isDeserializedAOTMethod())
+                kind = TR_CompilationLedger::AOTCacheLoad;
+            else if (_methodBeingCompiled->isRemoteCompReq())
+                kind = TR_CompilationLedger::RemoteCompilation;
+#endif /* defined(J9VM_OPT_JITSERVER) */
+            recordInCompilationLedger(compiler, metaData, kind, currentTime,
+                scratchSegmentProvider.systemBytesAllocated());
+        }
+
         uintptr_t gcDataBytes = _jitConfig->lastGCDataAllocSize;
         uintptr_t atlasBytes = _jitConfig->lastExceptionTableAllocSize;
 
@@ -10451,6 +10538,97 @@ void TR::CompilationInfoPerThreadBase::logCompilationSuccess(J9VMThread *vmThrea
     }
 }
 
+void TR::CompilationInfoPerThreadBase::recordInCompilationLedger(TR::Compilation *compiler,
+    TR_MethodMetaData *metaData, TR_CompilationLedger::CompilationKind kind, uintptr_t currentTime,
+    uint64_t scratchBytes)
+{
+    TR_CompilationLedger *ledger = _compInfo.getCompilationLedger();
+    if (!ledger)
+        return;
+
+    // Time between queuing the request and starting its last compilation attempt
+    uint32_t queueTime = 0;
+    if (_methodBeingCompiled->_entryTime != 0 && getTimeWhenCompStarted() >= _methodBeingCompiled->_entryTime)
+        queueTime = (uint32_t)(getTimeWhenCompStarted() - _methodBeingCompiled->_entryTime);
+
+    uint32_t cpuTime = 0;
+    if (_cpuTimeWhenCompStarted >= 0) {
+        int64_t crtCpuTime = j9thread_get_self_cpu_time(j9thread_self());
+        if (crtCpuTime >= _cpuTimeWhenCompStarted)
+            cpuTime = (uint32_t)((crtCpuTime - _cpuTimeWhenCompStarted) / 1000);
+    }
+
+    ledger->record(_methodBeingCompiled->getMethodDetails().getMethod(), compiler->signature(),
+        compiler->getHotnessName(compiler->getMethodHotness()), kind, _compInfo.getPersistentInfo()->getElapsedTime(),
+        queueTime, (uint32_t)(currentTime - getTimeWhenCompStarted()), cpuTime, (uint32_t)(scratchBytes / 1024),
+        (uint32_t)((metaData->endWarmPC - metaData->startPC)
+            + (metaData->startColdPC ? metaData->endPC - metaData->startColdPC : 0)));
+}
+
+#if defined(J9VM_OPT_JFR)
+void TR::CompilationInfoPerThreadBase::reportCompilationToJFR(J9VMThread *vmThread, TR::Compilation *compiler,
+    TR_MethodMetaData *metaData)
+{
+#if defined(J9VM_OPT_JITSERVER)
+    // The method and metadata of an out-of-process compilation belong to the client, which reports the
+    // compilation itself once the remote compilation returns through remoteCompile()
+    if (compiler->isOutOfProcessCompilation())
+        return;
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
+    J9JavaVM *javaVM = _jitConfig->javaVM;
+    J9Method *method = _methodBeingCompiled->getMethodDetails().getMethod();
+    if (!javaVM->jfrState.isStarted || !method)
+        return;
+
+    PORT_ACCESS_FROM_JAVAVM(javaVM);
+    int64_t duration = (int64_t)(j9time_usec_clock() - getTimeWhenCompStarted()) * 1000;
+    uint64_t codeSize = 0;
+    uint64_t inlinedBytes = 0;
+    if (metaData) {
+        codeSize = metaData->endWarmPC - metaData->startPC;
+        if (metaData->startColdPC)
+            codeSize += metaData->endPC - metaData->startColdPC;
+
+        U_32 numCallSites = getNumInlinedCallSites(metaData);
+        for (U_32 i = 0; i < numCallSites; i++) {
+            J9Method *inlinedMethod = (J9Method *)getInlinedMethod(getInlinedCallSiteArrayElement(metaData, i));
+            if (!isPatchedValue(inlinedMethod))
+                inlinedBytes
+                    += TR::CompilationInfo::getMethodBytecodeSize(J9_ROM_METHOD_FROM_RAM_METHOD(inlinedMethod));
+        }
+    }
+
+    // DLT compilations are entered from a running loop, which is what JFR calls on stack replacement
+    javaVM->internalVMFunctions->jfrCompilation(vmThread, method, (U_16)compiler->getMethodHotness(),
+        metaData != NULL, compiler->isDLT(),
+        TR::CompilationInfo::getMethodBytecodeSize(J9_ROM_METHOD_FROM_RAM_METHOD(method)), codeSize, inlinedBytes,
+        duration);
+
+    int32_t fullCount = 0;
+    if (_compInfo.codeCacheBecameFull((_jitConfig->runtimeFlags & J9JIT_CODE_CACHE_FULL) != 0, fullCount)) {
+        uintptr_t lowestBase, highestTop;
+        size_t freeSpace;
+        TR::CodeCacheManager::instance()->getCodeCacheSummary(lowestBase, highestTop, freeSpace);
+        javaVM->internalVMFunctions->jfrCodeCacheFull(vmThread, lowestBase, highestTop, freeSpace, fullCount);
+    }
+}
+#endif /* defined(J9VM_OPT_JFR) */
+
+bool TR::CompilationInfo::codeCacheBecameFull(bool codeCacheFull, int32_t &fullCount)
+{
+    if (!codeCacheFull) {
+        // The flag is cleared when class unloading frees code cache space; report the next full state again
+        if (_codeCacheFullReported)
+            _codeCacheFullReported = 0;
+        return false;
+    }
+    if (_codeCacheFullReported || VM_AtomicSupport::lockCompareExchangeU32(&_codeCacheFullReported, 0, 1) != 0)
+        return false;
+    fullCount = (int32_t)VM_AtomicSupport::addU32(&_numCodeCacheFullReports, 1);
+    return true;
+}
+
 static void printCompFailureInfo(TR::Compilation *comp, const char *reason)
 {
     if (comp && comp->getOptions()->getAnyOption(TR_TraceAll))
@@ -10694,6 +10872,11 @@ void TR::CompilationInfoPerThreadBase::processException(J9VMThread *vmThread,
     if (shouldProcessExceptionCommonTasks)
         processExceptionCommonTasks(vmThread, scratchSegmentProvider, compiler, exceptionName, _methodBeingCompiled);
 
+#if defined(J9VM_OPT_JFR)
+    if (vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS)
+        reportCompilationToJFR(vmThread, compiler, NULL);
+#endif /* defined(J9VM_OPT_JFR) */
+
     TR::IlGeneratorMethodDetails &details = _methodBeingCompiled->getMethodDetails();
     J9Method *method = details.getMethod();
     TRIGGER_J9HOOK_JIT_COMPILING_END(_jitConfig->hookInterface, vmThread, method);
@@ -11365,7 +11548,7 @@ void TR_LowPriorityCompQueue::tryToScheduleCompilation(J9VMThread *vmThread, J9M
                     if (enoughIPInfo) {
                         entry->_queuedForCompilation = true;
 
-                        _compInfo->getCompilationMonitor()->enter();
+                        _compInfo->acquireCompMonitor(vmThread);
                         bool enqueued
                             = addFirstTimeCompReqToLPQ(j9method, TR_MethodToBeCompiled::REASON_IPROFILER_CALLS);
                         // If conditions allow for processing of an LPQ request
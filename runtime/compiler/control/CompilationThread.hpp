@@ -24,6 +24,7 @@
 #define COMPILATIONTHREAD_INCL
 
 #include <ctime>
+#include "control/CompilationLedger.hpp"
 #include "control/CompilationPriority.hpp"
 #include "env/RawAllocator.hpp"
 #include "j9.h"
@@ -337,6 +338,26 @@ public:
 
     void setTimeWhenCompStarted(UDATA t) { _timeWhenCompStarted = t; }
 
+    /**
+     * @brief Add an entry describing the cost of the compilation that just ended to the compilation ledger.
+     *        Does nothing if the compilation ledger is not enabled.
+     */
+    void recordInCompilationLedger(TR::Compilation *compiler, TR_MethodMetaData *metaData,
+        TR_CompilationLedger::CompilationKind kind, uintptr_t currentTime, uint64_t scratchBytes);
+
+#if defined(J9VM_OPT_JFR)
+    /**
+     * @brief Record a JFR Compilation event for the compilation that just ended, and a CodeCacheFull
+     *        event if the code caches have become full since the last report. Does nothing unless a
+     *        JFR recording is running. Must be called with VM access.
+     *
+     * @param[in] vmThread : the compilation thread
+     * @param[in] compiler : the compilation object
+     * @param[in] metaData : metadata of the new body, or NULL if the compilation failed
+     */
+    void reportCompilationToJFR(J9VMThread *vmThread, TR::Compilation *compiler, TR_MethodMetaData *metaData);
+#endif /* defined(J9VM_OPT_JFR) */
+
     TR_RelocationRuntime *reloRuntime();
 
     static TR::FILE *getPerfFile() { return _perfFile; } // used on Linux for perl tool support
@@ -420,6 +441,7 @@ protected:
     TR_MethodMetaData *_metadata;
     TR_DataCache *_reservedDataCache;
     uintptr_t _timeWhenCompStarted;
+    int64_t _cpuTimeWhenCompStarted; // nsec of thread CPU; only collected when the compilation ledger is enabled
     int32_t _numJITCompilations; // num JIT compilations this thread has performed; AOT loads not counted
     int32_t _qszWhenCompStarted; // size of compilation queue and compilation starts
 
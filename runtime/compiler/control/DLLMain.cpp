@@ -695,11 +695,12 @@ _abort:
                             if (listener) {
                                 listener->stop();
                             }
-                            MetricsServer *metricsServer
-                                = ((TR_JitPrivateConfig *)(vm->jitConfig->privateConfig))->metricsServer;
-                            if (metricsServer) {
-                                metricsServer->stop();
-                            }
+                        }
+                        // The MetricsServer may also run on client and regular JVMs
+                        MetricsServer *metricsServer
+                            = ((TR_JitPrivateConfig *)(vm->jitConfig->privateConfig))->metricsServer;
+                        if (metricsServer) {
+                            metricsServer->stop();
                         }
 
 #endif /* defined(J9VM_OPT_JITSERVER) */
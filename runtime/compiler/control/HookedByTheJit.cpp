@@ -1555,6 +1555,15 @@ static void jitHookGlobalGCStart(J9HookInterface **hookInterface, UDATA eventNum
 
     if (jitConfig && jitConfig->runtimeFlags & J9JIT_GC_NOTIFY)
         printf("\n{GGC");
+
+#if defined(J9VM_OPT_JITSERVER)
+    if (MetricsServer *metricsServer
+        = jitConfig ? ((TR_JitPrivateConfig *)jitConfig->privateConfig)->metricsServer : NULL) {
+        OMRPORT_ACCESS_FROM_J9VMTHREAD(vmThread);
+        metricsServer->getGlobalGCPauses().pauseStarted(omrtime_nano_time());
+    }
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
     jitReclaimMarkedAssumptions(false);
 }
 
@@ -1574,6 +1583,13 @@ static void jitHookLocalGCStart(J9HookInterface **hookInterface, UDATA eventNum,
     if (jitConfig->runtimeFlags & J9JIT_GC_NOTIFY)
         printf("\n{Scavenge");
 
+#if defined(J9VM_OPT_JITSERVER)
+    if (MetricsServer *metricsServer = ((TR_JitPrivateConfig *)jitConfig->privateConfig)->metricsServer) {
+        OMRPORT_ACCESS_FROM_J9VMTHREAD(vmThread);
+        metricsServer->getLocalGCPauses().pauseStarted(omrtime_nano_time());
+    }
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
     if (jitConfig->gcTraceThreshold && jitConfig->gcCount == jitConfig->gcTraceThreshold) {
         printf("\n<jit: enabling stack tracing at gc %" OMR_PRIuPTR ">", jitConfig->gcCount);
         TR::Options::getCmdLineOptions()->setVerboseOption(TR_VerboseGc);
@@ -1600,6 +1616,13 @@ static void jitHookGlobalGCEnd(J9HookInterface **hookInterface, UDATA eventNum,
     TR::CodeCacheManager::instance()->synchronizeTrampolines();
     if (jitConfig->runtimeFlags & J9JIT_GC_NOTIFY)
         printf("}");
+
+#if defined(J9VM_OPT_JITSERVER)
+    if (MetricsServer *metricsServer = ((TR_JitPrivateConfig *)jitConfig->privateConfig)->metricsServer) {
+        OMRPORT_ACCESS_FROM_J9VMTHREAD(vmThread);
+        metricsServer->getGlobalGCPauses().pauseEnded(omrtime_nano_time());
+    }
+#endif /* defined(J9VM_OPT_JITSERVER) */
 }
 
 static void jitHookLocalGCEnd(J9HookInterface **hookInterface, UDATA eventNum, void *eventData, void *userData)
@@ -1616,6 +1639,13 @@ static void jitHookLocalGCEnd(J9HookInterface **hookInterface, UDATA eventNum, v
 
     if (jitConfig->runtimeFlags & J9JIT_GC_NOTIFY)
         printf("}");
+
+#if defined(J9VM_OPT_JITSERVER)
+    if (MetricsServer *metricsServer = ((TR_JitPrivateConfig *)jitConfig->privateConfig)->metricsServer) {
+        OMRPORT_ACCESS_FROM_J9VMTHREAD(vmThread);
+        metricsServer->getLocalGCPauses().pauseEnded(omrtime_nano_time());
+    }
+#endif /* defined(J9VM_OPT_JITSERVER) */
 }
 
 static void initThreadAfterCreation(J9VMThread *vmThread)
@@ -4139,6 +4169,15 @@ void JitShutdown(J9JITConfig *jitConfig)
         {
             if (feGetEnv("TR_DumpIProfilerData"))
                 iProfiler->dumpAllBytecodeProfilingData(vmThread);
+
+            // Write the IProfiler data still staged in memory into the SCC
+            if (TR_IProfiler::isBulkPersistenceEnabled()) {
+                iProfiler->flushBulkPersistedProfiles(vmThread);
+                if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseIProfilerPersistence))
+                    TR_VerboseLog::writeLineLocked(TR_Vlog_PERF,
+                        "IProfiler: bulk persistence staged %d methods and found %d methods in bulk chunks",
+                        TR_IProfiler::_STATS_methodBulkStaged, TR_IProfiler::_STATS_methodBulkPersistedFound);
+            }
         }
 
         printIprofilerStats(options, jitConfig, iProfiler, "Shutdown");
@@ -5235,6 +5274,13 @@ static void jitStateLogic(J9JITConfig *jitConfig, TR::CompilationInfo *compInfo,
             if (compInfo->getMethodQueueSize() == 0)
                 JITServer::MessageBuffer::tryFreePersistentAllocator();
 #endif /* defined(J9VM_OPT_JITSERVER) */
+
+            // Use the idle time to write the staged IProfiler data into the SCC
+            if (TR_IProfiler::isBulkPersistenceEnabled()) {
+                TR_IProfiler *iProfiler = TR_J9VMBase::get(jitConfig, NULL)->getIProfiler();
+                if (iProfiler)
+                    iProfiler->flushBulkPersistedProfiles(compInfo->getSamplerThread());
+            }
         }
 
         // Logic related to IdleCPU exploitation
@@ -7231,6 +7277,11 @@ static void jitReleaseCodeStackWalk(OMR_VMThread *omrVMThread, condYieldFromGCFu
     prev = 0;
     int32_t condYieldCounter = 0;
 
+    bool reportFragmentation = TR::Options::getVerboseOption(TR_VerboseCodeCache)
+        || TR::Options::getVerboseOption(TR_VerboseReclamation);
+    if (reportFragmentation)
+        TR::CodeCacheManager::instance()->printFragmentationStats("Before code cache reclamation");
+
     // cmvc 192753
     // It is not safe to exit this function until all faint records have been processed.
     // If we do the following can happen: (1) method A get compiled and recompiled creating a faint record
@@ -7272,6 +7323,9 @@ static void jitReleaseCodeStackWalk(OMR_VMThread *omrVMThread, condYieldFromGCFu
         cursor->_isStillLive = false;
     }
 
+    if (reportFragmentation)
+        TR::CodeCacheManager::instance()->printFragmentationStats("After code cache reclamation");
+
     if (isRealTimeGC && !TR::Options::getCmdLineOptions()->getOption(TR_DisableIncrementalCCR)) { // clear flags
         J9VMThread *thr = vmThread;
         do {
@@ -7495,6 +7549,19 @@ int32_t setUpHooks(J9JavaVM *javaVM, J9JITConfig *jitConfig, TR_FrontEnd *vm)
         return -1;
     }
 
+#if defined(J9VM_OPT_JITSERVER)
+    // On JITServer clients and regular JVMs the MetricsServer (if enabled with -XX:+JITServerMetrics)
+    // is started here, after the GC hooks that record GC pause times have been registered
+    MetricsServer *metricsServer = ((TR_JitPrivateConfig *)(jitConfig->privateConfig))->metricsServer;
+    if (metricsServer) {
+        if (compInfo->useSSL()) {
+            (*OSSL_load_error_strings)();
+            (*OSSL_library_init)();
+        }
+        metricsServer->startMetricsThread(javaVM);
+    }
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
     if (!vmj9->isAOT_DEPRECATED_DO_NOT_USE()) {
         IDATA unableToRegisterHooks = 0;
 
@@ -7698,6 +7765,14 @@ void printIprofilerStats(TR::Options *options, J9JITConfig *jitConfig, TR_IProfi
                 TR_IProfiler::_STATS_methodNotPersisted_noEntries);
             j9tty_printf(PORTLIB, "Total IProfiler persisted delayed:                                      %d\n",
                 TR_IProfiler::_STATS_methodNotPersisted_delayed);
+            j9tty_printf(PORTLIB, "Total IProfiler bulk chunks persisted:                                  %d\n",
+                TR_IProfiler::_STATS_bulkChunksPersisted);
+            j9tty_printf(PORTLIB, "Total IProfiler bulk chunks loaded:                                     %d\n",
+                TR_IProfiler::_STATS_bulkChunksLoaded);
+            j9tty_printf(PORTLIB, "Total IProfiler methods staged for bulk persistence:                    %d\n",
+                TR_IProfiler::_STATS_methodBulkStaged);
+            j9tty_printf(PORTLIB, "Total IProfiler methods found in bulk chunks:                           %d\n",
+                TR_IProfiler::_STATS_methodBulkPersistedFound);
             j9tty_printf(PORTLIB, "Total records persisted:                        %d\n",
                 TR_IProfiler::_STATS_entriesPersisted);
             j9tty_printf(PORTLIB, "Total records not persisted_NotInSCC:           %d\n",
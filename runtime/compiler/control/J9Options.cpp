@@ -149,6 +149,7 @@ int32_t J9::Options::_highActiveThreadThreshold = -1;
 int32_t J9::Options::_veryHighActiveThreadThreshold = -1;
 int32_t J9::Options::_aotCachePersistenceMinDeltaMethods = 200;
 int32_t J9::Options::_aotCachePersistenceMinPeriodMs = 10000; // ms
+int32_t J9::Options::_aotCachePrefetchMaxMethods = 0; // 0 means feature disabled
 int32_t J9::Options::_jitserverMallocTrimInterval = 1000 * 30; // 30000ms = 30s
 int32_t J9::Options::_lowCompDensityModeEnterThreshold
     = 4; // Maximum number of compilations per 10 min of CPU required to enter low compilation density mode. Use 0 to
@@ -175,6 +176,7 @@ int32_t J9::Options::_interpreterSamplingThresholdInJSR292
 int32_t J9::Options::_activeThreadsThreshold = 0; // -1 means 'determine dynamically', 0 means feature disabled
 int32_t J9::Options::_samplingThreadExpirationTime = -1;
 int32_t J9::Options::_compilationExpirationTime = -1;
+int32_t J9::Options::_compilationLedgerSize = 0; // 0 means feature disabled
 
 int32_t J9::Options::_minSamplingPeriod = 10; // ms
 int32_t J9::Options::_compilationBudget = 0; // ms; 0 means disabled
@@ -190,6 +192,7 @@ int32_t J9::Options::_iprofilerNumOutstandingBuffers = 10;
 int32_t J9::Options::_iprofilerBufferMaxPercentageToDiscard = 0;
 int32_t J9::Options::_iProfilerBufferInterarrivalTimeToExitDeepIdle = 5000; // 5 seconds
 int32_t J9::Options::_iprofilerBufferSize = 1024;
+int32_t J9::Options::_iprofilerBulkPersistenceChunkSize = 0; // 0 means feature disabled
 #ifdef TR_HOST_64BIT
 int32_t J9::Options::_iProfilerMemoryConsumptionLimit = 32 * 1024 * 1024;
 #else
@@ -863,6 +866,9 @@ TR::OptionTable OMR::Options::_feOptions[] = {
     { "aotCachePersistenceMinPeriodMs=",
      "M<nnn>\tmiminum time between two consecutive JITServer AOT cache save operations (ms)", TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotCachePersistenceMinPeriodMs, 0, "F%d",
      NOT_IN_SUBSET },
+    { "aotCachePrefetchMaxMethods=",
+     "M<nnn>\tmaximum number of methods a JITServer client prefetches from the server AOT cache at startup (0 disables prefetching)", TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotCachePrefetchMaxMethods, 0, "F%d",
+     NOT_IN_SUBSET },
 #endif  /* defined(J9VM_OPT_JITSERVER) */
     { "aotMethodCompilesThreshold=",
      "R<nnn>\tIf this many AOT methods are compiled before exceeding aotMethodThreshold, don't stop AOT compiling", TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotMethodCompilesThreshold, 0, "F%d", NOT_IN_SUBSET },
@@ -909,6 +915,8 @@ TR::OptionTable OMR::Options::_feOptions[] = {
      TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationDelayTime, 0, "F%d", NOT_IN_SUBSET },
     { "compilationExpirationTime=", "R<nnn>\tnumber of seconds after which point we will stop compiling",
      TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationExpirationTime, 0, "F%d", NOT_IN_SUBSET },
+    { "compilationLedgerSize=", "M<nnn>\tnumber of most recent compilations whose cost is recorded in the compilation ledger (0 disables the ledger)",
+     TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationLedgerSize, 0, "F%d", NOT_IN_SUBSET },
     { "compilationPriorityQSZThreshold=",
      "M<nnn>\tCompilation queue size threshold when priority of post-profiling"
         "compilation requests is increased", TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compPriorityQSZThreshold, 0, "F%d", NOT_IN_SUBSET },
@@ -1071,6 +1079,9 @@ TR::OptionTable OMR::Options::_feOptions[] = {
      NOT_IN_SUBSET },
     { "iprofilerBufferSize=", "I<nnn>\t set the size of each iprofiler buffer", TR::Options::setStaticNumeric,
      (intptr_t)&TR::Options::_iprofilerBufferSize, 0, "F%d", NOT_IN_SUBSET },
+    { "iprofilerBulkPersistenceChunkSize=",
+     "I<nnn>\tStage persisted IProfiler data in memory and write it into the SCC in chunks of about this many bytes",
+     TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_iprofilerBulkPersistenceChunkSize, 0, "F%d", NOT_IN_SUBSET },
     { "iprofilerFailHistorySize=", "I<nnn>\tNumber of entries for the failure history buffer maintained by Iprofiler",
      TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_iprofilerFailHistorySize, 0, "F%d", NOT_IN_SUBSET },
     { "iprofilerFailRateThreshold=", "I<nnn>\tReactivate Iprofiler if fail rate exceeds this threshold. 1-100",
@@ -2303,6 +2314,60 @@ void J9::Options::preProcessDeterministicMode(J9JavaVM *vm)
     }
 }
 
+#if defined(J9VM_OPT_JITSERVER)
+// Process -XX:[+|-]MetricsServer and the options of the MetricsServer.
+// Returns false if the MetricsServer options are invalid.
+static bool parseMetricsServerOptions(J9JavaVM *vm, TR::CompilationInfo *compInfo)
+{
+    PORT_ACCESS_FROM_JAVAVM(vm);
+
+    int32_t xxEnableMetricsServerArgIndex
+        = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXplusMetricsServer);
+    int32_t xxDisableMetricsServerArgIndex
+        = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXminusMetricsServer);
+    if (xxEnableMetricsServerArgIndex <= xxDisableMetricsServerArgIndex) {
+        compInfo->getPersistentInfo()->setJITServerMetricsPort(0); // This means don't use MetricsServer
+        return true;
+    }
+
+    // Default port is already set at 38500; see if the user wants to change that
+    int32_t xxJITServerMetricsPortArgIndex
+        = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsPortOption);
+    if (xxJITServerMetricsPortArgIndex >= 0) {
+        UDATA port = 0;
+        const char *xxJITServerMetricsPortOption
+            = J9::Options::getExternalOptionString(J9::ExternalOptions::XXJITServerMetricsPortOption);
+        IDATA ret = GET_INTEGER_VALUE(xxJITServerMetricsPortArgIndex, xxJITServerMetricsPortOption, port);
+        if (ret == OPTION_OK)
+            compInfo->getPersistentInfo()->setJITServerMetricsPort(port);
+    }
+
+    // For optional metrics server encryption. Key and cert have to be set as a pair.
+    int32_t xxJITServerMetricsSSLKeyArgIndex
+        = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsSSLKeyOption);
+    int32_t xxJITServerMetricsSSLCertArgIndex
+        = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsSSLCertOption);
+
+    if ((xxJITServerMetricsSSLKeyArgIndex >= 0) && (xxJITServerMetricsSSLCertArgIndex >= 0)) {
+        char *keyFileName = NULL;
+        char *certFileName = NULL;
+        GET_OPTION_VALUE(xxJITServerMetricsSSLKeyArgIndex, '=', &keyFileName);
+        GET_OPTION_VALUE(xxJITServerMetricsSSLCertArgIndex, '=', &certFileName);
+        std::string key = readFileToString(keyFileName);
+        std::string cert = readFileToString(certFileName);
+
+        if (!key.empty() && !cert.empty()) {
+            compInfo->addJITServerMetricsSslKey(key);
+            compInfo->addJITServerMetricsSslCert(cert);
+        } else {
+            j9tty_printf(PORTLIB, "Fatal Error: The metrics server SSL key and cert cannot be empty\n");
+            return false;
+        }
+    }
+    return true;
+}
+#endif /* defined(J9VM_OPT_JITSERVER) */
+
 bool J9::Options::preProcessJitServer(J9JavaVM *vm, J9JITConfig *jitConfig)
 {
 #if defined(J9VM_OPT_JITSERVER)
@@ -2343,48 +2408,8 @@ bool J9::Options::preProcessJitServer(J9JavaVM *vm, J9JITConfig *jitConfig)
             }
 
             // Check if we should open the port for the MetricsServer
-            int32_t xxEnableMetricsServerArgIndex
-                = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXplusMetricsServer);
-            int32_t xxDisableMetricsServerArgIndex
-                = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXminusMetricsServer);
-            if (xxEnableMetricsServerArgIndex > xxDisableMetricsServerArgIndex) {
-                // Default port is already set at 38500; see if the user wants to change that
-                int32_t xxJITServerMetricsPortArgIndex
-                    = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsPortOption);
-                if (xxJITServerMetricsPortArgIndex >= 0) {
-                    UDATA port = 0;
-                    const char *xxJITServerMetricsPortOption
-                        = J9::Options::getExternalOptionString(J9::ExternalOptions::XXJITServerMetricsPortOption);
-                    IDATA ret = GET_INTEGER_VALUE(xxJITServerMetricsPortArgIndex, xxJITServerMetricsPortOption, port);
-                    if (ret == OPTION_OK)
-                        compInfo->getPersistentInfo()->setJITServerMetricsPort(port);
-                }
-
-                // For optional metrics server encryption. Key and cert have to be set as a pair.
-                int32_t xxJITServerMetricsSSLKeyArgIndex
-                    = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsSSLKeyOption);
-                int32_t xxJITServerMetricsSSLCertArgIndex
-                    = J9::Options::getExternalOptionIndex(J9::ExternalOptions::XXJITServerMetricsSSLCertOption);
-
-                if ((xxJITServerMetricsSSLKeyArgIndex >= 0) && (xxJITServerMetricsSSLCertArgIndex >= 0)) {
-                    char *keyFileName = NULL;
-                    char *certFileName = NULL;
-                    GET_OPTION_VALUE(xxJITServerMetricsSSLKeyArgIndex, '=', &keyFileName);
-                    GET_OPTION_VALUE(xxJITServerMetricsSSLCertArgIndex, '=', &certFileName);
-                    std::string key = readFileToString(keyFileName);
-                    std::string cert = readFileToString(certFileName);
-
-                    if (!key.empty() && !cert.empty()) {
-                        compInfo->addJITServerMetricsSslKey(key);
-                        compInfo->addJITServerMetricsSslCert(cert);
-                    } else {
-                        j9tty_printf(PORTLIB, "Fatal Error: The metrics server SSL key and cert cannot be empty\n");
-                        return false;
-                    }
-                }
-            } else {
-                compInfo->getPersistentInfo()->setJITServerMetricsPort(0); // This means don't use MetricsServer
-            }
+            if (!parseMetricsServerOptions(vm, compInfo))
+                return false;
 
             // Check if cached ROM classes should be shared between clients
             int32_t xxJITServerShareROMClassesArgIndex
@@ -2416,6 +2441,10 @@ bool J9::Options::preProcessJitServer(J9JavaVM *vm, J9JITConfig *jitConfig)
             }
         } else // Client mode (possibly)
         {
+            // The MetricsServer can also expose the JIT and GC metrics of a client or regular JVM
+            if (!parseMetricsServerOptions(vm, compInfo))
+                return false;
+
             // Check option -XX:+UseJITServer
             // -XX:-UseJITServer disables JITServer at the client
             int32_t xxUseJITServerArgIndex
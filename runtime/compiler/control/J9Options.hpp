@@ -338,6 +338,7 @@ public:
     static int32_t _activeThreadsThreshold; // -1 means 'determine dynamically', 0 means feature disabled
     static int32_t _samplingThreadExpirationTime;
     static int32_t _compilationExpirationTime;
+    static int32_t _compilationLedgerSize; // number of compilations remembered in the compilation ledger
     static int32_t _compilationThreadPriorityCode; // a number between 0 and 4
     static int32_t _disableIProfilerClassUnloadThreshold;
     static int32_t _iprofilerReactivateThreshold;
@@ -347,6 +348,7 @@ public:
     static int32_t _iprofilerBufferMaxPercentageToDiscard;
     static int32_t _iProfilerBufferInterarrivalTimeToExitDeepIdle; // ms
     static int32_t _iprofilerBufferSize; // iprofilerbuffer size in kb
+    static int32_t _iprofilerBulkPersistenceChunkSize; // bytes; 0 means IProfiler data is persisted per method
 
     static int32_t _maxIprofilingCount; // when invocation count is larger than
                                         // this value Iprofiler will not collect data
@@ -459,6 +461,7 @@ public:
     static const uint32_t DEFAULT_JITSERVER_TIMEOUT = 30000; // ms
     static int32_t _aotCachePersistenceMinDeltaMethods;
     static int32_t _aotCachePersistenceMinPeriodMs;
+    static int32_t _aotCachePrefetchMaxMethods; // 0 means that the client does not prefetch AOT methods
     static int32_t _jitserverMallocTrimInterval;
     static int32_t _lowCompDensityModeEnterThreshold;
     static int32_t _lowCompDensityModeExitThreshold;
@@ -209,11 +209,13 @@ static bool handleResponse(JITServer::MessageType response, JITServer::ClientStr
             client->write(response, JITServer::Void());
         } break;
         case MessageType::getUnloadedClassRangesAndCHTable: {
-            uint64_t serverUID = std::get<0>(client->getRecvData<uint64_t>());
+            auto recv = client->getRecvData<uint64_t, bool>();
+            uint64_t serverUID = std::get<0>(recv);
             uint64_t previousUID = compInfo->getPersistentInfo()->getServerUID();
             bool hasEverConnectedToServer = compInfo->getPersistentInfo()->hasEverConnectedToServer();
             compInfo->getPersistentInfo()->setServerUID(serverUID);
             compInfo->getPersistentInfo()->setHasEverConnectedToServer();
+            compInfo->getPersistentInfo()->setServerSharesROMClasses(std::get<1>(recv));
 
             auto unloadedClasses = comp->getPersistentInfo()->getUnloadedClassAddresses();
             std::vector<TR_AddressRange> ranges;
@@ -1109,6 +1111,20 @@ static bool handleResponse(JITServer::MessageType response, JITServer::ClientStr
             }
             client->write(response, JITServerHelpers::packRemoteROMClassInfo(clazz, fe->vmThread(), trMemory, true));
         } break;
+        case MessageType::ResolvedMethod_getPackedROMClasses: {
+            auto recv = client->getRecvData<std::vector<J9Class *> >();
+            auto &ramClasses = std::get<0>(recv);
+            std::vector<std::string> packedROMClasses;
+            packedROMClasses.reserve(ramClasses.size());
+            for (J9Class *clazz : ramClasses) {
+                TR::StackMemoryRegion stackMemoryRegion(*trMemory);
+                size_t packedSize;
+                J9ROMClass *packedROMClass = JITServerHelpers::packROMClass(clazz->romClass, trMemory, fe, packedSize);
+                packedROMClasses.push_back(std::string((const char *)packedROMClass, packedROMClass->romSize));
+            }
+            VM_AtomicSupport::addU32(&JITServerHelpers::_numPackedROMClassesSentOnRequest, (uint32_t)ramClasses.size());
+            client->write(response, packedROMClasses);
+        } break;
         case MessageType::ResolvedMethod_staticAttributes: {
             auto recv = client->getRecvData<TR_ResolvedJ9Method *, int32_t, bool, bool>();
             TR_ResolvedJ9Method *method = std::get<0>(recv);
@@ -3113,8 +3129,19 @@ TR_MethodMetaData *remoteCompile(J9VMThread *vmThread, TR::Compilation *compiler
     // That moment is currently right here, when we get the new known IDs that are cached in the deserializer.
     compInfoPT->getJ9VM()->clearDeserializerWasReset();
     auto context = DeserializerContext(compiler);
+
+    // A method prefetched in bulk from the server AOT cache (see prefetchServerAOTCacheMethods() in rossa.cpp)
+    // can be deserialized right away, without sending a compilation request to the server
+    std::string prefetchedMethodStr;
+    std::vector<std::string> prefetchedRecords;
+    bool prefetchedMethodHit = aotCacheLoad && deserializer && !details.isJitDumpMethod()
+        && deserializer->takePrefetchedMethod(compiler->signature(), (uint32_t)(method - clazz->ramMethods),
+            entry->_optimizationPlan->getOptLevel(), persistentInfo->getServerUID(), prefetchedMethodStr,
+            prefetchedRecords);
+
+    // IDs of records cached since the last request stay in the deserializer until a request is actually sent
     std::vector<uintptr_t> newKnownIds
-        = deserializer ? deserializer->getNewKnownIds(context) : std::vector<uintptr_t>();
+        = (deserializer && !prefetchedMethodHit) ? deserializer->getNewKnownIds(context) : std::vector<uintptr_t>();
 
     auto chTable = (JITClientPersistentCHTable *)persistentInfo->getPersistentCHTable();
     std::vector<TR_OpaqueClassBlock *> unloadedClasses;
@@ -3123,8 +3150,9 @@ TR_MethodMetaData *remoteCompile(J9VMThread *vmThread, TR::Compilation *compiler
     uint32_t seqNo = 0;
     uint32_t lastCriticalSeqNo = 0;
 
-    // sequencing monitor critical section scope
-    {
+    // sequencing monitor critical section scope; a prefetched method does not consume a sequence number,
+    // so the updates collected here are left for the next request that is actually sent to the server
+    if (!prefetchedMethodHit) {
         OMR::CriticalSection sequencingLock(compInfo->getSequencingMonitor());
 
         // Collect the list of unloaded classes
@@ -3197,33 +3225,42 @@ TR_MethodMetaData *remoteCompile(J9VMThread *vmThread, TR::Compilation *compiler
     uint32_t methodIndex
         = (uint32_t)(method - clazz->ramMethods); // Index in the array of methods of the defining class
     try {
-        // Release VM access just before sending the compilation request
-        // message just in case we block in the write operation
-        releaseVMAccess(vmThread);
+        JITServer::MessageType response;
+        if (prefetchedMethodHit) {
+            // Handle the prefetched method as if the server had responded with an AOT cache hit
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer)) {
+                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Client using prefetched AOT method %s @ %s.",
+                    compiler->signature(), compiler->getHotnessName());
+            }
+            response = JITServer::MessageType::AOTCache_serializedAOTMethod;
+        } else {
+            // Release VM access just before sending the compilation request
+            // message just in case we block in the write operation
+            releaseVMAccess(vmThread);
 
-        if (TR::Options::getVerboseOption(TR_VerboseJITServer)) {
-            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
-                "Client sending compReq seqNo=%u to server for method %s @ %s.", seqNo, compiler->signature(),
-                compiler->getHotnessName());
-        }
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer)) {
+                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+                    "Client sending compReq seqNo=%u to server for method %s @ %s.", seqNo, compiler->signature(),
+                    compiler->getHotnessName());
+            }
 
-        Trc_JITServerRemoteCompileRequest(vmThread, seqNo, compiler->signature(), compiler->getHotnessName());
+            Trc_JITServerRemoteCompileRequest(vmThread, seqNo, compiler->signature(), compiler->getHotnessName());
 
-        client->buildCompileRequest(persistentInfo->getClientUID(), seqNo, lastCriticalSeqNo, method, clazz,
-            *entry->_optimizationPlan, detailsStr, details.getType(), unloadedClasses, illegalModificationList,
-            classInfoTuple, optionsStr, recompMethodInfoStr, chtableUpdates.first, chtableUpdates.second,
-            useAotCompilation, TR::Compiler->vm.isVMInStartupPhase(compInfoPT->getJitConfig()), aotCacheStore,
-            aotCacheLoad, methodIndex, classChainOffset, ramClassChain, uncachedRAMClasses, uncachedClassInfos,
-            newKnownIds, numPermanentLoaders);
+            client->buildCompileRequest(persistentInfo->getClientUID(), seqNo, lastCriticalSeqNo, method, clazz,
+                *entry->_optimizationPlan, detailsStr, details.getType(), unloadedClasses, illegalModificationList,
+                classInfoTuple, optionsStr, recompMethodInfoStr, chtableUpdates.first, chtableUpdates.second,
+                useAotCompilation, TR::Compiler->vm.isVMInStartupPhase(compInfoPT->getJitConfig()), aotCacheStore,
+                aotCacheLoad, methodIndex, classChainOffset, ramClassChain, uncachedRAMClasses, uncachedClassInfos,
+                newKnownIds, numPermanentLoaders);
 
-        JITServer::MessageType response;
-        while (!handleServerMessage(client, compiler->fej9vm(), response))
-            ;
+            while (!handleServerMessage(client, compiler->fej9vm(), response))
+                ;
 
-        // Re-acquire VM access
-        // handleServerMessage will always acquire VM access after read() and release VM access at the end
-        // Therefore we need to re-acquire VM access after we get out of handleServerMessage
-        acquireVMAccessNoSuspend(vmThread);
+            // Re-acquire VM access
+            // handleServerMessage will always acquire VM access after read() and release VM access at the end
+            // Therefore we need to re-acquire VM access after we get out of handleServerMessage
+            acquireVMAccessNoSuspend(vmThread);
+        }
 
         if (JITServer::MessageType::compilationCode == response) {
             auto recv = client->getRecvData<std::string, std::string, CHTableCommitData,
@@ -3298,20 +3335,31 @@ TR_MethodMetaData *remoteCompile(J9VMThread *vmThread, TR::Compilation *compiler
                     "Failed to deserialize AOT cache method %s", compiler->signature());
             }
         } else if (JITServer::MessageType::AOTCache_serializedAOTMethod == response) {
-            auto recv = client->getRecvData<std::string, std::vector<std::string>, TR_OptimizationPlan,
-                JITServer::ServerMemoryState, JITServer::ServerActiveThreadsState>();
-            auto &methodStr = std::get<0>(recv);
-            auto &records = std::get<1>(recv);
-            modifiedOptPlan = std::get<2>(recv);
-            JITServer::ServerMemoryState nextMemoryState = std::get<3>(recv);
-            JITServer::ServerActiveThreadsState nextActiveThreadState = std::get<4>(recv);
+            std::string methodStr;
+            std::vector<std::string> records;
+            if (prefetchedMethodHit) {
+                methodStr = std::move(prefetchedMethodStr);
+                records = std::move(prefetchedRecords);
+                modifiedOptPlan = *entry->_optimizationPlan;
+            } else {
+                auto recv = client->getRecvData<std::string, std::vector<std::string>, TR_OptimizationPlan,
+                    JITServer::ServerMemoryState, JITServer::ServerActiveThreadsState>();
+                methodStr = std::move(std::get<0>(recv));
+                records = std::move(std::get<1>(recv));
+                modifiedOptPlan = std::get<2>(recv);
+                JITServer::ServerMemoryState nextMemoryState = std::get<3>(recv);
+                JITServer::ServerActiveThreadsState nextActiveThreadState = std::get<4>(recv);
 
-            updateCompThreadActivationPolicy(compInfoPT, nextMemoryState, nextActiveThreadState);
+                updateCompThreadActivationPolicy(compInfoPT, nextMemoryState, nextActiveThreadState);
+            }
 
             auto method = SerializedAOTMethod::get(methodStr);
             bool usesSVM = false;
             auto context = DeserializerContext(compiler);
-            if (deserializer->deserialize(method, records, context, usesSVM)) {
+            bool deserialized = prefetchedMethodHit
+                ? deserializer->deserializePrefetched(method, records, clazz, context, usesSVM)
+                : deserializer->deserialize(method, records, context, usesSVM);
+            if (deserialized) {
                 compiler->setDeserializedAOTMethod(true);
                 compiler->setDeserializedAOTMethodUsingSVM(usesSVM);
                 statusCode = compilationOK;
@@ -3320,7 +3368,9 @@ TR_MethodMetaData *remoteCompile(J9VMThread *vmThread, TR::Compilation *compiler
                 // Remaining values are already set to empty defaults
             } else {
                 entry->_compErrCode = aotCacheDeserializationFailure;
-                entry->_doNotLoadFromJITServerAOTCache = true;
+                // The server may still be able to provide a usable method if the prefetched one was stale
+                if (!prefetchedMethodHit)
+                    entry->_doNotLoadFromJITServerAOTCache = true;
                 if (entry->_compilationAttemptsLeft > 0)
                     entry->_tryCompilingAgain = true;
                 compiler->failCompilation<J9::AOTCacheDeserializationFailure>(
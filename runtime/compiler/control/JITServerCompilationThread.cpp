@@ -738,8 +738,9 @@ void TR::CompilationInfoPerThreadRemote::processCompilationRequest(CompilationRe
                     "compThreadID=%d will ask for address ranges of unloaded classes and CHTable for clientUID %llu",
                     getCompThreadId(), (unsigned long long)clientId);
 
+            // Also let the client know if it can send ROMClass hashes instead of full ROMClasses
             stream->write(JITServer::MessageType::getUnloadedClassRangesAndCHTable,
-                compInfo->getPersistentInfo()->getServerUID());
+                compInfo->getPersistentInfo()->getServerUID(), compInfo->getJITServerSharedROMClassCache() != NULL);
             auto response
                 = stream->read<std::vector<TR_AddressRange>, int32_t, std::string, std::vector<J9Method *> >();
             // TODO: we could send JVM info that is global and does not change together with CHTable
@@ -844,10 +845,11 @@ void TR::CompilationInfoPerThreadRemote::processCompilationRequest(CompilationRe
     J9ROMClass *romClass = NULL;
     if (!(romClass = JITServerHelpers::getRemoteROMClassIfCached(clientSession, clazz))) {
         // Class for current request is not yet cached.
-        // If the client sent us the desired information in the compilation request, use that.
-        if (!(std::get<0>(classInfoTuple).empty())) {
+        // If the client sent us the desired information in the compilation request (either the
+        // packed ROMClass or only its hash), use that.
+        if (!std::get<0>(classInfoTuple).empty() || !std::get<24>(classInfoTuple).empty()) {
             romClass = JITServerHelpers::romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
-                clientSession->persistentMemory());
+                clientSession->persistentMemory(), clazz, stream);
         } else {
             // The client did not embed info about desired class in the compilation request.
             // This could happen if the client determined that it sent required information in
@@ -902,7 +904,7 @@ void TR::CompilationInfoPerThreadRemote::processCompilationRequest(CompilationRe
 
     if (_aotCacheStore || aotCacheLoad) {
         // Get defining class chain record to use as a part of the key to lookup or store the method in AOT cache
-        JITServerHelpers::cacheRemoteROMClassBatch(clientSession, uncachedRAMClasses, uncachedClassInfos);
+        JITServerHelpers::cacheRemoteROMClassBatch(clientSession, uncachedRAMClasses, uncachedClassInfos, stream);
         bool missingLoaderInfo = false;
         _definingClassChainRecord = clientSession->getClassChainRecord(clazz, classChainOffset, ramClassChain, stream,
             missingLoaderInfo, &scratchSegmentProvider);
@@ -992,6 +994,63 @@ void TR::CompilationInfoPerThreadRemote::processAOTCacheMapRequest(const std::st
     stream->write(JITServer::MessageType::AOTCacheMap_reply, methodSignaturesV);
 }
 
+/**
+ * @brief Method executed by JITServer to send a batch of cached AOT methods to a client that prefetches them.
+ */
+void TR::CompilationInfoPerThreadRemote::processAOTCachePrefetchRequest(TR::CompilationInfo *compInfo,
+    JITServer::ServerStream *stream, J9::J9SegmentProvider &scratchSegmentProvider)
+{
+    auto recv = stream->getRecvData<std::string, uint64_t, std::string, std::vector<std::string>, uint32_t>();
+    const std::string &aotCacheName = std::get<0>(recv);
+    uint64_t clientUID = std::get<1>(recv);
+    const std::string &aotHeaderStr = std::get<2>(recv);
+    const std::vector<std::string> &loadedClassNames = std::get<3>(recv);
+    uint32_t maxMethods = std::get<4>(recv);
+
+    if (TR::Options::getVerboseOption(TR_VerboseJITServer)) {
+        TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+            "compThreadID=%d handling prefetch request for AOT cache %s from clientUID=%llu with %zu loaded classes",
+            getCompThreadId(), aotCacheName.c_str(), (unsigned long long)clientUID, loadedClassNames.size());
+    }
+
+    std::vector<std::string> methods;
+    std::vector<std::string> records;
+    std::vector<std::vector<uint32_t> > recordIndices;
+
+    auto aotCacheMap = compInfo->getJITServerAOTCacheMap();
+    // A cache that is still being loaded from disk is treated as a failure, like in processAOTCacheMapRequest()
+    bool pending = false;
+    auto aotCache = aotCacheMap ? aotCacheMap->get(aotCacheName, clientUID, pending) : NULL;
+    if (aotCache && (aotHeaderStr.size() == sizeof(TR_AOTHeader))) {
+        try {
+            TR::RawAllocator rawAllocator(getCompilationThread()->javaVM);
+            J9::SystemSegmentProvider segmentProvider(1 << 16 /*64 KB*/, 1 << 24 /*16 MB*/,
+                TR::Options::getScratchSpaceLimit(), scratchSegmentProvider, rawAllocator);
+            TR::Region region(segmentProvider, rawAllocator);
+            TR_Memory trMemory(*compInfo->persistentMemory(), region);
+
+            // Prefetching only reads the cache; an unknown header has no methods to send, so don't record it
+            auto aotHeaderRecord = aotCache->findAOTHeaderRecord((const TR_AOTHeader *)aotHeaderStr.data());
+            if (aotHeaderRecord)
+                aotCache->getMethodsForPrefetch(aotHeaderRecord, loadedClassNames, maxMethods, methods, records,
+                    recordIndices, trMemory);
+        } catch (const std::bad_alloc &e) {
+            if (TR::Options::isAnyVerboseOptionSet(TR_VerboseJITServer))
+                TR_VerboseLog::writeLineLocked(TR_Vlog_FAILURE, "std::bad_alloc: %s", e.what());
+            methods.clear();
+            records.clear();
+            recordIndices.clear();
+        }
+    }
+
+    if (TR::Options::getVerboseOption(TR_VerboseJITServer)) {
+        TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Sending %zu prefetched AOT methods with %zu records",
+            methods.size(), records.size());
+    }
+    stream->write(JITServer::MessageType::AOTCachePrefetch_reply, compInfo->getPersistentInfo()->getServerUID(),
+        methods, records, recordIndices);
+}
+
 /**
  * @brief Method executed by JITServer to process the compilation request.
  */
@@ -1077,6 +1136,10 @@ void TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &ent
             processAOTCacheMapRequest(cacheName, compInfo, stream);
             abortCompilation = true;
             deleteStream = true;
+        } else if (messageType == JITServer::MessageType::AOTCachePrefetch_request) {
+            processAOTCachePrefetchRequest(compInfo, stream, scratchSegmentProvider);
+            abortCompilation = true;
+            deleteStream = true;
         } else {
             TR_ASSERT_FATAL(false, "Unknown message type %d\n", messageType);
         }
@@ -212,6 +212,9 @@ private:
     void processAOTCacheMapRequest(const std::string &aotCacheName, TR::CompilationInfo *compInfo,
         JITServer::ServerStream *stream);
 
+    void processAOTCachePrefetchRequest(TR::CompilationInfo *compInfo, JITServer::ServerStream *stream,
+        J9::J9SegmentProvider &scratchSegmentProvider);
+
     TR_PersistentMethodInfo *_recompilationMethodInfo;
     uint32_t _seqNo;
     uint32_t _expectedSeqNo; // this request is allowed to go if _expectedSeqNo is processed
@@ -43,6 +43,8 @@ uint64_t JITServerHelpers::_waitTimeMs = 0;
 bool JITServerHelpers::_serverAvailable = true;
 uint64_t JITServerHelpers::_nextConnectionRetryTime = 0;
 TR::Monitor *JITServerHelpers::_clientStreamMonitor = NULL;
+uint32_t JITServerHelpers::_numROMClassHashesSent = 0;
+uint32_t JITServerHelpers::_numPackedROMClassesSentOnRequest = 0;
 
 // To ensure that the length fields in UTF8 strings appended at the end of the
 // packed ROMClass are properly aligned, we must pad the strings accordingly.
@@ -789,6 +791,8 @@ void JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compil
     uint32_t numCompilations = 0;
     uint32_t numDeserializedMethods = 0;
     if (compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::CLIENT) {
+        j9tty_printf(PORTLIB, "Number of ROMClasses sent as hashes: %u\n", _numROMClassHashesSent);
+        j9tty_printf(PORTLIB, "Number of ROMClasses sent on server request: %u\n", _numPackedROMClassesSentOnRequest);
         numCompilations = JITServer::CommunicationStream::_msgTypeCount[JITServer::MessageType::compilationCode];
         if (auto deserializer = compInfo->getJITServerAOTDeserializer())
             numDeserializedMethods = deserializer->getNumDeserializedMethods();
@@ -1016,11 +1020,23 @@ JITServerHelpers::ClassInfoTuple JITServerHelpers::packRemoteROMClassInfo(J9Clas
         TR::StackMemoryRegion stackMemoryRegion(*trMemory);
         size_t hashedSize;
         J9ROMClass *packedROMClass = packROMClass(clazz->romClass, trMemory, fe, hashedSize);
-        packedROMClassStr = std::string((const char *)packedROMClass, packedROMClass->romSize);
 
         auto deserializer = fe->_compInfo->getJITServerAOTDeserializer();
         if (deserializer)
             romClassHash = deserializer->findGeneratedClassHash((J9ClassLoader *)classLoader, clazz, fe, vmThread);
+
+        if (fe->getPersistentInfo()->getServerSharesROMClasses()) {
+            // The server keeps a single copy of each distinct ROMClass for all its clients, so it most likely
+            // already has this one. Send only the hash that identifies it in the server cache; the server will
+            // ask for the packed ROMClass with a ResolvedMethod_getPackedROMClasses message if it does not have it.
+            if (romClassHash.empty()) {
+                JITServerROMClassHash hash(packedROMClass);
+                romClassHash = std::string((const char *)&hash, sizeof(hash));
+            }
+            VM_AtomicSupport::addU32(&_numROMClassHashesSent, 1);
+        } else {
+            packedROMClassStr = std::string((const char *)packedROMClass, packedROMClass->romSize);
+        }
     }
 
     int32_t arrayElementSize = vmThread->javaVM->internalVMFunctions->arrayElementSize((J9ArrayClass *)clazz);
@@ -1033,9 +1049,40 @@ JITServerHelpers::ClassInfoTuple JITServerHelpers::packRemoteROMClassInfo(J9Clas
         nullRestrictedArrayClass, arity);
 }
 
+std::vector<std::string> JITServerHelpers::getPackedROMClasses(const std::vector<J9Class *> &ramClasses,
+    JITServer::ServerStream *stream)
+{
+    stream->write(JITServer::MessageType::ResolvedMethod_getPackedROMClasses, ramClasses);
+    auto recv = stream->read<std::vector<std::string> >();
+    auto &packedROMClasses = std::get<0>(recv);
+    TR_ASSERT_FATAL(packedROMClasses.size() == ramClasses.size(), "Received %zu packed ROMClasses instead of %zu",
+        packedROMClasses.size(), ramClasses.size());
+    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+        TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+            "Received %zu packed ROMClasses sent as hashes and missing from the shared ROMClass cache",
+            packedROMClasses.size());
+    return packedROMClasses;
+}
+
 J9ROMClass *JITServerHelpers::romClassFromString(const std::string &romClassStr, const std::string &romClassHashStr,
-    TR_PersistentMemory *persistentMemory)
+    TR_PersistentMemory *persistentMemory, J9Class *clazz, JITServer::ServerStream *stream)
 {
+    if (romClassStr.empty()) {
+        // The client sent only the hash of the ROMClass, expecting it to be already present in the shared
+        // ROMClass cache. If it is not there (e.g. it was released by the last session that used it, or
+        // this server does not share ROMClasses), request the packed ROMClass from the client.
+        TR_ASSERT_FATAL(romClassHashStr.size() == sizeof(JITServerROMClassHash), "Missing hash for ROMClass of %p",
+            clazz);
+        auto cache = TR::CompilationInfo::get()->getJITServerSharedROMClassCache();
+        if (cache) {
+            if (auto romClass = cache->getIfExists(*(const JITServerROMClassHash *)romClassHashStr.data()))
+                return romClass;
+        }
+        auto packedROMClasses = getPackedROMClasses(std::vector<J9Class *>(1, clazz), stream);
+        TR_ASSERT_FATAL(!packedROMClasses[0].empty(), "Client sent no packed ROMClass for %p", clazz);
+        return romClassFromString(packedROMClasses[0], romClassHashStr, persistentMemory, clazz, stream);
+    }
+
     if (auto cache = TR::CompilationInfo::get()->getJITServerSharedROMClassCache()) {
         auto hash = romClassHashStr.empty() ? NULL : (const JITServerROMClassHash *)romClassHashStr.data();
         return cache->getOrCreate((const J9ROMClass *)romClassStr.data(), hash);
@@ -1054,7 +1101,8 @@ J9ROMClass *JITServerHelpers::getRemoteROMClass(J9Class *clazz, JITServer::Serve
     stream->write(JITServer::MessageType::ResolvedMethod_getRemoteROMClassAndMethods, clazz);
     auto recv = stream->read<ClassInfoTuple>();
     classInfoTuple = std::get<0>(recv);
-    return romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple), persistentMemory);
+    return romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple), persistentMemory, clazz,
+        stream);
 }
 
 // Return true if able to get data from cache, return false otherwise.
@@ -1076,16 +1124,18 @@ bool JITServerHelpers::getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData
     stream->write(JITServer::MessageType::ResolvedMethod_getRemoteROMClassAndMethods, clazz);
     auto recv = stream->read<ClassInfoTuple>();
     auto &classInfoTuple = std::get<0>(recv);
+    // Obtaining the ROMClass may require another message to the client, so it is done outside the critical section
+    auto romClass = romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
+        clientSessionData->persistentMemory(), clazz, stream);
 
     OMR::CriticalSection cacheRemoteROMClass(clientSessionData->getROMMapMonitor());
     auto it = clientSessionData->getROMClassMap().find(clazz);
     if (it == clientSessionData->getROMClassMap().end()) {
-        auto romClass = romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
-            clientSessionData->persistentMemory());
         auto &classInfoStruct
             = JITServerHelpers::cacheRemoteROMClass(clientSessionData, clazz, romClass, classInfoTuple);
         JITServerHelpers::getROMClassData(classInfoStruct, dataType, data);
     } else {
+        JITServerHelpers::freeRemoteROMClass(romClass, clientSessionData->persistentMemory());
         JITServerHelpers::getROMClassData(it->second, dataType, data);
     }
     return false;
@@ -1111,17 +1161,19 @@ bool JITServerHelpers::getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData
     stream->write(JITServer::MessageType::ResolvedMethod_getRemoteROMClassAndMethods, clazz);
     auto recv = stream->read<ClassInfoTuple>();
     auto &classInfoTuple = std::get<0>(recv);
+    // Obtaining the ROMClass may require another message to the client, so it is done outside the critical section
+    auto romClass = romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
+        clientSessionData->persistentMemory(), clazz, stream);
 
     OMR::CriticalSection cacheRemoteROMClass(clientSessionData->getROMMapMonitor());
     auto it = clientSessionData->getROMClassMap().find(clazz);
     if (it == clientSessionData->getROMClassMap().end()) {
-        auto romClass = romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
-            clientSessionData->persistentMemory());
         auto &classInfoStruct
             = JITServerHelpers::cacheRemoteROMClass(clientSessionData, clazz, romClass, classInfoTuple);
         JITServerHelpers::getROMClassData(classInfoStruct, dataType1, data1);
         JITServerHelpers::getROMClassData(classInfoStruct, dataType2, data2);
     } else {
+        JITServerHelpers::freeRemoteROMClass(romClass, clientSessionData->persistentMemory());
         JITServerHelpers::getROMClassData(it->second, dataType1, data1);
         JITServerHelpers::getROMClassData(it->second, dataType2, data2);
     }
@@ -1346,16 +1398,18 @@ uintptr_t JITServerHelpers::getRemoteClassDepthAndFlagsWhenROMClassNotCached(J9C
     stream->write(JITServer::MessageType::ResolvedMethod_getRemoteROMClassAndMethods, clazz);
     auto recv = stream->read<JITServerHelpers::ClassInfoTuple>();
     auto &classInfoTuple = std::get<0>(recv);
+    // Obtaining the ROMClass may require another message to the client, so it is done outside the critical section
+    auto romClass = JITServerHelpers::romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
+        clientSessionData->persistentMemory(), clazz, stream);
 
     OMR::CriticalSection cacheRemoteROMClass(clientSessionData->getROMMapMonitor());
     auto it = clientSessionData->getROMClassMap().find(clazz);
     if (it == clientSessionData->getROMClassMap().end()) {
-        auto romClass = JITServerHelpers::romClassFromString(std::get<0>(classInfoTuple), std::get<24>(classInfoTuple),
-            clientSessionData->persistentMemory());
         auto &classInfoStruct
             = JITServerHelpers::cacheRemoteROMClass(clientSessionData, clazz, romClass, classInfoTuple);
         return classInfoStruct._classDepthAndFlags;
     } else {
+        JITServerHelpers::freeRemoteROMClass(romClass, clientSessionData->persistentMemory());
         return it->second._classDepthAndFlags;
     }
 }
@@ -1400,14 +1454,44 @@ std::vector<J9Class *> JITServerHelpers::getRAMClassChain(J9Class *clazz, size_t
 }
 
 void JITServerHelpers::cacheRemoteROMClassBatch(ClientSessionData *clientData, const std::vector<J9Class *> &ramClasses,
-    const std::vector<ClassInfoTuple> &classInfoTuples)
+    const std::vector<ClassInfoTuple> &classInfoTuples, JITServer::ServerStream *stream)
 {
     TR_ASSERT_FATAL(ramClasses.size() == classInfoTuples.size(), "Must have equal length");
 
+    // Look up the ROMClasses that the client sent only as hashes in the shared ROMClass cache first,
+    // so that the ones the server does not have can be requested from the client in a single message.
+    std::vector<J9ROMClass *> romClasses(ramClasses.size(), NULL);
+    std::vector<J9Class *> missingRAMClasses;
+    std::vector<size_t> missingIndices;
+    auto cache = TR::CompilationInfo::get()->getJITServerSharedROMClassCache();
+    for (size_t i = 0; i < ramClasses.size(); ++i) {
+        if (!std::get<0>(classInfoTuples[i]).empty())
+            continue;
+        const std::string &hashStr = std::get<24>(classInfoTuples[i]);
+        TR_ASSERT_FATAL(hashStr.size() == sizeof(JITServerROMClassHash), "Missing hash for ROMClass of %p",
+            ramClasses[i]);
+        if (cache)
+            romClasses[i] = cache->getIfExists(*(const JITServerROMClassHash *)hashStr.data());
+        if (!romClasses[i]) {
+            missingRAMClasses.push_back(ramClasses[i]);
+            missingIndices.push_back(i);
+        }
+    }
+
+    std::vector<std::string> packedROMClasses;
+    if (!missingRAMClasses.empty())
+        packedROMClasses = getPackedROMClasses(missingRAMClasses, stream);
+    for (size_t j = 0; j < missingIndices.size(); ++j) {
+        size_t i = missingIndices[j];
+        romClasses[i] = romClassFromString(packedROMClasses[j], std::get<24>(classInfoTuples[i]),
+            clientData->persistentMemory(), ramClasses[i], stream);
+    }
+
     for (size_t i = 0; i < ramClasses.size(); ++i) {
-        auto romClass = romClassFromString(std::get<0>(classInfoTuples[i]), std::get<24>(classInfoTuples[i]),
-            clientData->persistentMemory());
-        cacheRemoteROMClassOrFreeIt(clientData, ramClasses[i], romClass, classInfoTuples[i]);
+        if (!romClasses[i])
+            romClasses[i] = romClassFromString(std::get<0>(classInfoTuples[i]), std::get<24>(classInfoTuples[i]),
+                clientData->persistentMemory(), ramClasses[i], stream);
+        cacheRemoteROMClassOrFreeIt(clientData, ramClasses[i], romClasses[i], classInfoTuples[i]);
     }
 }
 
@@ -106,8 +106,13 @@ public:
     static J9ROMClass *getRemoteROMClassIfCached(ClientSessionData *clientSessionData, J9Class *clazz);
     static J9ROMClass *getRemoteROMClass(J9Class *clazz, JITServer::ServerStream *stream,
         TR_PersistentMemory *persistentMemory, ClassInfoTuple &classInfoTuple);
+    // Returns the server copy of a ROMClass received from the client. If the client sent only the ROMClass hash
+    // (romClassStr is empty) and the ROMClass is not in the shared ROMClass cache, it is requested from the client.
     static J9ROMClass *romClassFromString(const std::string &romClassStr, const std::string &romClassHashStr,
-        TR_PersistentMemory *persistentMemory);
+        TR_PersistentMemory *persistentMemory, J9Class *clazz, JITServer::ServerStream *stream);
+    // Requests the packed ROMClasses of ramClasses from the client
+    static std::vector<std::string> getPackedROMClasses(const std::vector<J9Class *> &ramClasses,
+        JITServer::ServerStream *stream);
     static bool getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData *clientSessionData,
         JITServer::ServerStream *stream, ClassInfoDataType dataType, void *data);
     static bool getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData *clientSessionData,
@@ -131,6 +136,10 @@ public:
     static bool isServerAvailable() { return _serverAvailable; }
 
     static void printJITServerMsgStats(J9JITConfig *, TR::CompilationInfo *);
+    // Client statistics of the ROMClasses sent to a server that shares ROMClasses: the ones sent only as
+    // hashes, and the ones sent afterwards because the server did not have them (printed with the message stats)
+    static uint32_t _numROMClassHashesSent;
+    static uint32_t _numPackedROMClassesSentOnRequest;
     static void printJITServerCHTableStats(J9JITConfig *, TR::CompilationInfo *);
     static void printJITServerCacheStats(J9JITConfig *, TR::CompilationInfo *);
 
@@ -148,7 +157,7 @@ public:
         std::vector<ClassInfoTuple> &uncachedClassInfos);
 
     static void cacheRemoteROMClassBatch(ClientSessionData *clientData, const std::vector<J9Class *> &ramClasses,
-        const std::vector<ClassInfoTuple> &classInfoTuples);
+        const std::vector<ClassInfoTuple> &classInfoTuples, JITServer::ServerStream *stream);
     // Helper routine to generate a unique ID for the client or server
     static uint64_t generateUID();
 
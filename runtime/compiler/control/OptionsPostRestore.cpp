@@ -33,6 +33,7 @@
 #include "control/CompilationThread.hpp"
 #include "control/Options.hpp"
 #include "control/OptionsPostRestore.hpp"
+#include "control/rossa.h"
 #include "control/J9Recompilation.hpp"
 #include "env/J9PersistentInfo.hpp"
 #include "env/SystemSegmentProvider.hpp"
@@ -326,6 +327,9 @@ void J9::OptionsPostRestore::processJitServerOptions()
             int rc = JITServer::ClientStream::static_init(_compInfo);
             TR_ASSERT_FATAL(rc == 0, "Terminating the JVM because it failed to initialize the SSL library");
         }
+
+        // The restored client may be talking to a different server, so prefetch its cached AOT methods again
+        startServerAOTCachePrefetch(_jitConfig);
     } else {
         _compInfo->getCRRuntime()->setCanPerformRemoteCompilationInCRIUMode(false);
         _compInfo->getPersistentInfo()->setClientUID(0);
@@ -57,6 +57,7 @@
 
 #define J9_EXTERNAL_TO_VM
 #include "codegen/PrivateLinkage.hpp"
+#include "control/CompilationLedger.hpp"
 #include "control/CompilationRuntime.hpp"
 #include "control/CompilationThread.hpp"
 #include "control/JitDump.hpp"
@@ -78,6 +79,10 @@
 #include "env/jittypes.h"
 #include "env/ClassTableCriticalSection.hpp"
 #include "env/VerboseLog.hpp"
+#include "env/J9SegmentAllocator.hpp"
+#include "env/RawAllocator.hpp"
+#include "env/SystemSegmentProvider.hpp"
+#include "env/VMAccessCriticalSection.hpp"
 
 #include "ilgen/IlGeneratorMethodDetails_inlines.hpp"
 
@@ -597,10 +602,11 @@ extern "C" void jitExclusiveVMShutdownPending(J9VMThread *vmThread)
         if (listener) {
             listener->stop();
         }
-        MetricsServer *metricsServer = ((TR_JitPrivateConfig *)(javaVM->jitConfig->privateConfig))->metricsServer;
-        if (metricsServer) {
-            metricsServer->stop();
-        }
+    }
+    // The MetricsServer may also run on client and regular JVMs
+    MetricsServer *metricsServer = ((TR_JitPrivateConfig *)(javaVM->jitConfig->privateConfig))->metricsServer;
+    if (metricsServer) {
+        metricsServer->stop();
     }
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
@@ -772,6 +778,18 @@ extern "C" I_32 command(J9VMThread *vmThread, const char *cmdString)
     return 0;
 }
 
+// Write the compilation ledger on demand (see VM.dumpCompilationLedger and the Compiler.ledger
+// diagnostic command). Returns 0 on success, 1 if the ledger is not enabled, -1 if the file
+// could not be written.
+extern "C" IDATA dumpCompilationLedger(J9VMThread *vmThread, const char *fileName)
+{
+    TR::CompilationInfo *compInfo = TR::CompilationInfo::get();
+    TR_CompilationLedger *ledger = compInfo ? compInfo->getCompilationLedger() : NULL;
+    if (!ledger)
+        return 1;
+    return ledger->writeToFile(fileName) ? 0 : -1;
+}
+
 static IDATA internalCompileClass(J9VMThread *vmThread, J9Class *clazz)
 {
     J9JavaVM *javaVM = vmThread->javaVM;
@@ -1042,6 +1060,7 @@ extern "C" jint onLoadInternal(J9JavaVM *javaVM, J9JITConfig *jitConfig, char *x
 #endif
     jitConfig->promoteGPUCompile = promoteGPUCompile;
     jitConfig->command = command;
+    jitConfig->dumpCompilationLedger = dumpCompilationLedger;
     jitConfig->bcSizeLimit = 0xFFFF;
 
 #ifdef J9VM_OPT_JAVA_CRYPTO_ACCELERATION
@@ -1443,6 +1462,15 @@ extern "C" jint onLoadInternal(J9JavaVM *javaVM, J9JITConfig *jitConfig, char *x
         compInfo->setCpuUtil(cpuUtil);
     }
 
+    if (TR::Options::_compilationLedgerSize > 0) {
+        TR_CompilationLedger *ledger = TR_CompilationLedger::allocate(TR::Options::_compilationLedgerSize);
+        if (!ledger) {
+            fprintf(stderr, "Cannot create the compilation ledger\n");
+            return -1;
+        }
+        compInfo->setCompilationLedger(ledger);
+    }
+
     // disable CPU utilization monitoring if told to do so on command line
     if (TR::Options::getCmdLineOptions()->getOption(TR_DisableCPUUtilization))
         compInfo->getCpuUtil()->disable();
@@ -1723,6 +1751,17 @@ extern "C" jint onLoadInternal(J9JavaVM *javaVM, J9JITConfig *jitConfig, char *x
 
         JITServer::CommunicationStream::initConfigurationFlags();
     }
+
+    // Outside of JITServer, the MetricsServer is used only when explicitly requested with -XX:+JITServerMetrics
+    if ((compInfo->getPersistentInfo()->getRemoteCompilationMode() != JITServer::SERVER)
+        && (compInfo->getPersistentInfo()->getJITServerMetricsPort() != 0)) {
+        ((TR_JitPrivateConfig *)(jitConfig->privateConfig))->metricsServer = MetricsServer::allocate();
+        if (!((TR_JitPrivateConfig *)(jitConfig->privateConfig))->metricsServer) {
+            // warn that MetricsServer was not allocated
+            j9tty_printf(PORTLIB, "MetricsServer not allocated, abort.\n");
+            return -1;
+        }
+    }
 #endif // J9VM_OPT_JITSERVER
 
 #if defined(TR_HOST_S390)
@@ -1833,6 +1872,152 @@ static int32_t J9THREAD_PROC fetchServerCachedAOTMethods(void *entryarg)
 
     return 0;
 }
+
+/**
+ * @brief Ask the server for a batch of methods in its AOT cache that belong to classes already loaded
+ *        by this client, and stage them in the deserializer so that they can be loaded at compile time
+ *        without a compilation request round trip
+ */
+static int32_t J9THREAD_PROC prefetchServerAOTCacheMethods(void *entryarg)
+{
+    J9JITConfig *jitConfig = (J9JITConfig *)entryarg;
+    J9JavaVM *vm = jitConfig->javaVM;
+    TR::CompilationInfo *compInfo = TR::CompilationInfo::get(jitConfig);
+    TR::PersistentInfo *persistentInfo = compInfo->getPersistentInfo();
+    JITServerAOTDeserializer *deserializer = compInfo->getJITServerAOTDeserializer();
+
+    J9VMThread *vmThread = NULL;
+
+    int rc = vm->internalVMFunctions->internalAttachCurrentThread(vm, &vmThread, NULL,
+        J9_PRIVATE_FLAGS_DAEMON_THREAD | J9_PRIVATE_FLAGS_NO_OBJECT | J9_PRIVATE_FLAGS_SYSTEM_THREAD
+            | J9_PRIVATE_FLAGS_ATTACHED_THREAD,
+        j9thread_self());
+
+    if (rc != JNI_OK) {
+        return rc;
+    }
+
+    TR_J9VMBase *fej9 = TR_J9VMBase::get(jitConfig, vmThread);
+    deserializer->registerThreadToNotifyOnReset(vmThread);
+    // Anything cached by the deserializer from this point on is accounted for by the reset flag
+    fej9->clearDeserializerWasReset();
+
+    try {
+        TR::RawAllocator rawAllocator(vm);
+        J9::SegmentAllocator segmentAllocator(MEMORY_TYPE_JIT_SCRATCH_SPACE | MEMORY_TYPE_VIRTUAL, *vm);
+        J9::SystemSegmentProvider segmentProvider(1 << 20, 1 << 20, TR::Options::getScratchSpaceLimit(),
+            segmentAllocator, rawAllocator);
+        TR::Region region(segmentProvider, rawAllocator);
+        TR_Memory trMemory(*compInfo->persistentMemory(), region);
+
+        TR_AOTHeader aotHeader;
+        bool haveAOTHeader = true;
+        std::vector<std::string> classNames;
+        {
+            TR::VMAccessCriticalSection prefetchCollectClasses(fej9);
+            if (persistentInfo->getJITServerAOTCacheIgnoreLocalSCC()) {
+                TR_RelocationRuntime::fillAOTHeader(vm, fej9, &aotHeader);
+            } else {
+                const TR_AOTHeader *storedHeader
+                    = TR_SharedCacheRelocationRuntime::getStoredAOTHeaderWithConfig(vm->sharedClassConfig, vmThread);
+                if (storedHeader)
+                    aotHeader = *storedHeader;
+                else
+                    haveAOTHeader = false;
+            }
+
+            J9ClassWalkState classWalkState;
+            J9Class *clazz = vm->internalVMFunctions->allClassesStartDo(&classWalkState, vm, NULL);
+            while (clazz) {
+                J9ROMClass *romClass = clazz->romClass;
+                if (!J9ROMCLASS_IS_PRIMITIVE_OR_ARRAY(romClass)) {
+                    const J9UTF8 *name = J9ROMCLASS_CLASSNAME(romClass);
+                    classNames.push_back(std::string((const char *)J9UTF8_DATA(name), J9UTF8_LENGTH(name)));
+                }
+                clazz = vm->internalVMFunctions->allClassesNextDo(&classWalkState);
+            }
+            vm->internalVMFunctions->allClassesEndDo(&classWalkState);
+        }
+
+        // Cannot match any cached methods without a valid AOT header, so there is nothing to ask for. The server
+        // would otherwise add a record for the bogus header to its cache.
+        if (!haveAOTHeader) {
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "No AOT header, not prefetching cached AOT methods");
+        } else {
+            JITServer::ClientStream *client = new (PERSISTENT_NEW) JITServer::ClientStream(persistentInfo);
+            client->write(JITServer::MessageType::AOTCachePrefetch_request, persistentInfo->getJITServerAOTCacheName(),
+                persistentInfo->getClientUID(), std::string((const char *)&aotHeader, sizeof(aotHeader)), classNames,
+                (uint32_t)TR::Options::_aotCachePrefetchMaxMethods);
+
+            client->read();
+            auto result = client->getRecvData<uint64_t, std::vector<std::string>, std::vector<std::string>,
+                std::vector<std::vector<uint32_t> > >();
+
+            client->~ClientStream();
+            TR_Memory::jitPersistentFree(client);
+
+            uint64_t serverUID = std::get<0>(result);
+            std::vector<std::string> &methods = std::get<1>(result);
+
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+                    "Received %zu prefetched AOT methods from server %llu for %zu loaded classes", methods.size(),
+                    (unsigned long long)serverUID, classNames.size());
+
+            if (!methods.empty()) {
+                TR::VMAccessCriticalSection prefetchStageMethods(fej9);
+                deserializer->stagePrefetchedMethods(serverUID, methods, std::get<2>(result), std::get<3>(result),
+                    DeserializerContext(vmThread, fej9, &trMemory));
+            }
+        }
+    } catch (const JITServer::StreamFailure &e) {
+        if (TR::Options::isAnyVerboseOptionSet(TR_VerboseJITServer, TR_VerboseCompilationDispatch))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_FAILURE, "JITServer::StreamFailure: %s", e.what());
+
+        JITServerHelpers::postStreamFailure(OMRPORT_FROM_J9PORT(vm->portLibrary), compInfo,
+            e.retryConnectionImmediately(), true);
+    } catch (const std::bad_alloc &e) {
+        if (TR::Options::isAnyVerboseOptionSet(TR_VerboseJITServer, TR_VerboseCompilationDispatch))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_FAILURE, "std::bad_alloc: %s", e.what());
+    }
+
+    deserializer->unregisterThreadToNotifyOnReset(vmThread);
+    vm->internalVMFunctions->DetachCurrentThread((JavaVM *)vm);
+    j9thread_exit(NULL);
+
+    return 0;
+}
+
+/**
+ * @brief Create a thread to prefetch cached AOT methods from the server, if prefetching is enabled and this
+ *        client uses the server AOT cache. Called at startup, and again after a checkpoint is restored since
+ *        the restored client may connect to a different server.
+ */
+extern "C" void startServerAOTCachePrefetch(J9JITConfig *jitConfig)
+{
+    J9JavaVM *javaVM = jitConfig->javaVM;
+    TR::CompilationInfo *compInfo = getCompilationInfo(jitConfig);
+    TR::PersistentInfo *persistentInfo = compInfo->getPersistentInfo();
+
+    if ((TR::Options::_aotCachePrefetchMaxMethods > 0) && persistentInfo->getJITServerUseAOTCache()
+        && (persistentInfo->getRemoteCompilationMode() == JITServer::CLIENT)
+        && compInfo->getJITServerAOTDeserializer() && JITServerHelpers::isServerAvailable()) {
+        if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+                "Creating a thread to prefetch cached AOT methods from the server");
+
+        omrthread_t prefetchThread = NULL;
+        IDATA result = javaVM->internalVMFunctions->createThreadWithCategory(&prefetchThread,
+            javaVM->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, &prefetchServerAOTCacheMethods,
+            (void *)jitConfig, J9THREAD_CATEGORY_SYSTEM_JIT_THREAD);
+
+        if (result != J9THREAD_SUCCESS) {
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache prefetch thread not created");
+        }
+    }
+}
 #endif // J9VM_OPT_JITSERVER
 
 extern "C" int32_t aboutToBootstrap(J9JavaVM *javaVM, J9JITConfig *jitConfig)
@@ -2101,6 +2286,8 @@ extern "C" int32_t aboutToBootstrap(J9JavaVM *javaVM, J9JITConfig *jitConfig)
             }
         }
     }
+
+    startServerAOTCachePrefetch(jitConfig);
 #endif // J9VM_OPT_JITSERVER
 
     return 0;
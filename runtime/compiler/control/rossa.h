@@ -114,6 +114,9 @@ jint onLoadInternal(J9JavaVM *javaVM, J9JITConfig *jitConfig, char *xjitCommandL
 int32_t aboutToBootstrap(J9JavaVM *javaVM, J9JITConfig *jitConfig);
 void JitShutdown(J9JITConfig *jitConfig);
 void freeJITConfig(J9JITConfig *jitConfig);
+#if defined(J9VM_OPT_JITSERVER)
+void startServerAOTCachePrefetch(J9JITConfig *jitConfig);
+#endif /* defined(J9VM_OPT_JITSERVER) */
 
 #ifdef __cplusplus
 }
@@ -171,6 +171,7 @@ public:
         , _clientUID(0)
         , _serverUID(0)
         , _hasEverConnectedToServer(false)
+        , _serverSharesROMClasses(false)
         , _JITServerMetricsPort(38500)
         , _JITServerUseHealthPort(true)
         , _JITServerHealthPort(38600)
@@ -440,6 +441,10 @@ public:
 
     void setHasEverConnectedToServer() { _hasEverConnectedToServer = true; }
 
+    bool getServerSharesROMClasses() const { return _serverSharesROMClasses; }
+
+    void setServerSharesROMClasses(bool b) { _serverSharesROMClasses = b; }
+
     uint32_t getJITServerMetricsPort() const { return _JITServerMetricsPort; }
 
     void setJITServerMetricsPort(uint32_t port) { _JITServerMetricsPort = port; }
@@ -587,6 +592,8 @@ private:
     uint64_t _serverUID; // At the client, this represents the UID of the server the client is connected to
     bool _hasEverConnectedToServer; // At the client, true if the client has connected to a server at some point in the
                                     // past
+    bool _serverSharesROMClasses; // At the client, true if the server keeps a shared ROMClass cache, which allows the
+                                  // client to send ROMClass hashes instead of full ROMClasses
     uint32_t _JITServerMetricsPort; // Port for receiving http metrics requests from Prometheus; only used at server
     bool _JITServerUseHealthPort; // True if the server should open _JITServerHealthPort
     uint32_t _JITServerHealthPort; // Port for receiving readiness/liveness probes from Kubernetes; only used at server
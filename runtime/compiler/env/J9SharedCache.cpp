@@ -1564,7 +1564,7 @@ uintptr_t TR_J9JITServerSharedCache::rememberClass(J9Class *clazz, const AOTCach
     // Cache the result if the class chain was succesfully created at the client
     if (create) {
         if (needClassChainRecord) {
-            JITServerHelpers::cacheRemoteROMClassBatch(clientData, uncachedRAMClasses, uncachedClassInfos);
+            JITServerHelpers::cacheRemoteROMClassBatch(clientData, uncachedRAMClasses, uncachedClassInfos, _stream);
             // This call will cache both the class chain and the AOT cache record in the client session.
             // The clientClassChainOffset can be invalid - we will attempt to re-cache it if necessary.
             bool missingLoaderInfo = false;
@@ -3423,7 +3423,7 @@ bool TR_J9VMBase::compileMethods(TR::OptionSet *optionSet, void *config)
     TR::SimpleRegex *regex = optionSet->getMethodRegex();
 
     compInfo->debugPrint(vmThread, "\tcompile methods entering monitor before compile\n");
-    compInfo->getCompilationMonitor()->enter();
+    compInfo->acquireCompMonitor(vmThread);
     compInfo->debugPrint(vmThread, "+CM\n");
 
     J9ClassWalkState classWalkState;
@@ -128,7 +128,7 @@ protected:
     // likely to lose an increment when merging/rebasing/etc.
     //
     static const uint8_t MAJOR_NUMBER = 1;
-    static const uint16_t MINOR_NUMBER = 103; // ID: SH6TaKIfBffpYX8of0Ch
+    static const uint16_t MINOR_NUMBER = 105; // ID: KzIsKuDwjpE+fRWCo0sP
     static const uint8_t PATCH_NUMBER = 0;
     static uint32_t CONFIGURATION_FLAGS;
 
@@ -59,6 +59,7 @@ const char *messageNames[] = {
     "ResolvedMethod_getUnresolvedSpecialMethodInCP",
     "ResolvedMethod_getUnresolvedFieldInCP",
     "ResolvedMethod_getRemoteROMClassAndMethods",
+    "ResolvedMethod_getPackedROMClasses",
     "ResolvedMethod_getResolvedHandleMethod",
     "ResolvedMethod_isUnresolvedMethodTypeTableEntry",
     "ResolvedMethod_methodTypeTableEntryAddress",
@@ -259,6 +260,8 @@ const char *messageNames[] = {
     "AOTCache_getRAMClassFromClassRecordBatch",
     "AOTCacheMap_request",
     "AOTCacheMap_reply",
+    "AOTCachePrefetch_request",
+    "AOTCachePrefetch_reply",
     "CodeGenerator_assignKeepaliveConstRefLabels",
     "CodeGenerator_getConstProvenanceEdges",
 };
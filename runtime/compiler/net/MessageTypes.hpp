@@ -66,6 +66,8 @@ enum MessageType : uint16_t {
     ResolvedMethod_getUnresolvedSpecialMethodInCP,
     ResolvedMethod_getUnresolvedFieldInCP,
     ResolvedMethod_getRemoteROMClassAndMethods,
+    // type used when server asks for the packed ROMClasses that it received only as hashes
+    ResolvedMethod_getPackedROMClasses,
     ResolvedMethod_getResolvedHandleMethod,
     ResolvedMethod_isUnresolvedMethodTypeTableEntry,
     ResolvedMethod_methodTypeTableEntryAddress,
@@ -293,6 +295,9 @@ enum MessageType : uint16_t {
     AOTCacheMap_request,
     AOTCacheMap_reply,
 
+    AOTCachePrefetch_request, // type used when client asks the server for a batch of cached AOT methods
+    AOTCachePrefetch_reply,
+
     CodeGenerator_assignKeepaliveConstRefLabels,
     CodeGenerator_getConstProvenanceEdges,
 
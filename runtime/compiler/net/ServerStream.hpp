@@ -168,6 +168,9 @@ public:
             case MessageType::AOTCacheMap_request: {
                 cacheName = std::get<0>(getArgsRaw<std::string>(_cMsg));
             } break;
+            case MessageType::AOTCachePrefetch_request: {
+                // The arguments of this request are extracted by the caller with getRecvData()
+            } break;
             default: {
                 throw StreamMessageTypeMismatch(MessageType::compilationRequest, _cMsg.type());
             }
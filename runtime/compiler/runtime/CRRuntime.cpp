@@ -129,7 +129,7 @@ void TR::CRRuntime::releaseCRMonitor() { _crMonitor->exit(); }
 
 void TR::CRRuntime::waitOnCRMonitor() { _crMonitor->wait(); }
 
-void TR::CRRuntime::acquireCompMonitor() { _compMonitor->enter(); }
+void TR::CRRuntime::acquireCompMonitor() { _compInfo->acquireCompMonitor(NULL); }
 
 void TR::CRRuntime::releaseCompMonitor() { _compMonitor->exit(); }
 
@@ -688,6 +688,11 @@ void TR::CRRuntime::prepareForCheckpoint()
         }
 #endif
 
+        // Write the IProfiler data staged in memory into the SCC while the compilation threads are suspended
+        TR_IProfiler *iProfiler = TR_J9VMBase::get(_jitConfig, NULL)->getIProfiler();
+        if (iProfiler && TR_IProfiler::isBulkPersistenceEnabled())
+            iProfiler->flushBulkPersistedProfiles(vmThread);
+
         // Make sure the limit for the ghost files is at least as big as the data cache size
         if (!TR::Options::getCmdLineOptions()->getOption(TR_DisableDataCacheDisclaiming)
             || TR::Options::getCmdLineOptions()->getOption(TR_EnableCodeCacheDisclaiming)) {
@@ -63,6 +63,7 @@
 #include "infra/Monitor.hpp"
 #include "infra/MonitorTable.hpp"
 #include "infra/SimpleRegex.hpp"
+#include "infra/String.hpp"
 #include "ras/Logger.hpp"
 #include "runtime/J9Runtime.hpp"
 #include "runtime/J9VMAccess.hpp"
@@ -79,6 +80,8 @@
 #include "runtime/IProfiler.hpp"
 #include "runtime/J9Profiler.hpp"
 #include "omrformatconsts.h"
+#include "AtomicSupport.hpp"
+#include "OMR/Bytes.hpp"
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 #include "runtime/CRRuntime.hpp"
 #endif /* if defined(J9VM_OPT_CRIU_SUPPORT) */
@@ -164,6 +167,10 @@ int32_t TR_IProfiler::_STATS_entriesNotPersisted_NotInSCC = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_Unloaded = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_NoInfo = 0;
 int32_t TR_IProfiler::_STATS_entriesNotPersisted_Other = 0;
+int32_t TR_IProfiler::_STATS_bulkChunksPersisted = 0;
+int32_t TR_IProfiler::_STATS_bulkChunksLoaded = 0;
+int32_t TR_IProfiler::_STATS_methodBulkStaged = 0;
+int32_t TR_IProfiler::_STATS_methodBulkPersistedFound = 0;
 int32_t TR_IProfiler::_STATS_persistedIPReadFail = 0;
 int32_t TR_IProfiler::_STATS_persistedIPReadHadBadData = 0;
 int32_t TR_IProfiler::_STATS_persistedIPReadSuccess = 0;
@@ -383,7 +390,7 @@ void TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodS
             J9VMThread *vmThread = ((TR_J9VM *)comp->fej9())->getCurrentVMThread();
             IDATA dataIsCorrupt;
             const U_8 *found = scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt);
-            if (!found) {
+            if (!found && !isMethodProfileBulkPersisted(vmThread, romMethod, comp->fej9()->sharedCache())) {
                 if (traceIProfiling && resolvedMethodSymbol)
                     comp->dumpMethodTrees(comp->log(), "Pre Iprofiler Walk", resolvedMethodSymbol);
 
@@ -423,8 +430,13 @@ void TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodS
                         // store in the shared cache
                         descriptor.address = (U_8 *)memChunk;
                         descriptor.length = bytesFootprint;
-                        UDATA store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0);
-                        if (store == 0) {
+                        UDATA store = 0;
+                        if (isBulkPersistenceEnabled()) {
+                            // The BST is written into the SCC later, together with other method profiles
+                            stageBulkPersistedProfile(vmThread,
+                                comp->fej9()->sharedCache()->offsetInSharedCacheFromROMMethod(romMethod), memChunk,
+                                bytesFootprint, numEntries);
+                        } else if ((store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0)) == 0) {
                             _STATS_methodPersisted++;
                             _STATS_entriesPersisted += numEntries;
 #ifdef PERSISTENCE_VERBOSE
@@ -495,6 +507,293 @@ void TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodS
     }
 }
 
+bool TR_IProfiler::isBulkPersistenceEnabled() { return TR::Options::_iprofilerBulkPersistenceChunkSize > 0; }
+
+// Must be called with _bulkPersistenceMonitor in hand
+void TR_IProfiler::loadBulkPersistedChunks(J9VMThread *vmThread)
+{
+    if (_bulkChunksLoaded)
+        return;
+
+    J9SharedClassConfig *scConfig = _compInfo->getJITConfig()->javaVM->sharedClassConfig;
+    if (TR::Options::sharedClassCache() && scConfig) {
+        // Chunks are stored under consecutive keys; the first missing key marks the end of the sequence
+        char key[32];
+        uint32_t numChunks = 0;
+        while (numChunks < TR_IPBC_MAX_BULK_CHUNKS) {
+            TR::snprintfNoTrunc(key, sizeof(key), TR_IPBC_BULK_CHUNK_KEY_PREFIX "%u", numChunks);
+            J9SharedDataDescriptor descriptor;
+            descriptor.address = NULL;
+            IDATA numFound = scConfig->findSharedData(vmThread, key, strlen(key), J9SHR_DATA_TYPE_JITHINT, FALSE,
+                &descriptor, NULL);
+            if (numFound <= 0 || !descriptor.address)
+                break;
+
+            // Chunks written in a different format are skipped but still occupy their key
+            const TR_IPBCBulkChunkHeader *chunk = (const TR_IPBCBulkChunkHeader *)descriptor.address;
+            _bulkChunks[numChunks++] = (chunk->_version == TR_IPBC_BULK_CHUNK_VERSION) ? chunk : NULL;
+            _STATS_bulkChunksLoaded++;
+        }
+        VM_AtomicSupport::writeBarrier();
+        _numBulkChunks = numChunks;
+
+        if (numChunks && TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseIProfilerPersistence))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_PERF, "IProfiler: mapped %u bulk chunks from the SCC", numChunks);
+    }
+    _bulkChunksLoaded = true;
+}
+
+// Searches the bulk chunks mapped from the SCC for the BST of the given method; if found and bstSize is not NULL,
+// the size of the BST is returned through it.
+// Chunks are only appended, so the lookup does not need to acquire _bulkPersistenceMonitor.
+TR_IPBCDataStorageHeader *TR_IProfiler::findBulkPersistedMethodProfile(J9VMThread *vmThread, J9ROMMethod *romMethod,
+    TR_J9SharedCache *sharedCache, uint32_t *bstSize)
+{
+    if (!_bulkPersistenceMonitor)
+        return NULL;
+
+    if (!_bulkChunksLoaded) {
+        OMR::CriticalSection loadChunks(_bulkPersistenceMonitor);
+        loadBulkPersistedChunks(vmThread);
+    }
+
+    uint32_t numChunks = _numBulkChunks;
+    if (!numChunks)
+        return NULL;
+    VM_AtomicSupport::readBarrier();
+
+    uintptr_t romMethodOffset = 0;
+    if (!sharedCache->isROMMethodInSharedCache(romMethod, &romMethodOffset))
+        return NULL;
+
+    for (uint32_t c = 0; c < numChunks; ++c) {
+        const TR_IPBCBulkChunkHeader *chunk = _bulkChunks[c];
+        if (!chunk)
+            continue;
+        const TR_IPBCBulkChunkIndexEntry *index = (const TR_IPBCBulkChunkIndexEntry *)(chunk + 1);
+        int32_t low = 0, high = (int32_t)chunk->_numMethods - 1;
+        while (low <= high) {
+            int32_t middle = (low + high) / 2;
+            if (index[middle]._romMethodOffset == romMethodOffset) {
+                if (bstSize)
+                    *bstSize = index[middle]._bstSize;
+                return (TR_IPBCDataStorageHeader *)((uint8_t *)chunk + index[middle]._bstOffset);
+            } else if (index[middle]._romMethodOffset < romMethodOffset)
+                low = middle + 1;
+            else
+                high = middle - 1;
+        }
+    }
+    return NULL;
+}
+
+bool TR_IProfiler::isMethodProfileBulkPersisted(J9VMThread *vmThread, J9ROMMethod *romMethod,
+    TR_J9SharedCache *sharedCache)
+{
+    if (!_bulkPersistenceMonitor)
+        return false;
+
+    if (findBulkPersistedMethodProfile(vmThread, romMethod, sharedCache))
+        return true;
+
+    OMR::CriticalSection checkStaged(_bulkPersistenceMonitor);
+    return _bulkStagedMethodOffsets.find(sharedCache->offsetInSharedCacheFromROMMethod(romMethod))
+        != _bulkStagedMethodOffsets.end();
+}
+
+// Copies the BST of a method into memory, to be written into the SCC with the next bulk chunk
+void TR_IProfiler::stageBulkPersistedProfile(J9VMThread *vmThread, uintptr_t romMethodOffset, const void *bst,
+    uint32_t bstSize, uint32_t numEntries)
+{
+    bool flush = false;
+    {
+        OMR::CriticalSection stageProfile(_bulkPersistenceMonitor);
+        if (_bulkPersistenceSCCFull) {
+            _STATS_methodNotPersisted_SCCfull++;
+            return;
+        }
+
+        try {
+            if (!_bulkStagedMethodOffsets.insert(romMethodOffset).second) {
+                _STATS_methodNotPersisted_alreadyStored++;
+                return;
+            }
+        } catch (const std::bad_alloc &e) {
+            _STATS_persistError++;
+            return;
+        }
+
+        TR_IPBCPendingMethodProfile *pending = (TR_IPBCPendingMethodProfile *)_allocator->allocate(
+            sizeof(TR_IPBCPendingMethodProfile) + bstSize, std::nothrow);
+        if (!pending) {
+            _bulkStagedMethodOffsets.erase(romMethodOffset);
+            _STATS_persistError++;
+            return;
+        }
+        pending->setNext(NULL);
+        pending->_romMethodOffset = romMethodOffset;
+        pending->_bstSize = bstSize;
+        pending->_numEntries = numEntries;
+        memcpy(pending->bst(), bst, bstSize);
+
+        _pendingBulkProfiles.add(pending);
+        _numPendingBulkProfiles++;
+        _pendingBulkProfilesBytes += bstSize;
+        _STATS_methodBulkStaged++;
+
+        flush = _pendingBulkProfilesBytes >= (size_t)TR::Options::_iprofilerBulkPersistenceChunkSize;
+    }
+
+    if (flush)
+        flushBulkPersistedProfiles(vmThread);
+}
+
+// Returns true if the chunk found in the SCC is the one in buffer, i.e. it was stored by this JVM
+static bool isSameBulkChunk(const TR_IPBCBulkChunkHeader *stored, const uint8_t *buffer, size_t chunkSize)
+{
+    const TR_IPBCBulkChunkHeader *header = (const TR_IPBCBulkChunkHeader *)buffer;
+    if ((stored->_version != header->_version) || (stored->_numMethods != header->_numMethods))
+        return false;
+    // Equal indexes describe chunks of equal size, so the rest can be compared safely
+    size_t indexSize = header->_numMethods * sizeof(TR_IPBCBulkChunkIndexEntry);
+    if (memcmp(stored + 1, header + 1, indexSize) != 0)
+        return false;
+    return memcmp(stored, buffer, chunkSize) == 0;
+}
+
+// Writes the given pending method profiles (sorted by ROM method offset) into the SCC as one chunk.
+// Must be called with _bulkPersistenceMonitor in hand.
+bool TR_IProfiler::storeBulkChunk(J9VMThread *vmThread, TR_IPBCPendingMethodProfile **methods, uint32_t numMethods)
+{
+    J9SharedClassConfig *scConfig = _compInfo->getJITConfig()->javaVM->sharedClassConfig;
+
+    // BSTs contain 8-byte fields, so keep them 8-byte aligned within the chunk
+    size_t chunkSize = sizeof(TR_IPBCBulkChunkHeader) + numMethods * sizeof(TR_IPBCBulkChunkIndexEntry);
+    for (uint32_t i = 0; i < numMethods; ++i)
+        chunkSize = OMR::alignNoCheck(chunkSize, sizeof(uint64_t)) + methods[i]->_bstSize;
+
+    uint8_t *buffer = (uint8_t *)_allocator->allocate(chunkSize, std::nothrow);
+    if (!buffer) {
+        _STATS_persistError += numMethods;
+        return false;
+    }
+    memset(buffer, 0, chunkSize);
+
+    TR_IPBCBulkChunkHeader *header = (TR_IPBCBulkChunkHeader *)buffer;
+    header->_version = TR_IPBC_BULK_CHUNK_VERSION;
+    header->_numMethods = numMethods;
+    TR_IPBCBulkChunkIndexEntry *index = (TR_IPBCBulkChunkIndexEntry *)(header + 1);
+    size_t cursor = sizeof(TR_IPBCBulkChunkHeader) + numMethods * sizeof(TR_IPBCBulkChunkIndexEntry);
+    uint32_t numEntries = 0;
+    for (uint32_t i = 0; i < numMethods; ++i) {
+        cursor = OMR::alignNoCheck(cursor, sizeof(uint64_t));
+        index[i]._romMethodOffset = methods[i]->_romMethodOffset;
+        index[i]._bstOffset = (uint32_t)cursor;
+        index[i]._bstSize = methods[i]->_bstSize;
+        memcpy(buffer + cursor, methods[i]->bst(), methods[i]->_bstSize);
+        cursor += methods[i]->_bstSize;
+        numEntries += methods[i]->_numEntries;
+    }
+
+    // With J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE the SCC checks for an existing chunk and stores ours under its
+    // write mutex, so a key is claimed atomically even when several JVMs share the cache. If another JVM
+    // claimed the key first we get its chunk back; map it and try the next key.
+    J9SharedDataDescriptor descriptor;
+    descriptor.address = buffer;
+    descriptor.length = chunkSize;
+    descriptor.type = J9SHR_DATA_TYPE_JITHINT;
+    descriptor.flags = J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE;
+    char key[32];
+    bool storedOurs = false;
+    while (!storedOurs) {
+        if (_numBulkChunks >= TR_IPBC_MAX_BULK_CHUNKS) {
+            _allocator->deallocate(buffer);
+            _bulkPersistenceSCCFull = true;
+            _STATS_methodNotPersisted_other += numMethods;
+            return false;
+        }
+        TR::snprintfNoTrunc(key, sizeof(key), TR_IPBC_BULK_CHUNK_KEY_PREFIX "%u", _numBulkChunks);
+        const TR_IPBCBulkChunkHeader *stored
+            = (const TR_IPBCBulkChunkHeader *)scConfig->storeSharedData(vmThread, key, strlen(key), &descriptor);
+        if (!stored) {
+            // The SCC is full or does not accept updates; stop trying for the rest of the run
+            _allocator->deallocate(buffer);
+            _bulkPersistenceSCCFull = true;
+            _STATS_methodNotPersisted_SCCfull += numMethods;
+            if (!TR::Options::getCmdLineOptions()->getOption(TR_DisableUpdateJITBytesSize))
+                _compInfo->increaseUnstoredBytes(0, (U_32)chunkSize);
+            return false;
+        }
+
+        storedOurs = isSameBulkChunk(stored, buffer, chunkSize);
+        _bulkChunks[_numBulkChunks] = (stored->_version == TR_IPBC_BULK_CHUNK_VERSION) ? stored : NULL;
+        VM_AtomicSupport::writeBarrier();
+        _numBulkChunks++;
+    }
+    _allocator->deallocate(buffer);
+
+    _STATS_bulkChunksPersisted++;
+    _STATS_methodPersisted += numMethods;
+    _STATS_entriesPersisted += numEntries;
+
+    if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseIProfilerPersistence))
+        TR_VerboseLog::writeLineLocked(TR_Vlog_PERF,
+            "IProfiler: stored bulk chunk %s with %u methods and %u entries (%zu bytes)", key, numMethods, numEntries,
+            chunkSize);
+    return true;
+}
+
+void TR_IProfiler::flushBulkPersistedProfiles(J9VMThread *vmThread)
+{
+    if (!_bulkPersistenceMonitor || !isBulkPersistenceEnabled() || !TR::Options::sharedClassCache())
+        return;
+
+    OMR::CriticalSection flushProfiles(_bulkPersistenceMonitor);
+    uint32_t numMethods = _numPendingBulkProfiles;
+    if (!numMethods)
+        return;
+
+    loadBulkPersistedChunks(vmThread);
+
+    TR_IPBCPendingMethodProfile **methods = (TR_IPBCPendingMethodProfile **)_allocator->allocate(
+        numMethods * sizeof(TR_IPBCPendingMethodProfile *), std::nothrow);
+    if (!methods)
+        return; // Try again at the next flush point
+
+    uint32_t i = 0;
+    for (TR_IPBCPendingMethodProfile *pending = _pendingBulkProfiles.getFirst(); pending; pending = pending->getNext())
+        methods[i++] = pending;
+    TR_ASSERT(i == numMethods, "Inconsistent number of pending IProfiler method profiles");
+
+    // The index of each chunk is binary searched when the data is loaded
+    std::sort(methods, methods + numMethods,
+        [](const TR_IPBCPendingMethodProfile *a, const TR_IPBCPendingMethodProfile *b) {
+            return a->_romMethodOffset < b->_romMethodOffset;
+        });
+
+    // Split the pending profiles into chunks of about _iprofilerBulkPersistenceChunkSize bytes
+    uint32_t first = 0;
+    size_t chunkBytes = 0;
+    for (i = 0; i < numMethods; ++i) {
+        chunkBytes += methods[i]->_bstSize;
+        if (chunkBytes >= (size_t)TR::Options::_iprofilerBulkPersistenceChunkSize || i == numMethods - 1) {
+            if (!_bulkPersistenceSCCFull)
+                storeBulkChunk(vmThread, methods + first, i - first + 1);
+            else
+                _STATS_methodNotPersisted_SCCfull += i - first + 1;
+            first = i + 1;
+            chunkBytes = 0;
+        }
+    }
+
+    for (i = 0; i < numMethods; ++i)
+        _allocator->deallocate(methods[i]);
+    _allocator->deallocate(methods);
+    _pendingBulkProfiles.setFirst(NULL);
+    _numPendingBulkProfiles = 0;
+    _pendingBulkProfilesBytes = 0;
+}
+
 uint32_t TR_IProfiler::getProfilerMemoryFootprint() { return memoryConsumed; }
 
 void *TR_IProfiler::operator new(size_t size) throw()
@@ -548,6 +847,13 @@ TR_IProfiler::TR_IProfiler(J9JITConfig *jitConfig)
     , _iprofilerNumRecords(0)
     , _numMethodHashEntries(0)
     , _iprofilerThreadLifetimeState(TR_IprofilerThreadLifetimeStates::IPROF_THR_NOT_CREATED)
+    , _bulkPersistenceMonitor(NULL)
+    , _numPendingBulkProfiles(0)
+    , _pendingBulkProfilesBytes(0)
+    , _bulkStagedMethodOffsets(PersistentUnorderedSet<uintptr_t>::allocator_type(*_allocator))
+    , _numBulkChunks(0)
+    , _bulkChunksLoaded(false)
+    , _bulkPersistenceSCCFull(false)
 {
     PORT_ACCESS_FROM_JITCONFIG(jitConfig);
 
@@ -576,6 +882,7 @@ TR_IProfiler::TR_IProfiler(J9JITConfig *jitConfig)
     {
         // initialize the monitors
         _hashTableMonitor = TR::Monitor::create("JIT-InterpreterProfilingMonitor");
+        _bulkPersistenceMonitor = TR::Monitor::create("JIT-IProfilerBulkPersistenceMonitor");
         // bytecode hashtable
         _bcHashTable = (TR_IPBytecodeHashTableEntry **)_allocator->allocate(
             TR::Options::_iProfilerBcHashTableSize * sizeof(TR_IPBytecodeHashTableEntry *), std::nothrow);
@@ -1178,9 +1485,15 @@ TR_IPBytecodeHashTableEntry *TR_IProfiler::persistentProfilingSample(TR_OpaqueMe
         IDATA dataIsCorrupt;
 
         TR_IPBCDataStorageHeader *store
-            = (TR_IPBCDataStorageHeader *)scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt);
-        if (store != (TR_IPBCDataStorageHeader *)descriptor.address) // a stronger check, as found can be error value
-            return NULL;
+            = findBulkPersistedMethodProfile(vmThread, romMethod, comp->fej9()->sharedCache());
+        if (store) {
+            _STATS_methodBulkPersistedFound++;
+        } else {
+            store = (TR_IPBCDataStorageHeader *)scConfig->findAttachedData(vmThread, romMethod, &descriptor,
+                &dataIsCorrupt);
+            if (store != (TR_IPBCDataStorageHeader *)descriptor.address) // a stronger check, as found can be error
+                return NULL;
+        }
 
         *methodProfileExistsInSCC = true;
         // Compute the pc we are interested in
@@ -1257,8 +1570,17 @@ TR_IPBCDataStorageHeader *TR_IProfiler::getJ9SharedDataDescriptorForMethod(J9Sha
     J9VMThread *vmThread = ((TR_J9VM *)comp->fej9())->getCurrentVMThread();
     J9ROMMethod *romMethod = comp->fej9()->getROMMethodFromRAMMethod((J9Method *)method);
     IDATA dataIsCorrupt;
+    uint32_t bstSize = 0;
     TR_IPBCDataStorageHeader *store
-        = (TR_IPBCDataStorageHeader *)scConfig->findAttachedData(vmThread, romMethod, descriptor, &dataIsCorrupt);
+        = findBulkPersistedMethodProfile(vmThread, romMethod, comp->fej9()->sharedCache(), &bstSize);
+    if (store) {
+        _STATS_methodBulkPersistedFound++;
+        // Describe the BST in the bulk chunk the same way findAttachedData() describes attached data
+        descriptor->address = (U_8 *)store;
+        descriptor->length = bstSize;
+        return store;
+    }
+    store = (TR_IPBCDataStorageHeader *)scConfig->findAttachedData(vmThread, romMethod, descriptor, &dataIsCorrupt);
     if (store != (TR_IPBCDataStorageHeader *)descriptor->address) // a stronger check, as found can be error value
         return NULL;
     return store;
@@ -4470,7 +4792,7 @@ void TR_IProfiler::persistAllEntries()
                 descriptor.flags = J9SHR_ATTACHED_DATA_NO_FLAGS;
                 IDATA dataIsCorrupt;
                 const U_8 *found = scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt);
-                if (found) {
+                if (found || isMethodProfileBulkPersisted(vmThread, romMethod, sharedCache)) {
                     _STATS_methodNotPersisted_alreadyStored++;
                     continue;
                 }
@@ -4521,8 +4843,12 @@ void TR_IProfiler::persistAllEntries()
                     // store in the shared cache
                     descriptor.address = (U_8 *)memChunk;
                     descriptor.length = bytesFootprint;
-                    UDATA store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0);
-                    if (store == 0) {
+                    UDATA store = 0;
+                    if (isBulkPersistenceEnabled()) {
+                        // Written into the SCC with the other staged method profiles by the flush below
+                        stageBulkPersistedProfile(vmThread, sharedCache->offsetInSharedCacheFromROMMethod(romMethod),
+                            memChunk, (uint32_t)bytesFootprint, (uint32_t)numEntries);
+                    } else if ((store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0)) == 0) {
                         _STATS_methodPersisted++;
                         _STATS_entriesPersisted += numEntries;
 #ifdef PERSISTENCE_VERBOSE
@@ -4555,6 +4881,8 @@ void TR_IProfiler::persistAllEntries()
                 }
             }
         }
+        if (isBulkPersistenceEnabled())
+            flushBulkPersistedProfiles(vmThread);
         if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseIProfilerPersistence))
             TR_VerboseLog::writeLineLocked(TR_Vlog_PERF,
                 "IProfiler: persisted a total of %d entries, of which %d were persisted at shutdown",
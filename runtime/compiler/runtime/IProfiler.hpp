@@ -68,6 +68,7 @@
 #include "env/CompilerEnv.hpp"
 #include "il/Node.hpp"
 #include "infra/Link.hpp"
+#include "env/PersistentCollections.hpp"
 #include "runtime/ExternalProfiler.hpp"
 
 #undef EXPERIMENTAL_IPROFILER
@@ -195,6 +196,34 @@ typedef struct TR_IPBCDataDirectCallStorage {
     bool _tooBigToBeInlined;
 } TR_IPBCDataDirectCallStorage;
 
+// Layout of a bulk chunk of IProfiler data stored into the SCC (see TR_IProfiler::flushBulkPersistedProfiles()).
+// The header is followed by _numMethods index entries sorted by ROM method offset, which are followed
+// by the BSTs of TR_IPBCDataStorageHeader entries of each method (the same format used for attached data).
+#define TR_IPBC_BULK_CHUNK_VERSION 1
+#define TR_IPBC_BULK_CHUNK_KEY_PREFIX "J9IPBulk:"
+#define TR_IPBC_MAX_BULK_CHUNKS 256
+
+typedef struct TR_IPBCBulkChunkHeader {
+    uint32_t _version;
+    uint32_t _numMethods;
+} TR_IPBCBulkChunkHeader;
+
+typedef struct TR_IPBCBulkChunkIndexEntry {
+    uintptr_t _romMethodOffset; // offset of the ROM method in the ROM classes section of the SCC
+    uint32_t _bstOffset; // offset of the BST from the start of the chunk
+    uint32_t _bstSize;
+} TR_IPBCBulkChunkIndexEntry;
+
+// A method BST waiting in memory to be written into the SCC as part of a bulk chunk
+class TR_IPBCPendingMethodProfile : public TR_Link0<TR_IPBCPendingMethodProfile> {
+public:
+    uintptr_t _romMethodOffset;
+    uint32_t _bstSize;
+    uint32_t _numEntries;
+
+    uint8_t *bst() { return (uint8_t *)(this + 1); }
+};
+
 enum TR_EntryStatusInfo {
     IPBC_ENTRY_CANNOT_PERSIST = 0,
     IPBC_ENTRY_CAN_PERSIST,
@@ -930,6 +959,10 @@ public:
 
     void persistAllEntries(); // Persists all entries from IProfiler table into the SCC; TODO: check that JITServer does
                               // not execute this
+    // Bulk persistence: method profiles are staged in memory at compile time and written into the SCC
+    // in large chunks (when enough data is staged, at idle time, before checkpoint and at shutdown)
+    static bool isBulkPersistenceEnabled();
+    void flushBulkPersistedProfiles(J9VMThread *vmThread);
     void traverseIProfilerTableAndCollectEntries(TR_AggregationHT *aggregationHT, J9VMThread *vmThread,
         bool collectOnlyCallGraphEntries = false);
 
@@ -1062,6 +1095,13 @@ private:
     void releaseHashTableWriteLock();
 
     TR_IPBCDataStorageHeader *searchForPersistentSample(TR_IPBCDataStorageHeader *root, uintptr_t pc);
+    TR_IPBCDataStorageHeader *findBulkPersistedMethodProfile(J9VMThread *vmThread, J9ROMMethod *romMethod,
+        TR_J9SharedCache *sharedCache, uint32_t *bstSize = NULL);
+    void loadBulkPersistedChunks(J9VMThread *vmThread);
+    bool isMethodProfileBulkPersisted(J9VMThread *vmThread, J9ROMMethod *romMethod, TR_J9SharedCache *sharedCache);
+    void stageBulkPersistedProfile(J9VMThread *vmThread, uintptr_t romMethodOffset, const void *bst, uint32_t bstSize,
+        uint32_t numEntries);
+    bool storeBulkChunk(J9VMThread *vmThread, TR_IPBCPendingMethodProfile **methods, uint32_t numMethods);
     TR_IPBCDataAllocation *searchForAllocSample(uintptr_t pc, int32_t bucket);
 
     TR_IPBytecodeHashTableEntry *persistentProfilingSample(TR_OpaqueMethodBlock *method, uint32_t byteCodeIndex,
@@ -1165,6 +1205,17 @@ private:
 
     volatile TR_IprofilerThreadLifetimeStates _iprofilerThreadLifetimeState;
 
+    // bulk persistence into the SCC; protected by _bulkPersistenceMonitor
+    TR::Monitor *_bulkPersistenceMonitor;
+    TR_LinkHead0<TR_IPBCPendingMethodProfile> _pendingBulkProfiles;
+    uint32_t _numPendingBulkProfiles;
+    size_t _pendingBulkProfilesBytes;
+    PersistentUnorderedSet<uintptr_t> _bulkStagedMethodOffsets; // ROM method offsets staged or stored by this JVM
+    const TR_IPBCBulkChunkHeader *_bulkChunks[TR_IPBC_MAX_BULK_CHUNKS]; // chunks mapped from the SCC
+    volatile uint32_t _numBulkChunks;
+    volatile bool _bulkChunksLoaded;
+    bool _bulkPersistenceSCCFull;
+
 public:
     static int32_t _STATS_noProfilingInfo;
     static int32_t _STATS_doesNotWantToGiveProfilingInfo;
@@ -1186,6 +1237,10 @@ public:
     static int32_t _STATS_entriesNotPersisted_Unloaded;
     static int32_t _STATS_entriesNotPersisted_NoInfo;
     static int32_t _STATS_entriesNotPersisted_Other;
+    static int32_t _STATS_bulkChunksPersisted;
+    static int32_t _STATS_bulkChunksLoaded;
+    static int32_t _STATS_methodBulkStaged;
+    static int32_t _STATS_methodBulkPersistedFound;
 
     static int32_t _STATS_persistedIPReadFail;
     static int32_t _STATS_persistedIPReadHadBadData;
@@ -611,6 +611,21 @@ void J9::CodeCache::adjustTrampolineReservation(TR_OpaqueMethodBlock *method, vo
 
 void J9::CodeCache::onFSDDecompile() { self()->resetTrampolines(); }
 
+void J9::CodeCache::getFreeBlockStats(uint32_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock)
+{
+    numFreeBlocks = 0;
+    freeBlockBytes = 0;
+    largestFreeBlock = 0;
+
+    CacheCriticalSection scanFreeBlocks(self());
+    for (OMR::CodeCacheFreeCacheBlock *block = _freeBlockList; block; block = block->_next) {
+        numFreeBlocks++;
+        freeBlockBytes += block->_size;
+        if (block->_size > largestFreeBlock)
+            largestFreeBlock = block->_size;
+    }
+}
+
 void J9::CodeCache::resetTrampolines()
 {
     TR_ASSERT(_manager->codeCacheConfig().needsMethodTrampolines(),
@@ -106,6 +106,15 @@ public:
 
     int32_t disclaim(TR::CodeCacheManager *manager, bool canDisclaimOnSwap, bool canDisclaimOnFile);
 
+    /**
+     * @brief Collect statistics about the reclaimed blocks that sit on the free block list
+     *
+     * @param[out] numFreeBlocks : number of blocks on the free block list
+     * @param[out] freeBlockBytes : total size (in bytes) of the blocks on the free block list
+     * @param[out] largestFreeBlock : size (in bytes) of the largest block on the free block list
+     */
+    void getFreeBlockStats(uint32_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock);
+
 private:
     /**
      * @brief Restore trampoline pointers to their initial positions
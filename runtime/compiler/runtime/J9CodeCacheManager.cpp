@@ -720,6 +720,56 @@ void J9::CodeCacheManager::printOccupancyStats()
     }
 }
 
+void J9::CodeCacheManager::printFragmentationStats(const char *event)
+{
+    uint32_t totalFreeBlocks = 0;
+    size_t totalFreeSpace = 0;
+    size_t largestChunk = 0;
+
+    CacheListCriticalSection scanCacheList(self());
+    for (TR::CodeCache *codeCache = self()->getFirstCodeCache(); codeCache; codeCache = codeCache->next()) {
+        uint32_t numFreeBlocks;
+        size_t freeBlockBytes, largestFreeBlock;
+        codeCache->getFreeBlockStats(numFreeBlocks, freeBlockBytes, largestFreeBlock);
+        size_t freeContiguousSpace = codeCache->getFreeContiguousSpace();
+        size_t freeSpace = freeBlockBytes + freeContiguousSpace;
+        size_t largestCacheChunk = std::max(largestFreeBlock, freeContiguousSpace);
+
+        TR_VerboseLog::writeLineLocked(TR_Vlog_CODECACHE,
+            "%s: CC=%p freeBlocks=%u freeBlockBytes=%zu largestFreeBlock=%zu freeContiguous=%zu "
+            "fragmentation=%5.2f%%",
+            event, codeCache, numFreeBlocks, freeBlockBytes, largestFreeBlock, freeContiguousSpace,
+            freeSpace ? (freeSpace - largestCacheChunk) * 100.0 / freeSpace : 0.0);
+
+        totalFreeBlocks += numFreeBlocks;
+        totalFreeSpace += freeSpace;
+        largestChunk = std::max(largestChunk, largestCacheChunk);
+    }
+    TR_VerboseLog::writeLineLocked(TR_Vlog_CODECACHE,
+        "%s: all code caches freeBlocks=%u freeSpace=%zu largestFreeChunk=%zu fragmentation=%5.2f%%", event,
+        totalFreeBlocks, totalFreeSpace, largestChunk,
+        totalFreeSpace ? (totalFreeSpace - largestChunk) * 100.0 / totalFreeSpace : 0.0);
+}
+
+void J9::CodeCacheManager::getCodeCacheSummary(uintptr_t &lowestBase, uintptr_t &highestTop, size_t &freeSpace)
+{
+    lowestBase = UINTPTR_MAX;
+    highestTop = 0;
+    freeSpace = 0;
+
+    CacheListCriticalSection scanCacheList(self());
+    for (TR::CodeCache *codeCache = self()->getFirstCodeCache(); codeCache; codeCache = codeCache->next()) {
+        uint32_t numFreeBlocks;
+        size_t freeBlockBytes, largestFreeBlock;
+        codeCache->getFreeBlockStats(numFreeBlocks, freeBlockBytes, largestFreeBlock);
+        freeSpace += freeBlockBytes + codeCache->getFreeContiguousSpace();
+        lowestBase = std::min(lowestBase, reinterpret_cast<uintptr_t>(codeCache->getCodeBase()));
+        highestTop = std::max(highestTop, reinterpret_cast<uintptr_t>(codeCache->getCodeTop()));
+    }
+    if (lowestBase > highestTop)
+        lowestBase = highestTop = 0;
+}
+
 int32_t J9::CodeCacheManager::disclaimAllCodeCaches()
 {
     if (!_disclaimEnabled)
@@ -153,6 +153,27 @@ public:
      */
     void printOccupancyStats();
 
+    /**
+     * @brief Print, to the verbose log, how fragmented the free space of each code cache is.
+     *        Fragmentation is the fraction of the free space (free block list plus the
+     *        contiguous area between the warm and cold allocation pointers) that is not
+     *        part of the largest free chunk. Acquires codeCacheList.mutex.
+     *
+     * @param[in] event : short description of the point at which the stats are taken
+     */
+    void printFragmentationStats(const char *event);
+
+    /**
+     * @brief Compute the address range spanned by the code caches and the free space
+     *        left in them (free block list plus the contiguous area between the warm
+     *        and cold allocation pointers). Acquires codeCacheList.mutex.
+     *
+     * @param[out] lowestBase : lowest code base of the code caches
+     * @param[out] highestTop : highest code top of the code caches
+     * @param[out] freeSpace : free space in all code caches
+     */
+    void getCodeCacheSummary(uintptr_t &lowestBase, uintptr_t &highestTop, size_t &freeSpace);
+
     bool isDisclaimEnabled() const { return _disclaimEnabled; }
 
     void setDisclaimEnabled(bool value) { _disclaimEnabled = value; }
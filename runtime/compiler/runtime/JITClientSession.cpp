@@ -1247,7 +1247,7 @@ bool ClientSessionData::storeBytecodeProfileInSharedRepository(TR_OpaqueMethodBl
             // We need to add the supplemental base components that the client discovered.
             uncachedRAMClasses.insert(uncachedRAMClasses.end(), uncachedBases.begin(), uncachedBases.end());
 
-            JITServerHelpers::cacheRemoteROMClassBatch(this, uncachedRAMClasses, classInfoTuples);
+            JITServerHelpers::cacheRemoteROMClassBatch(this, uncachedRAMClasses, classInfoTuples, stream);
 
             // Get class records for newly cached classes
             {
@@ -2162,7 +2162,7 @@ const AOTCacheClassChainRecord *ClientSessionData::getClassChainRecord(J9Class *
         // The client may send us some extra classInfos. Add their corresponding j9classes at the end.
         uncachedRAMClasses.insert(uncachedRAMClasses.end(), uncachedBases.begin(), uncachedBases.end());
 
-        JITServerHelpers::cacheRemoteROMClassBatch(this, uncachedRAMClasses, classInfoTuples);
+        JITServerHelpers::cacheRemoteROMClassBatch(this, uncachedRAMClasses, classInfoTuples, stream);
 
         // Get root class record if its base component class was previously uncached
         if (baseComponent) {
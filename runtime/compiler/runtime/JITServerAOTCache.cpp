@@ -715,6 +715,7 @@ JITServerAOTCache::JITServerAOTCache(const std::string &name, J9JavaVM *javaVM)
     , _numDeserializedMethods(0)
     , _numDeserializationFailures(0)
     , _numGeneratedClasses(0)
+    , _numPrefetchedMethods(0)
 {
     bool allMonitors = _classLoaderMonitor && _classMonitor && _methodMonitor && _classChainMonitor
         && _wellKnownClassesMonitor && _aotHeaderMonitor && _cachedMethodMonitor;
@@ -970,6 +971,14 @@ const AOTCacheAOTHeaderRecord *JITServerAOTCache::getAOTHeaderRecord(const TR_AO
     return record;
 }
 
+const AOTCacheAOTHeaderRecord *JITServerAOTCache::findAOTHeaderRecord(const TR_AOTHeader *header)
+{
+    OMR::CriticalSection cs(_aotHeaderMonitor);
+
+    auto it = _aotHeaderMap.find({ header });
+    return (it != _aotHeaderMap.end()) ? it->second : NULL;
+}
+
 const AOTCacheThunkRecord *JITServerAOTCache::getThunkRecord(const uint8_t *signature, uint32_t signatureSize)
 {
     OMR::CriticalSection cs(_thunkMonitor);
@@ -1089,6 +1098,59 @@ Vector<const AOTSerializationRecord *> JITServerAOTCache::getSerializationRecord
     return result;
 }
 
+void JITServerAOTCache::getMethodsForPrefetch(const AOTCacheAOTHeaderRecord *aotHeaderRecord,
+    const std::vector<std::string> &loadedClassNames, size_t maxMethods, std::vector<std::string> &methods,
+    std::vector<std::string> &records, std::vector<std::vector<uint32_t> > &recordIndices, TR_Memory &trMemory)
+{
+    TR::StackMemoryRegion stackMemoryRegion(trMemory);
+
+    UnorderedSetAllocator<StringKey> classNamesAllocator(trMemory.currentStackRegion());
+    UnorderedSet<StringKey> classNames(classNamesAllocator);
+    classNames.reserve(loadedClassNames.size());
+    for (const auto &name : loadedClassNames)
+        classNames.insert(StringKey((const uint8_t *)name.data(), name.size()));
+
+    VectorAllocator<const CachedAOTMethod *> candidatesAllocator(trMemory.currentStackRegion());
+    Vector<const CachedAOTMethod *> candidates(candidatesAllocator);
+    {
+        OMR::CriticalSection cs(_cachedMethodMonitor);
+        for (auto method = _cachedMethodHead; method && (candidates.size() < maxMethods);
+             method = method->getNextRecord()) {
+            if (method->data().aotHeaderId() != aotHeaderRecord->data().id())
+                continue;
+            auto &classRecord = method->definingClassRecord()->data();
+            if (classNames.find(StringKey(classRecord.name(), classRecord.nameLength())) != classNames.end())
+                candidates.push_back(method);
+        }
+        _numPrefetchedMethods += candidates.size();
+    }
+    // Cached methods and records are never removed from the cache, so they can be accessed without the monitor
+
+    // The client does not know any records yet as far as this batch is concerned. Each record is sent only
+    // once; methods refer to their records by index in the batch.
+    KnownIdSet noKnownIds(KnownIdSet::allocator_type(TR::Compiler->persistentAllocator()));
+    UnorderedMapAllocator<const AOTSerializationRecord *, uint32_t> indexMapAllocator(trMemory.currentStackRegion());
+    UnorderedMap<const AOTSerializationRecord *, uint32_t> recordIndexMap(indexMapAllocator);
+
+    methods.reserve(candidates.size());
+    recordIndices.reserve(candidates.size());
+    for (auto method : candidates) {
+        auto methodRecords = getSerializationRecords(method, noKnownIds, trMemory);
+
+        std::vector<uint32_t> indices;
+        indices.reserve(methodRecords.size());
+        for (auto record : methodRecords) {
+            auto it = recordIndexMap.insert({ record, (uint32_t)records.size() });
+            if (it.second)
+                records.push_back(std::string((const char *)record, record->size()));
+            indices.push_back(it.first->second);
+        }
+
+        methods.push_back(std::string((const char *)&method->data(), method->data().size()));
+        recordIndices.push_back(std::move(indices));
+    }
+}
+
 /**
  * @brief Pack a vector of serialization records into a linear buffer
  *
@@ -1145,10 +1207,11 @@ void JITServerAOTCache::printStats(FILE *f) const
         "\tcache hits: %zu\n"
         "\tcache misses: %zu\n"
         "\tdeserialized methods: %zu\n"
-        "\tdeserialization failures: %zu\n",
+        "\tdeserialization failures: %zu\n"
+        "\tprefetched methods: %zu\n",
         _name.c_str(), _cachedMethodMap.size(), _classLoaderMap.size(), _classMap.size(), _numGeneratedClasses,
         _methodMap.size(), _classChainMap.size(), _wellKnownClassesMap.size(), _aotHeaderMap.size(), _numCacheBypasses,
-        _numCacheHits, _numCacheMisses, _numDeserializedMethods, _numDeserializationFailures);
+        _numCacheHits, _numCacheMisses, _numDeserializedMethods, _numDeserializationFailures, _numPrefetchedMethods);
 }
 
 // Write at most numRecordsToWrite to the given stream from the linked list starting at head.
@@ -492,6 +492,8 @@ public:
     const AOTCacheThunkRecord *createAndStoreThunk(const uint8_t *signature, uint32_t signatureSize,
         const uint8_t *thunkCode, uint32_t thunkCodeSize);
     const AOTCacheAOTHeaderRecord *getAOTHeaderRecord(const TR_AOTHeader *header, uint64_t clientUID);
+    // Same as getAOTHeaderRecord(), but never creates a new record; returns NULL if the header is not cached
+    const AOTCacheAOTHeaderRecord *findAOTHeaderRecord(const TR_AOTHeader *header);
 
     // Add a serialized AOT method to the cache. The key identifying the method is a combination of:
     // - class chain record for its defining class;
@@ -523,6 +525,17 @@ public:
     Vector<const AOTSerializationRecord *> getSerializationRecords(const CachedAOTMethod *method,
         const KnownIdSet &knownIds, TR_Memory &trMemory) const;
 
+    // Collect a batch of cached methods compiled for the given AOT header whose defining classes are in the
+    // loadedClassNames list, for a client prefetching methods in bulk. At most maxMethods methods are returned,
+    // in the order in which they were added to the cache, which approximates the order in which they are needed
+    // during startup. The serialization records of all the methods are returned in the records list in
+    // "dependency order" without duplicates, and for each method recordIndices lists the indices of the
+    // records it refers to.
+    void getMethodsForPrefetch(const AOTCacheAOTHeaderRecord *aotHeaderRecord,
+        const std::vector<std::string> &loadedClassNames, size_t maxMethods, std::vector<std::string> &methods,
+        std::vector<std::string> &records, std::vector<std::vector<uint32_t> > &recordIndices,
+        TR_Memory &trMemory);
+
     // Pack a vector of serialization records into a linear buffer
     static void packSerializationRecords(const Vector<const AOTSerializationRecord *> &records, uint8_t *buffer,
         size_t bufferSize);
@@ -537,6 +550,8 @@ public:
 
     void incNumDeserializationFailures() { ++_numDeserializationFailures; }
 
+    size_t getNumPrefetchedMethods() const { return _numPrefetchedMethods; }
+
     void printStats(FILE *f) const;
 
     size_t writeCache(FILE *f) const;
@@ -747,6 +762,7 @@ private:
     size_t _numDeserializedMethods;
     size_t _numDeserializationFailures;
     size_t _numGeneratedClasses;
+    size_t _numPrefetchedMethods;
 };
 
 // Maps AOT cache names to JITServerAOTCache instances
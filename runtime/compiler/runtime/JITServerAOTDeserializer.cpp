@@ -60,10 +60,16 @@ JITServerAOTDeserializer::JITServerAOTDeserializer(TR_PersistentClassLoaderTable
     , _numDeserializationFailures(0)
     , _numClassSizeMismatches(0)
     , _numClassHashMismatches(0)
+    , _numPrefetchBatches(0)
+    , _numPrefetchedMethods(0)
+    , _numPrefetchHits(0)
     , _threadsToNotifyOnReset(decltype(_threadsToNotifyOnReset)::allocator_type(TR::Compiler->persistentAllocator()))
+    , _prefetchedMethods(decltype(_prefetchedMethods)::allocator_type(TR::Compiler->persistentAllocator()))
+    , _prefetchServerUID(0)
+    , _prefetchedMethodsMonitor(TR::Monitor::create("JIT-JITServerAOTDeserializerPrefetchedMethodsMonitor"))
 {
     bool allMonitors = _classLoaderMonitor && _classMonitor && _methodMonitor && _classChainMonitor
-        && _wellKnownClassesMonitor && _resetMonitor;
+        && _wellKnownClassesMonitor && _resetMonitor && _prefetchedMethodsMonitor;
     if (!allMonitors)
         throw std::bad_alloc();
 }
@@ -77,6 +83,7 @@ JITServerAOTDeserializer::~JITServerAOTDeserializer()
     TR::Monitor::destroy(_wellKnownClassesMonitor);
     TR::Monitor::destroy(_newKnownIdsMonitor);
     TR::Monitor::destroy(_resetMonitor);
+    TR::Monitor::destroy(_prefetchedMethodsMonitor);
 }
 
 void JITServerAOTDeserializer::registerThreadToNotifyOnReset(J9VMThread *vmThread)
@@ -143,6 +150,10 @@ void JITServerAOTDeserializer::reset(TR::CompilationInfoPerThread *compInfoPT)
     vm->clearDeserializerWasReset();
 
     clearCachedData();
+
+    // Prefetched methods refer to record IDs of the old server
+    OMR::CriticalSection pcs(_prefetchedMethodsMonitor);
+    _prefetchedMethods.clear();
 }
 
 /**
@@ -280,6 +291,109 @@ bool JITServerAOTDeserializer::deserialize(SerializedAOTMethod *method, const st
     return true;
 }
 
+void JITServerAOTDeserializer::stagePrefetchedMethods(uint64_t serverUID, std::vector<std::string> &methods,
+    const std::vector<std::string> &records, const std::vector<std::vector<uint32_t> > &recordIndices,
+    const DeserializerContext &context)
+{
+    assertSharedVmAccess(context._vmThread);
+    TR_ASSERT(methods.size() == recordIndices.size(), "Prefetched methods and record indices mismatch");
+
+    // Records are sorted in "dependency order" in the batch, so they can be cached in one pass
+    std::string packedRecords;
+    for (const auto &record : records)
+        packedRecords.append(record);
+    bool wasReset = false;
+    cacheRecords((const uint8_t *)packedRecords.data(), packedRecords.size(), context, /*ignoreFailures=*/true,
+        wasReset);
+    if (wasReset)
+        return;
+
+    OMR::CriticalSection cs(_prefetchedMethodsMonitor);
+    // Re-check for a concurrent reset now that staged methods cannot be cleared under us
+    if (deserializerWasReset(context._fej9, wasReset))
+        return;
+
+    if (serverUID != _prefetchServerUID) {
+        _prefetchedMethods.clear();
+        _prefetchServerUID = serverUID;
+    }
+
+    for (size_t i = 0; i < methods.size(); ++i) {
+        PrefetchedMethod prefetched;
+        prefetched._records.reserve(recordIndices[i].size());
+        for (uint32_t index : recordIndices[i]) {
+            TR_ASSERT(index < records.size(), "Invalid prefetched record index %u", index);
+            prefetched._records.push_back(records[index]);
+        }
+        prefetched._method = std::move(methods[i]);
+
+        auto method = SerializedAOTMethod::get(prefetched._method);
+        if (_prefetchedMethods.emplace(std::string(method->signature()), std::move(prefetched)).second)
+            ++_numPrefetchedMethods;
+    }
+    ++_numPrefetchBatches;
+
+    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+        TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Staged %zu prefetched AOT methods (%zu in total)",
+            methods.size(), _prefetchedMethods.size());
+}
+
+bool JITServerAOTDeserializer::takePrefetchedMethod(const char *signature, uint32_t index, TR_Hotness optLevel,
+    uint64_t serverUID, std::string &method, std::vector<std::string> &records)
+{
+    OMR::CriticalSection cs(_prefetchedMethodsMonitor);
+    if (_prefetchedMethods.empty())
+        return false;
+
+    // The client has since connected to a different server instance, so the staged records are of no use
+    if (serverUID != _prefetchServerUID) {
+        _prefetchedMethods.clear();
+        return false;
+    }
+
+    auto it = _prefetchedMethods.find(std::string(signature));
+    if (it == _prefetchedMethods.end())
+        return false;
+
+    auto serializedMethod = SerializedAOTMethod::get(it->second._method);
+    if ((serializedMethod->index() != index) || (serializedMethod->optLevel() != optLevel))
+        return false;
+
+    method = std::move(it->second._method);
+    records = std::move(it->second._records);
+    _prefetchedMethods.erase(it);
+    ++_numPrefetchHits;
+    return true;
+}
+
+bool JITServerAOTDeserializer::deserializePrefetched(SerializedAOTMethod *method,
+    const std::vector<std::string> &records, J9Class *definingClass, const DeserializerContext &context,
+    bool &usesSVM)
+{
+    if (!deserialize(method, records, context, usesSVM))
+        return false;
+
+    // The method was matched by signature only; make sure it was compiled for this very class.
+    // The defining class chain record is always included in the records of a prefetched method.
+    for (const auto &recordStr : records) {
+        auto record = AOTSerializationRecord::get(recordStr);
+        if ((record->type() == AOTSerializationRecordType::ClassChain)
+            && (record->id() == method->definingClassChainId())) {
+            auto chainRecord = (const ClassChainSerializationRecord *)record;
+            bool wasReset = false;
+            J9Class *ramClass = getRAMClass(chainRecord->list().ids()[0], context, wasReset);
+            if (!wasReset && (ramClass == definingClass))
+                return true;
+            break;
+        }
+    }
+
+    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+        TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Prefetched AOT method %s has a mismatching defining class",
+            method->signature());
+    return false;
+}
+
 void JITServerAOTDeserializer::onClassLoad(J9Class *ramClass, J9VMThread *vmThread)
 {
     assertSharedVmAccess(vmThread);
@@ -430,9 +544,13 @@ void JITServerAOTDeserializer::printStats(FILE *f) const
         "\tdeserialized methods: %zu\n"
         "\tdeserialization failures: %zu\n"
         "\tclass size mismatches: %zu\n"
-        "\tclass hash mismatches: %zu\n",
+        "\tclass hash mismatches: %zu\n"
+        "\tprefetched batches: %zu\n"
+        "\tprefetched methods: %zu\n"
+        "\tprefetched methods used: %zu\n",
         _numCacheBypasses, _numCacheHits, _numCacheMisses, _numDeserializedMethods, _numDeserializationFailures,
-        _numClassSizeMismatches, _numClassHashMismatches);
+        _numClassSizeMismatches, _numClassHashMismatches, _numPrefetchBatches, _numPrefetchedMethods,
+        _numPrefetchHits);
 
     if (TR::Options::isAnyVerboseOptionSet(TR_VerboseJITServer, TR_VerbosePerformance))
         TR_VerboseLog::writeLineLocked(TR_Vlog_PERF, "AOT deserializer class load mem=[region=%llu system=%llu]KB",
@@ -100,6 +100,25 @@ public:
     bool deserialize(SerializedAOTMethod *method, const std::vector<std::string> &records,
         const DeserializerContext &context, bool &usesSVM);
 
+    // Stage a batch of AOT methods prefetched from the server identified by serverUID. The serialization records
+    // of the batch are cached right away, ignoring failures for records whose classes are not loaded yet, so that
+    // little work is left for the compilation that eventually uses a prefetched method. Each method refers to its
+    // records through a list of indices into the records vector.
+    void stagePrefetchedMethods(uint64_t serverUID, std::vector<std::string> &methods,
+        const std::vector<std::string> &records, const std::vector<std::vector<uint32_t> > &recordIndices,
+        const DeserializerContext &context);
+
+    // Remove the prefetched method with the given signature from the staging area and return it along with its
+    // serialization records. Returns false if no such method was prefetched from the currently connected server
+    // for the given method index and optimization level.
+    bool takePrefetchedMethod(const char *signature, uint32_t index, TR_Hotness optLevel, uint64_t serverUID,
+        std::string &method, std::vector<std::string> &records);
+
+    // Deserializes in place a prefetched AOT method, like deserialize(), and additionally
+    // checks that the defining class of the method is definingClass. Returns true on success.
+    bool deserializePrefetched(SerializedAOTMethod *method, const std::vector<std::string> &records,
+        J9Class *definingClass, const DeserializerContext &context, bool &usesSVM);
+
     void onClassLoad(J9Class *ramClass, J9VMThread *vmThread);
     // Invalidation function called from the class unload JIT hook to invalidate class loader pointers
     // cached by the deserializer
@@ -286,6 +305,17 @@ private:
 
     PersistentUnorderedSet<J9VMThread *> _threadsToNotifyOnReset;
 
+    struct PrefetchedMethod {
+        std::string _method;
+        std::vector<std::string> _records;
+    };
+
+    // Staging area for methods prefetched from the server, keyed by signature. Protected by
+    // _prefetchedMethodsMonitor, which is a "leaf" monitor like the remaining ones above.
+    PersistentUnorderedMap<std::string, PrefetchedMethod> _prefetchedMethods;
+    uint64_t _prefetchServerUID;
+    TR::Monitor * const _prefetchedMethodsMonitor;
+
     // Statistics
     size_t _numCacheBypasses;
     size_t _numCacheHits;
@@ -294,6 +324,9 @@ private:
     size_t _numDeserializationFailures;
     size_t _numClassSizeMismatches;
     size_t _numClassHashMismatches;
+    size_t _numPrefetchBatches;
+    size_t _numPrefetchedMethods;
+    size_t _numPrefetchHits;
 };
 
 // This deserializer implements the following scheme:
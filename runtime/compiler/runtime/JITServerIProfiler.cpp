@@ -491,7 +491,7 @@ TR_IPBytecodeHashTableEntry *JITServerIProfiler::profilingSample(TR_OpaqueMethod
             // TODO: Consider doing this only if the server is likely to store this info into the shared profile cache.
             // On the other hand, if the server sent us something, why not cache that information.
             if (!uncachedRAMClasses.empty())
-                JITServerHelpers::cacheRemoteROMClassBatch(clientSession, uncachedRAMClasses, classInfoTuples);
+                JITServerHelpers::cacheRemoteROMClassBatch(clientSession, uncachedRAMClasses, classInfoTuples, stream);
         }
         if (sharedProfileQuality > 0) {
             // Ignore the data sent by the client. Just use the data from the shared profile cache.
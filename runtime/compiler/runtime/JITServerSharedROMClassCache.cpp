@@ -79,6 +79,7 @@ struct JITServerSharedROMClassCache::Partition {
     }
 
     J9ROMClass *getOrCreate(const J9ROMClass *packedROMClass, const JITServerROMClassHash &hash);
+    J9ROMClass *getIfExists(const JITServerROMClassHash &hash);
     void release(Entry *entry);
 
     TR_PersistentMemory * const _persistentMemory;
@@ -206,6 +207,11 @@ J9ROMClass *JITServerSharedROMClassCache::getOrCreate(const J9ROMClass *packedRO
     return getPartition(hash).getOrCreate(packedROMClass, hash);
 }
 
+J9ROMClass *JITServerSharedROMClassCache::getIfExists(const JITServerROMClassHash &hash)
+{
+    return getPartition(hash).getIfExists(hash);
+}
+
 void JITServerSharedROMClassCache::release(J9ROMClass *romClass)
 {
     auto entry = Entry::get(romClass);
@@ -291,6 +297,13 @@ J9ROMClass *JITServerSharedROMClassCache::Partition::getOrCreate(const J9ROMClas
     return romClass;
 }
 
+J9ROMClass *JITServerSharedROMClassCache::Partition::getIfExists(const JITServerROMClassHash &hash)
+{
+    OMR::CriticalSection sharedROMClassCache(_monitor);
+    auto it = _map.find(hash);
+    return (it != _map.end()) ? it->second->acquire() : NULL;
+}
+
 void JITServerSharedROMClassCache::Partition::release(JITServerSharedROMClassCache::Entry *entry)
 {
     {
@@ -45,6 +45,9 @@ public:
     // Get an existing cache entry for packedROMClass or create one. The packedROMClassHash may be NULL; if not,
     // it will be the cached deterministic hash of packedROMClass received from the client.
     J9ROMClass *getOrCreate(const J9ROMClass *packedROMClass, const JITServerROMClassHash *packedROMClassHash);
+    // Get an existing cache entry for the ROMClass with the given hash (incrementing its reference count),
+    // or NULL if there is no such entry. Used when the client sends only the hash of the ROMClass.
+    J9ROMClass *getIfExists(const JITServerROMClassHash &hash);
     void release(J9ROMClass *romClass);
     void acquire(J9ROMClass *romClass);
 
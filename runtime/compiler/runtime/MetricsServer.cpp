@@ -40,6 +40,7 @@
 #include "env/VerboseLog.hpp"
 #include "env/VMJ9.h"
 #include "net/ServerStream.hpp"
+#include "runtime/CodeCacheManager.hpp"
 #include "runtime/MetricsServer.hpp"
 
 bool MetricsServer::useSSL(TR::CompilationInfo *compInfo)
@@ -132,19 +133,133 @@ double ActiveThreadsMetric::computeValue(TR::CompilationInfo *compInfo)
     return getValue();
 }
 
+double CompilationQueueSizeMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    // Reading the queue size without the compilation monitor; a slightly stale value is acceptable
+    setValue(compInfo->getMethodQueueSize());
+    return getValue();
+}
+
+double CodeCacheUsedMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    setValue(TR::CodeCacheManager::instance()->getCurrTotalUsedInBytes());
+    return getValue();
+}
+
+double JITCPUTimeMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    int64_t cpuTimeNs = compInfo->getCpuTimeSpentInCompilation();
+    if (cpuTimeNs >= 0)
+        setValue(cpuTimeNs / 1e9);
+    return getValue();
+}
+
+double SharedCacheAOTHitRatioMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    uint32_t numLoads = compInfo->getNumMethodsFromSharedCache();
+    uint32_t numStores = compInfo->getNumAotedMethods();
+    setValue((numLoads + numStores) ? (double)numLoads / (numLoads + numStores) : 0);
+    return getValue();
+}
+
+double HeapPoolUsedMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    J9JavaVM *javaVM = compInfo->getJITConfig()->javaVM;
+    J9MemoryManagerFunctions *mmFuncs = javaVM->memoryManagerFunctions;
+    UDATA totalUsed = 0;
+
+    _samples.clear();
+    // Each memory pool is identified by one bit in the mask of supported pools
+    for (UDATA pools = mmFuncs->j9gc_allsupported_memorypools(javaVM); pools != 0; pools &= pools - 1) {
+        UDATA poolID = pools & ~(pools - 1);
+        UDATA free = 0;
+        UDATA total = 0;
+        mmFuncs->j9gc_pool_memoryusage(javaVM, poolID, &free, &total);
+        UDATA used = (total > free) ? total - free : 0;
+        totalUsed += used;
+        _samples.append(getName() + "{pool=\"" + mmFuncs->j9gc_pool_name(javaVM, poolID) + "\"} "
+            + std::to_string(used) + "\n");
+    }
+    setValue(totalUsed);
+    return getValue();
+}
+
+// Upper bounds of the GC pause histogram buckets, in seconds
+static const double gcPauseBucketBounds[] = { 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 1.0 };
+static_assert(sizeof(gcPauseBucketBounds) / sizeof(gcPauseBucketBounds[0]) == GCPauseHistogram::NUM_BUCKETS,
+    "gcPauseBucketBounds is not in sync with GCPauseHistogram::NUM_BUCKETS");
+
+GCPauseHistogram::GCPauseHistogram()
+    : _pauseStartNs(0)
+    , _sumNs(0)
+    , _count(0)
+{
+    for (size_t i = 0; i <= NUM_BUCKETS; i++)
+        _bucketCounts[i] = 0;
+}
+
+void GCPauseHistogram::pauseEnded(uint64_t timeNs)
+{
+    if (!_pauseStartNs || timeNs < _pauseStartNs)
+        return; // The MetricsServer was created while a pause was in progress
+    uint64_t durationNs = timeNs - _pauseStartNs;
+    _pauseStartNs = 0;
+
+    size_t bucket = 0;
+    while (bucket < NUM_BUCKETS && durationNs > gcPauseBucketBounds[bucket] * 1e9)
+        bucket++;
+    _bucketCounts[bucket]++;
+    _sumNs += durationNs;
+    _count++;
+}
+
+void GCPauseHistogram::serialize(std::string &output, const std::string &name, const char *gcKind) const
+{
+    std::string gcLabel = std::string("gc=\"") + gcKind + "\"";
+    uint64_t cumulativeCount = 0;
+    for (size_t i = 0; i < NUM_BUCKETS; i++) {
+        cumulativeCount += _bucketCounts[i];
+        output.append(name + "_bucket{" + gcLabel + ",le=\"" + std::to_string(gcPauseBucketBounds[i]) + "\"} "
+            + std::to_string(cumulativeCount) + "\n");
+    }
+    cumulativeCount += _bucketCounts[NUM_BUCKETS];
+    output.append(name + "_bucket{" + gcLabel + ",le=\"+Inf\"} " + std::to_string(cumulativeCount) + "\n");
+    output.append(name + "_sum{" + gcLabel + "} " + std::to_string(_sumNs / 1e9) + "\n");
+    output.append(name + "_count{" + gcLabel + "} " + std::to_string(cumulativeCount) + "\n");
+}
+
+double GCPauseMetric::computeValue(TR::CompilationInfo *compInfo)
+{
+    MetricsServer *metricsServer = ((TR_JitPrivateConfig *)(compInfo->getJITConfig()->privateConfig))->metricsServer;
+    _samples.clear();
+    metricsServer->getLocalGCPauses().serialize(_samples, getName(), "local");
+    metricsServer->getGlobalGCPauses().serialize(_samples, getName(), "global");
+    return getValue();
+}
+
 MetricsDatabase::MetricsDatabase(TR::CompilationInfo *compInfo)
-    : _compInfo(compInfo)
+    : _numMetrics(0)
+    , _compInfo(compInfo)
 {
-    _metrics[0] = new (PERSISTENT_NEW) CPUUtilMetric();
-    _metrics[1] = new (PERSISTENT_NEW) AvailableMemoryMetric();
-    _metrics[2] = new (PERSISTENT_NEW) ConnectedClientsMetric();
-    _metrics[3] = new (PERSISTENT_NEW) ActiveThreadsMetric();
-    static_assert(3 == MAX_METRICS - 1, "Unsupported number of metrics");
+    if (compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::SERVER) {
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) CPUUtilMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) AvailableMemoryMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) ConnectedClientsMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) ActiveThreadsMetric();
+    } else {
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) CompilationQueueSizeMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) CodeCacheUsedMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) JITCPUTimeMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) SharedCacheAOTHitRatioMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) HeapPoolUsedMetric();
+        _metrics[_numMetrics++] = new (PERSISTENT_NEW) GCPauseMetric();
+    }
+    static_assert(6 <= MAX_METRICS, "Unsupported number of metrics");
 }
 
 MetricsDatabase::~MetricsDatabase()
 {
-    for (int i = 0; i < MAX_METRICS; i++) {
+    for (size_t i = 0; i < _numMetrics; i++) {
         _metrics[i]->~PrometheusMetric();
         TR_Memory::jitPersistentFree(_metrics[i]);
     }
@@ -153,7 +268,7 @@ MetricsDatabase::~MetricsDatabase()
 std::string MetricsDatabase::serializeMetrics()
 {
     std::string output;
-    for (int i = 0; i < MAX_METRICS; i++) {
+    for (size_t i = 0; i < _numMetrics; i++) {
         _metrics[i]->computeValue(_compInfo);
         output.append(_metrics[i]->serialize());
     }
@@ -38,13 +38,16 @@ class CompilationInfo;
 
    PrometheusMetric is an abstract class and concrete classes need to be derived from it.
    Derived classes need to implement the `computeValue()` function and possibly the
-   destructor, if they allocate memory dynamically.
+   destructor, if they allocate memory dynamically. Metrics that consist of more than
+   one sample (e.g. labeled values or histograms) also need to override `serialize()`.
  */
 class PrometheusMetric {
 public:
-    PrometheusMetric(const std::string &name, const std::string &help)
+    PrometheusMetric(const std::string &name, const std::string &help, const char *type = "gauge")
         : _name(name)
         , _help(help)
+        , _type(type)
+        , _value(0)
     {}
 
     virtual ~PrometheusMetric() {}
@@ -68,15 +71,17 @@ public:
        @brief Build a std::string that encodes the value of the metric in a format understood by Prometheus
        @return Serialized value of the metric (as a std::string)
     */
-    std::string serialize()
+    virtual std::string serialize() { return serializeHeader() + getName() + " " + std::to_string(getValue()) + "\n"; }
+
+protected:
+    std::string serializeHeader() const
     {
-        return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " gauge\n" + getName() + " "
-            + std::to_string(getValue()) + "\n";
+        return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " " + _type + "\n";
     }
 
-protected:
     const std::string _name;
     const std::string _help;
+    const char * const _type; // Prometheus metric type: "gauge", "counter" or "histogram"
     double _value;
 }; // class PrometheusMetric
 
@@ -129,18 +134,138 @@ public:
     virtual double computeValue(TR::CompilationInfo *compInfo);
 }; // class ActiveThreadsMetric
 
+/**
+   @brief Class used to serialize the number of methods in the compilation queue of a JVM (JITServer client or
+   regular JVM), as a metric understood by Prometheus
+ */
+class CompilationQueueSizeMetric : public PrometheusMetric {
+public:
+    CompilationQueueSizeMetric()
+        : PrometheusMetric("jvm_jit_compilation_queue_size", "Number of methods waiting to be compiled")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+}; // class CompilationQueueSizeMetric
+
+/**
+   @brief Class used to serialize the amount of code cache in use, as a metric understood by Prometheus
+ */
+class CodeCacheUsedMetric : public PrometheusMetric {
+public:
+    CodeCacheUsedMetric()
+        : PrometheusMetric("jvm_jit_code_cache_used_bytes", "Bytes of code cache used by compiled methods")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+}; // class CodeCacheUsedMetric
+
+/**
+   @brief Class used to serialize the CPU time consumed by the compilation threads, as a metric understood by
+   Prometheus
+ */
+class JITCPUTimeMetric : public PrometheusMetric {
+public:
+    JITCPUTimeMetric()
+        : PrometheusMetric("jvm_jit_cpu_seconds_total", "CPU time consumed by compilation threads", "counter")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+}; // class JITCPUTimeMetric
+
+/**
+   @brief Class used to serialize the fraction of AOT compilation requests that were satisfied by loading
+   a method body from the shared class cache rather than by compiling and storing a new one, as a metric
+   understood by Prometheus
+ */
+class SharedCacheAOTHitRatioMetric : public PrometheusMetric {
+public:
+    SharedCacheAOTHitRatioMetric()
+        : PrometheusMetric("jvm_shared_cache_aot_hit_ratio",
+              "Fraction of AOT method bodies loaded from the shared class cache instead of being compiled")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+}; // class SharedCacheAOTHitRatioMetric
+
+/**
+   @brief Class used to serialize the occupancy of each Java heap memory pool (e.g. nursery, tenured),
+   as a metric understood by Prometheus. The value of the metric is the total number of used bytes.
+ */
+class HeapPoolUsedMetric : public PrometheusMetric {
+public:
+    HeapPoolUsedMetric()
+        : PrometheusMetric("jvm_heap_pool_used_bytes", "Bytes used in each Java heap memory pool")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+    virtual std::string serialize() { return serializeHeader() + _samples; }
+
+private:
+    std::string _samples; // one labeled sample per memory pool, computed by computeValue()
+}; // class HeapPoolUsedMetric
+
+/**
+   @class GCPauseHistogram
+   @brief Distribution of the durations of one kind of stop-the-world GC pauses (local or global)
+
+   Pauses are recorded by the JIT GC start and end hooks, which run on the thread that drives
+   the collection while the mutator threads are stopped, so no synchronization is needed for
+   updates. Readers may observe slightly stale values.
+ */
+class GCPauseHistogram {
+public:
+    static const size_t NUM_BUCKETS = 8; // not counting the implicit +Inf bucket
+
+    GCPauseHistogram();
+
+    void pauseStarted(uint64_t timeNs) { _pauseStartNs = timeNs; }
+
+    void pauseEnded(uint64_t timeNs);
+
+    /**
+       @brief Append the Prometheus histogram samples for this kind of GC pause to output
+       @param name Name of the histogram metric
+       @param gcKind Value of the "gc" label for the samples
+    */
+    void serialize(std::string &output, const std::string &name, const char *gcKind) const;
+
+private:
+    uint64_t _pauseStartNs; // 0 when no pause is in progress
+    volatile uint64_t _bucketCounts[NUM_BUCKETS + 1]; // not cumulative; last entry is the +Inf bucket
+    volatile uint64_t _sumNs;
+    volatile uint64_t _count;
+}; // class GCPauseHistogram
+
+/**
+   @brief Class used to serialize the histograms of local and global GC pause times, as a metric understood
+   by Prometheus
+ */
+class GCPauseMetric : public PrometheusMetric {
+public:
+    GCPauseMetric()
+        : PrometheusMetric("jvm_gc_pause_seconds", "Duration of stop-the-world GC pauses", "histogram")
+    {}
+
+    virtual double computeValue(TR::CompilationInfo *compInfo);
+    virtual std::string serialize() { return serializeHeader() + _samples; }
+
+private:
+    std::string _samples; // histogram samples for both kinds of GC pauses, computed by computeValue()
+}; // class GCPauseMetric
+
 /**
    @class MetricsDatabase
    @brief Collection of metrics that need to be sent to Prometheus on demand
 
    In order to add a new metric, derive a new class from PrometheusMetric and implement its
-   computeValue() method. Increment the MAX_METRICS constant accordingly. Change the constructor
+   computeValue() method. Increment the MAX_METRICS constant if needed. Change the constructor
    of this class to dynamically allocate an instance of the new metric and store a pointer
-   of this metric instance into the _metrics array
+   of this metric instance into the _metrics array. JITServer and other JVMs (JITServer clients
+   and regular JVMs) expose different sets of metrics.
  */
 class MetricsDatabase {
 public:
-    static const size_t MAX_METRICS = 4; // Maximum number of metrics our database can hold
+    static const size_t MAX_METRICS = 6; // Maximum number of metrics our database can hold
     MetricsDatabase(TR::CompilationInfo *compInfo);
     ~MetricsDatabase();
 
@@ -167,6 +292,7 @@ public:
 
 private:
     PrometheusMetric *_metrics[MAX_METRICS]; // Array with pointers to metrics to be scrapped
+    size_t _numMetrics;
     TR::CompilationInfo *_compInfo;
 }; // MetricsDatabase
 
@@ -330,6 +456,8 @@ private:
    The code runs in a single, dedicated thread. Up to 4 requests can be handled
    concurrently, through the use of the 'poll' mechanism (with a timeout of 250 ms).
    The port on which the MetricsServer operates is specified with "-XX:JITServerMetricsPort=<NNN>".
+   On JITServer clients and regular JVMs, the MetricsServer must be enabled explicitly with
+   "-XX:+JITServerMetrics" and exposes metrics about the JIT and GC of the JVM itself.
  */
 class MetricsServer {
 public:
@@ -359,6 +487,10 @@ public:
 
     void serveMetricsRequests();
 
+    GCPauseHistogram &getLocalGCPauses() { return _localGCPauses; }
+
+    GCPauseHistogram &getGlobalGCPauses() { return _globalGCPauses; }
+
     static const int METRICS_POLL_TIMEOUT = 250; // ms
     static const size_t MAX_CONCURRENT_REQUESTS = 4;
     static const uint32_t SEND_TIMEOUT = 500; // ms
@@ -387,6 +519,9 @@ private:
     HttpGetRequest _requests[1 + MAX_CONCURRENT_REQUESTS];
 
     SSL_CTX *_sslCtx;
+
+    GCPauseHistogram _localGCPauses;
+    GCPauseHistogram _globalGCPauses;
 }; // class MetricsServer
 
 #endif // #ifndef METRICSSERVER_HPP
@@ -240,6 +240,7 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9mm_iterate_object_slots,
 	j9mm_initialize_object_descriptor,
 	j9mm_iterate_all_objects,
+	j9mm_iterate_all_objects_parallel,
 	j9gc_modron_isFeatureSupported,
 	j9gc_modron_getConfigurationValueForKey,
 	omrgc_get_version,
@@ -282,6 +283,8 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_stringHashFn,
 	j9gc_stringHashEqualFn,
 	j9gc_ensureLockedSynchronizersIntegrity,
+	j9gc_get_compact_group_stats,
+	j9gc_get_memory_pressure_released_bytes,
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 	j9gc_prepare_for_checkpoint,
 	j9gc_reinitialize_for_restore,
@@ -28,6 +28,7 @@
 #include "ModronAssertions.h"
 
 #include "ArrayletLeafIterator.hpp"
+#include "AtomicOperations.hpp"
 #include "GCExtensionsBase.hpp"
 #include "HeapIteratorAPIRootIterator.hpp"
 #include "HeapIteratorAPIBufferedIterator.hpp"
@@ -43,6 +44,8 @@
 #include "ObjectAccessBarrier.hpp"
 #include "OwnableSynchronizerObjectList.hpp"
 #include "ContinuationObjectList.hpp"
+#include "ParallelDispatcher.hpp"
+#include "ParallelTask.hpp"
 #include "PointerArrayIterator.hpp"
 #include "SlotObject.hpp"
 #include "VMInterface.hpp"
@@ -85,6 +88,45 @@ iterateRegionObjects(
 	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData),
 	void *userData);
 
+/**
+ * Task used by j9mm_iterate_all_objects_parallel to walk the regions of a memory space on the GC worker threads.
+ * Each region is walked by a single worker, and each worker reports objects with its own index in [0, threadCount).
+ */
+class HeapIteratorAPI_ParallelObjectIteratorTask : public MM_ParallelTask
+{
+	/* Data Members */
+private:
+	J9JavaVM * const _javaVM;
+	J9MM_IterateSpaceDescriptor * const _space;
+	UDATA const _flags;
+	jvmtiIterationControl (* const _func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData);
+	void * const _userData;
+	volatile UDATA _nextWorkerIndex; /**< index handed to the next worker to start running the task */
+	volatile UDATA _aborted; /**< set once any callback has returned JVMTI_ITERATION_ABORT */
+
+	/* Member Functions */
+private:
+protected:
+public:
+	virtual UDATA getVMStateID(void) { return J9VMSTATE_GC; }
+	virtual void run(MM_EnvironmentBase *env);
+
+	bool wasAborted(void) { return 0 != _aborted; }
+
+	HeapIteratorAPI_ParallelObjectIteratorTask(MM_EnvironmentBase *env, MM_ParallelDispatcher *dispatcher, J9MM_IterateSpaceDescriptor *space, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData), void *userData)
+		: MM_ParallelTask(env, dispatcher)
+		, _javaVM((J9JavaVM *)env->getLanguageVM())
+		, _space(space)
+		, _flags(flags)
+		, _func(func)
+		, _userData(userData)
+		, _nextWorkerIndex(0)
+		, _aborted(0)
+	{
+		_typeId = __FUNCTION__;
+	}
+};
+
 extern "C" {
 
 /* used by j9mm_iterate_all_objects */
@@ -92,6 +134,18 @@ static jvmtiIterationControl internalIterateHeaps(J9JavaVM *vm, J9MM_IterateHeap
 static jvmtiIterationControl internalIterateSpaces(J9JavaVM *vm, J9MM_IterateSpaceDescriptor *space, void *userData);
 static jvmtiIterationControl internalIterateRegions(J9JavaVM *vm, J9MM_IterateRegionDescriptor *region, void *userData);
 
+/* used by j9mm_iterate_all_objects_parallel */
+static jvmtiIterationControl internalIterateRegionsParallel(J9JavaVM *vm, J9MM_IterateRegionDescriptor *region, void *userData);
+static jvmtiIterationControl internalIterateObjectsParallel(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, void *userData);
+
+typedef struct J9MM_ParallelCallbackDataHolderPrivate {
+	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData);
+	void *userData;
+	UDATA flags;
+	UDATA workerIndex; /**< index of the walking thread, passed to func */
+	volatile UDATA *aborted; /**< shared by all the walking threads, set once func has returned JVMTI_ITERATION_ABORT */
+} J9MM_ParallelCallbackDataHolderPrivate;
+
 typedef struct J9MM_CallbackDataHolderPrivate{
 	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, void *userData);
 	void *userData;
@@ -461,6 +515,76 @@ j9mm_iterate_all_objects(J9JavaVM *vm, J9PortLibrary *portLibrary, UDATA flags,
 	return j9mm_iterate_heaps(vm, portLibrary, flags, &internalIterateHeaps, &data);
 }
 
+/**
+ * Walk all objects of the heap on the GC worker threads, call user provided function.
+ * The caller must hold exclusive VM access. Each region is walked by a single worker thread,
+ * so objects are reported in address order within a region but in no particular order overall.
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param maxThreads The maximum number of threads to use, or 0 to use all the GC threads
+ * @param func The function to call on each object descriptor. It is called concurrently from several threads,
+ * with a workerIndex in [0, *threadsUsed) which is unique to the calling thread for the duration of the walk.
+ * @param userData Pointer to storage for userData.
+ * @param threadsUsed[out] The number of threads the walk was split across (may be NULL)
+ * @return JVMTI_ITERATION_ABORT if func aborted the walk, JVMTI_ITERATION_CONTINUE otherwise
+ */
+jvmtiIterationControl
+j9mm_iterate_all_objects_parallel(J9VMThread *vmThread, J9PortLibrary *portLibrary, UDATA flags, UDATA maxThreads, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData), void *userData, UDATA *threadsUsed)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_ParallelDispatcher *dispatcher = extensions->dispatcher;
+	UDATA threadCount = dispatcher->threadCountMaximum();
+	jvmtiIterationControl returnCode = JVMTI_ITERATION_CONTINUE;
+
+	Assert_MM_mustHaveExclusiveVMAccess(vmThread->omrVMThread);
+
+	if ((0 != maxThreads) && (maxThreads < threadCount)) {
+		threadCount = maxThreads;
+	}
+	if (extensions->isMetronomeGC()) {
+		/* the realtime dispatcher only runs incremental tasks, so walk on the current thread */
+		threadCount = 1;
+	}
+	if (NULL != threadsUsed) {
+		*threadsUsed = threadCount;
+	}
+
+	void *defaultMemorySpace = vm->defaultMemorySpace;
+	if (NULL != defaultMemorySpace) {
+		J9MM_IterateSpaceDescriptor spaceDesc;
+		spaceDesc.id = (UDATA)defaultMemorySpace;
+
+		if (j9mm_iterator_flag_regions_read_only != (flags & j9mm_iterator_flag_regions_read_only)) {
+			/* make sure the heap is walkable (flush TLH's, secure heap integrity) */
+			vm->memoryManagerFunctions->j9gc_flush_caches_for_walk(vm);
+		}
+
+		if (1 == threadCount) {
+			volatile UDATA aborted = 0;
+			J9MM_ParallelCallbackDataHolderPrivate data;
+			data.func = func;
+			data.userData = userData;
+			data.flags = flags;
+			data.workerIndex = 0;
+			data.aborted = &aborted;
+			returnCode = iterateRegions(vm, &spaceDesc, flags, internalIterateRegionsParallel, &data);
+		} else {
+			MM_HeapRegionManager *manager = extensions->heap->getHeapRegionManager();
+			HeapIteratorAPI_ParallelObjectIteratorTask iteratorTask(env, dispatcher, &spaceDesc, flags, func, userData);
+			/* the workers walk the region list without taking the lock, so hold it for them */
+			manager->lock();
+			dispatcher->run(env, &iteratorTask, threadCount);
+			manager->unlock();
+			if (iteratorTask.wasAborted()) {
+				returnCode = JVMTI_ITERATION_ABORT;
+			}
+		}
+	}
+
+	return returnCode;
+}
+
 /* used by j9mm_iterate_all_objects */
 static jvmtiIterationControl
 internalIterateHeaps(J9JavaVM *vm, J9MM_IterateHeapDescriptor *heap, void *userData)
@@ -483,6 +607,30 @@ internalIterateRegions(J9JavaVM *vm, J9MM_IterateRegionDescriptor *region, void
 	return j9mm_iterate_region_objects(vm, data->portLibrary, region, data->flags, data->func, data->userData);
 }
 
+/* used by j9mm_iterate_all_objects_parallel */
+static jvmtiIterationControl
+internalIterateRegionsParallel(J9JavaVM *vm, J9MM_IterateRegionDescriptor *region, void *userData)
+{
+	return iterateRegionObjects(vm, region, ((J9MM_ParallelCallbackDataHolderPrivate *)userData)->flags, internalIterateObjectsParallel, userData);
+}
+
+static jvmtiIterationControl
+internalIterateObjectsParallel(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, void *userData)
+{
+	J9MM_ParallelCallbackDataHolderPrivate *data = (J9MM_ParallelCallbackDataHolderPrivate *)userData;
+	jvmtiIterationControl returnCode = JVMTI_ITERATION_ABORT;
+
+	/* stop as soon as any thread has aborted the walk */
+	if (0 == *data->aborted) {
+		returnCode = data->func(vm, object, data->workerIndex, data->userData);
+		if (JVMTI_ITERATION_ABORT == returnCode) {
+			*data->aborted = 1;
+		}
+	}
+
+	return returnCode;
+}
+
 /**
  * Walk all ownable synchronizer object, call user provided function.
  * @param flags The flags describing the walk (unused currently)
@@ -823,3 +971,29 @@ j9mm_abandon_object(
 
 	return rc;
 }
+
+void
+HeapIteratorAPI_ParallelObjectIteratorTask::run(MM_EnvironmentBase *env)
+{
+	MM_GCExtensionsBase *extensions = MM_GCExtensionsBase::getExtensions(_javaVM->omrVM);
+	MM_MemorySpace *memorySpace = MM_MemorySpace::getMemorySpace((void *)_space->id);
+	J9MM_ParallelCallbackDataHolderPrivate data;
+	data.func = _func;
+	data.userData = _userData;
+	data.flags = _flags;
+	/* worker IDs are not guaranteed to be dense when fewer threads than the maximum are used, so hand out indexes here */
+	data.workerIndex = MM_AtomicOperations::add(&_nextWorkerIndex, 1) - 1;
+	data.aborted = &_aborted;
+
+	/* the region manager lock is held by the thread which dispatched the task */
+	GC_HeapRegionIterator regionIterator(memorySpace->getHeap()->getHeapRegionManager(), memorySpace);
+	MM_HeapRegionDescriptor *region = NULL;
+	while ((0 == _aborted) && (NULL != (region = regionIterator.nextRegion()))) {
+		if (J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+			J9MM_IterateRegionDescriptorPrivate regionDescription;
+			regionDescription.type = j9mm_region_type_region;
+			initializeRegionDescriptor(extensions, &regionDescription.descriptor, region);
+			iterateRegionObjects(_javaVM, &regionDescription.descriptor, _flags, internalIterateObjectsParallel, &data);
+		}
+	}
+}
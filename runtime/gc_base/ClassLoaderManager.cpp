@@ -29,6 +29,7 @@
 #include "ModronAssertions.h"
 #include "vmhook_internal.h" /* this file triggers a VM hook, so we need the internal version */
 
+#include "AtomicOperations.hpp"
 #include "ClassLoaderManager.hpp"
 
 #include "ClassHeapIterator.hpp"
@@ -181,6 +182,18 @@ MM_ClassLoaderManager::setLastUnloadNumOfAnonymousClasses()
 {
 	_lastUnloadNumOfAnonymousClasses = _javaVM->anonClassCount;
 }
+
+void
+MM_ClassLoaderManager::addDeferredClassLoaderFreeTime(uintptr_t freeTime)
+{
+	MM_AtomicOperations::add(&_deferredClassLoaderFreeTime, freeTime);
+}
+
+uintptr_t
+MM_ClassLoaderManager::takeDeferredClassLoaderFreeTime()
+{
+	return MM_AtomicOperations::set(&_deferredClassLoaderFreeTime, 0);
+}
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
 void
@@ -603,6 +616,7 @@ MM_ClassLoaderManager::cleanUpClassLoaders(MM_EnvironmentBase *env, J9ClassLoade
 {
 	*reclaimedSegments = NULL;
 	*unloadLink = NULL;
+	_lastDeferredClassLoaderCount = 0;
 
 	/*
 	 * Cleanup segments in anonymous classloader
@@ -634,16 +648,20 @@ MM_ClassLoaderManager::cleanUpClassLoaders(MM_EnvironmentBase *env, J9ClassLoade
 		_javaVM->internalVMFunctions->cleanUpClassLoader((J9VMThread *)env->getLanguageVMThread(), classLoader);
 
 #if defined(J9VM_GC_FINALIZATION)
-		/* Determine if the classLoader needs to be enqueued for finalization (for shared library unloading),
-		 * otherwise add it to the list of classLoaders to be unloaded by cleanUpClassLoadersEnd.
+		/* Determine if the classLoader needs to be enqueued for finalization (for shared library unloading, or
+		 * because freeing it is deferred out of the pause), otherwise add it to the list of classLoaders to be
+		 * unloaded by cleanUpClassLoadersEnd. The class loader is already dead and its classes are unlinked, so
+		 * freeClassLoader() can safely run on the finalizer thread while mutators run.
 		 */
 		if (((NULL != classLoader->sharedLibraries)
 		&& (0 != pool_numElements(classLoader->sharedLibraries)))
+		|| (_extensions->deferClassLoaderFree)
 		|| (_extensions->fvtest_forceFinalizeClassLoaders)) {
 			/* Enqueue the class loader for the finalizer */
 			buffer.add(env, classLoader);
 			classLoader->gcFlags |= J9_GC_CLASS_LOADER_ENQ_UNLOAD;
 			*finalizationRequired = true;
+			_lastDeferredClassLoaderCount += 1;
 		} else {
 			/* Add the classLoader to the list of classLoaders to be unloaded by cleanUpClassLoadersEnd */
 			classLoader->unloadLink = *unloadLink;
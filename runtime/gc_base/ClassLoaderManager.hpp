@@ -56,6 +56,8 @@ private:
 	uintptr_t _undeadSegmentsTotalSize;
 	uintptr_t _lastUnloadNumOfClassLoaders;  /**< number of class loaders last seen during a dynamic class unloading pass */
 	uintptr_t _lastUnloadNumOfAnonymousClasses; /**< number of anonymous classes last seen during a dynamic class unloading pass */
+	uintptr_t _lastDeferredClassLoaderCount; /**< number of dead class loaders handed to the finalizer thread by the last cleanUpClassLoaders */
+	volatile uintptr_t _deferredClassLoaderFreeTime; /**< microseconds the finalizer thread spent freeing class loaders since the time was last taken */
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 	MM_GlobalCollector *_globalCollector; /**< Pointer to the global collector.  Used for yielding */
 	J9ClassLoader *_classLoaders; /**< Linked list of classloaders */
@@ -75,6 +77,8 @@ public:
 		,_undeadSegmentsTotalSize(0)
 		,_lastUnloadNumOfClassLoaders(0)
 		,_lastUnloadNumOfAnonymousClasses(0)
+		,_lastDeferredClassLoaderCount(0)
+		,_deferredClassLoaderFreeTime(0)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		,_globalCollector(globalCollector)
 		,_classLoaders(NULL)
@@ -125,6 +129,24 @@ public:
 	 */
 	void setLastUnloadNumOfAnonymousClasses();
 
+	/**
+	 * Returns the number of dead class loaders that the last cleanUpClassLoaders left to the finalizer
+	 * thread to free, either because they have shared libraries to unload or because of -Xgc:deferClassLoaderFree
+	 */
+	uintptr_t getLastDeferredClassLoaderCount() { return _lastDeferredClassLoaderCount; }
+
+	/**
+	 * Add to the time the finalizer thread spent freeing class loaders outside of the GC pause
+	 * @param freeTime the time in microseconds
+	 */
+	void addDeferredClassLoaderFreeTime(uintptr_t freeTime);
+
+	/**
+	 * Returns the time in microseconds the finalizer thread spent freeing class loaders since the
+	 * previous call, and resets it
+	 */
+	uintptr_t takeDeferredClassLoaderFreeTime();
+
 	/**
 	 * Perform initial cleanup for classloader unloading.  The current thread has exclusive access.
 	 * The J9AccClassDying bit is set and J9HOOK_VM_CLASS_UNLOAD is triggered for each class that will be unloaded.
@@ -416,7 +416,16 @@ process_classloader(J9VMThread *vmThread, J9ClassLoader *classLoader)
 
 	fns->internalEnterVMFromJNI(vmThread);
 	Assert_MM_true(NULL == classLoader->classSegments);
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	U_64 startTime = j9time_hires_clock();
+#endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 	fns->freeClassLoader(classLoader, vm, vmThread, JNI_FALSE);
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	/* reported by the next classunload-info verbose GC record, as this time is not spent in a GC pause */
+	U_64 freeTime = j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+	MM_GCExtensions::getExtensions(vm)->classLoaderManager->addDeferredClassLoaderFreeTime((uintptr_t)freeTime);
+#endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 	fns->internalReleaseVMAccess(vmThread);
 
 	fns->internalEnterVMFromJNI(vmThread);
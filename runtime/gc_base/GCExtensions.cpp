@@ -37,6 +37,8 @@
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
  #include  "IdleGCManager.hpp"
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
+#include "MemoryPressureTrimmer.hpp"
+#include "ReferenceClassStats.hpp"
 #include "MemorySpace.hpp"
 #include "MemorySubSpace.hpp"
 #include "StandardAccessBarrier.hpp"
@@ -184,6 +186,23 @@ MM_GCExtensions::tearDown(MM_EnvironmentBase *env)
 	}
 #endif /* defined(OMR_GC_IDLE_HEAP_MANAGER) */
 
+	if (NULL != memoryPressureTrimmer) {
+		memoryPressureTrimmer->kill(env);
+		memoryPressureTrimmer = NULL;
+	}
+
+	if (NULL != referenceClassStats) {
+		referenceClassStats->kill(env);
+		referenceClassStats = NULL;
+	}
+
+#if defined(J9VM_OPT_JFR)
+	if (NULL != jfrReferenceClassStats) {
+		jfrReferenceClassStats->kill(env);
+		jfrReferenceClassStats = NULL;
+	}
+#endif /* defined(J9VM_OPT_JFR) */
+
 	MM_GCExtensionsBase::tearDown(env);
 }
 
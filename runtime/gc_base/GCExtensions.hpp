@@ -73,6 +73,8 @@ class MM_ReferenceObjectList;
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 class MM_IdleGCManager;
 #endif
+class MM_MemoryPressureTrimmer;
+class MM_ReferenceClassStats;
 
 #define DEFAULT_SURVIVOR_MINIMUM_FREESIZE 	2048
 #define DEFAULT_SURVIVOR_THRESHOLD 			512
@@ -142,6 +144,7 @@ public:
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 	bool fvtest_forceFinalizeClassLoaders;
+	bool deferClassLoaderFree; /**< run freeClassLoader() for dead class loaders on the finalizer thread instead of inside the GC pause (gencon only); finding dead loaders and the class unload hooks stay in the pause */
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
 	uintptr_t maxSoftReferenceAge; /**< The fixed age specified as the soft reference threshold which acts as our baseline for the dynamicMaxSoftReferenceAge */
@@ -171,6 +174,15 @@ public:
 	
 	uintptr_t objectListFragmentCount; /**< the size of Local Object Buffer(per gc thread), used by referenceObjectBuffer, UnfinalizedObjectBuffer */
 
+#if defined(J9VM_OPT_JFR)
+	uintptr_t jfrAllocationSamplingInterval; /**< number of bytes allocated by a thread between two JFR ObjectAllocationSample events; UDATA_MAX disables the event */
+	volatile bool _jfrAllocationSamplingEnabled; /**< set while a JFR recording records ObjectAllocationSample events from the allocation sampling path */
+	bool _jfrOwnsAllocationSamplingInterval; /**< set if the allocation sampling interval was set by JFR (rather than JVMTI) and should be reset when JFR stops */
+	uintptr_t jfrAllocationSampleRate; /**< maximum number of JFR ObjectAllocationSample events per second; 0 records every sample */
+	J9JFRThrottle _jfrAllocationSampleThrottle; /**< throttler state limiting the ObjectAllocationSample events to jfrAllocationSampleRate per second */
+#endif /* defined(J9VM_OPT_JFR) */
+	uintptr_t verboseAsyncBufferSize; /**< size of the ring buffer used to write verbosegc files from a background thread; 0 writes them on the reporting thread */
+
 	MM_Wildcard* numaCommonThreadClassNamePatterns; /**< A linked list of thread class names which should be associated with the common context */
 
 	class UserSpecifiedParameters {
@@ -226,6 +238,16 @@ public:
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 	MM_IdleGCManager* idleGCManager; /**< Manager which registers for VM Runtime State notification & manages free heap on notification */
 #endif
+	MM_MemoryPressureTrimmer *memoryPressureTrimmer; /**< releases free tenure pages while the cgroup is under memory pressure */
+	bool memoryPressureTrim; /**< set by -Xgc:memoryPressureTrim to release free heap while the cgroup is under memory pressure */
+	uintptr_t memoryPressureTrimInterval; /**< minimum time in ms between two reads of the cgroup memory pressure */
+	uintptr_t memoryPressureTrimThreshold; /**< memory stall percentage (memory.pressure "some avg10") that triggers trimming */
+	uintptr_t memoryPressureTrimMaxSize; /**< maximum bytes released by one trim */
+	MM_ReferenceClassStats *referenceClassStats; /**< per class counts of the reference objects processed in the current cycle, or NULL if not enabled */
+#if defined(J9VM_OPT_JFR)
+	MM_ReferenceClassStats *jfrReferenceClassStats; /**< per class counts of the reference objects processed since the last JFR report, or NULL if not enabled */
+#endif /* defined(J9VM_OPT_JFR) */
+	bool referenceClassStatistics; /**< set by -Xgc:referenceClassStatistics to count processed reference objects per class */
 
 	double maxRAMPercent; /**< Value of -XX:MaxRAMPercentage specified by the user */
 	double initialRAMPercent; /**< Value of -XX:InitialRAMPercentage specified by the user */
@@ -401,6 +423,9 @@ public:
 		, _classUnloadingAnonymousClassWeight(1.0)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		, _stringTableListToTreeThreshold(1024)
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+		, deferClassLoaderFree(false)
+#endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		, maxSoftReferenceAge(32)
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMainPriority(J9THREAD_PRIORITY_NORMAL)
@@ -412,6 +437,14 @@ public:
 #endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
 		, unfinalizedObjectLists(NULL)
 		, objectListFragmentCount(0)
+#if defined(J9VM_OPT_JFR)
+		, jfrAllocationSamplingInterval(512 * 1024) /* default is 512 KiB, same as the JVMTI SampledObjectAlloc default */
+		, _jfrAllocationSamplingEnabled(false)
+		, _jfrOwnsAllocationSamplingInterval(false)
+		, jfrAllocationSampleRate(150) /* default is 150 events per second, same as the JDK default.jfc */
+		, _jfrAllocationSampleThrottle()
+#endif /* defined(J9VM_OPT_JFR) */
+		, verboseAsyncBufferSize(0)
 		, numaCommonThreadClassNamePatterns(NULL)
 		, userSpecifiedParameters()
 		, tlhMaximumSizeSpecified(false)
@@ -424,6 +457,16 @@ public:
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
 		, idleGCManager(NULL)
 #endif
+		, memoryPressureTrimmer(NULL)
+		, memoryPressureTrim(false)
+		, memoryPressureTrimInterval(1000)
+		, memoryPressureTrimThreshold(10)
+		, memoryPressureTrimMaxSize(64 * 1024 * 1024)
+		, referenceClassStats(NULL)
+#if defined(J9VM_OPT_JFR)
+		, jfrReferenceClassStats(NULL)
+#endif /* defined(J9VM_OPT_JFR) */
+		, referenceClassStatistics(false)
 		, maxRAMPercent(-1.0) /* this would get overwritten by user specified value */
 		, initialRAMPercent(0.0) /* this would get overwritten by user specified value */
 		, minimumFreeSizeForSurvivor(DEFAULT_SURVIVOR_MINIMUM_FREESIZE)
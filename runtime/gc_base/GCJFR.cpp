@@ -30,9 +30,16 @@
 #include "mmomrhook.h"
 #include "modronapi.hpp"
 
+#include "GCExtensions.hpp"
+#include "JFRThrottler.hpp"
+#include "ReferenceClassStats.hpp"
+
 #define BEFORE_GC 0
 #define AFTER_GC 1
 
+static void jfrSetAllocationSamplingInterval(J9JavaVM *vm, UDATA samplingInterval);
+static void jfrReportReferenceClassStats(OMR_VMThread *omrVMThread);
+
 /**
  * Register GC-related JFR hooks.
  *
@@ -49,6 +56,7 @@ jfrRegisterGCHooks(J9JavaVM *vm)
 {
 	J9HookInterface** gcOmrHooks = vm->memoryManagerFunctions->j9gc_get_omr_hook_interface(vm->omrVM);
 	J9HookInterface** gcPrivateHooks = vm->memoryManagerFunctions->j9gc_get_private_hook_interface(vm);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
 
 	if ((*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, jfrGCCycleStartHook, OMR_GET_CALLSITE(), NULL)) {
 		return -1;
@@ -64,10 +72,74 @@ jfrRegisterGCHooks(J9JavaVM *vm)
 	if ((*gcPrivateHooks)->J9HookRegisterWithCallSite(gcPrivateHooks, J9HOOK_MM_PRIVATE_GC_POST_CYCLE_END, jfrPrivateGCEndHook, OMR_GET_CALLSITE(), NULL)) {
 		return -1;
 	}
+	/*
+	 * ObjectAllocationSample events are recorded directly from the allocation sampling path rather than through
+	 * J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING. That hook is disabled at bootstrap unless it was reserved, and reserving it
+	 * disables safepoint OSR, which the JFR event does not need: it only walks the stack and runs no Java code.
+	 * So a recording started at any time, from the command line, jcmd or the API, gets the events.
+	 */
+	if (UDATA_MAX != extensions->jfrAllocationSamplingInterval) {
+		/*
+		 * Samples are taken on the existing TLH sampling path, so allocations between two samples cost nothing extra.
+		 * If a JVMTI agent already set the sampling interval, JFR samples at the agent's interval instead.
+		 */
+		if (UDATA_MAX == extensions->objectSamplingBytesGranularity) {
+			jfrSetAllocationSamplingInterval(vm, extensions->jfrAllocationSamplingInterval);
+			extensions->_jfrOwnsAllocationSamplingInterval = true;
+		}
+		/* Start the new recording without history from an earlier one */
+		VM_JFRThrottler::reset(&extensions->_jfrAllocationSampleThrottle, extensions->jfrAllocationSampleRate);
+		extensions->_jfrAllocationSamplingEnabled = true;
+	}
 
 	return 0;
 }
 
+/**
+ * Set the allocation sampling interval, which may be done before the current thread is attached to the VM.
+ *
+ * @param vm[in] The Java VM
+ * @param samplingInterval[in] The allocation sampling interval
+ */
+static void
+jfrSetAllocationSamplingInterval(J9JavaVM *vm, UDATA samplingInterval)
+{
+	if (NULL != vm->internalVMFunctions->currentVMThread(vm)) {
+		j9gc_set_allocation_sampling_interval(vm, samplingInterval);
+	} else {
+		/* Without a current thread only record the interval; it takes effect when the allocation threshold next changes */
+		MM_GCExtensions::getExtensions(vm)->objectSamplingBytesGranularity = samplingInterval;
+	}
+}
+
+/**
+ * Called from the allocation sampling path for each sampled object while a JFR recording is running.
+ *
+ * This function emits the ObjectAllocationSample JFR event for the sampled object,
+ * unless the sample is dropped to keep within the configured event rate.
+ *
+ * @param currentThread[in] the allocating thread
+ * @param clazz[in] the class of the sampled object
+ * @param objectSize[in] the size of the sampled object in bytes
+ */
+void
+jfrObjectAllocationSampled(J9VMThread *currentThread, J9Class *clazz, UDATA objectSize)
+{
+	J9JavaVM *javaVM = currentThread->javaVM;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(javaVM);
+
+	/*
+	 * A sample stands for the bytes allocated since the previous sample, or for the sampled object if it is larger.
+	 * A recorded sample also stands for the bytes of the samples dropped by the throttler since the last recorded one,
+	 * so the weights of the events add up to the bytes allocated. Dropped samples cost no stack walk or buffer space.
+	 */
+	UDATA weight = OMR_MAX(extensions->objectSamplingBytesGranularity, objectSize);
+	UDATA recordedWeight = 0;
+	if (VM_JFRThrottler::sample(javaVM, &extensions->_jfrAllocationSampleThrottle, weight, &recordedWeight)) {
+		javaVM->internalVMFunctions->jfrObjectAllocationSample(currentThread, clazz, recordedWeight);
+	}
+}
+
 /**
  * JFR GC Hook corresponding to public OMR cycle start trigger.
  *
@@ -139,7 +211,32 @@ jfrPrivateGCEndHook(J9HookInterface **hook, UDATA eventNum, void *eventData, voi
 	vmFuncs->jfrGarbageCollection(omrVMThread);
 	/* Emit heap summary with gcWhenID = AfterGC */
 	vmFuncs->jfrGCHeapSummary(omrVMThread, AFTER_GC);
+	jfrReportReferenceClassStats(omrVMThread);
+}
 
+/**
+ * Emit a ReferenceClassStatistics event for each class of reference objects processed since the last report,
+ * if reference class statistics are enabled, and clear the counts.
+ * The classes which did not fit in the table have no class to report and are left out.
+ *
+ * @param omrVMThread[in] the omr VM thread
+ */
+static void
+jfrReportReferenceClassStats(OMR_VMThread *omrVMThread)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(omrVMThread);
+	MM_ReferenceClassStats *stats = extensions->jfrReferenceClassStats;
+
+	if ((NULL != stats) && stats->isCollecting()) {
+		J9InternalVMFunctions *vmFuncs = extensions->getJavaVM()->internalVMFunctions;
+		for (UDATA i = 0; i < stats->getTableSize(); i++) {
+			MM_ReferenceClassStats::Entry *entry = stats->getTableEntry(i);
+			if ((NULL != entry->_clazz) && (0 != entry->_discovered)) {
+				vmFuncs->jfrReferenceClassStatistics(omrVMThread, entry->_clazz, entry->_discovered, entry->_cleared, entry->_enqueued);
+			}
+		}
+		stats->clear();
+	}
 }
 
 /**
@@ -155,10 +252,20 @@ jfrDeregisterGCHooks(J9JavaVM *vm)
 {
 	J9HookInterface** gcOmrHooks = vm->memoryManagerFunctions->j9gc_get_omr_hook_interface(vm->omrVM);
 	J9HookInterface** gcPrivateHooks = vm->memoryManagerFunctions->j9gc_get_private_hook_interface(vm);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
 
 	(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, jfrGCCycleStartHook, NULL);
 	(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_END, jfrPublicGCEndHook, NULL);
 	(*gcPrivateHooks)->J9HookUnregister(gcPrivateHooks, J9HOOK_MM_PRIVATE_GC_POST_CYCLE_END, jfrPrivateGCEndHook, NULL);
+	extensions->_jfrAllocationSamplingEnabled = false;
+
+	/* Stop sampling unless a JVMTI agent has changed the interval since JFR set it */
+	if (extensions->_jfrOwnsAllocationSamplingInterval) {
+		if (extensions->jfrAllocationSamplingInterval == extensions->objectSamplingBytesGranularity) {
+			jfrSetAllocationSamplingInterval(vm, UDATA_MAX);
+		}
+		extensions->_jfrOwnsAllocationSamplingInterval = false;
+	}
 }
 
 #endif /* J9VM_OPT_JFR */
@@ -84,6 +84,18 @@ jfrPublicGCEndHook(J9HookInterface **hook, UDATA eventNum, void *eventData, void
 void
 jfrPrivateGCEndHook(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 
+/**
+ * Record a sampled object allocation while a JFR recording is running.
+ *
+ * This function emits the ObjectAllocationSample event for the sampled object.
+ *
+ * @param currentThread[in] the allocating thread
+ * @param clazz[in] the class of the sampled object
+ * @param objectSize[in] the size of the sampled object in bytes
+ */
+void
+jfrObjectAllocationSampled(J9VMThread *currentThread, J9Class *clazz, UDATA objectSize);
+
 /**
  * Deregister GC-related JFR hooks.
  *
@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "j9port.h"
+#include "mmomrhook.h"
+#include "ModronAssertions.h"
+
+#include <string.h>
+
+#include "MemoryPressureTrimmer.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "Heap.hpp"
+#include "HeapLinkedFreeHeader.hpp"
+#include "HeapMemoryPoolIterator.hpp"
+#include "Math.hpp"
+#include "MemoryPool.hpp"
+#include "MemorySpace.hpp"
+#include "MemorySubSpace.hpp"
+
+/* memory usage, as a percentage of the cgroup memory limit, above which the cgroup is considered under pressure */
+#define MEMORY_PRESSURE_TRIM_USAGE_PERCENT 90
+
+MM_MemoryPressureTrimmer *
+MM_MemoryPressureTrimmer::newInstance(MM_EnvironmentBase *env)
+{
+	MM_MemoryPressureTrimmer *trimmer = (MM_MemoryPressureTrimmer *)env->getForge()->allocate(sizeof(MM_MemoryPressureTrimmer), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != trimmer) {
+		new(trimmer) MM_MemoryPressureTrimmer(env);
+		if (!trimmer->initialize(env)) {
+			trimmer->kill(env);
+			trimmer = NULL;
+		}
+	}
+	return trimmer;
+}
+
+void
+MM_MemoryPressureTrimmer::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+void
+MM_MemoryPressureTrimmer::tearDown(MM_EnvironmentBase *env)
+{
+	J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(MM_GCExtensions::getExtensions(env)->omrHookInterface);
+	(*mmOmrHooks)->J9HookUnregister(mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, memoryPressureTrimmerCycleStartHook, this);
+	(*mmOmrHooks)->J9HookUnregister(mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_END, memoryPressureTrimmerCycleEndHook, this);
+}
+
+bool
+MM_MemoryPressureTrimmer::initialize(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	OMRPORT_ACCESS_FROM_OMRVM(env->getOmrVM());
+
+	if (!initializeCgroupPaths(env)) {
+		return false;
+	}
+
+	if ((OMR_CGROUP_SUBSYSTEM_MEMORY == omrsysinfo_cgroup_are_subsystems_enabled(OMR_CGROUP_SUBSYSTEM_MEMORY)) && omrsysinfo_cgroup_is_memlimit_set()) {
+		/* usablePhysicalMemory is the cgroup memory limit when one is set */
+		_memoryLimit = extensions->usablePhysicalMemory;
+	}
+
+	J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(extensions->omrHookInterface);
+	if (0 != (*mmOmrHooks)->J9HookRegisterWithCallSite(mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, memoryPressureTrimmerCycleStartHook, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+	if (0 != (*mmOmrHooks)->J9HookRegisterWithCallSite(mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_END, memoryPressureTrimmerCycleEndHook, OMR_GET_CALLSITE(), this)) {
+		return false;
+	}
+	return true;
+}
+
+bool
+MM_MemoryPressureTrimmer::initializeCgroupPaths(MM_EnvironmentBase *env)
+{
+#if defined(LINUX)
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	char buffer[MEMORY_PRESSURE_TRIM_PATH_MAX];
+
+	/* the cgroup v2 hierarchy is reported as "0::<path>" */
+	if (!readCgroupFile(env, "/proc/self/cgroup", buffer, sizeof(buffer))) {
+		return false;
+	}
+	char *cgroupPath = strstr(buffer, "0::/");
+	if ((NULL == cgroupPath) || ((cgroupPath != buffer) && ('\n' != cgroupPath[-1]))) {
+		return false;
+	}
+	cgroupPath += strlen("0::");
+	char *end = strchr(cgroupPath, '\n');
+	if (NULL != end) {
+		*end = '\0';
+	}
+	if (0 == strcmp(cgroupPath, "/")) {
+		/* the process is at the root of its cgroup namespace, as in a container */
+		cgroupPath[0] = '\0';
+	}
+
+	j9str_printf(_pressurePath, sizeof(_pressurePath), "/sys/fs/cgroup%s/memory.pressure", cgroupPath);
+	j9str_printf(_currentPath, sizeof(_currentPath), "/sys/fs/cgroup%s/memory.current", cgroupPath);
+
+	/* pressure stall information may be disabled in the kernel */
+	return readCgroupFile(env, _pressurePath, buffer, sizeof(buffer));
+#else /* defined(LINUX) */
+	return false;
+#endif /* defined(LINUX) */
+}
+
+bool
+MM_MemoryPressureTrimmer::readCgroupFile(MM_EnvironmentBase *env, const char *path, char *buffer, uintptr_t bufferSize)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	intptr_t bytesRead = -1;
+	intptr_t fd = j9file_open(path, EsOpenRead, 0);
+	if (-1 != fd) {
+		bytesRead = j9file_read(fd, buffer, bufferSize - 1);
+		j9file_close(fd);
+	}
+	if (bytesRead <= 0) {
+		return false;
+	}
+	buffer[bytesRead] = '\0';
+	return true;
+}
+
+bool
+MM_MemoryPressureTrimmer::isUnderMemoryPressure(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	char buffer[256];
+
+	/* "some avg10=<percent>" is the share of the last 10 seconds in which at least one task stalled on memory */
+	if (readCgroupFile(env, _pressurePath, buffer, sizeof(buffer))) {
+		const char *avg10 = strstr(buffer, "some avg10=");
+		if (NULL != avg10) {
+			uintptr_t stallPercent = 0;
+			for (avg10 += strlen("some avg10="); ('0' <= *avg10) && ('9' >= *avg10); avg10++) {
+				stallPercent = (stallPercent * 10) + (uintptr_t)(*avg10 - '0');
+			}
+			if (stallPercent >= extensions->memoryPressureTrimThreshold) {
+				return true;
+			}
+		}
+	}
+
+	if ((0 != _memoryLimit) && readCgroupFile(env, _currentPath, buffer, sizeof(buffer))) {
+		uint64_t memoryCurrent = 0;
+		for (const char *digit = buffer; ('0' <= *digit) && ('9' >= *digit); digit++) {
+			memoryCurrent = (memoryCurrent * 10) + (uint64_t)(*digit - '0');
+		}
+		if (memoryCurrent >= ((_memoryLimit / 100) * MEMORY_PRESSURE_TRIM_USAGE_PERCENT)) {
+			return true;
+		}
+	}
+
+	return false;
+}
+
+bool
+MM_MemoryPressureTrimmer::releaseFreeEntryPages(MM_EnvironmentBase *env, MM_MemoryPool *pool, uintptr_t lowAddress, uintptr_t highAddress, uintptr_t *budget)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	uintptr_t pageSize = extensions->heap->getPageSize();
+
+	MM_HeapLinkedFreeHeader *freeEntry = (MM_HeapLinkedFreeHeader *)pool->getFirstFreeStartingAddr(env);
+	while (NULL != freeEntry) {
+		uintptr_t entryStart = (uintptr_t)freeEntry;
+		uintptr_t entryEnd = entryStart + freeEntry->getSize();
+		if ((entryEnd > lowAddress) && (entryStart < highAddress)) {
+			/* the free entry header must stay intact */
+			uintptr_t startAddr = MM_Math::roundToCeiling(pageSize, OMR_MAX(entryStart + sizeof(MM_HeapLinkedFreeHeader), lowAddress));
+			uintptr_t endAddr = MM_Math::roundToFloor(pageSize, OMR_MIN(entryEnd, highAddress));
+			while (startAddr < endAddr) {
+				/* pages released by an earlier trim are still decommitted, skip them */
+				uintptr_t index = findReleasedRange(startAddr);
+				uintptr_t gapEnd = endAddr;
+				if (index < _releasedRangeCount) {
+					if (_releasedRanges[index].start <= startAddr) {
+						startAddr = _releasedRanges[index].end;
+						continue;
+					}
+					gapEnd = OMR_MIN(gapEnd, _releasedRanges[index].start);
+				}
+				uintptr_t decommitSize = OMR_MIN(gapEnd - startAddr, MM_Math::roundToFloor(pageSize, *budget));
+				if ((0 == decommitSize) || (MEMORY_PRESSURE_TRIM_MAX_RANGES == _releasedRangeCount)) {
+					/* out of budget, or no room to remember another range */
+					_resumeAddress = startAddr;
+					return true;
+				}
+				if (extensions->heap->decommitMemory((void *)startAddr, decommitSize, (void *)startAddr, (void *)(startAddr + decommitSize))) {
+					*budget -= decommitSize;
+					_releasedBytes += decommitSize;
+					addReleasedRange(startAddr, startAddr + decommitSize);
+				}
+				startAddr += decommitSize;
+			}
+		}
+		freeEntry = (MM_HeapLinkedFreeHeader *)pool->getNextFreeStartingAddr(env, freeEntry);
+	}
+	return false;
+}
+
+uintptr_t
+MM_MemoryPressureTrimmer::findReleasedRange(uintptr_t address)
+{
+	uintptr_t low = 0;
+	uintptr_t high = _releasedRangeCount;
+	while (low < high) {
+		uintptr_t middle = low + ((high - low) / 2);
+		if (_releasedRanges[middle].end <= address) {
+			low = middle + 1;
+		} else {
+			high = middle;
+		}
+	}
+	return low;
+}
+
+void
+MM_MemoryPressureTrimmer::addReleasedRange(uintptr_t start, uintptr_t end)
+{
+	uintptr_t index = findReleasedRange(start);
+	bool mergeBelow = (0 < index) && (_releasedRanges[index - 1].end == start);
+	bool mergeAbove = (index < _releasedRangeCount) && (_releasedRanges[index].start == end);
+
+	if (mergeBelow && mergeAbove) {
+		_releasedRanges[index - 1].end = _releasedRanges[index].end;
+		memmove(&_releasedRanges[index], &_releasedRanges[index + 1], (_releasedRangeCount - index - 1) * sizeof(ReleasedRange));
+		_releasedRangeCount -= 1;
+	} else if (mergeBelow) {
+		_releasedRanges[index - 1].end = end;
+	} else if (mergeAbove) {
+		_releasedRanges[index].start = start;
+	} else {
+		Assert_MM_true(_releasedRangeCount < MEMORY_PRESSURE_TRIM_MAX_RANGES);
+		memmove(&_releasedRanges[index + 1], &_releasedRanges[index], (_releasedRangeCount - index) * sizeof(ReleasedRange));
+		_releasedRanges[index].start = start;
+		_releasedRanges[index].end = end;
+		_releasedRangeCount += 1;
+	}
+}
+
+void
+MM_MemoryPressureTrimmer::pruneReleasedRanges(MM_EnvironmentBase *env)
+{
+	if (0 == _releasedRangeCount) {
+		return;
+	}
+
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	uintptr_t pageSize = extensions->heap->getPageSize();
+	MM_MemorySubSpace *tenureMemorySubspace = extensions->heap->getDefaultMemorySpace()->getTenureMemorySubSpace();
+	uintptr_t prunedCount = 0;
+
+	/* keep the parts of the released ranges that are still inside the pages of a free entry */
+	MM_MemoryPool *memoryPool = NULL;
+	MM_HeapMemoryPoolIterator poolIterator(env, extensions->heap, tenureMemorySubspace);
+	while (NULL != (memoryPool = poolIterator.nextPoolInSubSpace())) {
+		MM_HeapLinkedFreeHeader *freeEntry = (MM_HeapLinkedFreeHeader *)memoryPool->getFirstFreeStartingAddr(env);
+		while (NULL != freeEntry) {
+			uintptr_t entryStart = (uintptr_t)freeEntry;
+			uintptr_t lowAddress = MM_Math::roundToCeiling(pageSize, entryStart + sizeof(MM_HeapLinkedFreeHeader));
+			uintptr_t highAddress = MM_Math::roundToFloor(pageSize, entryStart + freeEntry->getSize());
+			for (uintptr_t index = findReleasedRange(lowAddress); (index < _releasedRangeCount) && (_releasedRanges[index].start < highAddress); index++) {
+				if (MEMORY_PRESSURE_TRIM_MAX_RANGES == prunedCount) {
+					/* forgetting a range only means its pages may be released and counted again */
+					break;
+				}
+				_prunedRanges[prunedCount].start = OMR_MAX(_releasedRanges[index].start, lowAddress);
+				_prunedRanges[prunedCount].end = OMR_MIN(_releasedRanges[index].end, highAddress);
+				prunedCount += 1;
+			}
+			freeEntry = (MM_HeapLinkedFreeHeader *)memoryPool->getNextFreeStartingAddr(env, freeEntry);
+		}
+	}
+
+	/* the free entries are not necessarily visited in address order */
+	for (uintptr_t i = 1; i < prunedCount; i++) {
+		ReleasedRange range = _prunedRanges[i];
+		uintptr_t j = i;
+		while ((0 < j) && (_prunedRanges[j - 1].start > range.start)) {
+			_prunedRanges[j] = _prunedRanges[j - 1];
+			j -= 1;
+		}
+		_prunedRanges[j] = range;
+	}
+	memcpy(_releasedRanges, _prunedRanges, prunedCount * sizeof(ReleasedRange));
+	_releasedRangeCount = prunedCount;
+}
+
+void
+MM_MemoryPressureTrimmer::trimIfUnderPressure(MM_EnvironmentBase *env)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	/* tenure may have been allocated into during this cycle, e.g. by objects promoted by a scavenge */
+	pruneReleasedRanges(env);
+
+	uint64_t now = j9time_current_time_millis();
+	if ((now - _lastCheckTime) < extensions->memoryPressureTrimInterval) {
+		return;
+	}
+	_lastCheckTime = now;
+
+	if (!isUnderMemoryPressure(env)) {
+		return;
+	}
+
+	MM_MemorySubSpace *tenureMemorySubspace = extensions->heap->getDefaultMemorySpace()->getTenureMemorySubSpace();
+	uintptr_t budget = extensions->memoryPressureTrimMaxSize;
+	uintptr_t resumeAddress = _resumeAddress;
+	bool budgetExhausted = false;
+
+	/* continue above the point where the previous trim stopped, then wrap around to the bottom of tenure */
+	MM_MemoryPool *memoryPool = NULL;
+	MM_HeapMemoryPoolIterator poolIterator(env, extensions->heap, tenureMemorySubspace);
+	while (!budgetExhausted && (NULL != (memoryPool = poolIterator.nextPoolInSubSpace()))) {
+		budgetExhausted = releaseFreeEntryPages(env, memoryPool, resumeAddress, UDATA_MAX, &budget);
+	}
+	if ((0 != resumeAddress) && !budgetExhausted) {
+		MM_HeapMemoryPoolIterator wrapIterator(env, extensions->heap, tenureMemorySubspace);
+		while (!budgetExhausted && (NULL != (memoryPool = wrapIterator.nextPoolInSubSpace()))) {
+			budgetExhausted = releaseFreeEntryPages(env, memoryPool, 0, resumeAddress, &budget);
+		}
+	}
+	if (!budgetExhausted) {
+		_resumeAddress = 0;
+	}
+}
+
+extern "C" {
+void
+memoryPressureTrimmerCycleStartHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	MM_GCCycleStartEvent *event = (MM_GCCycleStartEvent *)eventData;
+	MM_MemoryPressureTrimmer *trimmer = (MM_MemoryPressureTrimmer *)userData;
+
+	trimmer->pruneReleasedRanges(MM_EnvironmentBase::getEnvironment(event->omrVMThread));
+}
+
+void
+memoryPressureTrimmerCycleEndHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	MM_GCCycleEndEvent *event = (MM_GCCycleEndEvent *)eventData;
+	MM_MemoryPressureTrimmer *trimmer = (MM_MemoryPressureTrimmer *)userData;
+
+	trimmer->trimIfUnderPressure(MM_EnvironmentBase::getEnvironment(event->omrVMThread));
+}
+} /* extern "C" */
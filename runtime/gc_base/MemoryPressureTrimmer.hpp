@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+#if !defined(MEMORYPRESSURETRIMMER_HPP_)
+#define MEMORYPRESSURETRIMMER_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "BaseNonVirtual.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+class MM_MemoryPool;
+
+#define MEMORY_PRESSURE_TRIM_PATH_MAX 512
+#define MEMORY_PRESSURE_TRIM_MAX_RANGES 256
+
+extern "C" {
+/**
+ * Hook "J9HOOK_MM_OMR_GC_CYCLE_START" callback function
+ * Forgets released pages that were allocated since the previous GC cycle
+ */
+void memoryPressureTrimmerCycleStartHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+/**
+ * Hook "J9HOOK_MM_OMR_GC_CYCLE_END" callback function
+ * Releases free tenure pages to the operating system if the container is under memory pressure
+ */
+void memoryPressureTrimmerCycleEndHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+}
+
+/**
+ * Gradually returns free java heap memory to the operating system while the cgroup (v2) the JVM runs in
+ * is under memory pressure. At the end of a GC cycle, at most once per memoryPressureTrimInterval, the
+ * pressure stall information (memory.pressure) and the current usage (memory.current) of the cgroup are
+ * read. If either is above its threshold, the pages inside the free tenure entries are decommitted,
+ * up to memoryPressureTrimMaxSize bytes per trim. Each trim resumes where the previous one stopped,
+ * so that sustained pressure walks the whole tenure space instead of releasing the same entries again.
+ * The released page ranges are remembered, so that pages which are still decommitted are neither released
+ * nor counted again once the trim wraps around. A range is forgotten as soon as it is no longer inside a
+ * free entry at the start or end of a GC cycle, since its pages are committed again when allocated into.
+ */
+class MM_MemoryPressureTrimmer : public MM_BaseNonVirtual
+{
+private:
+	/**
+	 * Page aligned range of free tenure memory that has been returned to the operating system
+	 */
+	struct ReleasedRange {
+		uintptr_t start;
+		uintptr_t end;
+	};
+
+	J9JavaVM *_javaVM;
+	char _pressurePath[MEMORY_PRESSURE_TRIM_PATH_MAX]; /**< path of the memory.pressure file of the cgroup */
+	char _currentPath[MEMORY_PRESSURE_TRIM_PATH_MAX]; /**< path of the memory.current file of the cgroup */
+	uint64_t _memoryLimit; /**< memory limit of the cgroup, or 0 if there is none */
+	uint64_t _lastCheckTime; /**< time in ms when the cgroup files were last read */
+	uintptr_t _resumeAddress; /**< free entries below this address were handled by the previous trim */
+	volatile uint64_t _releasedBytes; /**< total bytes returned to the operating system */
+	ReleasedRange _releasedRanges[MEMORY_PRESSURE_TRIM_MAX_RANGES]; /**< released ranges that are still free, sorted by address */
+	uintptr_t _releasedRangeCount; /**< number of entries used in _releasedRanges */
+	ReleasedRange _prunedRanges[MEMORY_PRESSURE_TRIM_MAX_RANGES]; /**< scratch space for pruneReleasedRanges() */
+
+protected:
+public:
+
+private:
+	/**
+	 * Find the cgroup v2 directory of the process and build the paths of its memory files.
+	 * @return true if the memory.pressure file of the cgroup can be read
+	 */
+	bool initializeCgroupPaths(MM_EnvironmentBase *env);
+	/**
+	 * Read a cgroup file into buffer, NUL terminated.
+	 * @return true if anything was read
+	 */
+	bool readCgroupFile(MM_EnvironmentBase *env, const char *path, char *buffer, uintptr_t bufferSize);
+	/**
+	 * @return true if the "some avg10" memory stall percentage or the memory usage of the cgroup is above its threshold
+	 */
+	bool isUnderMemoryPressure(MM_EnvironmentBase *env);
+	/**
+	 * Decommit the pages inside the free entries of pool that lie between lowAddress and highAddress.
+	 * If the budget runs out, the address to resume from is saved for the next trim.
+	 * @param[in,out] budget bytes still allowed to be released; decremented by the bytes released
+	 * @return true if the budget was exhausted before the end of the range
+	 */
+	bool releaseFreeEntryPages(MM_EnvironmentBase *env, MM_MemoryPool *pool, uintptr_t lowAddress, uintptr_t highAddress, uintptr_t *budget);
+	/**
+	 * @return the index of the first released range that ends above address, or _releasedRangeCount if there is none
+	 */
+	uintptr_t findReleasedRange(uintptr_t address);
+	/**
+	 * Remember that the pages between start and end were released, merging with the adjacent ranges.
+	 * There must be room for a new range.
+	 */
+	void addReleasedRange(uintptr_t start, uintptr_t end);
+
+protected:
+	/**
+	 * Initialize the object of this class and registers for the GC cycle end hook
+	 */
+	bool initialize(MM_EnvironmentBase *env);
+	/**
+	 * cleanup the object & unregisters registered hook
+	 */
+	void tearDown(MM_EnvironmentBase *env);
+
+public:
+	/**
+	 * creates the object
+	 * @return the new trimmer, or NULL if it could not be created or the cgroup memory files are not available
+	 */
+	static MM_MemoryPressureTrimmer *newInstance(MM_EnvironmentBase *env);
+	/**
+	 * deallocates the object
+	 */
+	void kill(MM_EnvironmentBase *env);
+	/**
+	 * Called at the end of every GC cycle, while the free lists are stable.
+	 * Releases free tenure pages if the cgroup is under memory pressure.
+	 */
+	void trimIfUnderPressure(MM_EnvironmentBase *env);
+	/**
+	 * Called at the start and end of every GC cycle, while the free lists are stable.
+	 * Drops the parts of the released ranges that are no longer inside a free tenure entry.
+	 */
+	void pruneReleasedRanges(MM_EnvironmentBase *env);
+	/**
+	 * @return total bytes of free heap returned to the operating system so far
+	 */
+	uint64_t getReleasedBytes() { return _releasedBytes; }
+
+	/**
+	 * construct the object
+	 */
+	MM_MemoryPressureTrimmer(MM_EnvironmentBase *env)
+		: MM_BaseNonVirtual()
+		, _javaVM((J9JavaVM *)env->getOmrVM()->_language_vm)
+		, _memoryLimit(0)
+		, _lastCheckTime(0)
+		, _resumeAddress(0)
+		, _releasedBytes(0)
+		, _releasedRangeCount(0)
+	{
+		_typeId = __FUNCTION__;
+		_pressurePath[0] = '\0';
+		_currentPath[0] = '\0';
+	}
+};
+
+#endif /* MEMORYPRESSURETRIMMER_HPP_ */
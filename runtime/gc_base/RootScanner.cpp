@@ -685,6 +685,15 @@ MM_RootScanner::scanStringTable(MM_EnvironmentBase *env)
 		}
 	}
 
+	if (_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+		/* The lock-free lookup index, like the cache, is a subset of the string table entries */
+		j9object_t *lookupIndex = stringTable->getLookupIndex();
+		uintptr_t lookupIndexSlotCount = stringTable->getLookupIndexSlotCount();
+		for (uintptr_t lookupIndexSlot = 0; lookupIndexSlot < lookupIndexSlotCount; lookupIndexSlot++) {
+			doStringCacheTableSlot(&lookupIndex[lookupIndexSlot]);
+		}
+	}
+
 	reportScanningEnded(RootScannerEntity_StringTable);
 }
 
@@ -81,6 +81,20 @@ MM_StringTable::initialize(MM_EnvironmentBase *env)
 	}
 	memset(_mutex, 0, sizeof(omrthread_monitor_t) * _tableCount);
 
+	_lookupIndex = (j9object_t *)j9mem_allocate_memory(sizeof(j9object_t) * getLookupIndexSlotCount(), OMRMEM_CATEGORY_MM);
+	if (NULL == _lookupIndex) {
+		return false;
+	}
+	memset(_lookupIndex, 0, sizeof(j9object_t) * getLookupIndexSlotCount());
+
+	_lookupIndexHash = (U_32 *)j9mem_allocate_memory(sizeof(U_32) * getLookupIndexSlotCount(), OMRMEM_CATEGORY_MM);
+	if (NULL == _lookupIndexHash) {
+		return false;
+	}
+	memset(_lookupIndexHash, 0, sizeof(U_32) * getLookupIndexSlotCount());
+
+	_javaVM = javaVM;
+
 	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
 		_table[tableIndex] = collisionResilientHashTableNew(OMRPORT_FROM_J9PORT(javaVM->portLibrary), J9_GET_CALLSITE(), initialSize, sizeof(UDATA), 0, OMRMEM_CATEGORY_MM, listToTreeThreshold, stringHashFn, stringComparatorFn, NULL, javaVM);
 		if (NULL == _table[tableIndex]) {
@@ -123,6 +137,16 @@ MM_StringTable::tearDown(MM_EnvironmentBase *env)
 		j9mem_free_memory(_mutex);
 		_mutex = NULL;
 	}
+
+	if (NULL != _lookupIndex) {
+		j9mem_free_memory(_lookupIndex);
+		_lookupIndex = NULL;
+	}
+
+	if (NULL != _lookupIndexHash) {
+		j9mem_free_memory(_lookupIndexHash);
+		_lookupIndexHash = NULL;
+	}
 }
 
 
@@ -178,6 +202,99 @@ MM_StringTable::hashAtPut(UDATA tableIndex, j9object_t string)
 }
 
 
+/**
+ * The lookup index of a sub-table is a small open-addressing table holding a subset of the sub-table entries.
+ * Slots are only written while holding the sub-table lock, but are read without any locking: a reader may
+ * observe a stale, overwritten or cleared slot, which only results in falling back to the locked lookup.
+ * The GC treats the lookup index like the intern cache, i.e. it updates moved strings and clears dead ones.
+ */
+j9object_t
+MM_StringTable::lookupIndexFind(UDATA tableIndex, U_32 hash, void *key)
+{
+	UDATA base = tableIndex * lookupIndexSize;
+	UDATA position = getLookupIndexPosition(hash);
+
+	for (UDATA probe = 0; probe < lookupIndexProbeLimit; probe++) {
+		UDATA slot = base + ((position + probe) & (lookupIndexSize - 1));
+		j9object_t candidate = *(j9object_t volatile *)&_lookupIndex[slot];
+		/* The hash is only a filter; stringHashEqualFn() decides, and rejects strings that are about to be cleared */
+		if ((NULL != candidate) && (hash == _lookupIndexHash[slot]) && stringHashEqualFn(&candidate, key, _javaVM)) {
+			return candidate;
+		}
+	}
+
+	return NULL;
+}
+
+void
+MM_StringTable::lookupIndexPublish(UDATA tableIndex, U_32 hash, j9object_t string)
+{
+	UDATA base = tableIndex * lookupIndexSize;
+	UDATA position = getLookupIndexPosition(hash);
+	UDATA victim = base + position;
+
+	for (UDATA probe = 0; probe < lookupIndexProbeLimit; probe++) {
+		UDATA slot = base + ((position + probe) & (lookupIndexSize - 1));
+		j9object_t entry = _lookupIndex[slot];
+		if (string == entry) {
+			return;
+		}
+		if (NULL == entry) {
+			victim = slot;
+			break;
+		}
+	}
+
+	/* If all probed slots are in use, the first one is evicted; the evicted string stays in the sub-table */
+	_lookupIndexHash[victim] = hash;
+	/* Make the String fields visible before the String can be found by other threads */
+	MM_AtomicOperations::writeBarrier();
+	*(j9object_t volatile *)&_lookupIndex[victim] = string;
+}
+
+j9object_t
+MM_StringTable::find(UDATA tableIndex, U_32 hash, j9object_t string)
+{
+	j9object_t result = lookupIndexFind(tableIndex, hash, &string);
+
+	if (NULL == result) {
+		lockTable(tableIndex);
+		result = hashAt(tableIndex, string);
+		if (NULL != result) {
+			lookupIndexPublish(tableIndex, hash, result);
+		}
+		unlockTable(tableIndex);
+	}
+
+	return result;
+}
+
+j9object_t
+MM_StringTable::findUTF8(UDATA tableIndex, U_8 *utf8Data, UDATA utf8Length, U_32 hash)
+{
+	stringTableUTF8Query query;
+	void *ptr;
+
+	query.utf8Data = utf8Data;
+	query.utf8Length = utf8Length;
+	query.hash = hash;
+	ptr = &query;
+	ptr = (void *) ((UDATA) ptr | TYPE_UTF8); /* Least significant bit indicates that this is a pointer to a stringTableUTF8Query */
+
+	j9object_t result = lookupIndexFind(tableIndex, hash, &ptr);
+
+	if (NULL == result) {
+		lockTable(tableIndex);
+		result = hashAt(tableIndex, (j9object_t)ptr);
+		if (NULL != result) {
+			lookupIndexPublish(tableIndex, hash, result);
+		}
+		unlockTable(tableIndex);
+	}
+
+	return result;
+}
+
 j9object_t
 MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
 {
@@ -194,6 +311,10 @@ MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
 		internedString = hashAtPut(tableIndex, string);
 	}
 
+	if (NULL != internedString) {
+		lookupIndexPublish(tableIndex, (U_32)hash, internedString);
+	}
+
 	unlockTable(tableIndex);
 
 	if (NULL == internedString) {
@@ -648,9 +769,7 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 
 		UDATA tableIndex = stringTable->getTableIndex(hash);
 
-		stringTable->lockTable(tableIndex);
-		result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
-		stringTable->unlockTable(tableIndex);
+		result = stringTable->findUTF8(tableIndex, data, length, (U_32)hash);
 	}
 
 	if (NULL == result) {
@@ -1000,10 +1119,8 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 
 	UDATA tableIndex = stringTable->getTableIndex(hash);
 
-	stringTable->lockTable(tableIndex);
-	internedString = stringTable->hashAt(tableIndex, sourceString);
-	stringTable->unlockTable(tableIndex);
-	
+	internedString = stringTable->find(tableIndex, (U_32)hash, sourceString);
+
 	if (NULL == internedString) {
 		j9object_t newString = NULL;
 
@@ -43,12 +43,45 @@ private:
 
     ddr_constant(cacheSize, 511);
 	j9object_t _cache[cacheSize];   /**< interned string table cash */
+
+	ddr_constant(lookupIndexBits, 10);
+	ddr_constant(lookupIndexSize, 1 << lookupIndexBits);
+	ddr_constant(lookupIndexProbeLimit, 4);
+	j9object_t *_lookupIndex;       /**< lookupIndexSize slots per hash sub-table, read without locking; a subset of the sub-table entries */
+	U_32 *_lookupIndexHash;         /**< hash of the string most recently published into the corresponding _lookupIndex slot */
+	J9JavaVM *_javaVM;
 public:
 
 private:
 	bool initialize(MM_EnvironmentBase *env);
 	void tearDown(MM_EnvironmentBase *env);
 
+	/**
+	 * @param hash hash value of a string
+	 * @return position of the first slot to probe within the lookup index of a sub-table
+	 */
+	UDATA getLookupIndexPosition(U_32 hash) {
+		/* Multiplicative hashing, so that the position does not correlate with the sub-table index */
+		return (UDATA)((U_32)(hash * 0x9E3779B1U) >> (32 - lookupIndexBits));
+	}
+
+	/**
+	 * Probe the lookup index of a sub-table without holding the sub-table lock.
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 * @param hash hash value of the string
+	 * @param key pointer to a String object or pointer to a low-tagged pointer to a stringTableUTF8Query
+	 * @return the live interned string equal to key, or NULL if it is not in the lookup index
+	 */
+	j9object_t lookupIndexFind(UDATA tableIndex, U_32 hash, void *key);
+
+	/**
+	 * Make an interned string visible to lookupIndexFind(). The caller must hold the sub-table lock.
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 * @param hash hash value of the string
+	 * @param string interned string present in the sub-table
+	 */
+	void lookupIndexPublish(UDATA tableIndex, U_32 hash, j9object_t string);
+
 public:
 
 	/**
@@ -65,6 +98,15 @@ public:
 	 */
 	j9object_t *getStringInternCache(UDATA hash) { return &_cache[hash % cacheSize]; }
 
+	/**
+	 * @return the address of the lookup indexes of all sub-tables (represented as an array)
+	 */
+	j9object_t *getLookupIndex() { return _lookupIndex; }
+	/**
+	 * @return number of slots in the lookup indexes of all sub-tables
+	 */
+	UDATA getLookupIndexSlotCount() { return _tableCount * lookupIndexSize; }
+
 	/**
 	 * @return hash sub-table count
 	 */
@@ -105,6 +147,25 @@ public:
 	 */
 	j9object_t hashAtPut(UDATA tableIndex, j9object_t string);
 
+	/**
+	 * Find a string in the string table. The lookup index is probed first without locking;
+	 * the sub-table lock is only taken if the string is not found there.
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 * @param hash hash value of the string
+	 * @param string pointer to a String object
+	 * @return pointer to the interned String object or NULL if the string is not interned
+	 */
+	j9object_t find(UDATA tableIndex, U_32 hash, j9object_t string);
+	/**
+	 * Find a UTF8 string in the string table. Same locking behaviour as find().
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 * @param utf8Data pointer to UTF8 string data
+	 * @param utf8Length length of the string
+	 * @param hash hash value of the string
+	 * @return pointer to the interned String object or NULL if the string is not interned
+	 */
+	j9object_t findUTF8(UDATA tableIndex, U_8 *utf8Data, UDATA utf8Length, U_32 hash);
+
 	/*
 	 * Check if string is already in the string table and add if not added
 	 * @param vmThread pointer to J9VMThread struct
@@ -136,7 +197,10 @@ public:
 		MM_BaseVirtual(),
 		_tableCount(tableCount),
 		_table(NULL),
-		_mutex(NULL)
+		_mutex(NULL),
+		_lookupIndex(NULL),
+		_lookupIndexHash(NULL),
+		_javaVM(NULL)
 	{
 		_typeId = __FUNCTION__;
 	}
@@ -321,6 +321,8 @@ extern BOOLEAN j9gc_stringHashEqualFn (void *leftKey, void *rightKey, void *user
 extern J9_CFUNC UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread* vmThread);
 extern J9_CFUNC BOOLEAN j9gc_get_cumulative_bytes_allocated_by_thread(J9VMThread *vmThread, UDATA *cumulativeValue);
 extern J9_CFUNC BOOLEAN j9gc_get_cumulative_class_unloading_stats(J9VMThread *vmThread, UDATA *anonymous, UDATA *classes, UDATA *classloaders);
+extern J9_CFUNC UDATA j9gc_get_compact_group_stats(J9VMThread *vmThread, J9GCCompactGroupStats *stats, UDATA maxCount);
+extern J9_CFUNC U_64 j9gc_get_memory_pressure_released_bytes(J9JavaVM *javaVM);
 
 #ifdef __cplusplus
 } /* extern "C" */
@@ -54,6 +54,11 @@
 #include "VMInterface.hpp"
 #include "VMThreadListIterator.hpp"
 #include "VMAccess.hpp"
+#include "MemoryPressureTrimmer.hpp"
+#if defined(J9VM_GC_VLHGC)
+#include "CompactGroupPersistentStats.hpp"
+#include "EnvironmentVLHGC.hpp"
+#endif /* defined(J9VM_GC_VLHGC) */
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 #include "Configuration.hpp"
@@ -1286,6 +1291,48 @@ j9gc_get_cumulative_class_unloading_stats(J9VMThread *vmThread, UDATA *anonymous
 	return true;
 }
 
+/**
+ * Report the occupancy and survival rates of every balanced GC compact group.
+ * The region walk is not synchronized with allocation, so this must be called while the heap
+ * is stable, e.g. from a GC end hook.
+ *
+ * @param[in] vmThread the current thread
+ * @param[out] stats array receiving one entry per compact group; may be NULL if maxCount is 0
+ * @param[in] maxCount the number of entries stats can hold
+ * @return the number of compact groups (which may exceed maxCount), or 0 if the balanced GC policy is not in use
+ */
+UDATA
+j9gc_get_compact_group_stats(J9VMThread *vmThread, J9GCCompactGroupStats *stats, UDATA maxCount)
+{
+	UDATA compactGroupCount = 0;
+#if defined(J9VM_GC_VLHGC)
+	MM_EnvironmentVLHGC *env = MM_EnvironmentVLHGC::getEnvironment(vmThread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	if (extensions->isVLHGC() && (NULL != extensions->compactGroupPersistentStats)) {
+		compactGroupCount = MM_CompactGroupPersistentStats::exportCompactGroupStats(env, extensions->compactGroupPersistentStats, stats, maxCount);
+	}
+#endif /* defined(J9VM_GC_VLHGC) */
+	return compactGroupCount;
+}
+
+/**
+ * Report how much free heap has been returned to the operating system because the cgroup
+ * of the process was under memory pressure (-Xgc:memoryPressureTrim).
+ *
+ * @param[in] javaVM the J9JavaVM
+ * @return the total bytes released, or 0 if memory pressure trimming is not active
+ */
+U_64
+j9gc_get_memory_pressure_released_bytes(J9JavaVM *javaVM)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(javaVM);
+	U_64 releasedBytes = 0;
+	if (NULL != extensions->memoryPressureTrimmer) {
+		releasedBytes = extensions->memoryPressureTrimmer->getReleasedBytes();
+	}
+	return releasedBytes;
+}
+
 /**
  * Return information about the total CPU time consumed by GC threads, as well
  * as the number of GC threads. The time for the main and worker threads is
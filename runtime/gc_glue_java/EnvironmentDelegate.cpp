@@ -30,6 +30,7 @@
 #include "ContinuationObjectBufferRealtime.hpp"
 #include "ContinuationObjectBufferStandard.hpp"
 #include "ContinuationObjectBufferVLHGC.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectBufferRealtime.hpp"
 #include "ReferenceObjectBufferStandard.hpp"
 #include "ReferenceObjectBufferVLHGC.hpp"
@@ -101,6 +102,10 @@ MM_EnvironmentDelegate::tearDown()
 		_gcEnv._continuationObjectBuffer->kill(_env);
 		_gcEnv._continuationObjectBuffer = NULL;
 	}
+	if (NULL != _gcEnv._referenceClassStats) {
+		_gcEnv._referenceClassStats->kill(_env);
+		_gcEnv._referenceClassStats = NULL;
+	}
 }
 
 OMR_VMThread *
@@ -42,6 +42,7 @@ typedef struct GCmovedObjectHashCode {
 
 class MM_EnvironmentBase;
 class MM_ContinuationObjectBuffer;
+class MM_ReferenceClassStats;
 class MM_ReferenceObjectBuffer;
 class MM_UnfinalizedObjectBuffer;
 
@@ -61,6 +62,7 @@ public:
 	MM_ReferenceObjectBuffer *_referenceObjectBuffer; /**< The thread-specific buffer of recently discovered reference objects */
 	MM_UnfinalizedObjectBuffer *_unfinalizedObjectBuffer; /**< The thread-specific buffer of recently allocated unfinalized objects */
 	MM_ContinuationObjectBuffer *_continuationObjectBuffer; /**< The thread-specific buffer of recently allocated continuation objects */
+	MM_ReferenceClassStats *_referenceClassStats; /**< The thread-specific per class reference object counts, allocated on first use */
 
 	struct GCmovedObjectHashCode movedObjectHashCodeCache; /**< Structure to aid on object movement and hashing */
 #if defined(J9VM_ENV_DATA64)
@@ -75,6 +77,7 @@ public:
 		:_referenceObjectBuffer(NULL)
 		,_unfinalizedObjectBuffer(NULL)
 		,_continuationObjectBuffer(NULL)
+		,_referenceClassStats(NULL)
 #if defined(J9VM_ENV_DATA64)
 		,_shouldFixupDataAddrForContiguous(false)
 #endif /* defined(J9VM_ENV_DATA64) */
@@ -54,6 +54,7 @@
 #include "ContinuationObjectList.hpp"
 #include "VMHelpers.hpp"
 #include "ParallelDispatcher.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectBuffer.hpp"
 #include "RootScanner.hpp"
 #include "StackSlotValidator.hpp"
@@ -526,10 +527,12 @@ MM_MarkingDelegate::processReferenceList(MM_EnvironmentBase *env, MM_HeapRegionD
 	bool finalizationRequired = false;
 #endif /* defined(J9VM_GC_FINALIZATION) */
 
+	MM_ReferenceClassStatsCounter classStats(env);
 	omrobjectptr_t referenceObj = headOfList;
 	while (NULL != referenceObj) {
 		objectsVisited += 1;
 		referenceStats->_candidates += 1;
+		classStats.discovered(referenceObj);
 
 		Assert_MM_true(_markingScheme->isMarked(referenceObj));
 		Assert_MM_true(objectsVisited < maxObjects);
@@ -557,6 +560,7 @@ MM_MarkingDelegate::processReferenceList(MM_EnvironmentBase *env, MM_HeapRegionD
 				J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj) = GC_ObjectModel::REF_STATE_CLEARED;
 
 				referenceStats->_cleared += 1;
+				classStats.cleared();
 				referentSlotObject.writeReferenceToSlot(NULL);
 
 				/* Check if the reference has a queue */
@@ -564,6 +568,7 @@ MM_MarkingDelegate::processReferenceList(MM_EnvironmentBase *env, MM_HeapRegionD
 					/* Reference object can be enqueued onto the finalizable list */
 					buffer.add(env, referenceObj);
 					referenceStats->_enqueued += 1;
+					classStats.enqueued();
 #if defined(J9VM_GC_FINALIZATION)
 					/* inform global GC if finalization is required */
 					if (!finalizationRequired) {
@@ -580,6 +585,7 @@ MM_MarkingDelegate::processReferenceList(MM_EnvironmentBase *env, MM_HeapRegionD
 	}
 
 	buffer.flush(env);
+	classStats.flush();
 }
 
 bool
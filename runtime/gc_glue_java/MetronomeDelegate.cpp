@@ -55,6 +55,7 @@
 #include "RealtimeMarkingSchemeRootClearer.hpp"
 #include "RealtimeMarkTask.hpp"
 #include "RealtimeRootScanner.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectBufferRealtime.hpp"
 #include "ReferenceObjectList.hpp"
 #include "Scheduler.hpp"
@@ -1356,11 +1357,13 @@ MM_MetronomeDelegate::processReferenceList(MM_EnvironmentRealtime *env, MM_HeapR
 #if defined(J9VM_GC_FINALIZATION)
 	GC_FinalizableReferenceBuffer buffer(_extensions);
 #endif /* J9VM_GC_FINALIZATION */
+	MM_ReferenceClassStatsCounter classStats(env);
 	J9Object* referenceObj = headOfList;
 
 	while (NULL != referenceObj) {
 		objectsVisited += 1;
 		referenceStats->_candidates += 1;
+		classStats.discovered(referenceObj);
 
 		Assert_MM_true(_markingScheme->isMarked(referenceObj));
 
@@ -1384,6 +1387,7 @@ MM_MetronomeDelegate::processReferenceList(MM_EnvironmentRealtime *env, MM_HeapR
 				J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj) = GC_ObjectModel::REF_STATE_CLEARED;
 
 				referenceStats->_cleared += 1;
+				classStats.cleared();
 				referentSlotObject.writeReferenceToSlot(NULL);
 #if defined(J9VM_GC_FINALIZATION)
 				/* Check if the reference has a queue */
@@ -1391,6 +1395,7 @@ MM_MetronomeDelegate::processReferenceList(MM_EnvironmentRealtime *env, MM_HeapR
 					/* Reference object can be enqueued onto the finalizable list */
 					buffer.add(env, referenceObj);
 					referenceStats->_enqueued += 1;
+					classStats.enqueued();
 					/* Flag for the finalizer */
 					_finalizationRequired = true;
 				}
@@ -1406,6 +1411,7 @@ MM_MetronomeDelegate::processReferenceList(MM_EnvironmentRealtime *env, MM_HeapR
 #if defined(J9VM_GC_FINALIZATION)
 	buffer.flush(env);
 #endif /* J9VM_GC_FINALIZATION */
+	classStats.flush();
 }
 
 /**
@@ -33,6 +33,7 @@
 #include "HeapRegionIteratorStandard.hpp"
 #include "ObjectAccessBarrier.hpp"
 #include "ParallelDispatcher.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectBuffer.hpp"
 #include "ReferenceObjectList.hpp"
 #include "ReferenceStats.hpp"
@@ -56,10 +57,12 @@ MM_ScavengerRootClearer::processReferenceList(MM_EnvironmentStandard *env, MM_He
 	GC_FinalizableReferenceBuffer buffer(_extensions);
 	bool const compressed = _extensions->compressObjectReferences();
 
+	MM_ReferenceClassStatsCounter classStats(env);
 	omrobjectptr_t referenceObj = headOfList;
 	while (NULL != referenceObj) {
 		objectsVisited += 1;
 		referenceStats->_candidates += 1;
+		classStats.discovered(referenceObj);
 
 		Assert_MM_true(objectsVisited < maxObjects);
 		Assert_GC_true_with_message(env, _scavenger->isObjectInNewSpace(referenceObj), "Scavenged reference object not in new space: %p\n", referenceObj);
@@ -81,6 +84,7 @@ MM_ScavengerRootClearer::processReferenceList(MM_EnvironmentStandard *env, MM_He
 				J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj) = GC_ObjectModel::REF_STATE_CLEARED;
 
 				referenceStats->_cleared += 1;
+				classStats.cleared();
 				referentSlotObject.writeReferenceToSlot(NULL);
 
 				/* Check if the reference has a queue */
@@ -88,6 +92,7 @@ MM_ScavengerRootClearer::processReferenceList(MM_EnvironmentStandard *env, MM_He
 					/* Reference object can be enqueued onto the finalizable list */
 					buffer.add(env, referenceObj);
 					referenceStats->_enqueued += 1;
+					classStats.enqueued();
 					_scavenger->getDelegate()->setFinalizationRequired(true);
 				}
 			}
@@ -96,6 +101,7 @@ MM_ScavengerRootClearer::processReferenceList(MM_EnvironmentStandard *env, MM_He
 		referenceObj = nextReferenceObj;
 	}
 	buffer.flush(env);
+	classStats.flush();
 }
 
 void
@@ -265,6 +265,18 @@ j9mm_initialize_object_descriptor(J9JavaVM *javaVM, J9MM_IterateObjectDescriptor
 jvmtiIterationControl
 j9mm_iterate_all_objects(J9JavaVM *vn, J9PortLibrary *portLibrary, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, void *userData), void *userData);
 
+/**
+ * Walk all objects for the given VM on the GC worker threads, call user provided function.
+ * The caller must hold exclusive VM access.
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param maxThreads The maximum number of threads to use, or 0 to use all the GC threads
+ * @param func The function to call on each object descriptor, concurrently from several threads.
+ * @param userData Pointer to storage for userData.
+ * @param threadsUsed[out] The number of threads used, workerIndex passed to func is less than this (may be NULL)
+ */
+jvmtiIterationControl
+j9mm_iterate_all_objects_parallel(J9VMThread *vmThread, J9PortLibrary *portLibrary, UDATA flags, UDATA maxThreads, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData), void *userData, UDATA *threadsUsed);
+
 /**
  * Walk all ownable synchronizer object, call user provided function.
  * @param flags The flags describing the walk (unused currently)
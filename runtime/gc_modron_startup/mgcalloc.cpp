@@ -39,6 +39,7 @@
 #include "AllocateDescription.hpp"
 #include "AtomicOperations.hpp"
 #include "EnvironmentBase.hpp"
+#include "GCJFR.hpp"
 #include "GlobalCollector.hpp"
 #include "IndexableObjectAllocationModel.hpp"
 #include "MemorySpace.hpp"
@@ -278,6 +279,13 @@ traceAllocateObject(J9VMThread *vmThread, J9Object * object, J9Class* clazz, uin
 			object,
 			clazz,
 			objSize);
+
+#if defined(J9VM_OPT_JFR)
+		/* JFR records the sample itself, so a recording needs neither the hook nor its reservation at bootstrap */
+		if (extensions->_jfrAllocationSamplingEnabled) {
+			jfrObjectAllocationSampled(vmThread, clazz, objSize);
+		}
+#endif /* defined(J9VM_OPT_JFR) */
 	}
 	return object;
 }
@@ -84,6 +84,8 @@
 #include "HeapRegionManager.hpp"
 #include "LargeObjectAllocateStats.hpp"
 #include "Math.hpp"
+#include "MemoryPressureTrimmer.hpp"
+#include "ReferenceClassStats.hpp"
 #include "MemorySpace.hpp"
 #include "MemorySubSpace.hpp"
 #include "ModronAssertions.h"
@@ -544,6 +546,38 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 	}
 #endif
 
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	if (gc_policy_gencon != extensions->configurationOptions._gcPolicy) {
+		/* Deferring the freeing of dead class loaders is only supported for gencon */
+		extensions->deferClassLoaderFree = false;
+	}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+	/* Like idle tuning, trimming is only done for gencon. The trimmer is not created (and the option has no effect)
+	 * if the cgroup v2 memory pressure of the process cannot be read.
+	 */
+	if (extensions->memoryPressureTrim && (gc_policy_gencon == extensions->configurationOptions._gcPolicy)) {
+		extensions->memoryPressureTrimmer = MM_MemoryPressureTrimmer::newInstance(&env);
+	}
+
+	if (extensions->referenceClassStatistics) {
+		extensions->referenceClassStats = MM_ReferenceClassStats::newInstance(&env);
+		if (NULL == extensions->referenceClassStats) {
+			goto error_no_memory;
+		}
+#if defined(J9VM_OPT_JFR)
+		/* JFR reports the counts once per cycle, while verbose GC reports (and clears) them after each phase */
+		extensions->jfrReferenceClassStats = MM_ReferenceClassStats::newInstance(&env);
+		if (NULL == extensions->jfrReferenceClassStats) {
+			goto error_no_memory;
+		}
+#endif /* defined(J9VM_OPT_JFR) */
+		J9HookInterface **mmOmrHooks = J9_HOOK_INTERFACE(extensions->omrHookInterface);
+		if (0 != (*mmOmrHooks)->J9HookRegisterWithCallSite(mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, referenceClassStatsCycleStartHook, OMR_GET_CALLSITE(), extensions->referenceClassStats)) {
+			goto error_no_memory;
+		}
+	}
+
 	return JNI_OK;
 
 error_no_memory:
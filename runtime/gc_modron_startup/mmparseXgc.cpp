@@ -1196,6 +1196,58 @@ j9gc_initialize_parse_gc_colon(J9JavaVM *javaVM, char **scan_start)
 		goto _exit;
 	}
 
+	if (try_scan(scan_start, "memoryPressureTrimInterval=")) {
+		if (!scan_udata_helper(javaVM, scan_start, &extensions->memoryPressureTrimInterval, "memoryPressureTrimInterval=")) {
+			goto _error;
+		}
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "memoryPressureTrimThreshold=")) {
+		if (!scan_udata_helper(javaVM, scan_start, &extensions->memoryPressureTrimThreshold, "memoryPressureTrimThreshold=")) {
+			goto _error;
+		}
+		if (extensions->memoryPressureTrimThreshold > 100) {
+			j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "memoryPressureTrimThreshold=", (UDATA)0, (UDATA)100);
+			goto _error;
+		}
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "memoryPressureTrimMaxSize=")) {
+		if (!scan_udata_memory_size_helper(javaVM, scan_start, &extensions->memoryPressureTrimMaxSize, "memoryPressureTrimMaxSize=")) {
+			goto _error;
+		}
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "memoryPressureTrim")) {
+		extensions->memoryPressureTrim = true;
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "noMemoryPressureTrim")) {
+		extensions->memoryPressureTrim = false;
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "verboseAsyncBufferSize=")) {
+		if (!scan_udata_memory_size_helper(javaVM, scan_start, &extensions->verboseAsyncBufferSize, "verboseAsyncBufferSize=")) {
+			goto _error;
+		}
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "referenceClassStatistics")) {
+		extensions->referenceClassStatistics = true;
+		goto _exit;
+	}
+
+	if (try_scan(scan_start, "noReferenceClassStatistics")) {
+		extensions->referenceClassStatistics = false;
+		goto _exit;
+	}
+
 #if defined(J9VM_GC_VLHGC) || defined(J9VM_GC_GENERATIONAL)
 	/* currently only used by VLHGC -- consider promoting if required for other policies */
 	if (try_scan(scan_start, "numa")) {
@@ -1397,6 +1449,16 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+
+		if (try_scan(&scan_start, "deferClassLoaderFree")) {
+			extensions->deferClassLoaderFree = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "noDeferClassLoaderFree")) {
+			extensions->deferClassLoaderFree = false;
+			continue;
+		}
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
 
@@ -1409,6 +1471,23 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+#if defined(J9VM_OPT_JFR)
+		if (try_scan(&scan_start, "jfrAllocationSamplingInterval=")) {
+			if (!scan_udata_memory_size_helper(vm, &scan_start, &extensions->jfrAllocationSamplingInterval, "jfrAllocationSamplingInterval=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "jfrAllocationSampleRate=")) {
+			if (!scan_udata_helper(vm, &scan_start, &extensions->jfrAllocationSampleRate, "jfrAllocationSampleRate=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+#endif /* defined(J9VM_OPT_JFR) */
+
 		if (try_scan(&scan_start, "allocationSamplingEnable")) {
 			extensions->doOutOfLineAllocationTrace = true;
 			continue;
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "ReferenceClassStats.hpp"
+
+#include "mmomrhook.h"
+
+#include "AtomicOperations.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "VerboseManagerBase.hpp"
+
+MM_ReferenceClassStats *
+MM_ReferenceClassStats::newInstance(MM_EnvironmentBase *env)
+{
+	MM_ReferenceClassStats *stats = (MM_ReferenceClassStats *)env->getForge()->allocate(sizeof(MM_ReferenceClassStats), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL != stats) {
+		new(stats) MM_ReferenceClassStats();
+	}
+	return stats;
+}
+
+void
+MM_ReferenceClassStats::kill(MM_EnvironmentBase *env)
+{
+	env->getForge()->free(this);
+}
+
+MM_ReferenceClassStats *
+MM_ReferenceClassStats::getThreadStats(MM_EnvironmentBase *env)
+{
+	MM_ReferenceClassStats *threadStats = NULL;
+	MM_ReferenceClassStats *globalStats = MM_GCExtensions::getExtensions(env)->referenceClassStats;
+	if ((NULL != globalStats) && globalStats->isCollecting()) {
+		GC_Environment *gcEnv = env->getGCEnvironment();
+		if (NULL == gcEnv->_referenceClassStats) {
+			/* allocated on first use, so that only the threads which process references pay for a table */
+			gcEnv->_referenceClassStats = newInstance(env);
+		}
+		threadStats = gcEnv->_referenceClassStats;
+	}
+	return threadStats;
+}
+
+void
+MM_ReferenceClassStats::flushThreadStats(MM_EnvironmentBase *env, MM_ReferenceClassStats *threadStats)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	extensions->referenceClassStats->merge(threadStats);
+#if defined(J9VM_OPT_JFR)
+	if (extensions->jfrReferenceClassStats->isCollecting()) {
+		extensions->jfrReferenceClassStats->merge(threadStats);
+	}
+#endif /* defined(J9VM_OPT_JFR) */
+	threadStats->clear();
+}
+
+void
+MM_ReferenceClassStats::clear()
+{
+	for (uintptr_t i = 0; i < REFERENCE_CLASS_STATS_TABLE_SIZE; i++) {
+		_entries[i]._clazz = NULL;
+		_entries[i]._discovered = 0;
+		_entries[i]._cleared = 0;
+		_entries[i]._enqueued = 0;
+	}
+	_other._clazz = NULL;
+	_other._discovered = 0;
+	_other._cleared = 0;
+	_other._enqueued = 0;
+}
+
+MM_ReferenceClassStats::Entry *
+MM_ReferenceClassStats::findEntry(J9Class *clazz, bool atomic)
+{
+	uintptr_t index = hash(clazz);
+	for (uintptr_t i = 0; i < REFERENCE_CLASS_STATS_TABLE_SIZE; i++) {
+		Entry *entry = &_entries[(index + i) % REFERENCE_CLASS_STATS_TABLE_SIZE];
+		J9Class *entryClass = entry->_clazz;
+		if (NULL == entryClass) {
+			if (atomic) {
+				entryClass = (J9Class *)MM_AtomicOperations::lockCompareExchange((volatile uintptr_t *)&entry->_clazz, (uintptr_t)NULL, (uintptr_t)clazz);
+			} else {
+				entry->_clazz = clazz;
+			}
+			if (NULL == entryClass) {
+				return entry;
+			}
+		}
+		if (clazz == entryClass) {
+			return entry;
+		}
+	}
+	return &_other;
+}
+
+MM_ReferenceClassStats::Entry *
+MM_ReferenceClassStats::getEntry(J9Class *clazz)
+{
+	return findEntry(clazz, false);
+}
+
+void
+MM_ReferenceClassStats::merge(MM_ReferenceClassStats *statsToMerge)
+{
+	for (uintptr_t i = 0; i <= REFERENCE_CLASS_STATS_TABLE_SIZE; i++) {
+		Entry *entryToMerge = (i < REFERENCE_CLASS_STATS_TABLE_SIZE) ? &statsToMerge->_entries[i] : &statsToMerge->_other;
+		if (0 != entryToMerge->_discovered) {
+			Entry *entry = (NULL != entryToMerge->_clazz) ? findEntry(entryToMerge->_clazz, true) : &_other;
+			MM_AtomicOperations::add(&entry->_discovered, entryToMerge->_discovered);
+			MM_AtomicOperations::add(&entry->_cleared, entryToMerge->_cleared);
+			MM_AtomicOperations::add(&entry->_enqueued, entryToMerge->_enqueued);
+		}
+	}
+}
+
+extern "C" {
+void
+referenceClassStatsCycleStartHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData)
+{
+	MM_GCCycleStartEvent *event = (MM_GCCycleStartEvent *)eventData;
+	MM_ReferenceClassStats *stats = (MM_ReferenceClassStats *)userData;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(event->omrVMThread);
+	MM_VerboseManagerBase *verboseGCManager = extensions->verboseGCManager;
+	bool collecting = (NULL != verboseGCManager) && (0 != verboseGCManager->countActiveOutputHandlers());
+
+#if defined(J9VM_OPT_JFR)
+	/* the JFR counts are reported and cleared at the end of the cycle, see jfrReportReferenceClassStats() */
+	J9JavaVM *javaVM = extensions->getJavaVM();
+	bool recording = (JNI_TRUE == javaVM->internalVMFunctions->isJFRRecordingStarted(javaVM));
+	if (!recording) {
+		extensions->jfrReferenceClassStats->clear();
+	}
+	extensions->jfrReferenceClassStats->setCollecting(recording);
+	collecting = collecting || recording;
+#endif /* defined(J9VM_OPT_JFR) */
+
+	stats->clear();
+	/* verbose GC and JFR can be enabled and disabled at run time, so this is decided again at the start of every cycle */
+	stats->setCollecting(collecting);
+}
+} /* extern "C" */
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Stats
+ */
+
+#if !defined(REFERENCECLASSSTATS_HPP_)
+#define REFERENCECLASSSTATS_HPP_
+
+#include "j9.h"
+#include "modron.h"
+#include "modronopt.h"
+
+#include "Base.hpp"
+#include "EnvironmentBase.hpp"
+
+#define REFERENCE_CLASS_STATS_TABLE_SIZE 128
+
+extern "C" {
+/**
+ * Hook "J9HOOK_MM_OMR_GC_CYCLE_START" callback function
+ * Clears the global reference class statistics, so that they only cover the current cycle, and decides
+ * whether they are collected in this cycle: only if verbose GC has an active output or a JFR recording is running
+ */
+void referenceClassStatsCycleStartHook(J9HookInterface **hook, uintptr_t eventNum, void *eventData, void *userData);
+}
+
+/**
+ * Per class counts of the reference objects (soft, weak and phantom) processed by the collector,
+ * enabled by -Xgc:referenceClassStatistics.
+ * Each GC thread counts into its own table while it processes a reference list, and adds its counts
+ * to the global table (MM_GCExtensions::referenceClassStats) at the end of the list.
+ * Classes which do not fit in a table are counted together.
+ * The counts are only collected in the cycles during which one of their consumers is enabled: verbose GC, which
+ * reports them after each phase, or a JFR recording, which gets them from a second global table at the end of
+ * every cycle (MM_GCExtensions::jfrReferenceClassStats).
+ * @ingroup GC_Stats
+ */
+class MM_ReferenceClassStats : public MM_Base
+{
+/* Data Members */
+public:
+	struct Entry {
+		J9Class *volatile _clazz; /**< the reference class, or NULL if the entry is unused */
+		volatile uintptr_t _discovered; /**< reference objects found on the reference lists */
+		volatile uintptr_t _cleared; /**< reference objects whose referent was cleared */
+		volatile uintptr_t _enqueued; /**< cleared reference objects which were enqueued */
+	};
+private:
+	Entry _entries[REFERENCE_CLASS_STATS_TABLE_SIZE];
+	Entry _other; /**< counts of the classes which did not fit in the table */
+	bool _collecting; /**< true if the counts are collected in the current cycle (only used in the global table) */
+
+/* Function Members */
+private:
+	MMINLINE uintptr_t hash(J9Class *clazz)
+	{
+		/* classes are aligned on J9_REQUIRED_CLASS_ALIGNMENT, so the low bits carry no information */
+		return ((uintptr_t)clazz / J9_REQUIRED_CLASS_ALIGNMENT) % REFERENCE_CLASS_STATS_TABLE_SIZE;
+	}
+	/**
+	 * Find the entry of clazz, claiming an unused one (atomically if requested) if the class has none yet.
+	 * @return the entry of clazz, or _other if the table is full
+	 */
+	Entry *findEntry(J9Class *clazz, bool atomic);
+
+public:
+	static MM_ReferenceClassStats *newInstance(MM_EnvironmentBase *env);
+	void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * @return the table of the calling GC thread, or NULL if reference class statistics are not enabled,
+	 * not collected in the current cycle (or the table could not be allocated)
+	 */
+	static MM_ReferenceClassStats *getThreadStats(MM_EnvironmentBase *env);
+	/**
+	 * Add the counts of the table of the calling GC thread to the global table, and clear it.
+	 * Several threads may flush at the same time.
+	 */
+	static void flushThreadStats(MM_EnvironmentBase *env, MM_ReferenceClassStats *threadStats);
+
+	void clear();
+
+	/**
+	 * Find the entry of clazz, claiming an unused one if the class has none yet.
+	 * Not thread safe, only used on the table of a single thread.
+	 * @return the entry of clazz, or the entry shared by the classes which do not fit in the table
+	 */
+	Entry *getEntry(J9Class *clazz);
+
+	/**
+	 * Add the counts of statsToMerge to the receiver, using atomic operations.
+	 */
+	void merge(MM_ReferenceClassStats *statsToMerge);
+
+	MMINLINE Entry *getTableEntry(uintptr_t index) { return &_entries[index]; }
+	MMINLINE uintptr_t getTableSize() { return REFERENCE_CLASS_STATS_TABLE_SIZE; }
+	MMINLINE Entry *getOtherEntry() { return &_other; }
+
+	MMINLINE bool isCollecting() { return _collecting; }
+	MMINLINE void setCollecting(bool collecting) { _collecting = collecting; }
+
+	MM_ReferenceClassStats()
+		: MM_Base()
+		, _collecting(false)
+	{
+		clear();
+	}
+};
+
+/**
+ * Counts the reference objects of one reference list into the table of the calling GC thread, if
+ * reference class statistics are collected in the current cycle. Used on the stack of processReferenceList:
+ * discovered() is called for every reference object on the list, cleared() and enqueued() for the last
+ * discovered one, and flush() at the end of the list.
+ * @ingroup GC_Stats
+ */
+class MM_ReferenceClassStatsCounter
+{
+/* Data Members */
+private:
+	MM_EnvironmentBase *_env;
+	MM_ReferenceClassStats *_threadStats; /**< table of the calling thread, or NULL if nothing is counted */
+	MM_ReferenceClassStats::Entry *_entry; /**< entry of the class of the last discovered reference object */
+
+/* Function Members */
+public:
+	MMINLINE void discovered(J9Object *referenceObj)
+	{
+		if (NULL != _threadStats) {
+			_entry = _threadStats->getEntry(J9GC_J9OBJECT_CLAZZ(referenceObj, _env));
+			_entry->_discovered += 1;
+		}
+	}
+
+	MMINLINE void cleared()
+	{
+		if (NULL != _entry) {
+			_entry->_cleared += 1;
+		}
+	}
+
+	MMINLINE void enqueued()
+	{
+		if (NULL != _entry) {
+			_entry->_enqueued += 1;
+		}
+	}
+
+	/**
+	 * Add the counts of the list to the global table.
+	 */
+	MMINLINE void flush()
+	{
+		if (NULL != _threadStats) {
+			MM_ReferenceClassStats::flushThreadStats(_env, _threadStats);
+			_entry = NULL;
+		}
+	}
+
+	MM_ReferenceClassStatsCounter(MM_EnvironmentBase *env)
+		: _env(env)
+		, _threadStats(MM_ReferenceClassStats::getThreadStats(env))
+		, _entry(NULL)
+	{
+	}
+};
+
+#endif /* REFERENCECLASSSTATS_HPP_ */
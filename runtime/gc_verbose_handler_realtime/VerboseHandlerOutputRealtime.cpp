@@ -280,6 +280,7 @@ MM_VerboseHandlerOutputRealtime::writeHeartbeatData(MM_EnvironmentBase* env, U_6
 		if (0 != _phantomReferenceClearCountTotal) {
 			writer->formatAndOutput(env, 1, "<references type=\"phantom\" cleared=\"%zu\" />", _phantomReferenceClearCountTotal);
 		}
+		MM_VerboseHandlerJava::outputReferenceClassInfo(_manager, env, 1);
 
 		if (0 != _finalizableCountTotal) {
 			writer->formatAndOutput(env, 1, "<finalization enqueued=\"%zu\" />", _finalizableCountTotal);
@@ -484,6 +485,7 @@ MM_VerboseHandlerOutputRealtime::handleEvent(MM_MetronomeSynchronousGCEndEvent*
 	if (0 != eventData->phantomReferenceClearCount) {
 		writer->formatAndOutput(env, 1, "<references type=\"phantom\" cleared=\"%zu\" />",eventData->phantomReferenceClearCount);
 	}
+	MM_VerboseHandlerJava::outputReferenceClassInfo(_manager, env, 1);
 
 	if (0 != eventData->finalizableCount) {
 		writer->formatAndOutput(env, 1,"<finalization enqueued=\"%zu\" />", eventData->finalizableCount);
@@ -26,6 +26,7 @@
 #include "mmhook.h"
 #include "gcutils.h"
 
+#include "ClassLoaderManager.hpp"
 #include "CollectionStatisticsStandard.hpp"
 #include "ConcurrentGCStats.hpp"
 #include "CycleState.hpp"
@@ -171,6 +172,7 @@ MM_VerboseHandlerOutputStandardJava::handleMarkEndInternal(MM_EnvironmentBase* e
 	outputReferenceInfo(env, 1, "soft", &markJavaStats->_softReferenceStats, extensions->getDynamicMaxSoftReferenceAge(), extensions->getMaxSoftReferenceAge());
 	outputReferenceInfo(env, 1, "weak", &markJavaStats->_weakReferenceStats, 0, 0);
 	outputReferenceInfo(env, 1, "phantom", &markJavaStats->_phantomReferenceStats, 0, 0);
+	MM_VerboseHandlerJava::outputReferenceClassInfo(_manager, env, 1);
 
 	outputStringConstantInfo(env, 1, markJavaStats->_stringConstantsCandidates, markJavaStats->_stringConstantsCleared);
 	outputMonitorReferenceInfo(env, 1, markJavaStats->_monitorReferenceCandidates, markJavaStats->_monitorReferenceCleared);
@@ -220,16 +222,24 @@ MM_VerboseHandlerOutputStandardJava::handleClassUnloadEnd(J9HookInterface** hook
 	U_64 scanTime    = j9time_hires_delta(classUnloadStats->_startScanTime, classUnloadStats->_endScanTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
 	U_64 postTime    = j9time_hires_delta(classUnloadStats->_startPostTime, classUnloadStats->_endPostTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
 	/* !!!Note: classUnloadStats->_classUnloadMutexQuiesceTime is in us already, do not convert it again!!!*/
+	/* class loaders left to the finalizer thread are freed after the pause, so their cost is not part of postms.
+	 * deferredfreems is the time the finalizer thread spent freeing them since the previous record.
+	 */
+	uintptr_t classLoadersDeferred = extensions->classLoaderManager->getLastDeferredClassLoaderCount();
+	U_64 deferredFreeTime = extensions->classLoaderManager->takeDeferredClassLoaderFreeTime();
 
 	writer->formatAndOutput(
 			env, 1,
 			"<classunload-info classloadercandidates=\"%zu\" classloadersunloaded=\"%zu\" classesunloaded=\"%zu\" anonymousclassesunloaded=\"%zu\""
-			" quiescems=\"%llu.%03.3llu\" setupms=\"%llu.%03.3llu\" scanms=\"%llu.%03.3llu\" postms=\"%llu.%03.3llu\" />",
+			" classloadersdeferred=\"%zu\""
+			" quiescems=\"%llu.%03.3llu\" setupms=\"%llu.%03.3llu\" scanms=\"%llu.%03.3llu\" postms=\"%llu.%03.3llu\" deferredfreems=\"%llu.%03.3llu\" />",
 			classUnloadStats->_classLoaderCandidates, classUnloadStats->_classLoaderUnloadedCount, classUnloadStats->_classesUnloadedCount, classUnloadStats->_anonymousClassesUnloadedCount,
+			classLoadersDeferred,
 			classUnloadStats->_classUnloadMutexQuiesceTime / 1000, classUnloadStats->_classUnloadMutexQuiesceTime % 1000,
 			setupTime / 1000, setupTime % 1000,
 			scanTime / 1000, scanTime % 1000,
-			postTime / 1000, postTime % 1000);
+			postTime / 1000, postTime % 1000,
+			deferredFreeTime / 1000, deferredFreeTime % 1000);
 
 	handleGCOPOuterStanzaEnd(env);
 	writer->flush(env);
@@ -254,6 +264,7 @@ MM_VerboseHandlerOutputStandardJava::handleScavengeEndInternal(MM_EnvironmentBas
 		outputReferenceInfo(env, 1, "soft", &scavengerJavaStats->_softReferenceStats, extensions->getDynamicMaxSoftReferenceAge(), extensions->getMaxSoftReferenceAge());
 		outputReferenceInfo(env, 1, "weak", &scavengerJavaStats->_weakReferenceStats, 0, 0);
 		outputReferenceInfo(env, 1, "phantom", &scavengerJavaStats->_phantomReferenceStats, 0, 0);
+		MM_VerboseHandlerJava::outputReferenceClassInfo(_manager, env, 1);
 
 		outputMonitorReferenceInfo(env, 1, scavengerJavaStats->_monitorReferenceCandidates, scavengerJavaStats->_monitorReferenceCleared);
 	}
@@ -33,6 +33,7 @@
 #include "VerboseWriterChain.hpp"
 #include "GCExtensions.hpp"
 #include "FinalizeListManager.hpp"
+#include "ReferenceClassStats.hpp"
 #include "VerboseBuffer.hpp"
 
 void
@@ -51,6 +52,43 @@ MM_VerboseHandlerJava::outputFinalizableInfo(MM_VerboseManager *manager, MM_Envi
 	}
 }
 
+void
+MM_VerboseHandlerJava::outputReferenceClassInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent)
+{
+	MM_ReferenceClassStats *referenceClassStats = MM_GCExtensions::getExtensions(env)->referenceClassStats;
+	if (NULL != referenceClassStats) {
+		PORT_ACCESS_FROM_ENVIRONMENT(env);
+		for (UDATA i = 0; i < referenceClassStats->getTableSize(); i++) {
+			MM_ReferenceClassStats::Entry *entry = referenceClassStats->getTableEntry(i);
+			if ((NULL != entry->_clazz) && (0 != entry->_discovered)) {
+				const char *referenceType = "weak";
+				switch (J9CLASS_FLAGS(entry->_clazz) & J9AccClassReferenceMask) {
+				case J9AccClassReferenceSoft:
+					referenceType = "soft";
+					break;
+				case J9AccClassReferencePhantom:
+					referenceType = "phantom";
+					break;
+				default:
+					break;
+				}
+				J9UTF8 *className = J9ROMCLASS_CLASSNAME(entry->_clazz->romClass);
+				char escapedClassName[256];
+				UDATA escapeConsumed = escapeXMLString(OMRPORT_FROM_J9PORT(PORTLIB), escapedClassName, sizeof(escapedClassName), (const char *)J9UTF8_DATA(className), J9UTF8_LENGTH(className));
+				const char *dots = (escapeConsumed < J9UTF8_LENGTH(className)) ? "..." : "";
+				manager->getWriterChain()->formatAndOutput(env, indent, "<reference-class type=\"%s\" class=\"%s%s\" discovered=\"%zu\" cleared=\"%zu\" enqueued=\"%zu\" />",
+						referenceType, escapedClassName, dots, entry->_discovered, entry->_cleared, entry->_enqueued);
+			}
+		}
+		MM_ReferenceClassStats::Entry *other = referenceClassStats->getOtherEntry();
+		if (0 != other->_discovered) {
+			manager->getWriterChain()->formatAndOutput(env, indent, "<reference-class class=\"(other)\" discovered=\"%zu\" cleared=\"%zu\" enqueued=\"%zu\" />",
+					other->_discovered, other->_cleared, other->_enqueued);
+		}
+		referenceClassStats->clear();
+	}
+}
+
 bool
 MM_VerboseHandlerJava::getThreadName(char *buf, UDATA bufLen, OMR_VMThread *omrThread)
 {
@@ -42,6 +42,7 @@
 #include "VerboseHandlerOutputVLHGC.hpp"
 #endif /* defined(J9VM_GC_VLHGC) */
 #include "VerboseWriter.hpp"
+#include "VerboseWriterAsync.hpp"
 #include "VerboseWriterChain.hpp"
 #include "VerboseWriterFileLoggingBuffered.hpp"
 #include "VerboseWriterFileLoggingSynchronous.hpp"
@@ -139,7 +140,9 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 
 	case VERBOSE_WRITER_FILE_LOGGING_SYNCHRONOUS:
 		writer = MM_VerboseWriterFileLoggingSynchronous::newInstance(env, this, filename, fileCount, iterations);
-		if (NULL == writer) {
+		if (NULL != writer) {
+			writer = wrapWithAsyncWriter(env, type, writer);
+		} else {
 			writer = findWriterInChain(VERBOSE_WRITER_STANDARD_STREAM);
 			if (NULL != writer) {
 				writer->isActive(true);
@@ -152,7 +155,9 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 
 	case VERBOSE_WRITER_FILE_LOGGING_BUFFERED:
 		writer = MM_VerboseWriterFileLoggingBuffered::newInstance(env, this, filename, fileCount, iterations);
-		if (NULL == writer) {
+		if (NULL != writer) {
+			writer = wrapWithAsyncWriter(env, type, writer);
+		} else {
 			writer = findWriterInChain(VERBOSE_WRITER_STANDARD_STREAM);
 			if (NULL != writer) {
 				writer->isActive(true);
@@ -170,6 +175,23 @@ MM_VerboseManagerJava::createWriter(MM_EnvironmentBase *env, WriterType type, ch
 	return writer;
 }
 
+MM_VerboseWriter *
+MM_VerboseManagerJava::wrapWithAsyncWriter(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *fileWriter)
+{
+	UDATA ringSize = MM_GCExtensions::getExtensions(env)->verboseAsyncBufferSize;
+	MM_VerboseWriter *writer = fileWriter;
+
+	if (0 != ringSize) {
+		writer = MM_VerboseWriterAsync::newInstance(env, type, fileWriter, ringSize);
+		if (NULL == writer) {
+			/* fall back to writing on the reporting thread */
+			writer = fileWriter;
+		}
+	}
+
+	return writer;
+}
+
 void
 MM_VerboseManagerJava::handleFileOpenError(MM_EnvironmentBase *env, char *fileName)
 {
@@ -55,6 +55,13 @@ public:
 	 * Function members
 	 */
 private:
+	/**
+	 * Wrap a file writer in an MM_VerboseWriterAsync if -Xgc:verboseAsyncBufferSize was specified.
+	 * @param type the type of the file writer
+	 * @param fileWriter the file writer
+	 * @return the writer to add to the chain; fileWriter if no asynchronous writer could be created
+	 */
+	MM_VerboseWriter *wrapWithAsyncWriter(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *fileWriter);
 
 protected:
 
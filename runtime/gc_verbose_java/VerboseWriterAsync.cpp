@@ -0,0 +1,395 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "j9cfg.h"
+
+#include <string.h>
+
+#include "VerboseWriterAsync.hpp"
+
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "Math.hpp"
+
+/* Each record in the ring is a header followed by the NUL terminated string, padded to RECORD_ALIGNMENT */
+#define RECORD_OUTPUT_STRING 0
+#define RECORD_END_OF_CYCLE 1
+#define RECORD_ALIGNMENT 8
+
+typedef struct VerboseAsyncRecordHeader {
+	U_32 type;
+	U_32 length;
+} VerboseAsyncRecordHeader;
+
+static MMINLINE UDATA
+recordSize(UDATA length)
+{
+	return MM_Math::roundToCeiling(RECORD_ALIGNMENT, sizeof(VerboseAsyncRecordHeader) + length);
+}
+
+MM_VerboseWriterAsync::MM_VerboseWriterAsync(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *target) :
+	MM_VerboseWriter(type)
+	,_javaVM((J9JavaVM *)env->getLanguageVM())
+	,_target(target)
+	,_ring(NULL)
+	,_drainBuffer(NULL)
+	,_ringSize(0)
+	,_head(0)
+	,_tail(0)
+	,_cycleStart(0)
+	,_cycleRecords(0)
+	,_droppedRecords(0)
+	,_ringMutex(NULL)
+	,_targetMutex(NULL)
+	,_threadState(THREAD_NOT_STARTED)
+	,_shutdown(false)
+	,_drainRequested(false)
+	,_droppingCycle(false)
+{
+	/* no implementation */
+}
+
+MM_VerboseWriterAsync *
+MM_VerboseWriterAsync::newInstance(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *target, UDATA ringSize)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env->getOmrVM());
+
+	MM_VerboseWriterAsync *agent = (MM_VerboseWriterAsync *)extensions->getForge()->allocate(sizeof(MM_VerboseWriterAsync), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL != agent) {
+		new(agent) MM_VerboseWriterAsync(env, type, target);
+		if (!agent->initialize(env, ringSize)) {
+			/* the caller still owns the target */
+			agent->_target = NULL;
+			agent->kill(env);
+			agent = NULL;
+		}
+	}
+	return agent;
+}
+
+bool
+MM_VerboseWriterAsync::initialize(MM_EnvironmentBase *env, UDATA ringSize)
+{
+	MM_Forge *forge = MM_GCExtensions::getExtensions(env->getOmrVM())->getForge();
+
+	if (!MM_VerboseWriter::initialize(env)) {
+		return false;
+	}
+
+	_ringSize = MM_Math::roundToCeiling(RECORD_ALIGNMENT, ringSize);
+	_ring = (U_8 *)forge->allocate(_ringSize, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	_drainBuffer = (U_8 *)forge->allocate(_ringSize, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if ((NULL == _ring) || (NULL == _drainBuffer)) {
+		return false;
+	}
+
+	if (0 != omrthread_monitor_init_with_name(&_ringMutex, 0, "GC verbose async ring")) {
+		return false;
+	}
+	if (0 != omrthread_monitor_init_with_name(&_targetMutex, 0, "GC verbose async output")) {
+		return false;
+	}
+
+	/* start the drain thread now, so that no thread is created while a GC reports its events */
+	startDrainThread(env);
+
+	return true;
+}
+
+void
+MM_VerboseWriterAsync::tearDown(MM_EnvironmentBase *env)
+{
+	MM_Forge *forge = MM_GCExtensions::getExtensions(env->getOmrVM())->getForge();
+
+	if ((NULL != _ringMutex) && (NULL != _targetMutex)) {
+		stopDrainThread(env);
+		drain(env, false);
+	}
+
+	if (NULL != _target) {
+		_target->kill(env);
+		_target = NULL;
+	}
+	if (NULL != _targetMutex) {
+		omrthread_monitor_destroy(_targetMutex);
+		_targetMutex = NULL;
+	}
+	if (NULL != _ringMutex) {
+		omrthread_monitor_destroy(_ringMutex);
+		_ringMutex = NULL;
+	}
+	forge->free(_drainBuffer);
+	_drainBuffer = NULL;
+	forge->free(_ring);
+	_ring = NULL;
+
+	MM_VerboseWriter::tearDown(env);
+}
+
+/**
+ * Copy data to the ring at _head. The caller must hold _ringMutex and have checked that there is enough space.
+ */
+void
+MM_VerboseWriterAsync::writeToRing(const U_8 *data, UDATA size)
+{
+	UDATA offset = (UDATA)(_head % _ringSize);
+	UDATA firstPart = OMR_MIN(size, _ringSize - offset);
+
+	memcpy(_ring + offset, data, firstPart);
+	memcpy(_ring, data + firstPart, size - firstPart);
+	_head += size;
+}
+
+/**
+ * Copy size bytes from the ring, starting at _tail, to data. The caller must hold _ringMutex.
+ */
+void
+MM_VerboseWriterAsync::readFromRing(U_8 *data, UDATA size)
+{
+	UDATA offset = (UDATA)(_tail % _ringSize);
+	UDATA firstPart = OMR_MIN(size, _ringSize - offset);
+
+	memcpy(data, _ring + offset, firstPart);
+	memcpy(data + firstPart, _ring, size - firstPart);
+	_tail += size;
+}
+
+void
+MM_VerboseWriterAsync::appendRecord(MM_EnvironmentBase *env, UDATA type, const char *string)
+{
+	VerboseAsyncRecordHeader header;
+	header.type = (U_32)type;
+	header.length = (NULL == string) ? 0 : (U_32)(strlen(string) + 1);
+	UDATA size = recordSize(header.length);
+
+	omrthread_monitor_enter(_ringMutex);
+	bool fits = (_ringSize - (UDATA)(_head - _tail)) >= size;
+	if (RECORD_OUTPUT_STRING == type) {
+		if (fits && !_droppingCycle) {
+			U_64 recordStart = _head;
+			writeToRing((const U_8 *)&header, sizeof(header));
+			writeToRing((const U_8 *)string, header.length);
+			_head = recordStart + size;
+			_cycleRecords += 1;
+		} else {
+			if (!_droppingCycle) {
+				/* throw away what this cycle already wrote; a stanza may have been cut in half */
+				_head = _cycleStart;
+				_droppedRecords += _cycleRecords;
+				_cycleRecords = 0;
+				_droppingCycle = true;
+			}
+			_droppedRecords += 1;
+		}
+	} else {
+		/* a missing end of cycle only delays file rotation, so it is not reported */
+		if (fits) {
+			U_64 recordStart = _head;
+			writeToRing((const U_8 *)&header, sizeof(header));
+			_head = recordStart + size;
+		}
+		_cycleStart = _head;
+		_cycleRecords = 0;
+		_droppingCycle = false;
+		_drainRequested = true;
+		omrthread_monitor_notify_all(_ringMutex);
+	}
+	omrthread_monitor_exit(_ringMutex);
+}
+
+/**
+ * Forward the records in the ring to the target writer on the current thread.
+ * @param completeCyclesOnly if true, records written after the last end of cycle are left in the ring
+ */
+void
+MM_VerboseWriterAsync::drain(MM_EnvironmentBase *env, bool completeCyclesOnly)
+{
+	omrthread_monitor_enter(_targetMutex);
+
+	omrthread_monitor_enter(_ringMutex);
+	if (!completeCyclesOnly) {
+		_cycleStart = _head;
+		_cycleRecords = 0;
+	}
+	UDATA pending = (UDATA)(_cycleStart - _tail);
+	readFromRing(_drainBuffer, pending);
+	UDATA droppedRecords = _droppedRecords;
+	_droppedRecords = 0;
+	omrthread_monitor_exit(_ringMutex);
+
+	UDATA offset = 0;
+	while (offset < pending) {
+		VerboseAsyncRecordHeader header;
+		memcpy(&header, _drainBuffer + offset, sizeof(header));
+		if (RECORD_END_OF_CYCLE == header.type) {
+			_target->endOfCycle(env);
+		} else {
+			_target->outputString(env, (const char *)(_drainBuffer + offset + sizeof(header)));
+		}
+		offset += recordSize(header.length);
+	}
+
+	if (0 != droppedRecords) {
+		OMRPORT_ACCESS_FROM_OMRPORT(env->getPortLibrary());
+		char message[128];
+		omrstr_printf(message, sizeof(message), "<!-- %zu verbose GC records dropped: -Xgc:verboseAsyncBufferSize is too small -->\n", droppedRecords);
+		_target->outputString(env, message);
+	}
+
+	omrthread_monitor_exit(_targetMutex);
+}
+
+void
+MM_VerboseWriterAsync::startDrainThread(MM_EnvironmentBase *env)
+{
+	omrthread_t thread = NULL;
+
+	omrthread_monitor_enter(_ringMutex);
+	_threadState = THREAD_STARTING;
+	omrthread_monitor_exit(_ringMutex);
+
+	/* the new thread attaches to the VM by itself once there is output to drain */
+	if (0 != _javaVM->internalVMFunctions->createThreadWithCategory(
+			&thread,
+			_javaVM->defaultOSStackSize,
+			J9THREAD_PRIORITY_NORMAL,
+			0,
+			drainThreadEntryPoint,
+			this,
+			J9THREAD_CATEGORY_SYSTEM_GC_THREAD)
+	) {
+		omrthread_monitor_enter(_ringMutex);
+		_threadState = THREAD_FAILED;
+		omrthread_monitor_exit(_ringMutex);
+	}
+}
+
+void
+MM_VerboseWriterAsync::stopDrainThread(MM_EnvironmentBase *env)
+{
+	omrthread_monitor_enter(_ringMutex);
+	_shutdown = true;
+	omrthread_monitor_notify_all(_ringMutex);
+	while ((THREAD_STARTING == _threadState) || (THREAD_RUNNING == _threadState)) {
+		omrthread_monitor_wait(_ringMutex);
+	}
+	omrthread_monitor_exit(_ringMutex);
+}
+
+int J9THREAD_PROC
+MM_VerboseWriterAsync::drainThreadEntryPoint(void *userData)
+{
+	MM_VerboseWriterAsync *writer = (MM_VerboseWriterAsync *)userData;
+	J9JavaVM *javaVM = writer->_javaVM;
+	J9VMThread *vmThread = NULL;
+	bool attached = false;
+
+	/* The writer may be created before the VM can attach threads, so wait for the first
+	 * cycle to complete before attaching. There is nothing to drain until then.
+	 */
+	omrthread_monitor_enter(writer->_ringMutex);
+	writer->_threadState = THREAD_RUNNING;
+	omrthread_monitor_notify_all(writer->_ringMutex);
+	while (!writer->_drainRequested && !writer->_shutdown) {
+		omrthread_monitor_wait(writer->_ringMutex);
+	}
+	bool shutdown = writer->_shutdown;
+	omrthread_monitor_exit(writer->_ringMutex);
+
+	if (!shutdown) {
+		attached = (JNI_OK == javaVM->internalVMFunctions->attachSystemDaemonThread(javaVM, &vmThread, "GC Verbose Writer"));
+		if (attached) {
+			writer->runDrainThread(MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread));
+			javaVM->internalVMFunctions->DetachCurrentThread((JavaVM *)javaVM);
+		}
+	}
+
+	omrthread_monitor_enter(writer->_ringMutex);
+	writer->_threadState = (attached || shutdown) ? THREAD_STOPPED : THREAD_FAILED;
+	omrthread_monitor_notify_all(writer->_ringMutex);
+	/* exiting the monitor is the last access to the writer, which may be freed as soon as it is released */
+	omrthread_exit(writer->_ringMutex);
+
+	return 0;
+}
+
+void
+MM_VerboseWriterAsync::runDrainThread(MM_EnvironmentBase *env)
+{
+	omrthread_monitor_enter(_ringMutex);
+	while (!_shutdown) {
+		if (_drainRequested) {
+			_drainRequested = false;
+			omrthread_monitor_exit(_ringMutex);
+			drain(env, true);
+			omrthread_monitor_enter(_ringMutex);
+		} else {
+			omrthread_monitor_wait(_ringMutex);
+		}
+	}
+	omrthread_monitor_exit(_ringMutex);
+}
+
+bool
+MM_VerboseWriterAsync::reconfigure(MM_EnvironmentBase *env, const char *filename, UDATA fileCount, UDATA iterations)
+{
+	/* flush what was written to the old file before switching */
+	drain(env, false);
+
+	omrthread_monitor_enter(_targetMutex);
+	bool result = _target->reconfigure(env, filename, fileCount, iterations);
+	omrthread_monitor_exit(_targetMutex);
+
+	return result;
+}
+
+void
+MM_VerboseWriterAsync::endOfCycle(MM_EnvironmentBase *env)
+{
+	appendRecord(env, RECORD_END_OF_CYCLE, NULL);
+
+	omrthread_monitor_enter(_ringMutex);
+	/* without a drain thread, the output is written on the reporting thread */
+	bool drainHere = (THREAD_FAILED == _threadState) || (THREAD_STOPPED == _threadState);
+	omrthread_monitor_exit(_ringMutex);
+
+	if (drainHere) {
+		drain(env, true);
+	}
+}
+
+void
+MM_VerboseWriterAsync::closeStream(MM_EnvironmentBase *env)
+{
+	stopDrainThread(env);
+	drain(env, false);
+
+	omrthread_monitor_enter(_targetMutex);
+	_target->closeStream(env);
+	omrthread_monitor_exit(_targetMutex);
+}
+
+void
+MM_VerboseWriterAsync::outputString(MM_EnvironmentBase *env, const char* string)
+{
+	appendRecord(env, RECORD_OUTPUT_STRING, string);
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#if !defined(VERBOSEWRITERASYNC_HPP_)
+#define VERBOSEWRITERASYNC_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+
+#include "VerboseWriter.hpp"
+
+/**
+ * Output agent which copies verbosegc output into a fixed size ring buffer and hands it
+ * to another writer (normally a file writer) from a background thread, so that file I/O
+ * is not done by the thread reporting the event (which is typically inside a GC pause).
+ * The records are the formatted XML strings, as the verbose handlers format XML directly;
+ * the log written is the usual XML log. The background thread is started when the writer
+ * is initialized and attaches to the VM once the first cycle is complete.
+ * Only complete cycles are forwarded. If the ring buffer fills up faster than it is drained,
+ * the rest of the current cycle is dropped (so the log never contains partial stanzas) and
+ * the number of dropped records is reported once space is available again.
+ */
+class MM_VerboseWriterAsync : public MM_VerboseWriter
+{
+	/* Data members */
+private:
+	J9JavaVM *_javaVM;
+	MM_VerboseWriter *_target; /**< writer that output is forwarded to; only used while holding _targetMutex */
+	U_8 *_ring; /**< ring buffer of records */
+	U_8 *_drainBuffer; /**< records copied out of the ring, waiting to be forwarded to _target */
+	UDATA _ringSize; /**< size of _ring and _drainBuffer in bytes */
+	U_64 _head; /**< total bytes written to the ring; the next record goes at _head % _ringSize */
+	U_64 _tail; /**< total bytes drained from the ring */
+	U_64 _cycleStart; /**< value of _head after the last end of cycle record */
+	UDATA _cycleRecords; /**< records written to the ring since _cycleStart */
+	UDATA _droppedRecords; /**< records dropped because the ring was full, not yet reported */
+	omrthread_monitor_t _ringMutex; /**< protects the ring and the thread state */
+	omrthread_monitor_t _targetMutex; /**< serializes use of _target and _drainBuffer */
+	enum {
+		THREAD_NOT_STARTED = 0,
+		THREAD_STARTING,
+		THREAD_RUNNING,
+		THREAD_FAILED,
+		THREAD_STOPPED
+	} _threadState;
+	bool _shutdown; /**< set when the drain thread should exit */
+	bool _drainRequested; /**< set at the end of a cycle to wake the drain thread */
+	bool _droppingCycle; /**< set when the current cycle did not fit in the ring and is being dropped */
+
+	/* Function members */
+private:
+	void writeToRing(const U_8 *data, UDATA size);
+	void readFromRing(U_8 *data, UDATA size);
+	void appendRecord(MM_EnvironmentBase *env, UDATA type, const char *string);
+	void drain(MM_EnvironmentBase *env, bool completeCyclesOnly);
+	void startDrainThread(MM_EnvironmentBase *env);
+	void stopDrainThread(MM_EnvironmentBase *env);
+	static int J9THREAD_PROC drainThreadEntryPoint(void *userData);
+	void runDrainThread(MM_EnvironmentBase *env);
+
+protected:
+	MM_VerboseWriterAsync(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *target);
+
+	bool initialize(MM_EnvironmentBase *env, UDATA ringSize);
+	virtual void tearDown(MM_EnvironmentBase *env);
+
+public:
+	/**
+	 * Create a new MM_VerboseWriterAsync.
+	 * @param type the type of target, reported as the type of the new writer
+	 * @param target the writer output is forwarded to; owned by the new writer once it is returned
+	 * @param ringSize the size of the ring buffer in bytes
+	 * @return the new writer, or NULL on failure (in which case target is left to the caller)
+	 */
+	static MM_VerboseWriterAsync *newInstance(MM_EnvironmentBase *env, WriterType type, MM_VerboseWriter *target, UDATA ringSize);
+
+	virtual bool reconfigure(MM_EnvironmentBase *env, const char *filename, UDATA fileCount, UDATA iterations);
+
+	virtual void endOfCycle(MM_EnvironmentBase *env);
+
+	virtual void closeStream(MM_EnvironmentBase *env);
+
+	virtual void outputString(MM_EnvironmentBase *env, const char* string);
+};
+
+#endif /* VERBOSEWRITERASYNC_HPP_ */
@@ -35,6 +35,7 @@
 #include "HeapRegionManager.hpp"
 #include "IncrementalGenerationalGC.hpp"
 #include "Math.hpp"
+#include "MemoryPool.hpp"
 
 MM_CompactGroupPersistentStats * 
 MM_CompactGroupPersistentStats::allocateCompactGroupPersistentStats(MM_EnvironmentVLHGC *env)
@@ -352,6 +353,50 @@ MM_CompactGroupPersistentStats::deriveProjectedLiveBytesStats(MM_EnvironmentVLHG
 	}
 }
 
+UDATA
+MM_CompactGroupPersistentStats::exportCompactGroupStats(MM_EnvironmentVLHGC *env, MM_CompactGroupPersistentStats *persistentStats, J9GCCompactGroupStats *stats, UDATA maxCount)
+{
+	UDATA compactGroupCount = MM_CompactGroupManager::getCompactGroupMaxCount(env);
+
+	if (0 != maxCount) {
+		UDATA exportCount = OMR_MIN(compactGroupCount, maxCount);
+		for (UDATA compactGroup = 0; compactGroup < exportCount; compactGroup++) {
+			MM_CompactGroupPersistentStats *groupStats = &persistentStats[compactGroup];
+			J9GCCompactGroupStats *entry = &stats[compactGroup];
+			entry->compactGroup = compactGroup;
+			entry->allocationContext = MM_CompactGroupManager::getAllocationContextNumberFromGroup(env, compactGroup);
+			entry->age = MM_CompactGroupManager::getRegionAgeFromGroup(env, compactGroup);
+			entry->regionCount = 0;
+			entry->freeBytes = 0;
+			entry->darkMatterBytes = 0;
+			entry->projectedLiveBytes = 0;
+			entry->historicalSurvivalRate = groupStats->_historicalSurvivalRate;
+			entry->weightedSurvivalRate = groupStats->_weightedSurvivalRate;
+			entry->projectedSurvivalRate = groupStats->_projectedInstantaneousSurvivalRate;
+		}
+
+		/* Sum the region stats into the export buffer: the persistent per-region sums are collector input */
+		MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+		GC_HeapRegionIteratorVLHGC regionIterator(extensions->heapRegionManager, MM_HeapRegionDescriptor::ALL);
+		MM_HeapRegionDescriptorVLHGC *region = NULL;
+		while (NULL != (region = regionIterator.nextRegion())) {
+			if (region->containsObjects()) {
+				UDATA compactGroup = MM_CompactGroupManager::getCompactGroupNumber(env, region);
+				if (compactGroup < exportCount) {
+					J9GCCompactGroupStats *entry = &stats[compactGroup];
+					MM_MemoryPool *memoryPool = region->getMemoryPool();
+					entry->regionCount += 1;
+					entry->freeBytes += memoryPool->getActualFreeMemorySize();
+					entry->darkMatterBytes += memoryPool->getDarkMatterBytes();
+					entry->projectedLiveBytes += region->_projectedLiveBytes;
+				}
+			}
+		}
+	}
+
+	return compactGroupCount;
+}
+
 void
 MM_CompactGroupPersistentStats::resetLiveBytesStats(MM_EnvironmentVLHGC *env, MM_CompactGroupPersistentStats *persistentStats)
 {
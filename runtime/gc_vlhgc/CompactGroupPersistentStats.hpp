@@ -246,6 +246,18 @@ public:
 	 */
 	static void deriveProjectedLiveBytesStats(MM_EnvironmentVLHGC *env, MM_CompactGroupPersistentStats *persistentStats);
 
+	/**
+	 * Sum the per-region stats of every compact group into stats, and copy the survival rates along with them.
+	 * The persistent stats are only read, so exporting does not change the input of the collector.
+	 * Must be called while the heap is stable (e.g. at the end of a collection).
+	 * @param env[in] the current thread
+	 * @param persistentStats[in] The list of per-compact group persistent stats
+	 * @param stats[out] array receiving one entry per compact group
+	 * @param maxCount[in] the number of entries stats can hold
+	 * @return the number of compact groups, which may exceed maxCount
+	 */
+	static UDATA exportCompactGroupStats(MM_EnvironmentVLHGC *env, MM_CompactGroupPersistentStats *persistentStats, J9GCCompactGroupStats *stats, UDATA maxCount);
+
 };
 
 #endif /* COMPACTGROUPPERSISTENTSTATS_HPP_ */
@@ -93,6 +93,7 @@
 #include "ParallelDispatcher.hpp"
 #include "PacketSlotIterator.hpp"
 #include "ParallelTask.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectBuffer.hpp"
 #include "ReferenceObjectList.hpp"
 #include "ReferenceStats.hpp"
@@ -5285,12 +5286,14 @@ MM_CopyForwardScheme::processReferenceList(MM_EnvironmentVLHGC *env, MM_HeapRegi
 	GC_FinalizableReferenceBuffer buffer(_extensions);
 	bool const compressed = env->compressObjectReferences();
 
+	MM_ReferenceClassStatsCounter classStats(env);
 	J9Object *referenceObj = headOfList;
 	while (NULL != referenceObj) {
 		Assert_MM_true(isLiveObject(referenceObj));
 
 		objectsVisited += 1;
 		referenceStats->_candidates += 1;
+		classStats.discovered(referenceObj);
 
 		Assert_MM_true(region->isAddressInRegion(referenceObj));
 		Assert_MM_true(objectsVisited < maxObjects);
@@ -5327,6 +5330,7 @@ MM_CopyForwardScheme::processReferenceList(MM_EnvironmentVLHGC *env, MM_HeapRegi
 				Assert_MM_true((GC_ObjectModel::REF_STATE_INITIAL == previousState) || (GC_ObjectModel::REF_STATE_REMEMBERED == previousState));
 
 				referenceStats->_cleared += 1;
+				classStats.cleared();
 				J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj) = GC_ObjectModel::REF_STATE_CLEARED;
 				referentSlotObject.writeReferenceToSlot(NULL);
 
@@ -5334,6 +5338,7 @@ MM_CopyForwardScheme::processReferenceList(MM_EnvironmentVLHGC *env, MM_HeapRegi
 				if (0 != J9GC_J9VMJAVALANGREFERENCE_QUEUE(env, referenceObj)) {
 					/* Reference object can be enqueued onto the finalizable list */
 					referenceStats->_enqueued += 1;
+					classStats.enqueued();
 					buffer.add(env, referenceObj);
 					env->_cycleState->_finalizationRequired = true;
 				}
@@ -5365,6 +5370,7 @@ MM_CopyForwardScheme::processReferenceList(MM_EnvironmentVLHGC *env, MM_HeapRegi
 		referenceObj = nextReferenceObj;
 	}
 	buffer.flush(env);
+	classStats.flush();
 }
 
 void
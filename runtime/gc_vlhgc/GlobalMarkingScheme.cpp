@@ -80,6 +80,7 @@
 #include "ParallelDispatcher.hpp"
 #include "ParallelTask.hpp"
 #include "PointerArrayIterator.hpp"
+#include "ReferenceClassStats.hpp"
 #include "ReferenceObjectList.hpp"
 #include "ReferenceStats.hpp"
 #include "RegionBasedOverflowVLHGC.hpp"
@@ -1789,10 +1790,12 @@ MM_GlobalMarkingScheme::processReferenceList(MM_EnvironmentVLHGC *env, J9Object*
 	UDATA objectsVisited = 0;
 	GC_FinalizableReferenceBuffer buffer(_extensions);
 	
+	MM_ReferenceClassStatsCounter classStats(env);
 	J9Object* referenceObj = headOfList;
 	while (NULL != referenceObj) {
 		objectsVisited += 1;
 		referenceStats->_candidates += 1;
+		classStats.discovered(referenceObj);
 
 		Assert_MM_true(isMarked(referenceObj));
 		Assert_MM_true(objectsVisited < maxObjects);
@@ -1818,6 +1821,7 @@ MM_GlobalMarkingScheme::processReferenceList(MM_EnvironmentVLHGC *env, J9Object*
 				Assert_MM_true((GC_ObjectModel::REF_STATE_INITIAL == J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj)) || (GC_ObjectModel::REF_STATE_REMEMBERED == J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj)));
 
 				referenceStats->_cleared += 1;
+				classStats.cleared();
 				J9GC_J9VMJAVALANGREFERENCE_STATE(env, referenceObj) = GC_ObjectModel::REF_STATE_CLEARED;
 				referentSlotObject.writeReferenceToSlot(NULL);
 
@@ -1825,6 +1829,7 @@ MM_GlobalMarkingScheme::processReferenceList(MM_EnvironmentVLHGC *env, J9Object*
 				if (0 != J9GC_J9VMJAVALANGREFERENCE_QUEUE(env, referenceObj)) {
 					/* Reference object can be enqueued onto the finalizable list */
 					referenceStats->_enqueued += 1;
+					classStats.enqueued();
 					buffer.add(env, referenceObj);
 					env->_cycleState->_finalizationRequired = true;
 				}
@@ -1834,6 +1839,7 @@ MM_GlobalMarkingScheme::processReferenceList(MM_EnvironmentVLHGC *env, J9Object*
 		referenceObj = nextReferenceObj;
 	}
 	buffer.flush(env);
+	classStats.flush();
 }
 
 void 
@@ -75,6 +75,8 @@
 #define COM_IBM_GET_HEAP_FREE_MEMORY "com.ibm.GetHeapFreeMemory"
 #define COM_IBM_GET_HEAP_TOTAL_MEMORY "com.ibm.GetHeapTotalMemory"
 
+#define COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL "com.ibm.IterateThroughHeapParallel"
+
 #define COM_IBM_ITERATE_SHARED_CACHES "com.ibm.IterateSharedCaches"
 #define COM_IBM_DESTROY_SHARED_CACHE "com.ibm.DestroySharedCache"
 
@@ -198,8 +200,9 @@ enum {
  */ 
 
 enum {
-	COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID = 0,
-	COM_IBM_JLM_DUMP_FORMAT_TAGS      = 1
+	COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID  = 0,
+	COM_IBM_JLM_DUMP_FORMAT_TAGS       = 1,
+	COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS = 2 /* COM_IBM_JLM_DUMP_FORMAT_TAGS, with the adaptive spin counts of object monitors after the tag */
 };
 
 
@@ -346,6 +349,24 @@ typedef struct jvmtiSharedCacheInfo {
 typedef jint (JNICALL *jvmtiIterateSharedCachesCallback)(
 		jvmtiEnv *env, jvmtiSharedCacheInfo *cache_info, void *user_data);
 
+/**
+ * Signature of callback function which must be provided to COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL.
+ *
+ * The callback is called concurrently from several GC threads while all Java threads are stopped,
+ * so it must not call JNI or JVMTI functions. Each region of the heap is walked by a single thread.
+ *
+ * When your callback is called you will be provided with:
+ * worker_index - the index of the calling thread, from 0 to the number of threads used minus 1
+ * class_tag - the tag of the class of the object, or 0 if the class is not tagged
+ * size - the size of the object in bytes
+ * tag - the tag of the object, or 0 if the object is not tagged
+ * worker_data - element worker_index of the worker_data array you provided to COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL
+ *
+ * Return - 0 to continue, or JVMTI_VISIT_ABORT to stop the iteration on all threads.
+ */
+typedef jint (JNICALL *jvmtiParallelHeapIterationCallback)(
+		jint worker_index, jlong class_tag, jlong size, jlong tag, void *worker_data);
+
 /**
  * struct jvmtiObjectRenameInfo
  * oldAutoTag is the previous automatic tag.
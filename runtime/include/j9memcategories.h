@@ -83,5 +83,6 @@
 #define J9MEM_CATEGORY_JFR 37
 #define J9MEM_CATEGORY_SUN_MISC_UNSAFE_ALLOCATEDBB 38
 #define J9MEM_CATEGORY_MODULES 39
+#define J9MEM_CATEGORY_VIRTUAL_THREAD_STACK 40
 
 #endif /* J9MEMCATEGORIES_H */
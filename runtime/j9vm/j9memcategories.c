@@ -57,7 +57,8 @@ OMRMEM_CATEGORY_NO_CHILDREN("Shared Class Cache", J9MEM_CATEGORY_CLASSES_SHC_CAC
 OMRMEM_CATEGORY_2_CHILDREN("Memory Manager (GC)", OMRMEM_CATEGORY_MM, OMRMEM_CATEGORY_MM_RUNTIME_HEAP, OMRMEM_CATEGORY_MM_RUNTIME_HEAP_SPARSE);
 OMRMEM_CATEGORY_NO_CHILDREN("Java Heap", OMRMEM_CATEGORY_MM_RUNTIME_HEAP);
 OMRMEM_CATEGORY_NO_CHILDREN("Java Heap Sparse", OMRMEM_CATEGORY_MM_RUNTIME_HEAP_SPARSE);
-OMRMEM_CATEGORY_NO_CHILDREN("Java Stack", OMRMEM_CATEGORY_THREADS_RUNTIME_STACK);
+OMRMEM_CATEGORY_1_CHILD("Java Stack", OMRMEM_CATEGORY_THREADS_RUNTIME_STACK, J9MEM_CATEGORY_VIRTUAL_THREAD_STACK);
+OMRMEM_CATEGORY_NO_CHILDREN("Virtual Thread Stacks", J9MEM_CATEGORY_VIRTUAL_THREAD_STACK);
 OMRMEM_CATEGORY_NO_CHILDREN("Trace", OMRMEM_CATEGORY_TRACE);
 OMRMEM_CATEGORY_2_CHILDREN("JIT", OMRMEM_CATEGORY_JIT, OMRMEM_CATEGORY_JIT_CODE_CACHE, OMRMEM_CATEGORY_JIT_DATA_CACHE);
 OMRMEM_CATEGORY_NO_CHILDREN("JIT Code Cache", OMRMEM_CATEGORY_JIT_CODE_CACHE);
@@ -108,6 +109,7 @@ CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_MM),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_MM_RUNTIME_HEAP),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_MM_RUNTIME_HEAP_SPARSE),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_THREADS_RUNTIME_STACK),
+CATEGORY_TABLE_ENTRY(J9MEM_CATEGORY_VIRTUAL_THREAD_STACK),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_TRACE),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_JIT),
 CATEGORY_TABLE_ENTRY(OMRMEM_CATEGORY_JIT_CODE_CACHE),
@@ -697,11 +697,47 @@ JVM_IsStaticallyLinked(void)
 	return JNI_FALSE;
 }
 
+/**
+ * @brief Called when a virtual thread parks or waits while pinned to its carrier thread.
+ * The event is counted, traced with the blocking operation so that the pinning frames
+ * can be captured with a jstacktrace trigger on the tracepoint, and recorded as a
+ * jdk.VirtualThreadPinned event if a JFR recording is running.
+ *
+ * @param env the JNIEnv of the current thread
+ * @param clazz the VirtualThread class
+ * @param op the blocking operation which pinned the carrier thread
+ */
 JNIEXPORT void JNICALL
 JVM_VirtualThreadPinnedEvent(JNIEnv *env, jclass clazz, jstring op)
 {
-	// TODO: emit JFR Event
-	return;
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	bool recordEvent = false;
+
+	VM_AtomicSupport::add(&vm->virtualThreadPinnedCount, 1);
+
+#if defined(J9VM_OPT_JFR)
+	recordEvent = (JNI_TRUE == vm->internalVMFunctions->isJFRRecordingStarted(vm));
+#endif /* defined(J9VM_OPT_JFR) */
+
+	if (TrcEnabled_Trc_SC_VirtualThreadPinnedEvent || recordEvent) {
+		const char *opChars = NULL;
+		if (NULL != op) {
+			opChars = env->GetStringUTFChars(op, NULL);
+		}
+		Trc_SC_VirtualThreadPinnedEvent(currentThread, (NULL == opChars) ? "" : opChars);
+#if defined(J9VM_OPT_JFR)
+		if (recordEvent) {
+			J9InternalVMFunctions const * const vmFuncs = vm->internalVMFunctions;
+			vmFuncs->internalEnterVMFromJNI(currentThread);
+			vmFuncs->jfrVirtualThreadPinned(currentThread, opChars);
+			vmFuncs->internalExitVMToJNI(currentThread);
+		}
+#endif /* defined(J9VM_OPT_JFR) */
+		if (NULL != opChars) {
+			env->ReleaseStringUTFChars(op, opChars);
+		}
+	}
 }
 
 JNIEXPORT jobject JNICALL
@@ -188,6 +188,37 @@ Java_com_ibm_oti_vm_VM_isJVMInSingleThreadedMode(JNIEnv *env, jclass unused)
 	return result;
 }
 
+/**
+ * Writes the JIT compilation ledger to a file as comma separated values.
+ *
+ * @param fileNameString the file to write
+ * @return 0 if the ledger was written, 1 if the JIT is not running or the ledger
+ * is not enabled (-Xjit:compilationLedgerSize), -1 if the file could not be written
+ */
+jint JNICALL
+Java_com_ibm_oti_vm_VM_dumpCompilationLedger(JNIEnv *env, jclass unused, jstring fileNameString)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9JITConfig *jitConfig = vm->jitConfig;
+	jint result = 1;
+
+	if ((NULL != fileNameString) && (NULL != jitConfig) && (NULL != jitConfig->dumpCompilationLedger)) {
+		const char *fileName = env->GetStringUTFChars(fileNameString, NULL);
+
+		if (NULL != fileName) {
+#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
+			J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+			vmFuncs->internalEnterVMFromJNI(currentThread);
+			vmFuncs->internalReleaseVMAccess(currentThread);
+#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
+			result = (jint)jitConfig->dumpCompilationLedger(currentThread, fileName);
+			env->ReleaseStringUTFChars(fileNameString, fileName);
+		}
+	}
+	return result;
+}
+
 #if defined(J9VM_OPT_JFR)
 jboolean JNICALL
 Java_com_ibm_oti_vm_VM_isJFREnabled(JNIEnv *env, jclass unused)
@@ -213,6 +244,15 @@ Java_com_ibm_oti_vm_VM_isJFRRecordingStarted(JNIEnv *env, jclass unused)
 	return vm->internalVMFunctions->isJFRRecordingStarted(vm) ? JNI_TRUE : JNI_FALSE;
 }
 
+jboolean JNICALL
+Java_com_ibm_oti_vm_VM_isJFRRepositoryEnabled(JNIEnv *env, jclass unused)
+{
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+
+	/* A continuous recording has a repository for as long as it runs */
+	return (NULL != vm->jfrState.repositoryPath) ? JNI_TRUE : JNI_FALSE;
+}
+
 void JNICALL
 Java_com_ibm_oti_vm_VM_jfrDump(JNIEnv *env, jclass unused)
 {
@@ -229,6 +269,36 @@ Java_com_ibm_oti_vm_VM_jfrDump(JNIEnv *env, jclass unused)
 	vmFuncs->internalExitVMToJNI(currentThread);
 }
 
+jboolean JNICALL
+Java_com_ibm_oti_vm_VM_jfrDumpRepository(JNIEnv *env, jclass unused, jstring fileNameString, jlong maxAgeMillis)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	char *fileName = NULL;
+	jboolean result = JNI_FALSE;
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	if (NULL != fileNameString) {
+		j9object_t fileNameObject = J9_JNI_UNWRAP_REFERENCE(fileNameString);
+		fileName = vmFuncs->copyStringToUTF8WithMemAlloc(currentThread, fileNameObject, J9_STR_NULL_TERMINATE_RESULT, "", 0, NULL, 0, NULL);
+		if (NULL == fileName) {
+			vmFuncs->setNativeOutOfMemoryError(currentThread, 0, 0);
+			goto done;
+		}
+	}
+
+	if (vmFuncs->jfrDumpRepository(currentThread, fileName, (I_64)maxAgeMillis * 1000 * 1000)) {
+		result = JNI_TRUE;
+	}
+
+	j9mem_free_memory(fileName);
+done:
+	vmFuncs->internalExitVMToJNI(currentThread);
+	return result;
+}
+
 jboolean JNICALL
 Java_com_ibm_oti_vm_VM_setJFRRecordingFileName(JNIEnv *env, jclass unused, jstring fileNameString)
 {
@@ -252,6 +322,18 @@ Java_com_ibm_oti_vm_VM_setJFRRecordingFileName(JNIEnv *env, jclass unused, jstri
 	return result;
 }
 
+void JNICALL
+Java_com_ibm_oti_vm_VM_setJFRRepositoryLimits(JNIEnv *env, jclass unused, jlong maxAgeMillis, jlong maxSize)
+{
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+
+	/* The limits are used when the recording starts, and are cleared when it stops */
+	if (!vm->internalVMFunctions->isJFRRecordingStarted(vm)) {
+		vm->jfrState.repositoryMaxAge = (I_64)maxAgeMillis * 1000 * 1000;
+		vm->jfrState.repositoryMaxSize = (U_64)maxSize;
+	}
+}
+
 jint JNICALL
 Java_com_ibm_oti_vm_VM_startJFR(JNIEnv *env, jclass unused)
 {
@@ -341,6 +341,7 @@ managementTerminate(J9JavaVM *vm)
 	j9mem_free_memory(mgmt->memoryPools);
 	j9mem_free_memory(mgmt->garbageCollectors);
 	j9mem_free_memory(mgmt->nonHeapMemoryPools);
+	j9mem_free_memory(mgmt->compactGroupStats);
 	j9mem_free_memory(vm->managementData);
 }
 
@@ -797,6 +798,11 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	
 	/* update nonHeap memory pools for postCollection */
 	updateNonHeapMemoryPoolSizes(vm, mgmt, TRUE);
+
+	/* update the compact group occupancy (balanced GC only) */
+	if (NULL != mgmt->compactGroupStats) {
+		mmFuncs->j9gc_get_compact_group_stats((J9VMThread *)omrVMThread->_language_vmthread, mgmt->compactGroupStats, mgmt->compactGroupCount);
+	}
 	/* update J9GarbageCollectionInfo for the collector */
 
 	gcInfo->gcID = gcData->id;
@@ -1015,6 +1021,16 @@ initMemoryManagement(J9JavaVM *vm)
 		}
 		getSegmentSizes(vm, segList, &mgmt->nonHeapMemoryPools[idx].initialSize, &used, &mgmt->nonHeapMemoryPools[idx].peakSize, &mgmt->nonHeapMemoryPools[idx].peakUsed, (JIT_CODECACHE == idx));
 	}
+
+	/* initialize compact group stats; they are only reported by the balanced GC */
+	mgmt->compactGroupCount = mmFuncs->j9gc_get_compact_group_stats(vm->mainThread, NULL, 0);
+	if (0 != mgmt->compactGroupCount) {
+		mgmt->compactGroupStats = j9mem_allocate_memory((sizeof(*mgmt->compactGroupStats) * mgmt->compactGroupCount), J9MEM_CATEGORY_VM_JCL);
+		if (NULL == mgmt->compactGroupStats) {
+			return JNI_ERR;
+		}
+		memset(mgmt->compactGroupStats, 0, (sizeof(*mgmt->compactGroupStats) * mgmt->compactGroupCount));
+	}
 	return 0;
 
 }
@@ -523,6 +523,76 @@ Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsI
 	return result;
 }
 
+jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupCountImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+
+	/* the number of compact groups is fixed at startup */
+	return (jint)javaVM->managementData->compactGroupCount;
+}
+
+/* Must match the COMPACT_GROUP_*_FIELDS constants in ExtendedMemoryMXBeanImpl */
+#define COMPACT_GROUP_LONG_FIELDS 7
+#define COMPACT_GROUP_DOUBLE_FIELDS 3
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray longStats, jdoubleArray doubleStats)
+{
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	UDATA count = OMR_MIN((UDATA)env->GetArrayLength(longStats) / COMPACT_GROUP_LONG_FIELDS,
+			(UDATA)env->GetArrayLength(doubleStats) / COMPACT_GROUP_DOUBLE_FIELDS);
+	jlong *longElems = NULL;
+	jdouble *doubleElems = NULL;
+
+	count = OMR_MIN(count, mgmt->compactGroupCount);
+	if (0 == count) {
+		return 0;
+	}
+
+	longElems = (jlong *)env->GetPrimitiveArrayCritical(longStats, NULL);
+	if (NULL == longElems) {
+		return 0;
+	}
+	doubleElems = (jdouble *)env->GetPrimitiveArrayCritical(doubleStats, NULL);
+	if (NULL == doubleElems) {
+		env->ReleasePrimitiveArrayCritical(longStats, longElems, JNI_ABORT);
+		return 0;
+	}
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	for (UDATA idx = 0; idx < count; idx++) {
+		J9GCCompactGroupStats *groupStats = &mgmt->compactGroupStats[idx];
+		jlong *longs = &longElems[idx * COMPACT_GROUP_LONG_FIELDS];
+		jdouble *doubles = &doubleElems[idx * COMPACT_GROUP_DOUBLE_FIELDS];
+		longs[0] = (jlong)groupStats->compactGroup;
+		longs[1] = (jlong)groupStats->allocationContext;
+		longs[2] = (jlong)groupStats->age;
+		longs[3] = (jlong)groupStats->regionCount;
+		longs[4] = (jlong)groupStats->freeBytes;
+		longs[5] = (jlong)groupStats->darkMatterBytes;
+		longs[6] = (jlong)groupStats->projectedLiveBytes;
+		doubles[0] = groupStats->historicalSurvivalRate;
+		doubles[1] = groupStats->weightedSurvivalRate;
+		doubles[2] = groupStats->projectedSurvivalRate;
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	env->ReleasePrimitiveArrayCritical(doubleStats, doubleElems, 0);
+	env->ReleasePrimitiveArrayCritical(longStats, longElems, 0);
+
+	return (jint)count;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getHeapMemoryReleasedUnderPressureImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+
+	return (jlong)javaVM->memoryManagerFunctions->j9gc_get_memory_pressure_released_bytes(javaVM);
+}
+
 #if JAVA_SPEC_VERSION >= 26
 jlong JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getTotalGcCpuTimeImpl(JNIEnv *env, jobject beanInstance)
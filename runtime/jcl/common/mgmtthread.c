@@ -498,6 +498,91 @@ done:
 	return result;
 }
 
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getVirtualThreadPinnedCountImpl(JNIEnv *env, jclass unused)
+{
+	jlong result = 0;
+#if JAVA_SPEC_VERSION >= 19
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+
+	result = (jlong)javaVM->virtualThreadPinnedCount;
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
+	return result;
+}
+
+#if JAVA_SPEC_VERSION >= 21
+/* Java defines for the virtual thread statistics in VirtualThreadMXBeanImpl */
+#define VIRTUAL_THREAD_STATISTIC_MOUNT_COUNT			0
+#define VIRTUAL_THREAD_STATISTIC_UNMOUNT_COUNT			1
+#define VIRTUAL_THREAD_STATISTIC_CONTINUATION_COUNT		2
+#define VIRTUAL_THREAD_STATISTIC_STACK_BYTES			3
+#define VIRTUAL_THREAD_STATISTIC_T1_CACHE_HIT_COUNT		4
+#define VIRTUAL_THREAD_STATISTIC_T2_CACHE_HIT_COUNT		5
+#define VIRTUAL_THREAD_STATISTIC_CACHE_MISS_COUNT		6
+#define VIRTUAL_THREAD_STATISTIC_CACHE_FREE_COUNT		7
+#define VIRTUAL_THREAD_STATISTIC_MOUNTED_COUNT			8
+
+/**
+ * Returns one of the virtual thread statistics kept by the VM. The cache and
+ * continuation counters are sampled without synchronization, so related values
+ * may be slightly inconsistent.
+ *
+ * @param env the JNIEnv of the current thread
+ * @param unused the VirtualThreadMXBeanImpl class
+ * @param statistic the statistic to return, one of the VIRTUAL_THREAD_STATISTIC_ constants
+ * @return the value of the statistic, or -1 if statistic is not valid
+ */
+jlong JNICALL
+Java_com_ibm_lang_management_internal_VirtualThreadMXBeanImpl_getStatisticImpl(JNIEnv *env, jclass unused, jint statistic)
+{
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+	jlong result = -1;
+
+	switch (statistic) {
+	case VIRTUAL_THREAD_STATISTIC_MOUNT_COUNT:
+	case VIRTUAL_THREAD_STATISTIC_UNMOUNT_COUNT:
+	case VIRTUAL_THREAD_STATISTIC_MOUNTED_COUNT: {
+		UDATA mountCount = 0;
+		UDATA unmountCount = 0;
+		UDATA mountedCount = 0;
+
+		javaVM->internalVMFunctions->getVirtualThreadMountCounts(javaVM, &mountCount, &unmountCount, &mountedCount);
+		if (VIRTUAL_THREAD_STATISTIC_MOUNT_COUNT == statistic) {
+			result = (jlong)mountCount;
+		} else if (VIRTUAL_THREAD_STATISTIC_UNMOUNT_COUNT == statistic) {
+			result = (jlong)unmountCount;
+		} else {
+			result = (jlong)mountedCount;
+		}
+		break;
+	}
+	case VIRTUAL_THREAD_STATISTIC_CONTINUATION_COUNT:
+		result = (jlong)javaVM->liveContinuationCount;
+		break;
+	case VIRTUAL_THREAD_STATISTIC_STACK_BYTES:
+		result = (jlong)javaVM->continuationStackBytes;
+		break;
+	case VIRTUAL_THREAD_STATISTIC_T1_CACHE_HIT_COUNT:
+		result = (jlong)javaVM->t1CacheHit;
+		break;
+	case VIRTUAL_THREAD_STATISTIC_T2_CACHE_HIT_COUNT:
+		result = (jlong)javaVM->t2CacheHit;
+		break;
+	case VIRTUAL_THREAD_STATISTIC_CACHE_MISS_COUNT:
+		result = (jlong)javaVM->cacheMiss;
+		break;
+	case VIRTUAL_THREAD_STATISTIC_CACHE_FREE_COUNT:
+		result = (jlong)javaVM->cacheFree;
+		break;
+	default:
+		break;
+	}
+
+	return result;
+}
+#endif /* JAVA_SPEC_VERSION >= 21 */
+
 void JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_resetPeakThreadCountImpl(JNIEnv *env, jobject beanInstance)
 {
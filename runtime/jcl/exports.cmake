@@ -112,6 +112,7 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadContentionMonitoringEnabledImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadCpuTimeEnabledImpl
 	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl
+	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getVirtualThreadPinnedCountImpl
 	Java_com_ibm_jit_JITHelpers_arrayShapeElementCountMask
 	Java_com_ibm_jit_JITHelpers_getNumBitsInDescriptionWord
 	Java_com_ibm_jit_JITHelpers_getNumBitsInReferenceField
@@ -215,6 +216,9 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupCountImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupStatisticsImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getHeapMemoryReleasedUnderPressureImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMemoryUsageImpl
@@ -292,6 +296,7 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_vm_ORBVMHelpers_getNumBytesInReferenceField
 	Java_com_ibm_oti_vm_ORBVMHelpers_is32Bit
 	Java_com_ibm_oti_vm_VM_allInstances
+	Java_com_ibm_oti_vm_VM_dumpCompilationLedger
 	Java_com_ibm_oti_vm_VM_dumpString
 	Java_com_ibm_oti_vm_VM_getClassNameImpl
 	Java_com_ibm_oti_vm_VM_getClassPathCount
@@ -636,6 +641,13 @@ if(NOT JAVA_SPEC_VERSION LESS 16)
 	)
 endif()
 
+# java 21+
+if(NOT JAVA_SPEC_VERSION LESS 21)
+	omr_add_exports(jclse
+		Java_com_ibm_lang_management_internal_VirtualThreadMXBeanImpl_getStatisticImpl
+	)
+endif()
+
 # OpenJDK methodhandle support
 if(J9VM_OPT_OPENJDK_METHODHANDLE)
 	omr_add_exports(jclse
@@ -704,9 +716,12 @@ if(J9VM_OPT_JFR)
 		Java_com_ibm_oti_vm_VM_isJFREnabled
 		Java_com_ibm_oti_vm_VM_isJFRV2SupportEnabled
 		Java_com_ibm_oti_vm_VM_isJFRRecordingStarted
+		Java_com_ibm_oti_vm_VM_isJFRRepositoryEnabled
 		Java_com_ibm_oti_vm_VM_isStartFlightRecordingSpecified
 		Java_com_ibm_oti_vm_VM_jfrDump
+		Java_com_ibm_oti_vm_VM_jfrDumpRepository
 		Java_com_ibm_oti_vm_VM_setJFRRecordingFileName
+		Java_com_ibm_oti_vm_VM_setJFRRepositoryLimits
 		Java_com_ibm_oti_vm_VM_startJFR
 		Java_com_ibm_oti_vm_VM_stopJFR
 		Java_com_ibm_oti_vm_VM_triggerExecutionSample
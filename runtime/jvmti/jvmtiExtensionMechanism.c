@@ -29,6 +29,7 @@
 #include "jvmti_internal.h"
 #include "monhelp.h"
 #include "VerboseGCInterface.h"
+#include "HeapIteratorAPI.h"
 #include "omr.h"
 
 #include <limits.h>
@@ -79,6 +80,8 @@ static UDATA jvmtiInternalGetStackTraceIteratorExtended(J9VMThread * currentThre
 
 static jvmtiError JNICALL jvmtiGetHeapFreeMemory(jvmtiEnv* jvmti_env, ...);
 static jvmtiError JNICALL jvmtiGetHeapTotalMemory(jvmtiEnv* jvmti_env, ...);
+static jvmtiError JNICALL jvmtiIterateThroughHeapParallel(jvmtiEnv* jvmti_env, ...);
+static jvmtiIterationControl iterateThroughHeapParallelCallback(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, UDATA workerIndex, void *userData);
 
 static jvmtiError JNICALL jvmtiIterateSharedCaches(jvmtiEnv* env, ...);
 static jvmtiError JNICALL jvmtiDestroySharedCache(jvmtiEnv *env, ...);
@@ -241,6 +244,14 @@ static const jvmtiParamInfo jvmtiGetHeapTotalMemory_params[] = {
 	{ "heapTotal_ptr", JVMTI_KIND_OUT, JVMTI_TYPE_JLONG, JNI_FALSE }
 };
 
+/* (jvmtiEnv *jvmti_env, jint max_workers, void **worker_data, jvmtiParallelHeapIterationCallback callback, jint *workers_used_ptr) */
+static const jvmtiParamInfo jvmtiIterateThroughHeapParallel_params[] = {
+	{ "max_workers", JVMTI_KIND_IN, JVMTI_TYPE_JINT, JNI_FALSE },
+	{ "worker_data", JVMTI_KIND_IN_BUF, JVMTI_TYPE_CVOID, JNI_FALSE },
+	{ "callback", JVMTI_KIND_IN_PTR, JVMTI_TYPE_CVOID, JNI_FALSE },
+	{ "workers_used_ptr", JVMTI_KIND_OUT, JVMTI_TYPE_JINT, JNI_TRUE }
+};
+
 /* (jvmtiEnv *jvmti_env, jint version, const char *cacheDir, jboolean useCommandLineValues, jvmtiIterateSharedCachesCallback *callback, void *user_data) */
 static const jvmtiParamInfo jvmtiIterateSharedCaches_params[] = {
 	{ "version", JVMTI_KIND_IN, JVMTI_TYPE_JINT, JNI_FALSE },
@@ -468,6 +479,13 @@ static const jvmtiError jvmtiGetStack_errors[] = {
 	JVMTI_ERROR_OUT_OF_MEMORY	
 };
 
+static const jvmtiError jvmtiIterateThroughHeapParallel_errors[] = {
+	JVMTI_ERROR_WRONG_PHASE,
+	JVMTI_ERROR_MUST_POSSESS_CAPABILITY,
+	JVMTI_ERROR_NULL_POINTER,
+	JVMTI_ERROR_ILLEGAL_ARGUMENT
+};
+
 static const jvmtiError jvmtiIterateSharedCaches_errors[] = {
 	JVMTI_ERROR_NULL_POINTER,
 	JVMTI_ERROR_OUT_OF_MEMORY,
@@ -683,6 +701,13 @@ static const J9JVMTIExtensionFunctionInfo J9JVMTIExtensionFunctionInfoTable[] =
 		SIZE_AND_TABLE(jvmtiGetHeapTotalMemory_params),
 		SIZE_AND_TABLE(nullPointer_errors)
 	},
+	{
+		(jvmtiExtensionFunction) jvmtiIterateThroughHeapParallel,
+		COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL,
+		J9NLS_JVMTI_COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL_DESCRIPTION,
+		SIZE_AND_TABLE(jvmtiIterateThroughHeapParallel_params),
+		SIZE_AND_TABLE(jvmtiIterateThroughHeapParallel_errors)
+	},
 	{
 		(jvmtiExtensionFunction) jvmtiIterateSharedCaches,
 		COM_IBM_ITERATE_SHARED_CACHES,
@@ -2227,6 +2252,116 @@ done:
 	TRACE_JVMTI_RETURN(jvmtiGetHeapTotalMemory);
 }
 
+typedef struct J9JVMTIParallelHeapIterationData {
+	J9JVMTIEnv *env;
+	jvmtiParallelHeapIterationCallback callback;
+	void **workerData;
+} J9JVMTIParallelHeapIterationData;
+
+/**
+ * Called on the GC threads for each object in the heap by jvmtiIterateThroughHeapParallel.
+ * The tag table is only read. The calling thread holds the env mutex for the whole iteration,
+ * so the table cannot be changed under the GC threads.
+ */
+static jvmtiIterationControl
+iterateThroughHeapParallelCallback(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, UDATA workerIndex, void *userData)
+{
+	J9JVMTIParallelHeapIterationData *data = userData;
+	j9object_t object = objectDesc->object;
+	J9JVMTIObjectTag entry;
+	J9JVMTIObjectTag *result = NULL;
+	jlong tag = 0;
+	jlong classTag = 0;
+
+	/* Do not report uninitialized classes */
+	if (J9VM_IS_UNINITIALIZED_HEAPCLASS_VM(vm, object)) {
+		return JVMTI_ITERATION_CONTINUE;
+	}
+
+	entry.ref = object;
+	result = hashTableFind(data->env->objectTagTable, &entry);
+	if (NULL != result) {
+		tag = result->tag;
+	}
+	entry.ref = J9VM_J9CLASS_TO_HEAPCLASS(J9OBJECT_CLAZZ_VM(vm, object));
+	result = hashTableFind(data->env->objectTagTable, &entry);
+	if (NULL != result) {
+		classTag = result->tag;
+	}
+
+	if (0 != (JVMTI_VISIT_ABORT & data->callback((jint)workerIndex, classTag, (jlong)getObjectSize(vm, object), tag, data->workerData[workerIndex]))) {
+		return JVMTI_ITERATION_ABORT;
+	}
+
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiError JNICALL
+jvmtiIterateThroughHeapParallel(jvmtiEnv* jvmti_env, ...)
+{
+	J9JavaVM *vm = JAVAVM_FROM_ENV(jvmti_env);
+	J9VMThread *currentThread = NULL;
+	jvmtiError rc = JVMTI_ERROR_NONE;
+	UDATA workersUsed = 0;
+
+	jint max_workers;
+	void **worker_data;
+	jvmtiParallelHeapIterationCallback callback;
+	jint *workers_used_ptr;
+	va_list args;
+	va_start(args, jvmti_env);
+	max_workers = va_arg(args, jint);
+	worker_data = va_arg(args, void **);
+	callback = va_arg(args, jvmtiParallelHeapIterationCallback);
+	workers_used_ptr = va_arg(args, jint *);
+	va_end(args);
+
+	Trc_JVMTI_jvmtiIterateThroughHeapParallel_Entry(jvmti_env, max_workers);
+
+	rc = getCurrentVMThread(vm, &currentThread);
+	if (JVMTI_ERROR_NONE == rc) {
+		J9InternalVMFunctions const *vmFuncs = vm->internalVMFunctions;
+		J9JVMTIParallelHeapIterationData iteratorData;
+
+		vmFuncs->internalEnterVMFromJNI(currentThread);
+
+		ENSURE_PHASE_LIVE(jvmti_env);
+		ENSURE_CAPABILITY(jvmti_env, can_tag_objects);
+		ENSURE_NON_NULL(worker_data);
+		ENSURE_NON_NULL(callback);
+		if (max_workers <= 0) {
+			JVMTI_ERROR(JVMTI_ERROR_ILLEGAL_ARGUMENT);
+		}
+
+		iteratorData.env = (J9JVMTIEnv *)jvmti_env;
+		iteratorData.callback = callback;
+		iteratorData.workerData = worker_data;
+
+		vmFuncs->acquireExclusiveVMAccess(currentThread);
+		ensureHeapWalkable(currentThread);
+
+		/* Ensure exclusive access to tag table. The mutex is entered after exclusive VM access is acquired,
+		 * as the other users of the tag table hold VM access while they hold the mutex.
+		 */
+		omrthread_monitor_enter(iteratorData.env->mutex);
+
+		/* The heap is split across at most max_workers GC threads, so worker_data has an entry for each of them */
+		vm->memoryManagerFunctions->j9mm_iterate_all_objects_parallel(currentThread, vm->portLibrary, 0, (UDATA)max_workers, iterateThroughHeapParallelCallback, &iteratorData, &workersUsed);
+
+		omrthread_monitor_exit(iteratorData.env->mutex);
+
+		vmFuncs->releaseExclusiveVMAccess(currentThread);
+
+done:
+		vmFuncs->internalExitVMToJNI(currentThread);
+	}
+
+	if (NULL != workers_used_ptr) {
+		*workers_used_ptr = (jint)workersUsed;
+	}
+	TRACE_JVMTI_RETURN(jvmtiIterateThroughHeapParallel);
+}
+
 #if defined(J9VM_OPT_SHARED_CLASSES)
 struct IterateSharedCacheUserdata {
 	jvmtiEnv *env;
@@ -3166,7 +3301,7 @@ jvmtiJlmDumpStats(jvmtiEnv* env, ...)
 	ENSURE_PHASE_LIVE(env);
 	ENSURE_NON_NULL(dump_info);
 
-    if ( (dump_format < COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) || (dump_format > COM_IBM_JLM_DUMP_FORMAT_TAGS)) {
+    if ( (dump_format < COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) || (dump_format > COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS)) {
         rc = JVMTI_ERROR_ILLEGAL_ARGUMENT;
         goto done;
     }
@@ -1512,9 +1512,9 @@ findFieldIndexFromOffset(J9VMThread *currentThread, J9Class *clazz, UDATA offset
 		J9ROMFieldOffsetWalkResult *result = NULL;
 
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
-		result = vmFuncs->fieldOffsetsStartDo(vm, romClass, superclazz, &state, walkFlags, clazz->flattenedClassCache);
+		result = vmFuncs->fieldOffsetsStartDo(vm, romClass, superclazz, &state, walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz), clazz->flattenedClassCache);
 #else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
-		result = vmFuncs->fieldOffsetsStartDo(vm, romClass, superclazz, &state, walkFlags);
+		result = vmFuncs->fieldOffsetsStartDo(vm, romClass, superclazz, &state, walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz));
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 
 		while (NULL != result->field) {
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#if !defined(JFRTHROTTLER_HPP_)
+#define JFRTHROTTLER_HPP_
+
+#include "j9cfg.h"
+
+#if defined(J9VM_OPT_JFR)
+
+#include "j9.h"
+#include "AtomicSupport.hpp"
+
+/* Throttling windows are 100ms long, or one second for rates under 10 events per second */
+#define JFR_THROTTLE_WINDOW_NANOS ((U_64)100 * 1000 * 1000)
+#define JFR_THROTTLE_WINDOWS_PER_SECOND 10
+/* Weight of the most recent window in the moving average of candidates seen per window */
+#define JFR_THROTTLE_WINDOW_AVERAGE_WEIGHT 0.5
+
+/**
+ * Limits a JFR event to a number of events per second in the same way as the JDK event throttler.
+ *
+ * Time is split into windows, each with a budget of events. The part of the rate which does not
+ * divide evenly into windows is carried from window to window, so the budgets add up to the rate
+ * over a second. At the end of a window, the number of candidates expected in the next one is
+ * projected from a moving average of the previous windows, and a stride is chosen so that recording
+ * one candidate in every stride spreads the budget over the whole window rather than spending it at
+ * the start. The weight of dropped candidates is added to the next recorded one, so the recorded
+ * events still add up to everything seen. Updates by threads racing at the end of a window may be
+ * lost, which only makes the throttling approximate.
+ */
+class VM_JFRThrottler
+{
+	/*
+	 * Function members
+	 */
+public:
+	/**
+	 * Start throttling without history from an earlier recording.
+	 *
+	 * @param throttle[in] the throttler state
+	 * @param rate[in] the maximum number of events per second, 0 records every candidate
+	 */
+	static VMINLINE void
+	reset(J9JFRThrottle *throttle, UDATA rate)
+	{
+		throttle->rate = rate;
+		throttle->windowEnd = 0;
+		throttle->windowCount = 0;
+		throttle->windowRecorded = 0;
+		throttle->windowBudget = 0;
+		throttle->budgetRemainder = 0;
+		throttle->stride = 1;
+		throttle->windowAverage = 0.0;
+		throttle->droppedWeight = 0;
+	}
+
+	/**
+	 * Decide whether a candidate is recorded as an event.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 * @param throttle[in] the throttler state
+	 * @param weight[in] the weight of the candidate, such as the bytes allocated or the number of candidates it stands for
+	 * @param recordedWeight[out] if recorded, the weight of the candidate plus the weight of the candidates dropped before it
+	 * @return true if the candidate is recorded, false if it is dropped
+	 */
+	static VMINLINE bool
+	sample(J9JavaVM *vm, J9JFRThrottle *throttle, UDATA weight, UDATA *recordedWeight)
+	{
+		UDATA rate = throttle->rate;
+		if (0 == rate) {
+			*recordedWeight = weight;
+			return true;
+		}
+
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		U_64 now = j9time_nano_time();
+		U_64 windowEnd = throttle->windowEnd;
+		if (now >= windowEnd) {
+			U_64 windowNanos = JFR_THROTTLE_WINDOW_NANOS;
+			UDATA windowsPerSecond = JFR_THROTTLE_WINDOWS_PER_SECOND;
+			if (rate < JFR_THROTTLE_WINDOWS_PER_SECOND) {
+				windowNanos *= JFR_THROTTLE_WINDOWS_PER_SECOND;
+				windowsPerSecond = 1;
+			}
+			/* Only the thread which moves the window end starts the next window */
+			if (windowEnd == VM_AtomicSupport::lockCompareExchangeU64(&throttle->windowEnd, windowEnd, now + windowNanos)) {
+				double average = throttle->windowAverage;
+				if (0 != windowEnd) {
+					double candidates = (double)throttle->windowCount;
+					/* A window which ran long (no candidates for a while) is scaled back to one window of candidates */
+					if ((now - windowEnd) > windowNanos) {
+						candidates = candidates * (double)windowNanos / (double)(now - windowEnd + windowNanos);
+					}
+					average = (JFR_THROTTLE_WINDOW_AVERAGE_WEIGHT * candidates) + ((1.0 - JFR_THROTTLE_WINDOW_AVERAGE_WEIGHT) * average);
+				}
+				/* Carry the part of the rate which does not divide evenly into windows to the next window */
+				UDATA remainder = throttle->budgetRemainder + (rate % windowsPerSecond);
+				UDATA budget = (rate / windowsPerSecond) + (remainder / windowsPerSecond);
+				throttle->budgetRemainder = remainder % windowsPerSecond;
+				throttle->windowBudget = budget;
+				throttle->windowAverage = average;
+				throttle->stride = (0 == budget) ? 1 : OMR_MAX((UDATA)1, (UDATA)(average / (double)budget));
+				throttle->windowCount = 0;
+				throttle->windowRecorded = 0;
+			}
+		}
+
+		UDATA stride = throttle->stride;
+		UDATA count = VM_AtomicSupport::add(&throttle->windowCount, 1);
+		if ((0 != (count % stride)) || (throttle->windowRecorded >= throttle->windowBudget)) {
+			VM_AtomicSupport::add(&throttle->droppedWeight, weight);
+			return false;
+		}
+		VM_AtomicSupport::add(&throttle->windowRecorded, 1);
+		*recordedWeight = weight + VM_AtomicSupport::set(&throttle->droppedWeight, 0);
+
+		return true;
+	}
+};
+
+#endif /* defined(J9VM_OPT_JFR) */
+
+#endif /* JFRTHROTTLER_HPP_ */
@@ -298,7 +298,7 @@ private:
 			J9ROMFieldOffsetWalkState state;
 			J9ROMFieldOffsetWalkResult *result = vm->internalVMFunctions->fieldOffsetsStartDo(
 					vm, entry.clazz->romClass, VM_VMHelpers::getSuperclass(entry.clazz), &state,
-					J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE, entry.clazz->flattenedClassCache);
+					J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9CLASS_FIELD_OFFSET_WALK_FLAGS(entry.clazz), entry.clazz->flattenedClassCache);
 			while (NULL != result->field) {
 				UDATA fieldOffset = entry.startOffset + result->offset;
 				J9UTF8 *signature = J9ROMNAMEANDSIGNATURE_SIGNATURE(&result->field->nameAndSignature);
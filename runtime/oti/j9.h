@@ -128,6 +128,9 @@ typedef struct J9ClassLoaderWalkState {
 #define J9CLASS_IS_ARRAY(ramClass) ((J9CLASS_FLAGS(ramClass) & J9AccClassRAMArray) != 0)
 #define J9CLASS_IS_MIXED(ramClass) (((J9CLASS_FLAGS(ramClass) >> J9AccClassRAMShapeShift) & OBJECT_HEADER_SHAPE_MASK) == OBJECT_HEADER_SHAPE_MIXED)
 
+/* Field offset walk flags which depend on the RAM class, to be added to those passed to fieldOffsetsStartDo() */
+#define J9CLASS_FIELD_OFFSET_WALK_FLAGS(ramClass) (J9_ARE_ALL_BITS_SET((ramClass)->classFlags, J9ClassHasHotFieldLayout) ? J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT : 0)
+
 #define J9CLASS_IS_EXEMPT_FROM_VALIDATION(clazz) \
 	((J9ROMCLASS_IS_UNSAFE((clazz)->romClass) && !J9ROMCLASS_IS_HIDDEN((clazz)->romClass)) || (J9_ARE_ANY_BITS_SET((clazz)->classFlags, J9ClassIsExemptFromValidation)))
 
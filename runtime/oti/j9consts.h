@@ -391,6 +391,7 @@ extern "C" {
 #define J9_EXTENDED_RUNTIME3_GCCONTAINERHEURISTICS 0x400
 #define J9_EXTENDED_RUNTIME3_USE_VECTOR_LENGTH_256 0x800
 #define J9_EXTENDED_RUNTIME3_USE_VECTOR_LENGTH_512 0x1000
+#define J9_EXTENDED_RUNTIME3_HOT_FIELD_LAYOUT 0x2000
 
 
 #define J9_OBJECT_HEADER_AGE_DEFAULT 0xA /* OBJECT_HEADER_AGE_DEFAULT */
@@ -996,6 +997,20 @@ extern "C" {
 #define J9JFR_EVENT_TYPE_GC_HEAP_SUMMARY_ENTRY 16
 #define J9JFR_EVENT_TYPE_NETWORKUTILIZATION 17
 #define J9JFR_EVENT_TYPE_DATA_LOSS 18
+#define J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE 19
+#define J9JFR_EVENT_TYPE_COMPILATION 20
+#define J9JFR_EVENT_TYPE_CODE_CACHE_FULL 21
+#define J9JFR_EVENT_TYPE_COMPILER_STATISTICS 22
+#define J9JFR_EVENT_TYPE_JAVA_EXCEPTION_THROW 23
+#define J9JFR_EVENT_TYPE_EXCEPTION_STATISTICS 24
+#define J9JFR_EVENT_TYPE_VIRTUAL_THREAD_PINNED 25
+#define J9JFR_EVENT_TYPE_REFERENCE_CLASS_STATISTICS 26
+#define J9JFR_EVENT_TYPE_OBJECT_MONITOR_SPIN 27
+#define J9JFR_EVENT_TYPE_VIRTUAL_THREAD_STATISTICS 28
+
+/* Maximum number of JFR JavaExceptionThrow events recorded per second. */
+
+#define J9JFR_EXCEPTION_SAMPLE_RATE 100
 
 /* JFR thread states. */
 
@@ -83,6 +83,7 @@
 #define J9ClassLargestAlignmentConstraintReference 0x800
 #define J9ClassLargestAlignmentConstraintDouble 0x1000
 #define J9ClassIsExemptFromValidation 0x2000
+#define J9ClassHasHotFieldLayout 0x4000
 #define J9ClassCanSupportFastSubstitutability 0x8000
 #define J9ClassHasReferences 0x10000
 #define J9ClassRequiresPrePadding 0x20000
@@ -375,6 +376,8 @@ typedef struct J9ThreadJFRState {
 	omrthread_thread_time_t prevThreadCPUTimes;
 	int64_t prevTimestamp;
 	U_64 dataLostTotal;
+	I_64 pinnedTicks;
+	UDATA pinnedReason;
 } J9ThreadJFRState;
 
 typedef struct J9JFRBufferWalkState {
@@ -576,8 +579,125 @@ typedef struct J9JFRDataLoss {
 	U_64 total;
 } J9JFRDataLoss;
 
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRObjectAllocationSample {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Class *objectClass;
+	I_64 weight;
+} J9JFRObjectAllocationSample;
+
+#define J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(jfrEvent) ((UDATA *)(((J9JFRObjectAllocationSample *)(jfrEvent)) + 1))
+
+typedef struct J9JFRCompilation {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	struct J9Method *method;
+	U_32 compileID;
+	U_16 compileLevel;
+	BOOLEAN succeeded;
+	BOOLEAN isOSR;
+	U_64 codeSize;
+	U_64 inlinedBytes;
+} J9JFRCompilation;
+
+typedef struct J9JFRCodeCacheFull {
+	J9JFR_EVENT_COMMON_FIELDS
+	U_64 startAddress;
+	U_64 committedTopAddress;
+	U_64 reservedTopAddress;
+	I_32 entryCount;
+	I_32 methodCount;
+	U_64 unallocatedCapacity;
+	I_32 fullCount;
+} J9JFRCodeCacheFull;
+
+typedef struct J9JFRCompilerStatistics {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_32 compileCount;
+	I_32 bailoutCount;
+	I_32 osrCompileCount;
+	I_32 standardCompileCount;
+	U_64 osrBytesCompiled;
+	U_64 standardBytesCompiled;
+	U_64 codeSize;
+	I_64 peakTimeSpent;
+	I_64 totalTimeSpent;
+} J9JFRCompilerStatistics;
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRJavaExceptionThrow {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Class *thrownClass;
+} J9JFRJavaExceptionThrow;
+
+#define J9JFRJAVAEXCEPTIONTHROW_STACKTRACE(jfrEvent) ((UDATA *)(((J9JFRJavaExceptionThrow *)(jfrEvent)) + 1))
+
+#define J9JFR_VIRTUAL_THREAD_PINNED_OPERATION_LENGTH 32
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRVirtualThreadPinned {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	I_64 duration;
+	I_64 carrierThreadTID;
+	UDATA pinnedReason;
+	char blockingOperation[J9JFR_VIRTUAL_THREAD_PINNED_OPERATION_LENGTH];
+} J9JFRVirtualThreadPinned;
+
+#define J9JFRVIRTUALTHREADPINNED_STACKTRACE(jfrEvent) ((UDATA *)(((J9JFRVirtualThreadPinned *)(jfrEvent)) + 1))
+
+typedef struct J9JFRExceptionStatistics {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 throwables;
+} J9JFRExceptionStatistics;
+
+typedef struct J9JFRReferenceClassStatistics {
+	J9JFR_EVENT_COMMON_FIELDS
+	U_64 gcID;
+	struct J9Class *referenceClass;
+	U_64 discovered;
+	U_64 cleared;
+	U_64 enqueued;
+} J9JFRReferenceClassStatistics;
+
+typedef struct J9JFRObjectMonitorSpin {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	struct J9Class *monitorClass;
+	UDATA monitorAddress;
+	UDATA stopReason;
+	U_32 spinScale;
+	U_64 spinAcquireCount;
+	U_64 spinBlockCount;
+} J9JFRObjectMonitorSpin;
+
+typedef struct J9JFRVirtualThreadStatistics {
+	J9JFR_EVENT_COMMON_FIELDS
+	U_64 mountCount;
+	U_64 unmountCount;
+	U_64 mountedCount;
+	U_64 continuationCount;
+	U_64 continuationStackBytes;
+	U_32 t1CacheHitCount;
+	U_32 t2CacheHitCount;
+	U_32 cacheMissCount;
+	U_32 cacheFreeCount;
+} J9JFRVirtualThreadStatistics;
+
 #endif /* defined(J9VM_OPT_JFR) */
 
+/* State of a JFR event throttler, see VM_JFRThrottler */
+typedef struct J9JFRThrottle {
+	UDATA rate;
+	volatile U_64 windowEnd;
+	volatile UDATA windowCount;
+	volatile UDATA windowRecorded;
+	UDATA windowBudget;
+	UDATA budgetRemainder;
+	UDATA stride;
+	double windowAverage;
+	volatile UDATA droppedWeight;
+} J9JFRThrottle;
+
 /* @ddr_namespace: map_to_type=J9CfrError */
 
 /* Jazz 82615: Both errorPC (current pc value) and errorFrameBCI (bci value in the stack map frame)
@@ -999,6 +1119,14 @@ typedef struct J9ClassHotFieldsInfo {
 	uint8_t hotFieldListLength;
 } J9ClassHotFieldsInfo;
 
+#define J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS 3
+
+typedef struct J9HotFieldLayoutEntry {
+	struct J9UTF8* className;
+	UDATA fieldCount;
+	struct J9UTF8* fieldNames[J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS];
+} J9HotFieldLayoutEntry;
+
 typedef struct J9ROMNameAndSignature {
 	J9SRP name;
 	J9SRP signature;
@@ -1099,6 +1227,20 @@ typedef struct J9NonHeapMemoryData {
 	U_64 maxSize;
 }J9NonHeapMemoryData;
 
+/* Occupancy of one balanced GC compact group, as of the end of the most recent collection */
+typedef struct J9GCCompactGroupStats {
+	UDATA compactGroup;
+	UDATA allocationContext;
+	UDATA age;
+	UDATA regionCount;
+	UDATA freeBytes;
+	UDATA darkMatterBytes;
+	UDATA projectedLiveBytes;
+	double historicalSurvivalRate;
+	double weightedSurvivalRate;
+	double projectedSurvivalRate;
+} J9GCCompactGroupStats;
+
 typedef struct J9JavaLangManagementData {
 	I_64 vmStartTime;
 	U_64 totalClassLoads;
@@ -1146,6 +1288,8 @@ typedef struct J9JavaLangManagementData {
 	U_32 gcCurrentThreads;
 	char counterPath[2048];
 	U_32 isCounterPathInitialized;
+	UDATA compactGroupCount;
+	struct J9GCCompactGroupStats *compactGroupStats;
 } J9JavaLangManagementData;
 
 typedef struct J9LoadROMClassData {
@@ -1907,6 +2051,9 @@ typedef struct J9ObjectMonitor {
 #endif /* defined(J9VM_THR_SMART_DEFLATION) */
 	j9objectmonitor_t alternateLockword;
 	U_32 hash;
+	U_32 tryEnterSpinScale;
+	UDATA tryEnterSpinAcquireCount;
+	UDATA tryEnterSpinBlockCount;
 #if JAVA_SPEC_VERSION >= 24
 	volatile U_32 virtualThreadWaitCount;
 	volatile U_32 platformThreadWaitCount;
@@ -1916,6 +2063,18 @@ typedef struct J9ObjectMonitor {
 #endif /* JAVA_SPEC_VERSION >= 24 */
 } J9ObjectMonitor;
 
+/* Bounds and steps for J9ObjectMonitor.tryEnterSpinScale (a percentage of the configured try enter yield count) */
+#define J9_OBJECT_MONITOR_SPIN_SCALE_DEFAULT 100
+#define J9_OBJECT_MONITOR_SPIN_SCALE_MAX 200
+#define J9_OBJECT_MONITOR_SPIN_SCALE_INCREMENT 10
+#define J9_OBJECT_MONITOR_SPIN_SCALE_DECREMENT 25
+/* Number of consecutive yield rounds with an unchanged owner after which adaptive spinning gives up */
+#define J9_OBJECT_MONITOR_SPIN_OWNER_STALL_YIELDS 8
+/* Reasons for which an adaptive spin on an object monitor ended without acquiring it */
+#define J9_OBJECT_MONITOR_SPIN_STOP_LIMIT 0
+#define J9_OBJECT_MONITOR_SPIN_STOP_OWNER_STALLED 1
+#define J9_OBJECT_MONITOR_SPIN_STOP_OWNER_BLOCKED 2
+
 typedef struct J9ClassWalkState {
 	struct J9JavaVM* vm;
 	struct J9MemorySegment* nextSegment;
@@ -1997,6 +2156,8 @@ typedef struct J9ROMFieldOffsetWalkState {
 	struct J9HiddenInstanceField* hiddenInstanceFields[J9VM_MAX_HIDDEN_FIELDS_PER_CLASS];
 	UDATA hiddenInstanceFieldCount;
 	UDATA hiddenInstanceFieldWalkIndex;
+	struct J9ROMFieldShape* hotObjectFields[J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS];
+	U_32 hotObjectFieldCount;
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
 	struct J9FlattenedClassCache *flattenedClassCache;
 	UDATA firstFlatSingleOffset;
@@ -2021,6 +2182,7 @@ typedef struct J9ROMFieldOffsetWalkState {
 #define J9VM_FIELD_OFFSET_WALK_PREINDEX_INTERFACE_FIELDS  0x80
 #define J9VM_FIELD_OFFSET_WALK_BACKFILL_FLAT_OBJECT_FIELD  0x100
 #define J9VM_FIELD_OFFSET_WALK_BACKFILL_FLAT_SINGLE_FIELD  0x200
+#define J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT  0x400
 
 typedef struct J9ROMFullTraversalFieldOffsetWalkState {
 	struct J9JavaVM* javaVM;
@@ -4668,6 +4830,7 @@ typedef struct J9JITConfig {
 #endif /* defined(J9VM_OPT_OPENJDK_METHODHANDLE) */
 	U_8* (*codeCacheWarmAlloc)(void *codeCache);
 	U_8* (*codeCacheColdAlloc)(void *codeCache);
+	IDATA ( *dumpCompilationLedger)(struct J9VMThread *currentThread, const char *fileName);
 	void ( *printAOTHeaderProcessorFeatures)(struct TR_AOTHeader * aotHeaderAddress, char * buff, const size_t BUFF_SIZE);
 	struct OMRProcessorDesc targetProcessor;
 	struct OMRProcessorDesc relocatableTargetProcessor;
@@ -5152,6 +5315,7 @@ typedef struct J9MemoryManagerFunctions {
 	jvmtiIterationControl  ( *j9mm_iterate_object_slots)(struct J9JavaVM *javaVM, J9PortLibrary *portLibrary, struct J9MM_IterateObjectDescriptor *object, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *javaVM, struct J9MM_IterateObjectDescriptor *objectDesc, struct J9MM_IterateObjectRefDescriptor *refDesc, void *userData), void *userData) ;
 	void  ( *j9mm_initialize_object_descriptor)(struct J9JavaVM *javaVM, struct J9MM_IterateObjectDescriptor *descriptor, j9object_t object) ;
 	jvmtiIterationControl  ( *j9mm_iterate_all_objects)(struct J9JavaVM *vm, J9PortLibrary *portLibrary, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateObjectDescriptor *object, void *userData), void *userData) ;
+	jvmtiIterationControl  ( *j9mm_iterate_all_objects_parallel)(struct J9VMThread *vmThread, J9PortLibrary *portLibrary, UDATA flags, UDATA maxThreads, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateObjectDescriptor *object, UDATA workerIndex, void *userData), void *userData, UDATA *threadsUsed) ;
 	UDATA  ( *j9gc_modron_isFeatureSupported)(struct J9JavaVM *javaVM, UDATA feature) ;
 	UDATA  ( *j9gc_modron_getConfigurationValueForKey)(struct J9JavaVM *javaVM, UDATA key, void *value) ;
 	const char*  ( *omrgc_get_version)(OMR_VM *omrVM) ;
@@ -5196,6 +5360,8 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA ( *j9gc_stringHashFn)(void *key, void *userData);
 	BOOLEAN ( *j9gc_stringHashEqualFn)(void *leftKey, void *rightKey, void *userData);
 	void  ( *j9gc_ensureLockedSynchronizersIntegrity)(struct J9VMThread *vmThread) ;
+	UDATA  ( *j9gc_get_compact_group_stats)(struct J9VMThread *vmThread, struct J9GCCompactGroupStats *stats, UDATA maxCount) ;
+	U_64  ( *j9gc_get_memory_pressure_released_bytes)(struct J9JavaVM *javaVM) ;
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 	void  ( *j9gc_prepare_for_checkpoint)(struct J9VMThread *vmThread) ;
 	BOOLEAN  ( *j9gc_reinitialize_for_restore)(struct J9VMThread *vmThread, const char **nlsMsgFormat) ;
@@ -5636,6 +5802,7 @@ typedef struct J9InternalVMFunctions {
 	void (*releaseVThreadInspector)(struct J9VMThread *currentThread, jobject thread);
 	void (*enterVThreadTransitionCritical)(struct J9VMThread *currentThread, jobject thread);
 	void (*exitVThreadTransitionCritical)(struct J9VMThread *currentThread, jobject thread);
+	void (*getVirtualThreadMountCounts)(struct J9JavaVM *vm, UDATA *mountCount, UDATA *unmountCount, UDATA *mountedCount);
 #endif /* JAVA_SPEC_VERSION >= 19 */
 	UDATA (*checkArgsConsumed)(struct J9JavaVM * vm, struct J9PortLibrary* portLibrary, struct J9VMInitArgs* j9vm_args);
 #if defined(J9VM_ZOS_3164_INTEROPERABILITY) && (JAVA_SPEC_VERSION >= 17)
@@ -5647,6 +5814,7 @@ typedef struct J9InternalVMFunctions {
 	jboolean (*isJFRV2SupportEnabled)(struct J9JavaVM *vm);
 	jboolean (*isJFRRecordingStarted)(struct J9JavaVM *vm);
 	void (*jfrDump)(struct J9VMThread *currentThread, BOOLEAN finalWrite);
+	BOOLEAN (*jfrDumpRepository)(struct J9VMThread *currentThread, const char *fileName, I_64 maxAge);
 	void (*enableJFRRecordingOnThread)(struct J9VMThread *currentThread, j9object_t threadObject);
 	void (*disableJFRRecordingOnThread)(struct J9VMThread *currentThread, j9object_t threadObject);
 	BOOLEAN (*isJFRRecordingDisabledOnThread)(struct J9VMThread *currentThread, j9object_t threadObject);
@@ -5655,6 +5823,10 @@ typedef struct J9InternalVMFunctions {
 	void  (*jfrYoungGarbageCollection)(struct OMR_VMThread *omrVMThread) ;
 	void  (*jfrGarbageCollection)(struct OMR_VMThread *omrVMThread) ;
 	void  (*jfrGCHeapSummary)(struct OMR_VMThread *omrVMThread, U_32 gcWhenID) ;
+	void (*jfrObjectAllocationSample)(struct J9VMThread *currentThread, struct J9Class *objectClass, UDATA weight);
+	void (*jfrReferenceClassStatistics)(struct OMR_VMThread *omrVMThread, struct J9Class *referenceClass, UDATA discovered, UDATA cleared, UDATA enqueued);
+	void (*jfrCompilation)(struct J9VMThread *currentThread, struct J9Method *method, U_16 compileLevel, BOOLEAN succeeded, BOOLEAN isOSR, U_64 bytecodeSize, U_64 codeSize, U_64 inlinedBytes, I_64 duration);
+	void (*jfrCodeCacheFull)(struct J9VMThread *currentThread, U_64 startAddress, U_64 topAddress, U_64 unallocatedCapacity, I_32 fullCount);
 	jboolean (*setJFRRecordingFileName)(struct J9JavaVM *vm, char *fileName);
 	void (*tearDownJFR)(struct J9JavaVM *vm);
 	jlong (*getTypeIdUTF8)(struct J9VMThread *currentThread, struct J9ClassLoader *classLoader, struct J9UTF8 *className, BOOLEAN freeName);
@@ -5663,6 +5835,9 @@ typedef struct J9InternalVMFunctions {
 	j9object_t (*jvmUpcallTransformArrayToList)(struct J9VMThread *currentThread, j9object_t array);
 	void (*jfrInitializeInternalStructures)(struct J9VMThread *currentThread);
 	void (*jfrEmitDataLoss)(struct J9VMThread *currentThread, U_64 bytes);
+#if JAVA_SPEC_VERSION >= 19
+	void (*jfrVirtualThreadPinned)(struct J9VMThread *currentThread, const char *blockingOperation);
+#endif /* JAVA_SPEC_VERSION >= 19 */
 #endif /* defined(J9VM_OPT_JFR) */
 #if defined(J9VM_OPT_SNAPSHOTS)
 	void (*initializeSnapshotClassLoaderObject)(struct J9JavaVM *javaVM, struct J9ClassLoader *classLoader, j9object_t classLoaderObject);
@@ -6076,6 +6251,8 @@ typedef struct J9VMThread {
 	j9object_t carrierThreadObject;
 	j9object_t scopedValueCache;
 	J9VMContinuation **continuationT1Cache;
+	UDATA virtualThreadMountCount;
+	UDATA virtualThreadUnmountCount;
 #endif /* JAVA_SPEC_VERSION >= 19 */
 #if JAVA_SPEC_VERSION >= 21
 	BOOLEAN isInCriticalDownCall;
@@ -6165,6 +6342,15 @@ typedef struct J9VMThread {
 #define J9VMTHREAD_DISCONTIGUOUS_INDEXABLE_HEADER_SIZE(vmThread) ((vmThread)->discontiguousIndexableHeaderSize)
 #define J9VMTHREAD_UNSAFE_INDEXABLE_HEADER_SIZE(vmThread) ((vmThread)->unsafeIndexableHeaderSize)
 
+/* A chunk file in the repository of a continuous JFR recording; chunks are linked from oldest to newest */
+typedef struct J9JFRRepositoryChunk {
+	struct J9JFRRepositoryChunk *next;
+	UDATA chunkIndex;
+	I_64 startTime;
+	I_64 endTime;
+	U_64 size;
+} J9JFRRepositoryChunk;
+
 typedef struct JFRState {
 	char *jfrFileName;
 	const char *jfrCMDLineOption;
@@ -6195,6 +6381,31 @@ typedef struct JFRState {
 	J9Method *transformToListMethod;
 	J9HashTable *threadObjectJNIRefTable;
 	omrthread_monitor_t threadObjectsMutex;
+	U_32 compileCount;
+	U_32 bailoutCount;
+	U_32 osrCompileCount;
+	U_64 osrBytesCompiled;
+	U_64 standardBytesCompiled;
+	U_64 compiledCodeSize;
+	U_64 peakCompileTime;
+	U_64 totalCompileTime;
+	I_64 repositoryMaxAge;
+	U_64 repositoryMaxSize;
+	char *repositoryPath;
+	struct J9JFRRepositoryChunk *repositoryHead;
+	struct J9JFRRepositoryChunk *repositoryTail;
+	U_64 repositorySize;
+	omrthread_monitor_t repositoryMutex;
+	UDATA repositoryDumpCount;
+	struct J9JFRRepositoryChunk *repositoryRemoved;
+	U_64 javaExceptionThrowTypeID;
+	U_64 exceptionStatisticsTypeID;
+	U_64 virtualThreadPinnedTypeID;
+	U_64 referenceClassStatisticsTypeID;
+	U_64 objectMonitorSpinTypeID;
+	U_64 virtualThreadStatisticsTypeID;
+	volatile UDATA throwableCount;
+	J9JFRThrottle exceptionThrottle;
 } JFRState;
 
 typedef struct J9ReflectFunctionTable {
@@ -6278,6 +6489,8 @@ typedef struct J9JavaVM {
 	struct J9Pool* hotFieldClassInfoPool;
 	omrthread_monitor_t hotFieldClassInfoPoolMutex;
 	omrthread_monitor_t globalHotFieldPoolMutex;
+	struct J9HashTable* hotFieldLayoutTable;
+	U_8* hotFieldLayoutData;
 	struct J9ClassLoader* systemClassLoader;
 	UDATA sigFlags;
 	void* vmLocalStorageFunctions;
@@ -6395,6 +6608,7 @@ typedef struct J9JavaVM {
 	UDATA thrMaxTryEnterYieldsBeforeBlocking;
 	UDATA thrNestedSpinning;
 	UDATA thrTryEnterNestedSpinning;
+	UDATA thrAdaptiveObjectMonitorSpinning;
 	UDATA thrDeflationPolicy;
 	UDATA gcOptions;
 	UDATA  ( *unhookVMEvent)(struct J9JavaVM *javaVM, UDATA eventNumber, void * currentHandler, void * oldHandler) ;
@@ -6712,7 +6926,17 @@ typedef struct J9JavaVM {
 	volatile U_32 cacheMiss;
 	volatile U_32 t2store;
 	volatile U_32 cacheFree;
+	volatile U_32 cacheGrownStackFree;
+	volatile U_32 cacheGrownStackReplaced;
+	volatile U_32 continuationStackShrunk;
 	volatile U_64 totalContinuationStackSize;
+	UDATA continuationCacheMaxStackSize;
+	volatile UDATA virtualThreadPinnedCount;
+	/* Mounts and unmounts by carrier threads which have exited, protected by vmThreadListMutex. */
+	UDATA virtualThreadMountCount;
+	UDATA virtualThreadUnmountCount;
+	volatile UDATA liveContinuationCount;
+	volatile UDATA continuationStackBytes;
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 	volatile I_64 avgCacheLookupTime;
 	volatile U_32 fastAlloc;
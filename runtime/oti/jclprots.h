@@ -278,6 +278,12 @@ extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_isThreadContentionMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl (JNIEnv *env, jobject unused, jlong threadID);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getVirtualThreadPinnedCountImpl (JNIEnv *env, jclass unused);
+#if JAVA_SPEC_VERSION >= 21
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_lang_management_internal_VirtualThreadMXBeanImpl_getStatisticImpl (JNIEnv *env, jclass unused, jint statistic);
+#endif /* JAVA_SPEC_VERSION >= 21 */
 
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getThreadInfoImpl(JNIEnv *env, jobject beanInstance,
@@ -439,6 +445,12 @@ extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl(JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupCountImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getCompactGroupStatisticsImpl(JNIEnv *env, jobject beanInstance, jlongArray longStats, jdoubleArray doubleStats);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getHeapMemoryReleasedUnderPressureImpl(JNIEnv *env, jobject beanInstance);
 #if JAVA_SPEC_VERSION >= 26
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getTotalGcCpuTimeImpl(JNIEnv *env, jobject beanInstance);
@@ -1293,6 +1305,8 @@ Java_com_ibm_oti_vm_VM_getJ9ConstantPoolFromJ9Class(JNIEnv *env, jclass unused,
  */
 jboolean JNICALL
 Java_com_ibm_oti_vm_VM_isJVMInSingleThreadedMode(JNIEnv *env, jclass unused);
+jint JNICALL
+Java_com_ibm_oti_vm_VM_dumpCompilationLedger(JNIEnv *env, jclass unused, jstring fileNameString);
 
 #if defined(J9VM_OPT_JFR)
 jstring JNICALL
@@ -1313,12 +1327,18 @@ jboolean JNICALL
 Java_com_ibm_oti_vm_VM_isJFRV2SupportEnabled(JNIEnv *env, jclass unused);
 jboolean JNICALL
 Java_com_ibm_oti_vm_VM_isJFRRecordingStarted(JNIEnv *env, jclass unused);
+jboolean JNICALL
+Java_com_ibm_oti_vm_VM_isJFRRepositoryEnabled(JNIEnv *env, jclass unused);
 void JNICALL
 Java_com_ibm_oti_vm_VM_jfrDump(JNIEnv *env, jclass unused);
+jboolean JNICALL
+Java_com_ibm_oti_vm_VM_jfrDumpRepository(JNIEnv *env, jclass unused, jstring fileNameString, jlong maxAgeMillis);
 jstring JNICALL
 Java_com_ibm_oti_vm_VM_getJfrRecordingFileName(JNIEnv *env, jclass clazz);
 jboolean JNICALL
 Java_com_ibm_oti_vm_VM_setJFRRecordingFileName(JNIEnv *env, jclass unused, jstring fileNameString);
+void JNICALL
+Java_com_ibm_oti_vm_VM_setJFRRepositoryLimits(JNIEnv *env, jclass unused, jlong maxAgeMillis, jlong maxSize);
 jint JNICALL
 Java_com_ibm_oti_vm_VM_startJFR(JNIEnv *env, jclass unused);
 void JNICALL
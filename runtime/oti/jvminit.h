@@ -608,6 +608,8 @@ enum INIT_STAGE {
 
 #define VMOPT_XXGCCONTAINERHEURISTICS "-XX:+GCContainerHeuristics"
 #define VMOPT_XXNOGCCONTAINERHEURISTICS "-XX:-GCContainerHeuristics"
+#define VMOPT_XXHOTFIELDLAYOUT "-XX:+HotFieldLayout"
+#define VMOPT_XXNOHOTFIELDLAYOUT "-XX:-HotFieldLayout"
 
 #if JAVA_SPEC_VERSION >= 22
 #define VMOPT_XFFIPROTO "-Xffiproto"
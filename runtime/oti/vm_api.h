@@ -1309,6 +1309,17 @@ UDATA
 growJavaStack(J9VMThread * vmThread, UDATA newStackSize);
 
 
+/**
+* @brief Relocate the frames of the current thread into a new stack of newStackSize bytes,
+* which may be smaller than the current stack.
+* @param vmThread
+* @param newStackSize
+* @return UDATA 0 on success, non-zero if the frames do not fit or the stack could not be allocated
+*/
+UDATA
+shrinkJavaStack(J9VMThread *vmThread, UDATA newStackSize);
+
+
 #endif /* J9VM_INTERP_GROWABLE_STACKS */ /* End File Level Build Flags */
 
 
@@ -4564,10 +4575,11 @@ threadAboutToStart(J9VMThread *currentThread);
 * @param vm
 * @param stackSize
 * @param previousStack
+* @param memoryCategory the memory category to charge the stack to
 * @return J9JavaStack *
 */
 J9JavaStack *
-allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack);
+allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack, U_32 memoryCategory);
 
 
 /**
@@ -4836,6 +4848,20 @@ enterVThreadTransitionCritical(J9VMThread *currentThread, jobject thread);
  */
 void
 exitVThreadTransitionCritical(J9VMThread *currentThread, jobject thread);
+
+/**
+ * @brief Sum the virtual thread mount and unmount counts of all carrier threads.
+ *
+ * Each carrier counts its own mounts and unmounts. The counts of exited
+ * carriers are folded into the J9JavaVM when the J9VMThread is freed.
+ *
+ * @param vm the J9JavaVM
+ * @param[out] mountCount the total number of mounts
+ * @param[out] unmountCount the total number of unmounts
+ * @param[out] mountedCount the number of virtual threads currently mounted
+ */
+void
+getVirtualThreadMountCounts(J9JavaVM *vm, UDATA *mountCount, UDATA *unmountCount, UDATA *mountedCount);
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
 #if JAVA_SPEC_VERSION >= 24
@@ -5804,6 +5830,22 @@ isJFRRecordingStarted(J9JavaVM *vm);
 void
 jfrDump(J9VMThread *currentThread, BOOLEAN finalWrite);
 
+/**
+ * Write the recent part of a continuous recording to a file, without stopping the recording.
+ * The buffered events are first written to a new chunk in the repository. If the recording
+ * has no repository (neither a maximum age nor size was set), this is the same as jfrDump().
+ * Must have VM access, but not exclusive VM access. Exclusive VM access is only acquired to
+ * write out the buffered events, and VM access is released while the chunks are copied.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param fileName[in] the file to write, or NULL for the recording file
+ * @param maxAge[in] only chunks which ended within this many nanoseconds are written, 0 writes all chunks
+ *
+ * @return TRUE on success, FALSE if the file could not be written
+ */
+BOOLEAN
+jfrDumpRepository(J9VMThread *currentThread, const char *fileName, I_64 maxAge);
+
 void
 enableJFRRecordingOnThread(J9VMThread *currentThread, j9object_t threadObject);
 
@@ -5864,6 +5906,87 @@ jfrGarbageCollection(OMR_VMThread *omrVMThread);
 void
 jfrGCHeapSummary(OMR_VMThread *omrVMThread, U_32 gcWhenID);
 
+/**
+ * JFR object allocation sample event. Called with VM access.
+ *
+ * @param currentThread[in] the thread which allocated the sampled object
+ * @param objectClass[in] the class of the sampled object
+ * @param weight[in] the number of bytes allocated by the thread that the sample stands for
+ */
+void
+jfrObjectAllocationSample(J9VMThread *currentThread, J9Class *objectClass, UDATA weight);
+
+/**
+ * JFR reference class statistics event. Called without VM access by the GC at the end of a cycle,
+ * once for each class of reference objects processed in the cycle.
+ *
+ * @param omrVMThread[in] the omr VM thread
+ * @param referenceClass[in] the class of the reference objects
+ * @param discovered[in] the number of reference objects found on the reference lists
+ * @param cleared[in] the number of reference objects whose referent was cleared
+ * @param enqueued[in] the number of cleared reference objects which were enqueued
+ */
+void
+jfrReferenceClassStatistics(OMR_VMThread *omrVMThread, J9Class *referenceClass, UDATA discovered, UDATA cleared, UDATA enqueued);
+
+/**
+ * JFR compilation event, also accumulated into the compiler statistics.
+ * Called with VM access by the JIT compilation thread at the end of a compilation.
+ *
+ * @param currentThread[in] the compilation thread
+ * @param method[in] the method which was compiled
+ * @param compileLevel[in] the optimization level of the compilation
+ * @param succeeded[in] TRUE if the compiled body was installed, FALSE if the compilation failed
+ * @param isOSR[in] TRUE for a compilation entered from a running loop rather than at the method entry
+ * @param bytecodeSize[in] the bytecode size of the method
+ * @param codeSize[in] the size of the compiled code
+ * @param inlinedBytes[in] the bytecode size of the inlined methods
+ * @param duration[in] the duration of the compilation in nanoseconds
+ */
+void
+jfrCompilation(J9VMThread *currentThread, J9Method *method, U_16 compileLevel, BOOLEAN succeeded, BOOLEAN isOSR, U_64 bytecodeSize, U_64 codeSize, U_64 inlinedBytes, I_64 duration);
+
+/**
+ * JFR code cache full event. Called with VM access by the JIT when it finds that it
+ * can no longer allocate code cache space.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param startAddress[in] the lowest address of the code caches
+ * @param topAddress[in] the highest address of the code caches
+ * @param unallocatedCapacity[in] the free space left in the code caches
+ * @param fullCount[in] the number of times the code caches have become full
+ */
+void
+jfrCodeCacheFull(J9VMThread *currentThread, U_64 startAddress, U_64 topAddress, U_64 unallocatedCapacity, I_32 fullCount);
+
+/**
+ * JFR throwable created event. Called with VM access by Throwable.fillInStackTrace() when the
+ * stack trace of a new throwable has been walked, and only while a recording is running.
+ * The throwable is counted for the exception statistics event, and a JavaExceptionThrow
+ * event is recorded for it unless it is dropped to keep within the exception event rate.
+ *
+ * @param currentThread[in] the thread which created the throwable
+ * @param throwableClass[in] the class of the throwable
+ * @param stackTrace[in] the walked stack trace of the throwable
+ * @param stackTraceSize[in] the number of frames in the stack trace
+ */
+void
+jfrThrowableCreated(J9VMThread *currentThread, J9Class *throwableClass, UDATA *stackTrace, UDATA stackTraceSize);
+
+/**
+ * JFR object monitor spin event. Called with VM access by the thread entering an inflated object
+ * monitor, when an adaptive spin (-Xthr:adaptiveObjectMonitorSpinning) ends without acquiring the
+ * monitor, and only while a recording is running.
+ *
+ * @param currentThread[in] the thread which spun on the monitor
+ * @param objectMonitor[in] the object monitor
+ * @param monitorClass[in] the class of the object which owns the monitor
+ * @param spinStartTicks[in] the time at which the spin started
+ * @param stopReason[in] why the spin ended, one of the J9_OBJECT_MONITOR_SPIN_STOP_* values
+ */
+void
+jfrObjectMonitorSpin(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, J9Class *monitorClass, I_64 spinStartTicks, UDATA stopReason);
+
 /**
  * Set JFR recording file name.
  *
@@ -5973,6 +6096,19 @@ jfrInitializeInternalStructures(J9VMThread *currentThread);
 void
 jfrEmitDataLoss(J9VMThread *currentThread, U_64 bytes);
 
+#if JAVA_SPEC_VERSION >= 19
+/**
+ * JFR virtual thread pinned event. Called with VM access when a virtual thread parks or waits
+ * while pinned to its carrier thread. The event starts when the pinned continuation failed to
+ * yield, and records why it was pinned.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param blockingOperation[in] the blocking operation which pinned the carrier thread, or NULL
+ */
+void
+jfrVirtualThreadPinned(J9VMThread *currentThread, const char *blockingOperation);
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 #endif /* defined(J9VM_OPT_JFR) */
 
 #ifdef __cplusplus
@@ -48,6 +48,7 @@ extern "C" {
 #define UT_FASTPATH                   17
 #define UT_TRC_SPECIAL_MASK              0x3ff
 #define UT_TRACE_WRITE_PRIORITY       8
+#define UT_TRACE_WRITE_BATCH_BUFFERS  16
 #define UT_TRACE_INTERNAL             0
 #define UT_TRACE_EXTERNAL             1
 #define UT_STRUCT_ALIGN               4
@@ -544,6 +545,10 @@ typedef struct TraceWorkerData {
 	intptr_t        exceptFile;
 	int64_t         exceptSize;
 	int64_t         maxExcept;
+	char           *batch;          /* records held back to be written out together */
+	int32_t         batchCapacity;  /* size of batch, 0 if records are written out individually */
+	int32_t         batchLength;    /* bytes currently held in batch */
+	int32_t         batchType;      /* buffer type of the records held in batch */
 } TraceWorkerData;
 
 /*
@@ -758,6 +758,55 @@ cleanup:
 }
 
 
+/*******************************************************************************
+ * name        - flushTraceBatch
+ * description - Write out the records held in the trace worker's batch
+ * parameters  - TraceWorkerData *
+ * returns     - OMR_ERROR_NONE on success, otherwise error
+ ******************************************************************************/
+static omr_error_t
+flushTraceBatch(TraceWorkerData *state)
+{
+	intptr_t outputFile;
+	int64_t *fileSize;
+	char *filename;
+	int32_t length = state->batchLength;
+	int32_t rc;
+	PORT_ACCESS_FROM_PORT(UT_GLOBAL(portLibrary));
+
+	if (length == 0) {
+		return OMR_ERROR_NONE;
+	}
+
+	state->batchLength = 0;
+	if (state->batchType == UT_EXCEPTION_BUFFER) {
+		outputFile = state->exceptFile;
+		fileSize = &state->exceptSize;
+		filename = UT_GLOBAL(exceptFilename);
+	} else {
+		outputFile = state->trcFile;
+		fileSize = &state->trcSize;
+		filename = UT_GLOBAL(traceFilename);
+	}
+
+	if (outputFile == -1) {
+		return OMR_ERROR_NONE;
+	}
+
+	UT_DBGOUT(5, ("<UT> flushTraceBatch writing %d bytes to %s\n", length, filename));
+
+	rc = (int32_t)j9file_write(outputFile, state->batch, length);
+	if (rc != length) {
+		/* Error writing %d bytes to tracefile: %s rc: %d */
+		j9nls_printf(PORTLIB, J9NLS_WARNING | J9NLS_STDERR, J9NLS_TRC_TRACE_WRITE_FAIL_STR, length, filename, rc);
+		*fileSize = -1;
+		return OMR_ERROR_INTERNAL;
+	}
+
+	return OMR_ERROR_NONE;
+}
+
+
 /*******************************************************************************
  * name        - writeBuffer
  * description - Trace Writer main function to write buffers to disk
@@ -776,7 +825,7 @@ writeBuffer(UtSubscription *subscription)
 	int32_t *wrap;
 	int32_t bufferType;
 	char *filename;
-	int32_t rc;
+	int32_t rc = 0;
 	PORT_ACCESS_FROM_PORT(UT_GLOBAL(portLibrary));
 
 	thr = subscription->thr;
@@ -804,7 +853,10 @@ writeBuffer(UtSubscription *subscription)
 			wrap = &UT_GLOBAL(exceptTraceWrap);
 			break;
 		default:
-			/* not a buffer type we know about so skip it */
+			/* not a buffer type we know about so skip it, but don't hold back earlier records */
+			if (!isMessagePending(subscription->queueSubscription)) {
+				return flushTraceBatch(state);
+			}
 			return OMR_ERROR_NONE;
 			break;
 	}
@@ -813,15 +865,39 @@ writeBuffer(UtSubscription *subscription)
 		UT_DBGOUT(5, ("<UT thr=" UT_POINTER_SPEC "> writeBuffer writing buffer " UT_POINTER_SPEC " to %s\n", thr, trcBuf, filename));
 
 		/*
-		 *  Write the record
+		 *  Records held for the other file, or more than will fit alongside this one, go out first
+		 */
+		if ((state->batchLength != 0)
+			&& ((state->batchType != bufferType) || ((state->batchCapacity - state->batchLength) < (int32_t)subscription->dataLength))
+		) {
+			if (OMR_ERROR_NONE != flushTraceBatch(state)) {
+				return OMR_ERROR_INTERNAL;
+			}
+		}
+
+		/*
+		 *  Write the record, or add it to the batch
 		 */
 		*fileSize += subscription->dataLength;
-		rc = (int32_t)j9file_write(outputFile, subscription->data, (int32_t)subscription->dataLength);
-		if (rc != subscription->dataLength) {
-			/* Error writing %d bytes to tracefile: %s rc: %d */
-			j9nls_printf(PORTLIB, J9NLS_WARNING | J9NLS_STDERR, J9NLS_TRC_TRACE_WRITE_FAIL_STR, subscription->dataLength, filename, rc);
-			*fileSize = -1;
-			return OMR_ERROR_INTERNAL;
+		if ((int32_t)subscription->dataLength <= state->batchCapacity) {
+			memcpy(state->batch + state->batchLength, subscription->data, subscription->dataLength);
+			state->batchLength += (int32_t)subscription->dataLength;
+			state->batchType = bufferType;
+
+			/* The batch must reach the file before it wraps, and before we wait for the next buffer */
+			if ((*wrap != 0 && *fileSize >= *wrap) || !isMessagePending(subscription->queueSubscription)) {
+				if (OMR_ERROR_NONE != flushTraceBatch(state)) {
+					return OMR_ERROR_INTERNAL;
+				}
+			}
+		} else {
+			rc = (int32_t)j9file_write(outputFile, subscription->data, (int32_t)subscription->dataLength);
+			if (rc != subscription->dataLength) {
+				/* Error writing %d bytes to tracefile: %s rc: %d */
+				j9nls_printf(PORTLIB, J9NLS_WARNING | J9NLS_STDERR, J9NLS_TRC_TRACE_WRITE_FAIL_STR, subscription->dataLength, filename, rc);
+				*fileSize = -1;
+				return OMR_ERROR_INTERNAL;
+			}
 		}
 
 		/*
@@ -869,6 +945,8 @@ writeBuffer(UtSubscription *subscription)
 		if (*fileSize > *maxFileSize) {
 			*maxFileSize = *fileSize;
 		}
+	} else if ((state->batchLength != 0) && !isMessagePending(subscription->queueSubscription)) {
+		return flushTraceBatch(state);
 	}
 
 	return OMR_ERROR_NONE;
@@ -927,7 +1005,7 @@ getTrcBuf(UtThreadData **thr, UtTraceBuffer * oldBuf, int bufferType)
 
 				/* YES - put the full buffer on the write thread */
 				if (queueWrite(oldBuf, UT_TRC_BUFFER_FULL) != NULL) {
-					notifySubscribers(&UT_GLOBAL(outputQueue));
+					notifyWaitingSubscribers(&UT_GLOBAL(outputQueue));
 				}
 
 				/* Set up nextBuf */
@@ -979,7 +1057,7 @@ getTrcBuf(UtThreadData **thr, UtTraceBuffer * oldBuf, int bufferType)
 			}
 
 			if (queueWrite(oldBuf, UT_TRC_BUFFER_FULL) != NULL) {
-				notifySubscribers(&UT_GLOBAL(outputQueue));
+				notifyWaitingSubscribers(&UT_GLOBAL(outputQueue));
 			}
 		}
 	}
@@ -2312,6 +2390,11 @@ cleanupTraceWorkerThread(UtSubscription *subscription)
 	UT_GLOBAL(traceWriteStarted) = FALSE;
 	UT_GLOBAL(traceInitialized) = FALSE;
 
+	flushTraceBatch(data);
+	if (NULL != data->batch) {
+		j9mem_free_memory(data->batch);
+	}
+
 	if (data->trcFile != -1) {
 		closeTraceFile(data->trcFile, UT_GLOBAL(traceFilename),
 				data->maxTrc);
@@ -2379,10 +2462,25 @@ setupTraceWorkerThread(UtThreadData **thr)
 		}
 	}
 
+	/* Buffers queued while the worker is busy are written out together. If the batch
+	 * can't be allocated each buffer is written out as it's processed.
+	 */
+	data->batchLength = 0;
+	data->batchType = UT_NORMAL_BUFFER;
+	data->batchCapacity = UT_GLOBAL(bufferSize) * UT_TRACE_WRITE_BATCH_BUFFERS;
+	data->batch = (char*)j9mem_allocate_memory(data->batchCapacity, OMRMEM_CATEGORY_TRACE);
+	if (data->batch == NULL) {
+		UT_DBGOUT(1, ("<UT> Unable to allocate trace write batch, writing buffers individually\n"));
+		data->batchCapacity = 0;
+	}
+
 	UT_DBGOUT(1, ("<UT> Registering trace write subscriber\n"));
 	result = trcRegisterRecordSubscriber(thr, "Trace Engine Thread", writeBuffer, cleanupTraceWorkerThread, data, NULL, NULL, &subscription, TRUE);
 
 	if (OMR_ERROR_NONE != result) {
+		if (NULL != data->batch) {
+			j9mem_free_memory(data->batch);
+		}
 		j9mem_free_memory( data);
 		/* Error registering trace write subscriber */
 		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_TRC_REGISTER_SUBSCRIBER_FAILED);
@@ -257,6 +257,7 @@ createQueue(qQueue **queue)
 	que->subscribers = NULL;
 	que->referenceQueue = NULL;
 	que->pause = FALSE;
+	que->waiters = 0;
 
 	result = initEvent(&que->alarm, "Trace Queue Alarm");
 	if (OMR_ERROR_NONE != result) {
@@ -556,7 +557,14 @@ acquireNextMessage(qSubscription *sub)
 					UtEventSem *alarm = queue->alarm;
 					UT_DBGOUT(2, ("<UT> subscription "UT_POINTER_SPEC" waiting for message to be published to queue "UT_POINTER_SPEC"\n", sub, queue));
 					if (alarm != NULL) {
-						waitEvent(queue->alarm);
+						/* Count ourselves as waiting before checking head again. Publishers update head before
+						 * checking for waiters, so either they see us and post the alarm or we see the new head.
+						 */
+						UT_ATOMIC_INC((volatile uint32_t*)&queue->waiters);
+						if (queue->head == head && sub->valid) {
+							waitEvent(queue->alarm);
+						}
+						UT_ATOMIC_DEC((volatile uint32_t*)&queue->waiters);
 					}
 				} else {
 					/* need to notify in case we stole the posted state of alarm */
@@ -1122,6 +1130,31 @@ notifySubscribers(qQueue *queue)
 	}
 }
 
+/*
+ * Wakes subscribers waiting for messages on the queue, if there are any. This is used after publishing
+ * a message so that threads switching trace buffers only take the alarm monitor when a subscriber has
+ * run out of messages, not for every buffer queued while it is busy writing.
+ */
+void
+notifyWaitingSubscribers(qQueue *queue)
+{
+	if (compareAndSwapU32((uint32_t*)&queue->waiters, 0, 0) != 0) {
+		notifySubscribers(queue);
+	}
+}
+
+/*
+ * Returns TRUE if the message after the subscription's current message has already been published,
+ * meaning the next call to acquireNextMessage will not wait. FALSE does not guarantee it will wait.
+ */
+int32_t
+isMessagePending(qSubscription *sub)
+{
+	qMessage *current = sub->current;
+
+	return (current != NULL) && IS_VALID_MSG_PTR(current->next);
+}
+
 /*
  * Calling this for a message that is queued or will be queued blocks freeing of
  * this and subsequent messages from the queue. This is useful mainly in
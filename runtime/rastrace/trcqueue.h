@@ -50,6 +50,7 @@ typedef struct queue {
 	int32_t					 allocd;
 	struct message *volatile referenceQueue;
 	volatile uint32_t			 pause;
+	volatile uint32_t			 waiters;
 } qQueue;
 
 typedef struct subscription {
@@ -75,6 +76,8 @@ int32_t publishMessage(qQueue *queue, qMessage *msg);
 qMessage * acquireNextMessage(qSubscription *sub);
 void releaseCurrentMessage(qSubscription *sub);
 void notifySubscribers(qQueue *queue);
+void notifyWaitingSubscribers(qQueue *queue);
+int32_t isMessagePending(qSubscription *sub);
 
 void pauseDequeueAtMessage(qMessage *msg);
 void resumeDequeueAtMessage(qMessage *msg);
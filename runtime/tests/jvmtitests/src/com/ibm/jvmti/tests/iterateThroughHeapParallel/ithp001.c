@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#include <string.h>
+
+#include "jvmti_test.h"
+#include "ibmjvmti.h"
+
+#define ITHP001_CLASS_TAG ((jlong)0xc0defeed)
+#define ITHP001_MAX_WORKERS 64
+
+static agentEnv *env;
+
+static jvmtiExtensionFunction iterateThroughHeapParallel = NULL;
+
+typedef struct ithp001WorkerData {
+	jlong taggedCount; /**< instances of the tagged class seen by this worker */
+	jlong taggedSize; /**< total size of the instances of the tagged class */
+	jlong totalCount; /**< all objects seen by this worker */
+	jlong calls; /**< number of times the callback was called on this worker */
+} ithp001WorkerData;
+
+typedef struct ithp001SerialData {
+	jlong count;
+	jlong size;
+} ithp001SerialData;
+
+static jint JNICALL ithp001_parallelCallback(jint worker_index, jlong class_tag, jlong size, jlong tag, void *worker_data);
+static jint JNICALL ithp001_abortCallback(jint worker_index, jlong class_tag, jlong size, jlong tag, void *worker_data);
+static jint JNICALL ithp001_serialCallback(jlong class_tag, jlong size, jlong *tag_ptr, jint length, void *user_data);
+
+jint JNICALL
+ithp001(agentEnv * agent_env, char * args)
+{
+	JVMTI_ACCESS_FROM_AGENT(agent_env);
+	jvmtiCapabilities capabilities;
+	jint extensionCount;
+	jvmtiExtensionFunctionInfo *extensionFunctions;
+	jvmtiError err;
+	int i;
+
+	env = agent_env;
+
+	if (!ensureVersion(agent_env, JVMTI_VERSION_1_1)) {
+		return JNI_ERR;
+	}
+
+	memset(&capabilities, 0, sizeof(jvmtiCapabilities));
+	capabilities.can_tag_objects = 1;
+	err = (*jvmti_env)->AddCapabilities(jvmti_env, &capabilities);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to AddCapabilities");
+		return JNI_ERR;
+	}
+
+	err = (*jvmti_env)->GetExtensionFunctions(jvmti_env, &extensionCount, &extensionFunctions);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed GetExtensionFunctions");
+		return JNI_ERR;
+	}
+
+	for (i = 0; i < extensionCount; i++) {
+		if (0 == strcmp(extensionFunctions[i].id, COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL)) {
+			iterateThroughHeapParallel = extensionFunctions[i].func;
+		}
+	}
+
+	err = (*jvmti_env)->Deallocate(jvmti_env, (unsigned char *)extensionFunctions);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to Deallocate extension functions");
+		return JNI_ERR;
+	}
+
+	if (NULL == iterateThroughHeapParallel) {
+		error(env, JVMTI_ERROR_NOT_FOUND, "COM_IBM_ITERATE_THROUGH_HEAP_PARALLEL extension function not found");
+		return JNI_ERR;
+	}
+
+	return JNI_OK;
+}
+
+static jint JNICALL
+ithp001_parallelCallback(jint worker_index, jlong class_tag, jlong size, jlong tag, void *worker_data)
+{
+	ithp001WorkerData *data = (ithp001WorkerData *)worker_data;
+
+	data->calls += 1;
+	data->totalCount += 1;
+	if (ITHP001_CLASS_TAG == class_tag) {
+		data->taggedCount += 1;
+		data->taggedSize += size;
+	}
+
+	return 0;
+}
+
+static jint JNICALL
+ithp001_abortCallback(jint worker_index, jlong class_tag, jlong size, jlong tag, void *worker_data)
+{
+	ithp001WorkerData *data = (ithp001WorkerData *)worker_data;
+
+	data->calls += 1;
+
+	return JVMTI_VISIT_ABORT;
+}
+
+static jint JNICALL
+ithp001_serialCallback(jlong class_tag, jlong size, jlong *tag_ptr, jint length, void *user_data)
+{
+	ithp001SerialData *data = (ithp001SerialData *)user_data;
+
+	data->count += 1;
+	data->size += size;
+
+	return JVMTI_VISIT_OBJECTS;
+}
+
+/**
+ * Count the instances of clazz with IterateThroughHeap and with IterateThroughHeapParallel,
+ * and check that both walks see the same objects with the same sizes.
+ */
+jboolean JNICALL
+Java_com_ibm_jvmti_tests_iterateThroughHeapParallel_ithp001_compareWithIterateThroughHeap(JNIEnv *jni_env, jclass klass, jclass clazz, jint maxWorkers, jint expectedCount)
+{
+	JVMTI_ACCESS_FROM_AGENT(env);
+	jvmtiHeapCallbacks callbacks;
+	ithp001SerialData serialData;
+	ithp001WorkerData workerData[ITHP001_MAX_WORKERS];
+	void *workerDataPointers[ITHP001_MAX_WORKERS];
+	jlong parallelTaggedCount = 0;
+	jlong parallelTaggedSize = 0;
+	jlong parallelTotalCount = 0;
+	jint workersUsed = 0;
+	jvmtiError err;
+	jint i;
+
+	if ((maxWorkers <= 0) || (maxWorkers > ITHP001_MAX_WORKERS)) {
+		error(env, JVMTI_ERROR_ILLEGAL_ARGUMENT, "maxWorkers must be in [1, %d], was %d", ITHP001_MAX_WORKERS, maxWorkers);
+		return JNI_FALSE;
+	}
+
+	err = (*jvmti_env)->SetTag(jvmti_env, clazz, ITHP001_CLASS_TAG);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to SetTag");
+		return JNI_FALSE;
+	}
+
+	memset(&serialData, 0, sizeof(serialData));
+	memset(&callbacks, 0, sizeof(callbacks));
+	callbacks.heap_iteration_callback = ithp001_serialCallback;
+	err = (*jvmti_env)->IterateThroughHeap(jvmti_env, 0, clazz, &callbacks, &serialData);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to IterateThroughHeap");
+		return JNI_FALSE;
+	}
+
+	memset(workerData, 0, sizeof(workerData));
+	for (i = 0; i < ITHP001_MAX_WORKERS; i++) {
+		workerDataPointers[i] = &workerData[i];
+	}
+	err = iterateThroughHeapParallel(jvmti_env, maxWorkers, workerDataPointers, ithp001_parallelCallback, &workersUsed);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to IterateThroughHeapParallel");
+		return JNI_FALSE;
+	}
+
+	if ((workersUsed <= 0) || (workersUsed > maxWorkers)) {
+		error(env, JVMTI_ERROR_INTERNAL, "IterateThroughHeapParallel used %d workers, asked for at most %d", workersUsed, maxWorkers);
+		return JNI_FALSE;
+	}
+
+	for (i = 0; i < ITHP001_MAX_WORKERS; i++) {
+		if ((i >= workersUsed) && (0 != workerData[i].calls)) {
+			error(env, JVMTI_ERROR_INTERNAL, "Worker data %d was used but only %d workers were reported", i, workersUsed);
+			return JNI_FALSE;
+		}
+		parallelTaggedCount += workerData[i].taggedCount;
+		parallelTaggedSize += workerData[i].taggedSize;
+		parallelTotalCount += workerData[i].totalCount;
+	}
+
+	tprintf(env, 1, "IterateThroughHeap: %lld objects, %lld bytes. IterateThroughHeapParallel on %d workers: %lld objects, %lld bytes, %lld objects in the heap\n",
+			serialData.count, serialData.size, workersUsed, parallelTaggedCount, parallelTaggedSize, parallelTotalCount);
+
+	if (serialData.count != (jlong)expectedCount) {
+		error(env, JVMTI_ERROR_INTERNAL, "IterateThroughHeap found %lld instances, expected %d", serialData.count, expectedCount);
+		return JNI_FALSE;
+	}
+	if ((parallelTaggedCount != serialData.count) || (parallelTaggedSize != serialData.size)) {
+		error(env, JVMTI_ERROR_INTERNAL, "IterateThroughHeapParallel found %lld instances of %lld bytes, IterateThroughHeap found %lld instances of %lld bytes",
+				parallelTaggedCount, parallelTaggedSize, serialData.count, serialData.size);
+		return JNI_FALSE;
+	}
+	if (parallelTotalCount <= parallelTaggedCount) {
+		error(env, JVMTI_ERROR_INTERNAL, "IterateThroughHeapParallel only reported %lld objects in the heap", parallelTotalCount);
+		return JNI_FALSE;
+	}
+
+	return JNI_TRUE;
+}
+
+/**
+ * Abort the walk from the first callback on every worker. Each worker stops once any of them has
+ * aborted, so at most one callback can be made per worker.
+ */
+jboolean JNICALL
+Java_com_ibm_jvmti_tests_iterateThroughHeapParallel_ithp001_abortIteration(JNIEnv *jni_env, jclass klass, jint maxWorkers)
+{
+	JVMTI_ACCESS_FROM_AGENT(env);
+	ithp001WorkerData workerData[ITHP001_MAX_WORKERS];
+	void *workerDataPointers[ITHP001_MAX_WORKERS];
+	jlong calls = 0;
+	jint workersUsed = 0;
+	jvmtiError err;
+	jint i;
+
+	if ((maxWorkers <= 0) || (maxWorkers > ITHP001_MAX_WORKERS)) {
+		error(env, JVMTI_ERROR_ILLEGAL_ARGUMENT, "maxWorkers must be in [1, %d], was %d", ITHP001_MAX_WORKERS, maxWorkers);
+		return JNI_FALSE;
+	}
+
+	memset(workerData, 0, sizeof(workerData));
+	for (i = 0; i < ITHP001_MAX_WORKERS; i++) {
+		workerDataPointers[i] = &workerData[i];
+	}
+	err = iterateThroughHeapParallel(jvmti_env, maxWorkers, workerDataPointers, ithp001_abortCallback, &workersUsed);
+	if (JVMTI_ERROR_NONE != err) {
+		error(env, err, "Failed to IterateThroughHeapParallel");
+		return JNI_FALSE;
+	}
+
+	for (i = 0; i < ITHP001_MAX_WORKERS; i++) {
+		if (workerData[i].calls > 1) {
+			error(env, JVMTI_ERROR_INTERNAL, "Worker %d was called %lld times after aborting", i, workerData[i].calls);
+			return JNI_FALSE;
+		}
+		calls += workerData[i].calls;
+	}
+
+	if ((calls < 1) || (calls > (jlong)workersUsed)) {
+		error(env, JVMTI_ERROR_INTERNAL, "Aborted walk made %lld callbacks on %d workers", calls, workersUsed);
+		return JNI_FALSE;
+	}
+
+	return JNI_TRUE;
+}
+
+/**
+ * Check that bad arguments are rejected before the heap is walked.
+ */
+jboolean JNICALL
+Java_com_ibm_jvmti_tests_iterateThroughHeapParallel_ithp001_checkArguments(JNIEnv *jni_env, jclass klass)
+{
+	JVMTI_ACCESS_FROM_AGENT(env);
+	ithp001WorkerData workerData;
+	void *workerDataPointers[1];
+	jint workersUsed = -1;
+	jvmtiError err;
+
+	memset(&workerData, 0, sizeof(workerData));
+	workerDataPointers[0] = &workerData;
+
+	err = iterateThroughHeapParallel(jvmti_env, 0, workerDataPointers, ithp001_parallelCallback, &workersUsed);
+	if (JVMTI_ERROR_ILLEGAL_ARGUMENT != err) {
+		error(env, err, "IterateThroughHeapParallel with no workers did not return JVMTI_ERROR_ILLEGAL_ARGUMENT");
+		return JNI_FALSE;
+	}
+
+	err = iterateThroughHeapParallel(jvmti_env, 1, workerDataPointers, NULL, &workersUsed);
+	if (JVMTI_ERROR_NULL_POINTER != err) {
+		error(env, err, "IterateThroughHeapParallel with no callback did not return JVMTI_ERROR_NULL_POINTER");
+		return JNI_FALSE;
+	}
+
+	err = iterateThroughHeapParallel(jvmti_env, 1, NULL, ithp001_parallelCallback, &workersUsed);
+	if (JVMTI_ERROR_NULL_POINTER != err) {
+		error(env, err, "IterateThroughHeapParallel with no worker data did not return JVMTI_ERROR_NULL_POINTER");
+		return JNI_FALSE;
+	}
+
+	if (0 != workerData.calls) {
+		error(env, JVMTI_ERROR_INTERNAL, "IterateThroughHeapParallel walked the heap with bad arguments");
+		return JNI_FALSE;
+	}
+
+	return JNI_TRUE;
+}
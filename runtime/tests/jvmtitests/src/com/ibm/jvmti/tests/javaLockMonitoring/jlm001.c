@@ -198,7 +198,7 @@ Java_com_ibm_jvmti_tests_javaLockMonitoring_jlm001_jvmtiJlmDump(JNIEnv * jni_env
 		* put the dump information in to the java object
 		*/
 
-		if ( (dumpFunction == JLM001_DUMP_STATS) && (format == COM_IBM_JLM_DUMP_FORMAT_TAGS) ) {
+		if ( (dumpFunction == JLM001_DUMP_STATS) && (format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) ) {
 			/* Offset for version and format fields */
 			dumpOffset = 8;
 			tprintf(env, 300, "JLM dump version %x \n", *(unsigned int *)dump->begin);
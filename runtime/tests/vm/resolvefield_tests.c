@@ -52,6 +52,15 @@ static IDATA testAddHiddenInstanceFields3(J9PortLibrary *portLib);
 static IDATA testAddHiddenInstanceFields4(J9PortLibrary *portLib);
 static IDATA testAddHiddenInstanceFields5(J9PortLibrary *portLib);
 static IDATA testAddHiddenInstanceFields6(J9PortLibrary *portLib);
+static IDATA getFieldOffsets(J9JavaVM *vm, J9ROMClass *romClass, U_32 walkFlags, testFieldDef *fields, UDATA *offsets, UDATA *instanceSize);
+static UDATA appendProfileUTF8(U_8 *cursor, const char *string);
+static IDATA compareFieldOffsets(J9JavaVM *vm, J9ROMClass *romClass, U_32 walkFlags, testFieldDef *fields, UDATA *expectedOffsets, UDATA expectedInstanceSize);
+static IDATA testHotFieldLayout(J9PortLibrary *portLib);
+
+/* HotFieldLayout.cpp */
+extern jint loadHotFieldLayout(J9JavaVM *vm, const U_8 *data, UDATA length);
+extern BOOLEAN useHotFieldLayout(J9JavaVM *vm, J9ClassLoader *classLoader, J9ROMClass *romClass, J9Class *classBeingRedefined);
+extern void cleanupHotFieldLayout(J9JavaVM *vm);
 
 
 static UDATA
@@ -470,6 +479,238 @@ testAddHiddenInstanceFields6(J9PortLibrary *portLib)
 	return testAddHiddenInstanceFields(portLib, testName, regularFields, hiddenFields);
 }
 
+/**
+ * Find the offsets of the instance fields of romClass.
+ * @param walkFlags flags added to J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE
+ * @param fields the fields to look for; offsets[i] is set to the offset of fields[i]
+ * @return 0 if all the fields were found, -1 otherwise
+ */
+static IDATA
+getFieldOffsets(J9JavaVM *vm, J9ROMClass *romClass, U_32 walkFlags, testFieldDef *fields, UDATA *offsets, UDATA *instanceSize)
+{
+	J9ROMFieldOffsetWalkResult *walkResult;
+	J9ROMFieldOffsetWalkState walkState;
+	UDATA fieldIndex;
+	UDATA found = 0;
+
+	for (fieldIndex = 0; NULL != fields[fieldIndex].fieldName; fieldIndex++) {
+		offsets[fieldIndex] = (UDATA)-1;
+	}
+
+#if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
+	walkResult = fieldOffsetsStartDo(vm, romClass, NULL, &walkState, J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | walkFlags, NULL);
+#else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+	walkResult = fieldOffsetsStartDo(vm, romClass, NULL, &walkState, J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | walkFlags);
+#endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+	*instanceSize = walkResult->totalInstanceSize;
+	while (NULL != walkResult->field) {
+		J9UTF8 *resultFieldName = SRP_GET(walkResult->field->nameAndSignature.name, J9UTF8*);
+
+		for (fieldIndex = 0; NULL != fields[fieldIndex].fieldName; fieldIndex++) {
+			const char *fieldName = fields[fieldIndex].fieldName;
+
+			if (J9UTF8_DATA_EQUALS(J9UTF8_DATA(resultFieldName), J9UTF8_LENGTH(resultFieldName), (U_8 *)fieldName, strlen(fieldName))) {
+#if VMTEST_DEBUG
+				printf("Field %s at offset %d.\n", fieldName, walkResult->offset);
+#endif
+				offsets[fieldIndex] = walkResult->offset;
+				found++;
+				break;
+			}
+		}
+		walkResult = fieldOffsetsNextDo(&walkState);
+	}
+
+	return (found == fieldIndex) ? 0 : -1;
+}
+
+/**
+ * Check that the instance fields of romClass are at the expected offsets and that the instance size is as expected.
+ * @return the index of the first field at an unexpected offset plus one, -1 for a bad instance size, or 0 on success
+ */
+static IDATA
+compareFieldOffsets(J9JavaVM *vm, J9ROMClass *romClass, U_32 walkFlags, testFieldDef *fields, UDATA *expectedOffsets, UDATA expectedInstanceSize)
+{
+	UDATA offsets[8];
+	UDATA instanceSize = 0;
+	UDATA fieldIndex;
+
+	if (0 != getFieldOffsets(vm, romClass, walkFlags, fields, offsets, &instanceSize)) {
+		return -1;
+	}
+	if (instanceSize != expectedInstanceSize) {
+		return -1;
+	}
+	for (fieldIndex = 0; NULL != fields[fieldIndex].fieldName; fieldIndex++) {
+		if (offsets[fieldIndex] != expectedOffsets[fieldIndex]) {
+			return (IDATA)fieldIndex + 1;
+		}
+	}
+
+	return 0;
+}
+
+/**
+ * Write a UTF8 in the hot field layout profile format (length, bytes, padded to an even length).
+ * @return the number of bytes written
+ */
+static UDATA
+appendProfileUTF8(U_8 *cursor, const char *string)
+{
+	U_16 length = (U_16)strlen(string);
+
+	*(U_16 *)cursor = length;
+	memcpy(cursor + sizeof(U_16), string, length);
+
+	return (sizeof(U_16) + length + 1) & ~(UDATA)1;
+}
+
+static IDATA
+testHotFieldLayout(J9PortLibrary *portLib)
+{
+	PORT_ACCESS_FROM_PORT(portLib);
+
+	const char *testName = "testHotFieldLayout";
+	const char *className = "org/openj9/test/Node";
+	/* the int takes the backfill slot, if there is one, so that every reference field can be reordered */
+	testFieldDef fields[] = {
+		{"value", "J"}, {"count", "I"}, {"left", "Ljava/lang/Object;"}, {"right", "Ljava/lang/Object;"}, {"next", "Ljava/lang/Object;"}, {NULL, NULL}
+	};
+	enum { VALUE = 0, COUNT, LEFT, RIGHT, NEXT, FIELD_COUNT };
+	J9JavaVM javaVM;
+	OMR_VM omrVM;
+	J9ClassLoader applicationClassLoader;
+	J9ClassLoader systemClassLoader;
+	J9Class classBeingRedefined;
+	U_8 appBuffer[4096];
+	U_8 bootBuffer[4096];
+	U_8 redefinedBuffer[4096];
+	U_64 profile[64];
+	U_8 *cursor = NULL;
+	J9ROMClass *appROMClass = NULL;
+	J9ROMClass *bootROMClass = NULL;
+	J9ROMClass *redefinedROMClass = NULL;
+	UDATA defaultOffsets[FIELD_COUNT];
+	UDATA hotOffsets[FIELD_COUNT];
+	UDATA defaultInstanceSize = 0;
+	UDATA lowest = 0;
+	UDATA highest = 0;
+	IDATA rc = 0;
+
+	reportTestEntry(PORTLIB, testName);
+
+	memset(&javaVM, 0, sizeof(J9JavaVM));
+	javaVM.javaVM = &javaVM;
+	javaVM.portLibrary = portLib;
+	javaVM.omrVM = &omrVM;
+	omrVM._objectAlignmentInBytes = 8;
+	omrVM._objectAlignmentShift = 3;
+	memset(&applicationClassLoader, 0, sizeof(J9ClassLoader));
+	memset(&systemClassLoader, 0, sizeof(J9ClassLoader));
+	javaVM.applicationClassLoader = &applicationClassLoader;
+	javaVM.systemClassLoader = &systemClassLoader;
+
+	if (0 != initializeVMThreading(&javaVM)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "initializeVMThreading() failed!\n");
+		goto _exit_test;
+	}
+
+	appROMClass = createFakeROMClass(appBuffer, sizeof(appBuffer), className, fields);
+	bootROMClass = createFakeROMClass(bootBuffer, sizeof(bootBuffer), className, fields);
+	redefinedROMClass = createFakeROMClass(redefinedBuffer, sizeof(redefinedBuffer), className, fields);
+	if ((NULL == appROMClass) || (NULL == bootROMClass) || (NULL == redefinedROMClass)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "createFakeROMClass() failed!\n");
+		goto _exit_threading;
+	}
+
+	if (0 != getFieldOffsets(&javaVM, appROMClass, 0, fields, defaultOffsets, &defaultInstanceSize)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "fields missing from the default layout!\n");
+		goto _exit_threading;
+	}
+	lowest = OMR_MIN(defaultOffsets[LEFT], OMR_MIN(defaultOffsets[RIGHT], defaultOffsets[NEXT]));
+	highest = OMR_MAX(defaultOffsets[LEFT], OMR_MAX(defaultOffsets[RIGHT], defaultOffsets[NEXT]));
+
+	/* profile: org/openj9/test/Node -> next, right (hottest first) */
+	memset(profile, 0, sizeof(profile));
+	cursor = (U_8 *)profile;
+	*(U_32 *)cursor = 1;
+	cursor += sizeof(U_32);
+	cursor += appendProfileUTF8(cursor, className);
+	*(U_16 *)cursor = 2;
+	cursor += sizeof(U_16);
+	cursor += appendProfileUTF8(cursor, "next");
+	cursor += appendProfileUTF8(cursor, "right");
+
+	if ((JNI_OK != loadHotFieldLayout(&javaVM, (U_8 *)profile, cursor - (U_8 *)profile)) || (NULL == javaVM.hotFieldLayoutTable)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "loadHotFieldLayout() failed!\n");
+		goto _exit_threading;
+	}
+
+	/* naming the class in the profile is not enough, the walk must ask for the hot field layout */
+	rc = compareFieldOffsets(&javaVM, appROMClass, 0, fields, defaultOffsets, defaultInstanceSize);
+	if (0 != rc) {
+		outputErrorMessage(TEST_ERROR_ARGS, "class was reordered without J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT (%d)!\n", rc);
+		goto _exit_profile;
+	}
+
+	/* a class with the same name defined by another loader keeps the default layout */
+	if (useHotFieldLayout(&javaVM, &systemClassLoader, bootROMClass, NULL)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "class defined by the bootstrap loader uses the hot field layout!\n");
+		goto _exit_profile;
+	}
+
+	/* the hot fields take the first reference slots, hottest first; nothing else moves and the size is the same */
+	if (!useHotFieldLayout(&javaVM, &applicationClassLoader, appROMClass, NULL)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "class defined by the application loader does not use the hot field layout!\n");
+		goto _exit_profile;
+	}
+	memcpy(hotOffsets, defaultOffsets, sizeof(hotOffsets));
+	hotOffsets[NEXT] = lowest;
+	hotOffsets[RIGHT] = defaultOffsets[LEFT] + defaultOffsets[RIGHT] + defaultOffsets[NEXT] - lowest - highest;
+	hotOffsets[LEFT] = highest;
+	rc = compareFieldOffsets(&javaVM, appROMClass, J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT, fields, hotOffsets, defaultInstanceSize);
+	if (0 != rc) {
+		outputErrorMessage(TEST_ERROR_ARGS, "unexpected hot field layout (%d)!\n", rc);
+		goto _exit_profile;
+	}
+
+	/*
+	 * The same ROM class, shared through the shared classes cache, keeps the default layout when another loader
+	 * defines it: the decision belongs to each RAM class, and the walk flags of that class do not ask for the hot layout.
+	 */
+	if (useHotFieldLayout(&javaVM, &systemClassLoader, appROMClass, NULL)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "shared ROM class defined by the bootstrap loader uses the hot field layout!\n");
+		goto _exit_profile;
+	}
+	rc = compareFieldOffsets(&javaVM, appROMClass, 0, fields, defaultOffsets, defaultInstanceSize);
+	if (0 != rc) {
+		outputErrorMessage(TEST_ERROR_ARGS, "shared ROM class was reordered for another loader (%d)!\n", rc);
+		goto _exit_profile;
+	}
+
+	/* a redefinition of a reordered class keeps the layout of the existing instances, whatever its loader */
+	memset(&classBeingRedefined, 0, sizeof(J9Class));
+	classBeingRedefined.romClass = appROMClass;
+	classBeingRedefined.classLoader = &applicationClassLoader;
+	classBeingRedefined.classFlags = J9ClassHasHotFieldLayout;
+	if (!useHotFieldLayout(&javaVM, &systemClassLoader, redefinedROMClass, &classBeingRedefined)) {
+		outputErrorMessage(TEST_ERROR_ARGS, "redefined class does not use the hot field layout!\n");
+		goto _exit_profile;
+	}
+	rc = compareFieldOffsets(&javaVM, redefinedROMClass, J9CLASS_FIELD_OFFSET_WALK_FLAGS(&classBeingRedefined), fields, hotOffsets, defaultInstanceSize);
+	if (0 != rc) {
+		outputErrorMessage(TEST_ERROR_ARGS, "redefined class lost the hot field layout (%d)!\n", rc);
+		goto _exit_profile;
+	}
+
+_exit_profile:
+	cleanupHotFieldLayout(&javaVM);
+_exit_threading:
+	terminateVMThreading(&javaVM);
+_exit_test:
+	return reportTestExit(PORTLIB, testName);
+}
+
 IDATA
 testResolveField(J9PortLibrary *portLib)
 {
@@ -483,5 +724,6 @@ testResolveField(J9PortLibrary *portLib)
 	rc |= testAddHiddenInstanceFields4(PORTLIB);
 	rc |= testAddHiddenInstanceFields5(PORTLIB);
 	rc |= testAddHiddenInstanceFields6(PORTLIB);
+	rc |= testHotFieldLayout(PORTLIB);
 	return rc;
 }
@@ -76,6 +76,25 @@ destroyOMRVMThread(J9JavaVM *vm, J9VMThread *vmThread)
 	/* NOTE: Stub function. */
 }
 
+void
+internalAcquireVMAccess(J9VMThread *currentThread)
+{
+	/* NOTE: Stub function. */
+}
+
+void
+internalReleaseVMAccess(J9VMThread *currentThread)
+{
+	/* NOTE: Stub function. */
+}
+
+J9HookInterface **
+getVMHookInterface(J9JavaVM *vm)
+{
+	/* NOTE: Stub function. */
+	return NULL;
+}
+
 char *
 illegalAccessMessage(J9VMThread *currentThread, IDATA badMemberModifier, J9Class *senderClass, J9Class *targetClass, IDATA errorType)
 {
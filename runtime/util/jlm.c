@@ -117,9 +117,14 @@
 #define JLM_DUMP_FORMAT_SIZE       8
 /* version */
 #define JLM_DUMP_VERSION           1
+/* 8 spin acquire + 8 spin block = 16, only in COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS */
+#define JLM_DUMP_SPIN_STATS_FIELD_SIZE 16
+/* version of COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS, so that readers of the other formats reject it */
+#define JLM_DUMP_VERSION_SPIN_STATS 2
 
 
 static void GetMonitorName (J9VMThread *vmThread, J9ThreadAbstractMonitor *monitor, char *nameBuf);
+static void WriteSpinStats (J9VMThread *vmThread, J9ThreadAbstractMonitor *monitor, char **dumpPtr);
 
 
 jint 
@@ -148,7 +153,10 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 	held = 1;
 
 	/* Write the header fields if not the original format */
-	if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
+	if (dump_format == COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS) {
+		WRITE_4BYTES(JLM_DUMP_VERSION_SPIN_STATS);
+		WRITE_4BYTES(dump_format);
+	} else if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
 		WRITE_4BYTES(JLM_DUMP_VERSION);
 		WRITE_4BYTES(dump_format);
 	}
@@ -180,7 +188,7 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 
 			/* If format with tags is required, write the tag (8 bytes),
 			   otherwise write 0 in the objectid field - 4 or 8 bytes */
-			if (dump_format == COM_IBM_JLM_DUMP_FORMAT_TAGS) {
+			if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
 				jlong tag = 0;
 					if (monitor->flags & J9THREAD_MONITOR_OBJECT) {
 					j9object_t object = J9WEAKROOT_OBJECT_LOAD(vmThread, &monitor->userData);
@@ -206,6 +214,9 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 
 				WRITE_8BYTES(tag);
 
+				if (dump_format == COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS) {
+					WriteSpinStats(vmThread, monitor, &dump);
+				}
 			} else {
 				/* The next field has a pointer size */
 				if (sizeof(void *) == 4) {
@@ -240,8 +251,13 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 		WRITE_8BYTES(0);
 #endif /* defined(OMR_THR_JLM_HOLD_TIMES) */
 
-		if (dump_format == COM_IBM_JLM_DUMP_FORMAT_TAGS) {
+		if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
 			WRITE_8BYTES(0);
+			if (dump_format == COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS) {
+				/* not an object monitor, no spin counts */
+				WRITE_8BYTES(0);
+				WRITE_8BYTES(0);
+			}
 		} else {
 			/* The next field has a pointer size */
 			if (sizeof(void *) == 8) {
@@ -381,6 +397,35 @@ GetMonitorName(J9VMThread *vmThread, J9ThreadAbstractMonitor *monitor, char *nam
 }
 
 
+/*
+ * Write the adaptive spin counts of an object monitor, see -Xthr:adaptiveObjectMonitorSpinning:
+ * the number of spins which acquired the monitor (8 bytes) and the number which ended in
+ * blocking (8 bytes). Both are 0 for raw monitors and for object monitors which have been deflated.
+ */
+static void
+WriteSpinStats(J9VMThread *vmThread, J9ThreadAbstractMonitor *monitor, char **dumpPtr)
+{
+	char *dump = *dumpPtr;
+	U_64 spinAcquireCount = 0;
+	U_64 spinBlockCount = 0;
+
+	if (monitor->flags & J9THREAD_MONITOR_OBJECT) {
+		j9object_t object = J9WEAKROOT_OBJECT_LOAD(vmThread, &monitor->userData);
+		if (object != NULL) {
+			J9ObjectMonitor *objectMonitor = monitorTablePeek(vmThread->javaVM, object);
+			if ((NULL != objectMonitor) && ((J9ThreadAbstractMonitor *)objectMonitor->monitor == monitor)) {
+				spinAcquireCount = objectMonitor->tryEnterSpinAcquireCount;
+				spinBlockCount = objectMonitor->tryEnterSpinBlockCount;
+			}
+		}
+	}
+
+	WRITE_8BYTES(spinAcquireCount);
+	WRITE_8BYTES(spinBlockCount);
+	*dumpPtr = dump;
+}
+
+
 jint request_MonitorJlmDumpSize(J9JavaVM * jvm, UDATA * dump_size, jint dump_format)
 {
 #if	defined(OMR_THR_JLM)
@@ -404,7 +449,10 @@ jint request_MonitorJlmDumpSize(J9JavaVM * jvm, UDATA * dump_size, jint dump_for
 	vmThread = jvm->internalVMFunctions->currentVMThread(jvm);
 
 	/* Count the header fields if not the original format */
-	if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
+	if (dump_format == COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS) {
+		*dump_size    = JLM_DUMP_FORMAT_SIZE;
+		objIDfieldSize = 8 + JLM_DUMP_SPIN_STATS_FIELD_SIZE;
+	} else if (dump_format != COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID) {
 		*dump_size    = JLM_DUMP_FORMAT_SIZE;
 		objIDfieldSize = 8;
 	} else {
@@ -3501,6 +3501,12 @@ done:
 					rc = GOTO_THROW_CURRENT_EXCEPTION;
 					goto done;
 				}
+#if defined(J9VM_OPT_JFR)
+				/* Record the new throwable while its stack trace is still cached */
+				if ((NULL == walkback) && _vm->jfrState.isStarted) {
+					jfrThrowableCreated(_currentThread, J9OBJECT_CLAZZ(_currentThread, receiver), cachePointer, framesWalked);
+				}
+#endif /* defined(J9VM_OPT_JFR) */
 				/* If there is no stack trace in the exception, or we are not in the out of memory case,
 				 * allocate a new stack trace.  The cached receiver object is invalid after this point.
 				 */
@@ -6033,6 +6039,14 @@ ffi_OOM:
 
 		/* Check if the current Continuation is pinned. */
 		result = isPinnedContinuation(_currentThread);
+#if defined(J9VM_OPT_JFR)
+		/* Remember when and why the yield failed for the VirtualThreadPinned event */
+		if ((0 != result) && _vm->jfrState.isStarted) {
+			PORT_ACCESS_FROM_JAVAVM(_vm);
+			_currentThread->threadJfrState.pinnedTicks = j9time_nano_time();
+			_currentThread->threadJfrState.pinnedReason = (UDATA)result;
+		}
+#endif /* defined(J9VM_OPT_JFR) */
 
 		VMStructHasBeenUpdated(REGISTER_ARGS);
 		restoreInternalNativeStackFrame(REGISTER_ARGS);
@@ -31,6 +31,11 @@
 #include "HeapIteratorAPI.h"
 #include "OutOfLineINL.hpp"
 
+#ifdef J9VM_INTERP_GROWABLE_STACKS
+#define VMTHR_INITIAL_STACK_SIZE ((vm->initialStackSize > (UDATA) vm->stackSize) ? vm->stackSize : vm->initialStackSize)
+#else
+#define VMTHR_INITIAL_STACK_SIZE vm->stackSize
+#endif
 
 extern "C" {
 
@@ -90,21 +95,13 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 			goto end;
 		}
 
-#ifdef J9VM_INTERP_GROWABLE_STACKS
-#define VMTHR_INITIAL_STACK_SIZE ((vm->initialStackSize > (UDATA) vm->stackSize) ? vm->stackSize : vm->initialStackSize)
-#else
-#define VMTHR_INITIAL_STACK_SIZE vm->stackSize
-#endif
-
-		if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL)) == NULL) {
+		if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL, J9MEM_CATEGORY_VIRTUAL_THREAD_STACK)) == NULL) {
 			vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
 			j9mem_free_memory(continuation);
 			result = FALSE;
 			goto end;
 		}
 
-#undef VMTHR_INITIAL_STACK_SIZE
-
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 		I_64 totalTime = (I_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS);
 		if (totalTime > 10000) {
@@ -150,6 +147,7 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	continuation->stackObject->isVirtual = TRUE;
 
 	J9VMJDKINTERNALVMCONTINUATION_SET_VMREF(currentThread, continuationObject, continuation);
+	VM_AtomicSupport::add(&vm->liveContinuationCount, 1);
 
 	/* GC Hook to register Continuation object. */
 end:
@@ -262,6 +260,8 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject, started);
 
 	currentThread->currentContinuation = continuation;
+	/* Only the carrier updates its own counts, see getVirtualThreadMountCounts(). */
+	currentThread->virtualThreadMountCount += 1;
 #if JAVA_SPEC_VERSION >= 24
 	Trc_VM_enterContinuation_Mount(currentThread, continuation, continuation->returnState, currentThread->ownedMonitorCount, continuation->enteredMonitors);
 #endif /* JAVA_SPEC_VERSION >= 24 */
@@ -309,6 +309,36 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	return result;
 }
 
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+/**
+ * Move the frames of a yielding continuation out of a stack which has grown beyond the
+ * continuation cache limit into the smallest stack of the initial size doubled which
+ * leaves as much free space as the frames use, so an unmounted virtual thread does not
+ * keep a stack it only needed for a transient deep call chain. The stack is only replaced
+ * if that halves its size, to avoid regrowing it on every mount.
+ *
+ * @param currentThread the carrier thread, with the yielding continuation's stack current
+ */
+static void
+shrinkContinuationStack(J9VMThread *currentThread)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	UDATA stackSize = currentThread->stackObject->size;
+
+	if (stackSize > vm->continuationCacheMaxStackSize) {
+		UDATA usedBytes = (UDATA)currentThread->stackObject->end - (UDATA)currentThread->sp;
+		UDATA newStackSize = VMTHR_INITIAL_STACK_SIZE;
+
+		while (newStackSize < (usedBytes * 2)) {
+			newStackSize *= 2;
+		}
+		if ((newStackSize <= (stackSize / 2)) && (0 == shrinkJavaStack(currentThread, newStackSize))) {
+			VM_AtomicSupport::addU32(&vm->continuationStackShrunk, 1);
+		}
+	}
+}
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+
 BOOLEAN
 yieldContinuation(J9VMThread *currentThread, BOOLEAN isFinished, UDATA returnState)
 {
@@ -321,10 +351,16 @@ yieldContinuation(J9VMThread *currentThread, BOOLEAN isFinished, UDATA returnSta
 
 	if (isFinished) {
 		VM_ContinuationHelpers::setFinished(continuationStatePtr);
+	} else {
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+		/* The continuation's stack is still the current stack, so a grown one can be relocated now. */
+		shrinkContinuationStack(currentThread);
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
 	}
 
 	currentThread->currentContinuation = NULL;
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject);
+	currentThread->virtualThreadUnmountCount += 1;
 #if JAVA_SPEC_VERSION >= 24
 	Trc_VM_yieldContinuation_Unmount(currentThread, continuation, returnState, continuation->ownedMonitorCount, continuation->enteredMonitors);
 #endif /* JAVA_SPEC_VERSION >= 24 */
@@ -401,6 +437,7 @@ freeContinuation(J9VMThread *currentThread, j9object_t continuationObject, BOOLE
 		/* Update Continuation object's vmRef field. */
 		J9VMJDKINTERNALVMCONTINUATION_SET_VMREF(currentThread, continuationObject, NULL);
 		J9VMJDKINTERNALVMCONTINUATION_SET_VTHREAD(currentThread, continuationObject, NULL);
+		VM_AtomicSupport::subtract(&currentThread->javaVM->liveContinuationCount, 1);
 
 		recycleContinuation(currentThread->javaVM, currentThread, continuation, skipLocalCache);
 	}
@@ -413,6 +450,25 @@ recycleContinuation(J9JavaVM *vm, J9VMThread *vmThread, J9VMContinuation* contin
 	bool cached = false;
 	vm->totalContinuationStackSize += continuation->stackObject->size;
 
+	if (continuation->stackObject->size > vm->continuationCacheMaxStackSize) {
+		/* Only cache continuations whose stack is within the single size threshold so that the
+		 * caches do not pin stacks which grew for a deep call chain. Replace the grown stack
+		 * with a new one of the initial size; if that fails, or the initial size is itself above
+		 * the limit, the continuation is freed below.
+		 */
+		J9JavaStack *stack = NULL;
+		if (VMTHR_INITIAL_STACK_SIZE <= vm->continuationCacheMaxStackSize) {
+			stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL, J9MEM_CATEGORY_VIRTUAL_THREAD_STACK);
+		}
+		if (NULL == stack) {
+			vm->cacheGrownStackFree += 1;
+			goto discard;
+		}
+		vm->cacheGrownStackReplaced += 1;
+		freeJavaStack(vm, continuation->stackObject);
+		continuation->stackObject = stack;
+	}
+
 	if (!skipLocalCache && (0 < vm->continuationT1Size)) {
 		/* If called by carrier thread (not global), try to store in local cache first.
 		 * Allocate cacheArray if it doesn't exist.
@@ -451,6 +507,7 @@ T2:
 		}
 
 		if (!cached) {
+discard:
 			vm->cacheFree += 1;
 			/* Caching failed, free the J9VMContinuation struct. */
 			freeJavaStack(vm, continuation->stackObject);
@@ -749,6 +806,36 @@ exitVThreadTransitionCritical(J9VMThread *currentThread, jobject thread)
 	J9OBJECT_I64_STORE(currentThread, vthread, vm->virtualThreadInspectorCountOffset, 0);
 }
 
+void
+getVirtualThreadMountCounts(J9JavaVM *vm, UDATA *mountCount, UDATA *unmountCount, UDATA *mountedCount)
+{
+	omrthread_monitor_enter(vm->vmThreadListMutex);
+	UDATA mounts = vm->virtualThreadMountCount;
+	UDATA unmounts = vm->virtualThreadUnmountCount;
+	UDATA mounted = 0;
+	J9VMThread *walkThread = vm->mainThread;
+	if (NULL != walkThread) {
+		do {
+			/* A carrier unmounts only after it mounted, so reading the unmount count
+			 * first never yields more unmounts than mounts for a single thread.
+			 */
+			UDATA threadUnmounts = walkThread->virtualThreadUnmountCount;
+			VM_AtomicSupport::readBarrier();
+			UDATA threadMounts = walkThread->virtualThreadMountCount;
+			if (threadMounts > threadUnmounts) {
+				mounted += threadMounts - threadUnmounts;
+			}
+			mounts += threadMounts;
+			unmounts += threadUnmounts;
+			walkThread = walkThread->linkNext;
+		} while (walkThread != vm->mainThread);
+	}
+	omrthread_monitor_exit(vm->vmThreadListMutex);
+	*mountCount = mounts;
+	*unmountCount = unmounts;
+	*mountedCount = mounted;
+}
+
 #if JAVA_SPEC_VERSION >= 24
 J9ObjectMonitor *
 detachMonitorInfo(J9VMThread *currentThread, j9object_t lockObject, BOOLEAN *alreadyDetached)
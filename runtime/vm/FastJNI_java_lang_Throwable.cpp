@@ -77,6 +77,12 @@ Fast_java_lang_Throwable_fillInStackTrace(J9VMThread *currentThread, j9object_t
 				setNativeOutOfMemoryError(currentThread, J9NLS_JCL_FAILED_TO_CREATE_STACK_TRACE);
 				goto done;
 			}
+#if defined(J9VM_OPT_JFR)
+			/* Record the new throwable while its stack trace is still cached */
+			if ((NULL == walkback) && vm->jfrState.isStarted) {
+				jfrThrowableCreated(currentThread, J9OBJECT_CLAZZ(currentThread, receiver), cachePointer, framesWalked);
+			}
+#endif /* defined(J9VM_OPT_JFR) */
 			/* If there is no stack trace in the exception, or we are not in the out of memory case,
 			 * allocate a new stack trace.  The cached receiver object is invalid after this point.
 			 */
@@ -0,0 +1,526 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/*
+ * Support for -XX:+HotFieldLayout.
+ *
+ * When enabled, the hot reference fields found by the JIT (see reportHotField()) are saved to the
+ * shared classes cache at VM shutdown, as a profile mapping class names to up to three field names.
+ * A later VM started with the option loads the profile before any class is loaded, and
+ * fieldOffsetsStartDo() then places those fields first in the object area of instances of the
+ * class, so that they share a cache line with the object header.
+ *
+ * The profile is written once, by the first run that finds none in the cache, so that the layout
+ * of a class does not change between runs using the same cache.
+ *
+ * Only classes defined by the application class loader are recorded and reordered. A class name in
+ * the profile is not enough to pick the layout, as another loader may define a different class with
+ * that name, or share the same ROM class from the shared classes cache. createRAMClass decides once per
+ * RAM class, using useHotFieldLayout(), and passes J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT when it first
+ * computes the layout. Classes whose fields were moved have J9ClassHasHotFieldLayout set, and every later
+ * walk of the class passes the walk flag again (see J9CLASS_FIELD_OFFSET_WALK_FLAGS()).
+ *
+ * DDR reads the profile from vm->hotFieldLayoutData to compute the same field offsets, so the format
+ * below must be kept in sync with J9ObjectFieldOffsetIterator_V1.
+ *
+ * Profile format (all items 2-byte aligned):
+ *   U_32 entryCount
+ *   entryCount times:
+ *     UTF8 className (U_16 length, bytes, padded to an even length)
+ *     U_16 fieldCount (at most J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS)
+ *     fieldCount times: UTF8 fieldName
+ */
+
+#include "j9.h"
+#include "j9port.h"
+#include "j9protos.h"
+#include "j9consts.h"
+#include "j9modifiers_api.h"
+#include "vm_internal.h"
+#include "util_api.h"
+
+#define HOT_FIELD_LAYOUT_KEY "J9HotFieldLayout"
+#define HOT_FIELD_LAYOUT_INITIAL_TABLE_SIZE 64
+
+extern "C" {
+
+static UDATA
+hotFieldLayoutHashFn(void *entry, void *userData)
+{
+	J9UTF8 *className = ((J9HotFieldLayoutEntry *)entry)->className;
+
+	return computeHashForUTF8(J9UTF8_DATA(className), J9UTF8_LENGTH(className));
+}
+
+static UDATA
+hotFieldLayoutHashEqualFn(void *lhsEntry, void *rhsEntry, void *userData)
+{
+	J9UTF8 *lhsClassName = ((J9HotFieldLayoutEntry *)lhsEntry)->className;
+	J9UTF8 *rhsClassName = ((J9HotFieldLayoutEntry *)rhsEntry)->className;
+
+	return J9UTF8_EQUALS(lhsClassName, rhsClassName);
+}
+
+static J9HashTable *
+newHotFieldLayoutTable(J9JavaVM *vm)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	return hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB),
+			J9_GET_CALLSITE(),
+			HOT_FIELD_LAYOUT_INITIAL_TABLE_SIZE,
+			sizeof(J9HotFieldLayoutEntry),
+			sizeof(J9UTF8 *),
+			0,
+			OMRMEM_CATEGORY_VM,
+			hotFieldLayoutHashFn,
+			hotFieldLayoutHashEqualFn,
+			NULL,
+			vm);
+}
+
+/**
+ * Size of a UTF8 in the profile, including its length and padding.
+ */
+static UDATA
+serializedUTF8Size(J9UTF8 *utf8)
+{
+	return ROUND_UP_TO_POWEROF2(sizeof(U_16) + J9UTF8_LENGTH(utf8), sizeof(U_16));
+}
+
+/**
+ * Read a UTF8 from the profile.
+ *
+ * @param[in/out] cursor the current position, advanced past the UTF8
+ * @param[in] end the end of the profile
+ * @return the UTF8, or NULL if it runs past the end of the profile
+ */
+static J9UTF8 *
+readUTF8(U_8 **cursor, U_8 *end)
+{
+	J9UTF8 *utf8 = (J9UTF8 *)*cursor;
+
+	if (((UDATA)(end - *cursor) < sizeof(U_16)) || ((UDATA)(end - *cursor) < serializedUTF8Size(utf8))) {
+		return NULL;
+	}
+	*cursor += serializedUTF8Size(utf8);
+	return utf8;
+}
+
+jint
+loadHotFieldLayout(J9JavaVM *vm, const U_8 *data, UDATA length)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	U_8 *copy = NULL;
+	U_8 *cursor = NULL;
+	U_8 *end = NULL;
+	U_32 entryCount = 0;
+
+	if (length < sizeof(U_32)) {
+		return JNI_OK;
+	}
+
+	copy = (U_8 *)j9mem_allocate_memory(length, OMRMEM_CATEGORY_VM);
+	if (NULL == copy) {
+		return JNI_ENOMEM;
+	}
+	memcpy(copy, data, length);
+	vm->hotFieldLayoutData = copy;
+
+	vm->hotFieldLayoutTable = newHotFieldLayoutTable(vm);
+	if (NULL == vm->hotFieldLayoutTable) {
+		return JNI_ENOMEM;
+	}
+
+	cursor = copy;
+	end = copy + length;
+	entryCount = *(U_32 *)cursor;
+	cursor += sizeof(U_32);
+
+	for (U_32 i = 0; i < entryCount; i++) {
+		J9HotFieldLayoutEntry entry = {0};
+		U_16 fieldCount = 0;
+
+		entry.className = readUTF8(&cursor, end);
+		if ((NULL == entry.className) || ((UDATA)(end - cursor) < sizeof(U_16))) {
+			goto malformed;
+		}
+		fieldCount = *(U_16 *)cursor;
+		cursor += sizeof(U_16);
+		if (fieldCount > J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS) {
+			goto malformed;
+		}
+		for (U_16 j = 0; j < fieldCount; j++) {
+			entry.fieldNames[j] = readUTF8(&cursor, end);
+			if (NULL == entry.fieldNames[j]) {
+				goto malformed;
+			}
+		}
+		entry.fieldCount = fieldCount;
+		if (NULL == hashTableAdd(vm->hotFieldLayoutTable, &entry)) {
+			return JNI_ENOMEM;
+		}
+	}
+	return JNI_OK;
+
+malformed:
+	cleanupHotFieldLayout(vm);
+	return JNI_OK;
+}
+
+/**
+ * Find the declaring class and ROM field of the instance reference field at the given slot of an object.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] clazz the class of the object
+ * @param[in] slot the slot of the field, counted in references from the start of the object (as in J9ClassHotFieldsInfo)
+ * @param[out] declaringClass the class declaring the field
+ * @return the field, or NULL if there is no reference field at that slot
+ */
+static J9ROMFieldShape *
+findInstanceReferenceField(J9JavaVM *vm, J9Class *clazz, UDATA slot, J9Class **declaringClass)
+{
+	UDATA const referenceSize = J9JAVAVM_REFERENCE_SIZE(vm);
+	UDATA const objectHeaderSize = J9JAVAVM_OBJECT_HEADER_SIZE(vm);
+	UDATA const depth = J9CLASS_DEPTH(clazz);
+
+	for (UDATA i = 0; i <= depth; i++) {
+		J9Class *currentClass = (depth == i) ? clazz : clazz->superclasses[i];
+		J9Class *superclass = (0 == i) ? NULL : clazz->superclasses[i - 1];
+		J9ROMFieldOffsetWalkState state;
+		J9ROMFieldOffsetWalkResult *result = NULL;
+
+#if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
+		result = fieldOffsetsStartDo(vm, currentClass->romClass, superclass, &state,
+				J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9CLASS_FIELD_OFFSET_WALK_FLAGS(currentClass), currentClass->flattenedClassCache);
+#else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+		result = fieldOffsetsStartDo(vm, currentClass->romClass, superclass, &state,
+				J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9CLASS_FIELD_OFFSET_WALK_FLAGS(currentClass));
+#endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+		while (NULL != result->field) {
+			if (J9_ARE_ALL_BITS_SET(result->field->modifiers, J9FieldFlagObject)
+#if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
+				&& (NULL == result->flattenedClass)
+#endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+				&& (((result->offset + objectHeaderSize) / referenceSize) == slot)
+			) {
+				*declaringClass = currentClass;
+				return result->field;
+			}
+			result = fieldOffsetsNextDo(&state);
+		}
+	}
+	return NULL;
+}
+
+/**
+ * Add a hot field to the profile being built.
+ */
+static bool
+recordHotField(J9HashTable *table, J9Class *declaringClass, J9ROMFieldShape *field)
+{
+	J9HotFieldLayoutEntry query = {0};
+	J9HotFieldLayoutEntry *entry = NULL;
+	J9UTF8 *fieldName = J9ROMFIELDSHAPE_NAME(field);
+
+	query.className = J9ROMCLASS_CLASSNAME(declaringClass->romClass);
+	entry = (J9HotFieldLayoutEntry *)hashTableFind(table, &query);
+	if (NULL == entry) {
+		entry = (J9HotFieldLayoutEntry *)hashTableAdd(table, &query);
+		if (NULL == entry) {
+			return false;
+		}
+	}
+	for (UDATA i = 0; i < entry->fieldCount; i++) {
+		if (J9UTF8_EQUALS(entry->fieldNames[i], fieldName)) {
+			return true;
+		}
+	}
+	if (entry->fieldCount < J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS) {
+		entry->fieldNames[entry->fieldCount] = fieldName;
+		entry->fieldCount += 1;
+	}
+	return true;
+}
+
+/**
+ * Serialize the profile.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] table the profile, keyed by class name
+ * @param[out] length the length of the serialized profile
+ * @return the serialized profile, to be freed by the caller, or NULL if the profile is empty or on allocation failure
+ */
+static U_8 *
+serializeHotFieldLayout(J9JavaVM *vm, J9HashTable *table, UDATA *length)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	J9HashTableState walkState;
+	J9HotFieldLayoutEntry *entry = NULL;
+	UDATA size = sizeof(U_32);
+	U_8 *data = NULL;
+	U_8 *cursor = NULL;
+
+	if (0 == hashTableGetCount(table)) {
+		return NULL;
+	}
+
+	entry = (J9HotFieldLayoutEntry *)hashTableStartDo(table, &walkState);
+	while (NULL != entry) {
+		size += serializedUTF8Size(entry->className) + sizeof(U_16);
+		for (UDATA i = 0; i < entry->fieldCount; i++) {
+			size += serializedUTF8Size(entry->fieldNames[i]);
+		}
+		entry = (J9HotFieldLayoutEntry *)hashTableNextDo(&walkState);
+	}
+
+	data = (U_8 *)j9mem_allocate_memory(size, OMRMEM_CATEGORY_VM);
+	if (NULL == data) {
+		return NULL;
+	}
+	memset(data, 0, size);
+
+	cursor = data;
+	*(U_32 *)cursor = hashTableGetCount(table);
+	cursor += sizeof(U_32);
+	entry = (J9HotFieldLayoutEntry *)hashTableStartDo(table, &walkState);
+	while (NULL != entry) {
+		memcpy(cursor, entry->className, sizeof(U_16) + J9UTF8_LENGTH(entry->className));
+		cursor += serializedUTF8Size(entry->className);
+		*(U_16 *)cursor = (U_16)entry->fieldCount;
+		cursor += sizeof(U_16);
+		for (UDATA i = 0; i < entry->fieldCount; i++) {
+			memcpy(cursor, entry->fieldNames[i], sizeof(U_16) + J9UTF8_LENGTH(entry->fieldNames[i]));
+			cursor += serializedUTF8Size(entry->fieldNames[i]);
+		}
+		entry = (J9HotFieldLayoutEntry *)hashTableNextDo(&walkState);
+	}
+
+	*length = size;
+	return data;
+}
+
+/**
+ * Build the profile from the hot field information of all loaded classes.
+ * Only classes defined by the application class loader are recorded, as the VM and JIT
+ * have built-in knowledge of the fields of some bootstrap and platform classes.
+ *
+ * The caller must have VM access so that classes cannot be unloaded.
+ */
+static U_8 *
+buildHotFieldLayout(J9VMThread *currentThread, UDATA *length)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9HashTable *table = newHotFieldLayoutTable(vm);
+	J9ClassWalkState classWalkState;
+	J9Class *clazz = NULL;
+	U_8 *data = NULL;
+
+	if (NULL == table) {
+		return NULL;
+	}
+
+	clazz = allClassesStartDo(&classWalkState, vm, NULL);
+	while (NULL != clazz) {
+		J9ClassHotFieldsInfo *hotFieldsInfo = clazz->hotFieldsInfo;
+
+		if ((NULL != hotFieldsInfo)
+			&& (clazz->classLoader == vm->applicationClassLoader)
+			&& !J9ROMCLASS_IS_ANON_OR_HIDDEN(clazz->romClass)
+		) {
+			uint8_t hotFieldOffsets[] = {
+				hotFieldsInfo->hotFieldOffset1,
+				hotFieldsInfo->hotFieldOffset2,
+				hotFieldsInfo->hotFieldOffset3
+			};
+
+			for (UDATA i = 0; i < sizeof(hotFieldOffsets) / sizeof(hotFieldOffsets[0]); i++) {
+				if (U_8_MAX != hotFieldOffsets[i]) {
+					J9Class *declaringClass = NULL;
+					J9ROMFieldShape *field = findInstanceReferenceField(vm, clazz, hotFieldOffsets[i], &declaringClass);
+
+					if ((NULL != field)
+						&& (declaringClass->classLoader == vm->applicationClassLoader)
+						&& !recordHotField(table, declaringClass, field)
+					) {
+						goto done;
+					}
+				}
+			}
+		}
+		clazz = allClassesNextDo(&classWalkState);
+	}
+	data = serializeHotFieldLayout(vm, table, length);
+
+done:
+	allClassesEndDo(&classWalkState);
+	hashTableFree(table);
+	return data;
+}
+
+/**
+ * J9HOOK_VM_SHUTTING_DOWN listener which stores the hot field layout profile in the shared classes cache.
+ */
+static void
+hookHotFieldLayoutVMShutdown(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMShutdownEvent *event = (J9VMShutdownEvent *)eventData;
+	J9VMThread *currentThread = event->vmThread;
+	J9JavaVM *vm = currentThread->javaVM;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	bool needsVMAccess = J9_ARE_NO_BITS_SET(currentThread->publicFlags, J9_PUBLIC_FLAGS_VM_ACCESS);
+	U_8 *data = NULL;
+	UDATA length = 0;
+
+	(*hook)->J9HookUnregister(hook, J9HOOK_VM_SHUTTING_DOWN, hookHotFieldLayoutVMShutdown, NULL);
+
+	if (needsVMAccess) {
+		internalAcquireVMAccess(currentThread);
+	}
+	data = buildHotFieldLayout(currentThread, &length);
+	if (needsVMAccess) {
+		internalReleaseVMAccess(currentThread);
+	}
+
+	if (NULL != data) {
+		J9SharedDataDescriptor descriptor;
+		descriptor.address = data;
+		descriptor.length = length;
+		descriptor.type = J9SHR_DATA_TYPE_VM;
+		descriptor.flags = 0;
+		vm->sharedClassConfig->storeSharedData(currentThread, HOT_FIELD_LAYOUT_KEY, LITERAL_STRLEN(HOT_FIELD_LAYOUT_KEY), &descriptor);
+		j9mem_free_memory(data);
+	}
+}
+
+jint
+initializeHotFieldLayout(J9VMThread *currentThread)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9SharedDataDescriptor descriptor = {0};
+	IDATA found = 0;
+
+	if (J9_ARE_NO_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_HOT_FIELD_LAYOUT)
+		|| (NULL == vm->sharedClassConfig)
+		|| (NULL == vm->sharedClassConfig->findSharedData)
+	) {
+		return JNI_OK;
+	}
+
+	found = vm->sharedClassConfig->findSharedData(currentThread, HOT_FIELD_LAYOUT_KEY, LITERAL_STRLEN(HOT_FIELD_LAYOUT_KEY),
+			J9SHR_DATA_TYPE_VM, FALSE, &descriptor, NULL);
+	if ((found > 0) && (NULL != descriptor.address)) {
+		return loadHotFieldLayout(vm, descriptor.address, descriptor.length);
+	}
+
+	/* No profile yet: record one at shutdown. Hot fields are only reported when the GC uses them. */
+	if (vm->memoryManagerFunctions->j9gc_hot_reference_field_required(vm)) {
+		J9HookInterface **vmHooks = getVMHookInterface(vm);
+		if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_SHUTTING_DOWN, hookHotFieldLayoutVMShutdown, OMR_GET_CALLSITE(), NULL)) {
+			return JNI_ERR;
+		}
+	}
+	return JNI_OK;
+}
+
+void
+cleanupHotFieldLayout(J9JavaVM *vm)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != vm->hotFieldLayoutTable) {
+		hashTableFree(vm->hotFieldLayoutTable);
+		vm->hotFieldLayoutTable = NULL;
+	}
+	j9mem_free_memory(vm->hotFieldLayoutData);
+	vm->hotFieldLayoutData = NULL;
+}
+
+BOOLEAN
+useHotFieldLayout(J9JavaVM *vm, J9ClassLoader *classLoader, J9ROMClass *romClass, J9Class *classBeingRedefined)
+{
+	BOOLEAN result = FALSE;
+
+	if (NULL != classBeingRedefined) {
+		/* instances of the redefined class keep their layout */
+		result = J9_ARE_ALL_BITS_SET(classBeingRedefined->classFlags, J9ClassHasHotFieldLayout);
+	} else if ((classLoader == vm->applicationClassLoader) && !J9ROMCLASS_IS_ANON_OR_HIDDEN(romClass)) {
+		J9HotFieldLayoutEntry query = {0};
+		query.className = J9ROMCLASS_CLASSNAME(romClass);
+		result = (NULL != hashTableFind(vm->hotFieldLayoutTable, &query));
+	}
+	return result;
+}
+
+void
+initializeHotObjectFields(J9JavaVM *vm, J9ROMClass *romClass, J9ROMFieldOffsetWalkState *state)
+{
+	J9HotFieldLayoutEntry query = {0};
+	J9HotFieldLayoutEntry *entry = NULL;
+	J9ROMFieldShape *hotFields[J9VM_HOT_FIELD_LAYOUT_MAX_FIELDS] = {0};
+	J9ROMFieldWalkState fieldWalkState;
+	J9ROMFieldShape *field = NULL;
+	/* The first reference field takes the backfill slot, if there is one; it is never reordered. */
+	bool skipFirst = J9_ARE_ANY_BITS_SET(state->walkFlags, J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD);
+
+	query.className = J9ROMCLASS_CLASSNAME(romClass);
+	entry = (J9HotFieldLayoutEntry *)hashTableFind(vm->hotFieldLayoutTable, &query);
+	if (NULL == entry) {
+		return;
+	}
+
+	field = romFieldsStartDo(romClass, &fieldWalkState);
+	while (NULL != field) {
+		U_32 modifiers = field->modifiers;
+
+		if (J9_ARE_NO_BITS_SET(modifiers, J9AccStatic) && J9_ARE_ALL_BITS_SET(modifiers, J9FieldFlagObject)) {
+#if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
+			if (J9_ARE_ALL_BITS_SET(modifiers, J9FieldFlagIsNullRestricted)) {
+				/* Null-restricted fields may be flattened; leave the layout of such classes alone. */
+				return;
+			}
+#endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+			if (skipFirst) {
+				skipFirst = false;
+			} else {
+				J9UTF8 *fieldName = J9ROMFIELDSHAPE_NAME(field);
+				for (UDATA i = 0; i < entry->fieldCount; i++) {
+					if (J9UTF8_EQUALS(entry->fieldNames[i], fieldName)) {
+						hotFields[i] = field;
+						break;
+					}
+				}
+			}
+		}
+		field = romFieldsNextDo(&fieldWalkState);
+	}
+
+	/* Keep the profile order, which is hottest first. */
+	for (UDATA i = 0; i < entry->fieldCount; i++) {
+		if (NULL != hotFields[i]) {
+			state->hotObjectFields[state->hotObjectFieldCount] = hotFields[i];
+			state->hotObjectFieldCount += 1;
+		}
+	}
+}
+
+} /* extern "C" */
@@ -26,6 +26,9 @@
 
 #include "JFRChunkWriter.hpp"
 #include "JFRConstantPoolTypes.hpp"
+#if JAVA_SPEC_VERSION >= 19
+#include "ContinuationHelpers.hpp"
+#endif /* JAVA_SPEC_VERSION >= 19 */
 
 #define J9VM_JFR_GC_DEBUG_DUMP 1
 
@@ -1741,6 +1744,430 @@ VM_JFRChunkWriter::writeDataLossEvent(void *anElement, void *userData)
 	writeEventSize(_bufferWriter, dataStart);
 }
 
+void
+VM_JFRChunkWriter::writeObjectAllocationSampleEvent(void *anElement, void *userData)
+{
+	ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry *)anElement;
+	VM_BufferWriter *bufferWriter = (VM_BufferWriter *)userData;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type. */
+	bufferWriter->writeLEB128(ObjectAllocationSampleID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write stacktrace index. */
+	bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* Write object class index. */
+	bufferWriter->writeLEB128(entry->objectClass);
+
+	/* Write weight, the number of bytes allocated that the sample stands for. */
+	bufferWriter->writeLEB128(entry->weight);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeCompilationEvent(void *anElement, void *userData)
+{
+	CompilationEntry *entry = (CompilationEntry *)anElement;
+	VM_BufferWriter *bufferWriter = (VM_BufferWriter *)userData;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type. */
+	bufferWriter->writeLEB128(CompilationID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128(entry->duration);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write compilation identifier. */
+	bufferWriter->writeLEB128(entry->compileID);
+
+	/* Write compiler type; there is only one JIT compiler, so the constant is left null. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write method index. */
+	bufferWriter->writeLEB128(entry->methodIndex);
+
+	/* Write compilation level. */
+	bufferWriter->writeLEB128(entry->compileLevel);
+
+	/* Write whether the compilation succeeded. */
+	bufferWriter->writeBoolean(entry->succeeded);
+
+	/* Write whether this is an on stack replacement compilation. */
+	bufferWriter->writeBoolean(entry->isOSR);
+
+	/* Write compiled code size. */
+	bufferWriter->writeLEB128(entry->codeSize);
+
+	/* Write inlined bytecode size. */
+	bufferWriter->writeLEB128(entry->inlinedBytes);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeCodeCacheFullEvent(void *anElement, void *userData)
+{
+	CodeCacheFullEntry *entry = (CodeCacheFullEntry *)anElement;
+	VM_BufferWriter *bufferWriter = (VM_BufferWriter *)userData;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type. */
+	bufferWriter->writeLEB128(CodeCacheFullID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write code blob type; the code caches are not split into code heaps, so the constant is left null. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write start address. */
+	bufferWriter->writeLEB128(entry->startAddress);
+
+	/* Write committed top address. */
+	bufferWriter->writeLEB128(entry->committedTopAddress);
+
+	/* Write reserved top address. */
+	bufferWriter->writeLEB128(entry->reservedTopAddress);
+
+	/* Write entry count. */
+	bufferWriter->writeLEB128(entry->entryCount);
+
+	/* Write method count. */
+	bufferWriter->writeLEB128(entry->methodCount);
+
+	/* Write adaptor count, always zero for OpenJ9. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write unallocated capacity. */
+	bufferWriter->writeLEB128(entry->unallocatedCapacity);
+
+	/* Write full count. */
+	bufferWriter->writeLEB128(entry->fullCount);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeCompilerStatisticsEvent(void *anElement, void *userData)
+{
+	CompilerStatisticsEntry *entry = (CompilerStatisticsEntry *)anElement;
+	VM_BufferWriter *bufferWriter = (VM_BufferWriter *)userData;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type. */
+	bufferWriter->writeLEB128(CompilerStatisticsID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write compiled method count. */
+	bufferWriter->writeLEB128(entry->compileCount);
+
+	/* Write bailout count. */
+	bufferWriter->writeLEB128(entry->bailoutCount);
+
+	/* Write invalidated compilation count, not tracked by the JIT. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write OSR compilation count. */
+	bufferWriter->writeLEB128(entry->osrCompileCount);
+
+	/* Write standard compilation count. */
+	bufferWriter->writeLEB128(entry->standardCompileCount);
+
+	/* Write OSR bytes compiled. */
+	bufferWriter->writeLEB128(entry->osrBytesCompiled);
+
+	/* Write standard bytes compiled. */
+	bufferWriter->writeLEB128(entry->standardBytesCompiled);
+
+	/* Write compilation resulting size and code size, which are the same for OpenJ9. */
+	bufferWriter->writeLEB128(entry->codeSize);
+	bufferWriter->writeLEB128(entry->codeSize);
+
+	/* Write peak time spent compiling. */
+	bufferWriter->writeLEB128(entry->peakTimeSpent);
+
+	/* Write total time spent compiling. */
+	bufferWriter->writeLEB128(entry->totalTimeSpent);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeJavaExceptionThrowEvent(void *anElement, void *userData)
+{
+	JavaExceptionThrowEntry *entry = (JavaExceptionThrowEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.javaExceptionThrowTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128((U_64)0);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write stacktrace index. */
+	bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* Write message, which is not set yet when the stack trace is filled in. */
+	bufferWriter->writeLEB128(NullString);
+
+	/* Write thrown class index. */
+	bufferWriter->writeLEB128(entry->thrownClass);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeExceptionStatisticsEvent(void *anElement, void *userData)
+{
+	ExceptionStatisticsEntry *entry = (ExceptionStatisticsEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.exceptionStatisticsTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128((U_64)0);
+
+	/* Write the number of throwables created. */
+	bufferWriter->writeLEB128(entry->throwables);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeVirtualThreadPinnedEvent(void *anElement, void *userData)
+{
+	VirtualThreadPinnedEntry *entry = (VirtualThreadPinnedEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+	const char *pinnedReason = NULL;
+
+#if JAVA_SPEC_VERSION >= 19
+	switch (entry->pinnedReason) {
+	case J9VM_CONTINUATION_PINNED_REASON_NATIVE:
+		pinnedReason = "Native or VM frame on stack";
+		break;
+#if JAVA_SPEC_VERSION < 26
+	case J9VM_CONTINUATION_PINNED_REASON_MONITOR:
+		pinnedReason = "Holding monitor(s)";
+		break;
+#endif /* JAVA_SPEC_VERSION < 26 */
+	case J9VM_CONTINUATION_PINNED_REASON_CRITICAL_SECTION:
+		pinnedReason = "In critical section";
+		break;
+	default:
+		break;
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.virtualThreadPinnedTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128(entry->duration);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write stacktrace index. */
+	bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* Write blocking operation. */
+	chunkWriter->writeStringLiteral(entry->blockingOperation);
+
+	/* Write pinned reason, or null if the yield failure was not seen. */
+	chunkWriter->writeStringLiteral(pinnedReason);
+
+	/* Write carrier thread index. */
+	bufferWriter->writeLEB128(entry->carrierThreadIndex);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeReferenceClassStatisticsEvent(void *anElement, void *userData)
+{
+	ReferenceClassStatisticsEntry *entry = (ReferenceClassStatisticsEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.referenceClassStatisticsTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128((U_64)0);
+
+	/* Write GC ID. */
+	bufferWriter->writeLEB128(entry->gcID);
+
+	/* Write reference class index. */
+	bufferWriter->writeLEB128(entry->referenceClass);
+
+	/* Write the reference object counts. */
+	bufferWriter->writeLEB128(entry->discovered);
+	bufferWriter->writeLEB128(entry->cleared);
+	bufferWriter->writeLEB128(entry->enqueued);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeObjectMonitorSpinEvent(void *anElement, void *userData)
+{
+	ObjectMonitorSpinEntry *entry = (ObjectMonitorSpinEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+	const char *stopReason = NULL;
+
+	switch (entry->stopReason) {
+	case J9_OBJECT_MONITOR_SPIN_STOP_LIMIT:
+		stopReason = "Spin limit reached";
+		break;
+	case J9_OBJECT_MONITOR_SPIN_STOP_OWNER_STALLED:
+		stopReason = "Owner unchanged";
+		break;
+	case J9_OBJECT_MONITOR_SPIN_STOP_OWNER_BLOCKED:
+		stopReason = "Owner blocked";
+		break;
+	default:
+		break;
+	}
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.objectMonitorSpinTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128(entry->duration);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write monitor class index. */
+	bufferWriter->writeLEB128(entry->monitorClass);
+
+	/* Write address of monitor. */
+	bufferWriter->writeLEB128(entry->monitorAddress);
+
+	/* Write stop reason. */
+	chunkWriter->writeStringLiteral(stopReason);
+
+	/* Write the spin scale and the spin counts of the monitor. */
+	bufferWriter->writeLEB128(entry->spinScale);
+	bufferWriter->writeLEB128(entry->spinAcquireCount);
+	bufferWriter->writeLEB128(entry->spinBlockCount);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeVirtualThreadStatisticsEvent(void *anElement, void *userData)
+{
+	VirtualThreadStatisticsEntry *entry = (VirtualThreadStatisticsEntry *)anElement;
+	VM_JFRChunkWriter *chunkWriter = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = chunkWriter->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = reserveEventSize(bufferWriter);
+
+	/* Write event type, which is added to the metadata when the recording starts. */
+	bufferWriter->writeLEB128(chunkWriter->_vm->jfrState.virtualThreadStatisticsTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128((U_64)0);
+
+	/* Write the mount counts. */
+	bufferWriter->writeLEB128(entry->mountCount);
+	bufferWriter->writeLEB128(entry->unmountCount);
+	bufferWriter->writeLEB128(entry->mountedCount);
+
+	/* Write the continuation count and stack memory. */
+	bufferWriter->writeLEB128(entry->continuationCount);
+	bufferWriter->writeLEB128(entry->continuationStackBytes);
+
+	/* Write the continuation cache counts. */
+	bufferWriter->writeLEB128(entry->t1CacheHitCount);
+	bufferWriter->writeLEB128(entry->t2CacheHitCount);
+	bufferWriter->writeLEB128(entry->cacheMissCount);
+	bufferWriter->writeLEB128(entry->cacheFreeCount);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
 void
 VM_JFRChunkWriter::writeModuleRequire(void *anElement, void *userData)
 {
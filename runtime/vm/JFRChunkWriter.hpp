@@ -31,6 +31,7 @@
 
 #include "BufferWriter.hpp"
 #include "JFRConstantPoolTypes.hpp"
+#include "JFRRepository.hpp"
 #include "JFRUtils.hpp"
 #include "ObjectAccessBarrierAPI.hpp"
 #include "VMHelpers.hpp"
@@ -100,6 +101,9 @@ enum MetadataTypeID {
 	SystemGCID = 36,
 	YoungGarbageCollectionID = 38,
 	OldGarbageCollectionID = 39,
+	CompilationID = 65,
+	CodeCacheFullID = 71,
+	ObjectAllocationSampleID = 81,
 	JVMInformationID = 87,
 	OSInformationID = 88,
 	VirtualizationInformationID = 89,
@@ -121,6 +125,7 @@ enum MetadataTypeID {
 	NativeLibraryID = 112,
 	ModuleRequireID = 113,
 	ModuleExportID = 114,
+	CompilerStatisticsID = 115,
 	GCHeapConfigID = 133,
 	YoungGenerationConfigID = 134,
 	VirtualSpaceID = 149,
@@ -241,6 +246,18 @@ private:
 	static constexpr int GC_HEAP_SUMMARY_EVENT_SIZE = sizeof(U_8) + (7 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE);
 	static constexpr int NETWORK_UTILIZATION_EVENT_SIZE = (4 * sizeof(U_64)) + sizeof(U_32);
 	static constexpr int DATA_LOSS_EVENT_SIZE = sizeof(U_8) + LEB128_32_SIZE + (3 * LEB128_64_SIZE);
+	static constexpr int OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE = sizeof(U_8) + (3 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE);
+	static constexpr int COMPILATION_EVENT_SIZE = (2 * sizeof(U_8)) + (6 * LEB128_64_SIZE) + (5 * LEB128_32_SIZE);
+	static constexpr int CODE_CACHE_FULL_EVENT_SIZE = (7 * LEB128_64_SIZE) + (6 * LEB128_32_SIZE);
+	static constexpr int COMPILER_STATISTICS_EVENT_SIZE = (8 * LEB128_64_SIZE) + (6 * LEB128_32_SIZE);
+	static constexpr int JAVA_EXCEPTION_THROW_EVENT_SIZE = sizeof(U_8) + (4 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE);
+	static constexpr int EXCEPTION_STATISTICS_EVENT_SIZE = (4 * LEB128_64_SIZE) + LEB128_32_SIZE;
+	static constexpr int REFERENCE_CLASS_STATISTICS_EVENT_SIZE = (6 * LEB128_64_SIZE) + (2 * LEB128_32_SIZE);
+	static constexpr int SPIN_STOP_REASON_MAX_LENGTH = 32;
+	static constexpr int OBJECT_MONITOR_SPIN_EVENT_SIZE = sizeof(U_8) + SPIN_STOP_REASON_MAX_LENGTH + (7 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE);
+	static constexpr int VIRTUAL_THREAD_STATISTICS_EVENT_SIZE = (8 * LEB128_64_SIZE) + (5 * LEB128_32_SIZE);
+	static constexpr int PINNED_REASON_MAX_LENGTH = 32;
+	static constexpr int VIRTUAL_THREAD_PINNED_EVENT_SIZE = (2 * sizeof(U_8)) + J9JFR_VIRTUAL_THREAD_PINNED_OPERATION_LENGTH + PINNED_REASON_MAX_LENGTH + (6 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE);
 
 	static constexpr int METADATA_ID = 1;
 
@@ -394,6 +411,10 @@ done:
 			_buildResult = OutOfMemory;
 		} else {
 			VM_BufferWriter writer(privatePortLibrary, buffer, requiredBufferSize);
+			/* Constant events are only written in the first chunk, unless the recording is continuous.
+			 * The first chunk is deleted from the repository in time, so each chunk must include them.
+			 */
+			bool writeConstantEvents = (0 == _vm->jfrState.jfrChunkCount) || VM_JFRRepository::isEnabled(_vm);
 
 			_bufferWriter = &writer;
 
@@ -407,7 +428,7 @@ done:
 
 			writeFrameTypeCheckpointEvent();
 
-			if (0 == _vm->jfrState.jfrChunkCount) {
+			if (writeConstantEvents) {
 				writeNarrowOOPModeTypesEvent();
 			}
 
@@ -481,8 +502,27 @@ done:
 
 			pool_do(_constantPoolTypes.getDataLossTable(), &writeDataLossEvent, _bufferWriter);
 
-			/* Only write constant events in first chunk. */
-			if (0 == _vm->jfrState.jfrChunkCount) {
+			pool_do(_constantPoolTypes.getObjectAllocationSampleTable(), &writeObjectAllocationSampleEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getCompilationTable(), &writeCompilationEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getCodeCacheFullTable(), &writeCodeCacheFullEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getCompilerStatisticsTable(), &writeCompilerStatisticsEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getJavaExceptionThrowTable(), &writeJavaExceptionThrowEvent, this);
+
+			pool_do(_constantPoolTypes.getExceptionStatisticsTable(), &writeExceptionStatisticsEvent, this);
+
+			pool_do(_constantPoolTypes.getVirtualThreadPinnedTable(), &writeVirtualThreadPinnedEvent, this);
+
+			pool_do(_constantPoolTypes.getReferenceClassStatisticsTable(), &writeReferenceClassStatisticsEvent, this);
+
+			pool_do(_constantPoolTypes.getObjectMonitorSpinTable(), &writeObjectMonitorSpinEvent, this);
+
+			pool_do(_constantPoolTypes.getVirtualThreadStatisticsTable(), &writeVirtualThreadStatisticsEvent, this);
+
+			if (writeConstantEvents) {
 				writeJVMInformationEvent();
 
 				writeCPUInformationEvent();
@@ -838,10 +878,18 @@ done:
 	{
 		UDATA len = _bufferWriter->getSize();
 
-		UDATA written = j9file_write(_vm->jfrState.blobFileDescriptor, _bufferWriter->getBufferStart(), len);
+		if (VM_JFRRepository::isEnabled(_vm)) {
+			/* A continuous recording keeps each chunk in its own file in the repository */
+			I_64 endTime = (I_64)VM_JFRUtils::getCurrentTimeNanos(privatePortLibrary, _buildResult);
+			if (!VM_JFRRepository::addChunk(_vm, _bufferWriter->getBufferStart(), len, _vm->jfrState.chunkStartTime, endTime)) {
+				_buildResult = FileIOError;
+			}
+		} else {
+			UDATA written = j9file_write(_vm->jfrState.blobFileDescriptor, _bufferWriter->getBufferStart(), len);
 
-		if (len != written) {
-			_buildResult = FileIOError;
+			if (len != written) {
+				_buildResult = FileIOError;
+			}
 		}
 
 		if (_debug) {
@@ -949,6 +997,26 @@ done:
 
 	static void writeDataLossEvent(void *anElement, void *userData);
 
+	static void writeObjectAllocationSampleEvent(void *anElement, void *userData);
+
+	static void writeCompilationEvent(void *anElement, void *userData);
+
+	static void writeCodeCacheFullEvent(void *anElement, void *userData);
+
+	static void writeCompilerStatisticsEvent(void *anElement, void *userData);
+
+	static void writeJavaExceptionThrowEvent(void *anElement, void *userData);
+
+	static void writeExceptionStatisticsEvent(void *anElement, void *userData);
+
+	static void writeVirtualThreadPinnedEvent(void *anElement, void *userData);
+
+	static void writeReferenceClassStatisticsEvent(void *anElement, void *userData);
+
+	static void writeObjectMonitorSpinEvent(void *anElement, void *userData);
+
+	static void writeVirtualThreadStatisticsEvent(void *anElement, void *userData);
+
 
 	UDATA
 	calculateRequiredBufferSize()
@@ -1054,6 +1122,26 @@ done:
 
 		requiredBufferSize += (_constantPoolTypes.getDataLossCount() * DATA_LOSS_EVENT_SIZE);
 
+		requiredBufferSize += (_constantPoolTypes.getObjectAllocationSampleCount() * OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getCompilationCount() * COMPILATION_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getCodeCacheFullCount() * CODE_CACHE_FULL_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getCompilerStatisticsCount() * COMPILER_STATISTICS_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getJavaExceptionThrowCount() * JAVA_EXCEPTION_THROW_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getExceptionStatisticsCount() * EXCEPTION_STATISTICS_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getVirtualThreadPinnedCount() * VIRTUAL_THREAD_PINNED_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getReferenceClassStatisticsCount() * REFERENCE_CLASS_STATISTICS_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getObjectMonitorSpinCount() * OBJECT_MONITOR_SPIN_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getVirtualThreadStatisticsCount() * VIRTUAL_THREAD_STATISTICS_EVENT_SIZE);
+
 		return requiredBufferSize;
 	}
 
@@ -1527,6 +1527,282 @@ done:
 	return;
 }
 
+void
+VM_JFRConstantPoolTypes::addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *objectAllocationSampleData)
+{
+	ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry *)pool_newElement(_objectAllocationSampleTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = objectAllocationSampleData->startTicks;
+
+	/* Use the TID directly as the thread index */
+	entry->eventThreadIndex = objectAllocationSampleData->currentThreadTID;
+
+	entry->stackTraceIndex = consumeStackTrace(objectAllocationSampleData->currentThreadTID, J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(objectAllocationSampleData), objectAllocationSampleData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	entry->objectClass = getClassEntry(objectAllocationSampleData->objectClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->weight = objectAllocationSampleData->weight;
+
+	_objectAllocationSampleCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addCompilationEntry(J9JFRCompilation *compilationData)
+{
+	CompilationEntry *entry = (CompilationEntry *)pool_newElement(_compilationTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = compilationData->startTicks;
+	entry->duration = compilationData->duration;
+
+	/* Use the TID directly as the thread index */
+	entry->eventThreadIndex = compilationData->currentThreadTID;
+
+	entry->methodIndex = getMethodEntry(J9_ROM_METHOD_FROM_RAM_METHOD(compilationData->method), J9_CLASS_FROM_METHOD(compilationData->method));
+	if (isResultNotOKay()) goto done;
+
+	entry->compileID = compilationData->compileID;
+	entry->compileLevel = compilationData->compileLevel;
+	entry->succeeded = compilationData->succeeded;
+	entry->isOSR = compilationData->isOSR;
+	entry->codeSize = compilationData->codeSize;
+	entry->inlinedBytes = compilationData->inlinedBytes;
+
+	_compilationCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addCodeCacheFullEntry(J9JFRCodeCacheFull *codeCacheFullData)
+{
+	CodeCacheFullEntry *entry = (CodeCacheFullEntry *)pool_newElement(_codeCacheFullTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = codeCacheFullData->startTicks;
+
+	/* Use the TID directly as the thread index */
+	entry->eventThreadIndex = codeCacheFullData->currentThreadTID;
+
+	entry->startAddress = codeCacheFullData->startAddress;
+	entry->committedTopAddress = codeCacheFullData->committedTopAddress;
+	entry->reservedTopAddress = codeCacheFullData->reservedTopAddress;
+	entry->entryCount = codeCacheFullData->entryCount;
+	entry->methodCount = codeCacheFullData->methodCount;
+	entry->unallocatedCapacity = codeCacheFullData->unallocatedCapacity;
+	entry->fullCount = codeCacheFullData->fullCount;
+
+	_codeCacheFullCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addCompilerStatisticsEntry(J9JFRCompilerStatistics *compilerStatisticsData)
+{
+	CompilerStatisticsEntry *entry = (CompilerStatisticsEntry *)pool_newElement(_compilerStatisticsTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = compilerStatisticsData->startTicks;
+	entry->compileCount = compilerStatisticsData->compileCount;
+	entry->bailoutCount = compilerStatisticsData->bailoutCount;
+	entry->osrCompileCount = compilerStatisticsData->osrCompileCount;
+	entry->standardCompileCount = compilerStatisticsData->standardCompileCount;
+	entry->osrBytesCompiled = compilerStatisticsData->osrBytesCompiled;
+	entry->standardBytesCompiled = compilerStatisticsData->standardBytesCompiled;
+	entry->codeSize = compilerStatisticsData->codeSize;
+	entry->peakTimeSpent = compilerStatisticsData->peakTimeSpent;
+	entry->totalTimeSpent = compilerStatisticsData->totalTimeSpent;
+
+	_compilerStatisticsCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addJavaExceptionThrowEntry(J9JFRJavaExceptionThrow *javaExceptionThrowData)
+{
+	JavaExceptionThrowEntry *entry = (JavaExceptionThrowEntry *)pool_newElement(_javaExceptionThrowTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = javaExceptionThrowData->startTicks;
+
+	/* Use the TID directly as the thread index */
+	entry->eventThreadIndex = javaExceptionThrowData->currentThreadTID;
+
+	entry->stackTraceIndex = consumeStackTrace(javaExceptionThrowData->currentThreadTID, J9JFRJAVAEXCEPTIONTHROW_STACKTRACE(javaExceptionThrowData), javaExceptionThrowData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	entry->thrownClass = getClassEntry(javaExceptionThrowData->thrownClass);
+	if (isResultNotOKay()) goto done;
+
+	_javaExceptionThrowCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addExceptionStatisticsEntry(J9JFRExceptionStatistics *exceptionStatisticsData)
+{
+	ExceptionStatisticsEntry *entry = (ExceptionStatisticsEntry *)pool_newElement(_exceptionStatisticsTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = exceptionStatisticsData->startTicks;
+	entry->throwables = exceptionStatisticsData->throwables;
+
+	_exceptionStatisticsCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addVirtualThreadPinnedEntry(J9JFRVirtualThreadPinned *virtualThreadPinnedData)
+{
+	VirtualThreadPinnedEntry *entry = (VirtualThreadPinnedEntry *)pool_newElement(_virtualThreadPinnedTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = virtualThreadPinnedData->startTicks;
+	entry->duration = virtualThreadPinnedData->duration;
+
+	/* Use the TIDs directly as thread indices */
+	entry->eventThreadIndex = virtualThreadPinnedData->currentThreadTID;
+	entry->carrierThreadIndex = virtualThreadPinnedData->carrierThreadTID;
+
+	entry->stackTraceIndex = consumeStackTrace(virtualThreadPinnedData->currentThreadTID, J9JFRVIRTUALTHREADPINNED_STACKTRACE(virtualThreadPinnedData), virtualThreadPinnedData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	entry->pinnedReason = virtualThreadPinnedData->pinnedReason;
+	memcpy(entry->blockingOperation, virtualThreadPinnedData->blockingOperation, sizeof(entry->blockingOperation));
+
+	_virtualThreadPinnedCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addReferenceClassStatisticsEntry(J9JFRReferenceClassStatistics *referenceClassStatisticsData)
+{
+	ReferenceClassStatisticsEntry *entry = (ReferenceClassStatisticsEntry *)pool_newElement(_referenceClassStatisticsTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = referenceClassStatisticsData->startTicks;
+	entry->gcID = referenceClassStatisticsData->gcID;
+
+	entry->referenceClass = getClassEntry(referenceClassStatisticsData->referenceClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->discovered = referenceClassStatisticsData->discovered;
+	entry->cleared = referenceClassStatisticsData->cleared;
+	entry->enqueued = referenceClassStatisticsData->enqueued;
+
+	_referenceClassStatisticsCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addObjectMonitorSpinEntry(J9JFRObjectMonitorSpin *objectMonitorSpinData)
+{
+	ObjectMonitorSpinEntry *entry = (ObjectMonitorSpinEntry *)pool_newElement(_objectMonitorSpinTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = objectMonitorSpinData->startTicks;
+	entry->duration = objectMonitorSpinData->duration;
+
+	/* Use the TID directly as the thread index */
+	entry->eventThreadIndex = objectMonitorSpinData->currentThreadTID;
+
+	entry->monitorClass = getClassEntry(objectMonitorSpinData->monitorClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->monitorAddress = objectMonitorSpinData->monitorAddress;
+	entry->stopReason = objectMonitorSpinData->stopReason;
+	entry->spinScale = objectMonitorSpinData->spinScale;
+	entry->spinAcquireCount = objectMonitorSpinData->spinAcquireCount;
+	entry->spinBlockCount = objectMonitorSpinData->spinBlockCount;
+
+	_objectMonitorSpinCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addVirtualThreadStatisticsEntry(J9JFRVirtualThreadStatistics *virtualThreadStatisticsData)
+{
+	VirtualThreadStatisticsEntry *entry = (VirtualThreadStatisticsEntry *)pool_newElement(_virtualThreadStatisticsTable);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = virtualThreadStatisticsData->startTicks;
+	entry->mountCount = virtualThreadStatisticsData->mountCount;
+	entry->unmountCount = virtualThreadStatisticsData->unmountCount;
+	entry->mountedCount = virtualThreadStatisticsData->mountedCount;
+	entry->continuationCount = virtualThreadStatisticsData->continuationCount;
+	entry->continuationStackBytes = virtualThreadStatisticsData->continuationStackBytes;
+	entry->t1CacheHitCount = virtualThreadStatisticsData->t1CacheHitCount;
+	entry->t2CacheHitCount = virtualThreadStatisticsData->t2CacheHitCount;
+	entry->cacheMissCount = virtualThreadStatisticsData->cacheMissCount;
+	entry->cacheFreeCount = virtualThreadStatisticsData->cacheFreeCount;
+
+	_virtualThreadStatisticsCount += 1;
+
+done:
+	return;
+}
+
 void
 VM_JFRConstantPoolTypes::printTables()
 {
@@ -455,6 +455,108 @@ struct DataLossEntry {
 	U_64 total;
 };
 
+struct ObjectAllocationSampleEntry {
+	I_64 ticks;
+	U_64 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 objectClass;
+	I_64 weight;
+};
+
+struct CompilationEntry {
+	I_64 ticks;
+	I_64 duration;
+	U_64 eventThreadIndex;
+	U_32 methodIndex;
+	U_32 compileID;
+	U_16 compileLevel;
+	BOOLEAN succeeded;
+	BOOLEAN isOSR;
+	U_64 codeSize;
+	U_64 inlinedBytes;
+};
+
+struct CodeCacheFullEntry {
+	I_64 ticks;
+	U_64 eventThreadIndex;
+	U_64 startAddress;
+	U_64 committedTopAddress;
+	U_64 reservedTopAddress;
+	I_32 entryCount;
+	I_32 methodCount;
+	U_64 unallocatedCapacity;
+	I_32 fullCount;
+};
+
+struct CompilerStatisticsEntry {
+	I_64 ticks;
+	I_32 compileCount;
+	I_32 bailoutCount;
+	I_32 osrCompileCount;
+	I_32 standardCompileCount;
+	U_64 osrBytesCompiled;
+	U_64 standardBytesCompiled;
+	U_64 codeSize;
+	I_64 peakTimeSpent;
+	I_64 totalTimeSpent;
+};
+
+struct JavaExceptionThrowEntry {
+	I_64 ticks;
+	U_64 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 thrownClass;
+};
+
+struct ExceptionStatisticsEntry {
+	I_64 ticks;
+	I_64 throwables;
+};
+
+struct ReferenceClassStatisticsEntry {
+	I_64 ticks;
+	U_64 gcID;
+	U_32 referenceClass;
+	U_64 discovered;
+	U_64 cleared;
+	U_64 enqueued;
+};
+
+struct ObjectMonitorSpinEntry {
+	I_64 ticks;
+	I_64 duration;
+	U_64 eventThreadIndex;
+	U_32 monitorClass;
+	U_64 monitorAddress;
+	UDATA stopReason;
+	U_32 spinScale;
+	U_64 spinAcquireCount;
+	U_64 spinBlockCount;
+};
+
+struct VirtualThreadStatisticsEntry {
+	I_64 ticks;
+	U_64 mountCount;
+	U_64 unmountCount;
+	U_64 mountedCount;
+	U_64 continuationCount;
+	U_64 continuationStackBytes;
+	U_32 t1CacheHitCount;
+	U_32 t2CacheHitCount;
+	U_32 cacheMissCount;
+	U_32 cacheFreeCount;
+};
+
+struct VirtualThreadPinnedEntry {
+	I_64 ticks;
+	I_64 duration;
+	U_64 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_64 carrierThreadIndex;
+	UDATA pinnedReason;
+	char blockingOperation[J9JFR_VIRTUAL_THREAD_PINNED_OPERATION_LENGTH];
+};
+
 struct JFRConstantEvents {
 	JVMInformationEntry JVMInfoEntry;
 	CPUInformationEntry CPUInfoEntry;
@@ -547,6 +649,26 @@ private:
 	UDATA _networkUtilizationCount;
 	J9Pool *_dataLossTable;
 	UDATA _dataLossCount;
+	J9Pool *_objectAllocationSampleTable;
+	UDATA _objectAllocationSampleCount;
+	J9Pool *_compilationTable;
+	UDATA _compilationCount;
+	J9Pool *_codeCacheFullTable;
+	UDATA _codeCacheFullCount;
+	J9Pool *_compilerStatisticsTable;
+	UDATA _compilerStatisticsCount;
+	J9Pool *_javaExceptionThrowTable;
+	UDATA _javaExceptionThrowCount;
+	J9Pool *_exceptionStatisticsTable;
+	UDATA _exceptionStatisticsCount;
+	J9Pool *_virtualThreadPinnedTable;
+	UDATA _virtualThreadPinnedCount;
+	J9Pool *_referenceClassStatisticsTable;
+	UDATA _referenceClassStatisticsCount;
+	J9Pool *_objectMonitorSpinTable;
+	UDATA _objectMonitorSpinCount;
+	J9Pool *_virtualThreadStatisticsTable;
+	UDATA _virtualThreadStatisticsCount;
 
 	/* Processing buffers */
 	StackFrame *_currentStackFrameBuffer;
@@ -853,6 +975,26 @@ public:
 	void addNetworkUtilizationEntry(J9JFRNetworkUtilization *networkUtilizationData);
 	void addDataLossEntry(J9JFRDataLoss *dataLossData);
 
+	void addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *objectAllocationSampleData);
+
+	void addCompilationEntry(J9JFRCompilation *compilationData);
+
+	void addCodeCacheFullEntry(J9JFRCodeCacheFull *codeCacheFullData);
+
+	void addCompilerStatisticsEntry(J9JFRCompilerStatistics *compilerStatisticsData);
+
+	void addJavaExceptionThrowEntry(J9JFRJavaExceptionThrow *javaExceptionThrowData);
+
+	void addExceptionStatisticsEntry(J9JFRExceptionStatistics *exceptionStatisticsData);
+
+	void addVirtualThreadPinnedEntry(J9JFRVirtualThreadPinned *virtualThreadPinnedData);
+
+	void addReferenceClassStatisticsEntry(J9JFRReferenceClassStatistics *referenceClassStatisticsData);
+
+	void addObjectMonitorSpinEntry(J9JFRObjectMonitorSpin *objectMonitorSpinData);
+
+	void addVirtualThreadStatisticsEntry(J9JFRVirtualThreadStatistics *virtualThreadStatisticsData);
+
 	void addThreadObjectEntry(J9JFRThreadObject *tableEntry);
 
 	J9Pool *getExecutionSampleTable()
@@ -1015,6 +1157,106 @@ public:
 		return _dataLossCount;
 	}
 
+	J9Pool *getObjectAllocationSampleTable()
+	{
+		return _objectAllocationSampleTable;
+	}
+
+	UDATA getObjectAllocationSampleCount()
+	{
+		return _objectAllocationSampleCount;
+	}
+
+	J9Pool *getCompilationTable()
+	{
+		return _compilationTable;
+	}
+
+	UDATA getCompilationCount()
+	{
+		return _compilationCount;
+	}
+
+	J9Pool *getCodeCacheFullTable()
+	{
+		return _codeCacheFullTable;
+	}
+
+	UDATA getCodeCacheFullCount()
+	{
+		return _codeCacheFullCount;
+	}
+
+	J9Pool *getCompilerStatisticsTable()
+	{
+		return _compilerStatisticsTable;
+	}
+
+	UDATA getCompilerStatisticsCount()
+	{
+		return _compilerStatisticsCount;
+	}
+
+	J9Pool *getJavaExceptionThrowTable()
+	{
+		return _javaExceptionThrowTable;
+	}
+
+	UDATA getJavaExceptionThrowCount()
+	{
+		return _javaExceptionThrowCount;
+	}
+
+	J9Pool *getExceptionStatisticsTable()
+	{
+		return _exceptionStatisticsTable;
+	}
+
+	UDATA getExceptionStatisticsCount()
+	{
+		return _exceptionStatisticsCount;
+	}
+
+	J9Pool *getVirtualThreadPinnedTable()
+	{
+		return _virtualThreadPinnedTable;
+	}
+
+	UDATA getVirtualThreadPinnedCount()
+	{
+		return _virtualThreadPinnedCount;
+	}
+
+	J9Pool *getReferenceClassStatisticsTable()
+	{
+		return _referenceClassStatisticsTable;
+	}
+
+	UDATA getReferenceClassStatisticsCount()
+	{
+		return _referenceClassStatisticsCount;
+	}
+
+	J9Pool *getObjectMonitorSpinTable()
+	{
+		return _objectMonitorSpinTable;
+	}
+
+	UDATA getObjectMonitorSpinCount()
+	{
+		return _objectMonitorSpinCount;
+	}
+
+	J9Pool *getVirtualThreadStatisticsTable()
+	{
+		return _virtualThreadStatisticsTable;
+	}
+
+	UDATA getVirtualThreadStatisticsCount()
+	{
+		return _virtualThreadStatisticsCount;
+	}
+
 	UDATA getThreadStartCount()
 	{
 		return _threadStartCount;
@@ -1302,6 +1544,36 @@ public:
 			case J9JFR_EVENT_TYPE_DATA_LOSS:
 				addDataLossEntry((J9JFRDataLoss *)event);
 				break;
+			case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+				addObjectAllocationSampleEntry((J9JFRObjectAllocationSample *)event);
+				break;
+			case J9JFR_EVENT_TYPE_COMPILATION:
+				addCompilationEntry((J9JFRCompilation *)event);
+				break;
+			case J9JFR_EVENT_TYPE_CODE_CACHE_FULL:
+				addCodeCacheFullEntry((J9JFRCodeCacheFull *)event);
+				break;
+			case J9JFR_EVENT_TYPE_COMPILER_STATISTICS:
+				addCompilerStatisticsEntry((J9JFRCompilerStatistics *)event);
+				break;
+			case J9JFR_EVENT_TYPE_JAVA_EXCEPTION_THROW:
+				addJavaExceptionThrowEntry((J9JFRJavaExceptionThrow *)event);
+				break;
+			case J9JFR_EVENT_TYPE_EXCEPTION_STATISTICS:
+				addExceptionStatisticsEntry((J9JFRExceptionStatistics *)event);
+				break;
+			case J9JFR_EVENT_TYPE_VIRTUAL_THREAD_PINNED:
+				addVirtualThreadPinnedEntry((J9JFRVirtualThreadPinned *)event);
+				break;
+			case J9JFR_EVENT_TYPE_REFERENCE_CLASS_STATISTICS:
+				addReferenceClassStatisticsEntry((J9JFRReferenceClassStatistics *)event);
+				break;
+			case J9JFR_EVENT_TYPE_OBJECT_MONITOR_SPIN:
+				addObjectMonitorSpinEntry((J9JFRObjectMonitorSpin *)event);
+				break;
+			case J9JFR_EVENT_TYPE_VIRTUAL_THREAD_STATISTICS:
+				addVirtualThreadStatisticsEntry((J9JFRVirtualThreadStatistics *)event);
+				break;
 			default:
 				Assert_VM_unreachable();
 				break;
@@ -1969,6 +2241,26 @@ done:
 		, _networkUtilizationCount(0)
 		, _dataLossTable(NULL)
 		, _dataLossCount(0)
+		, _objectAllocationSampleTable(NULL)
+		, _objectAllocationSampleCount(0)
+		, _compilationTable(NULL)
+		, _compilationCount(0)
+		, _codeCacheFullTable(NULL)
+		, _codeCacheFullCount(0)
+		, _compilerStatisticsTable(NULL)
+		, _compilerStatisticsCount(0)
+		, _javaExceptionThrowTable(NULL)
+		, _javaExceptionThrowCount(0)
+		, _exceptionStatisticsTable(NULL)
+		, _exceptionStatisticsCount(0)
+		, _virtualThreadPinnedTable(NULL)
+		, _virtualThreadPinnedCount(0)
+		, _referenceClassStatisticsTable(NULL)
+		, _referenceClassStatisticsCount(0)
+		, _objectMonitorSpinTable(NULL)
+		, _objectMonitorSpinCount(0)
+		, _virtualThreadStatisticsTable(NULL)
+		, _virtualThreadStatisticsCount(0)
 		, _previousStackTraceEntry(NULL)
 		, _firstStackTraceEntry(NULL)
 		, _previousThreadEntry(NULL)
@@ -2189,6 +2481,66 @@ done:
 			goto done;
 		}
 
+		_objectAllocationSampleTable = pool_new(sizeof(ObjectAllocationSampleEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _objectAllocationSampleTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_compilationTable = pool_new(sizeof(CompilationEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _compilationTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_codeCacheFullTable = pool_new(sizeof(CodeCacheFullEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _codeCacheFullTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_compilerStatisticsTable = pool_new(sizeof(CompilerStatisticsEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _compilerStatisticsTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_javaExceptionThrowTable = pool_new(sizeof(JavaExceptionThrowEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _javaExceptionThrowTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_exceptionStatisticsTable = pool_new(sizeof(ExceptionStatisticsEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _exceptionStatisticsTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_virtualThreadPinnedTable = pool_new(sizeof(VirtualThreadPinnedEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _virtualThreadPinnedTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_referenceClassStatisticsTable = pool_new(sizeof(ReferenceClassStatisticsEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _referenceClassStatisticsTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_objectMonitorSpinTable = pool_new(sizeof(ObjectMonitorSpinEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _objectMonitorSpinTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_virtualThreadStatisticsTable = pool_new(sizeof(VirtualThreadStatisticsEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _virtualThreadStatisticsTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
 		/* Add reserved index for default entries. For strings zero is the empty or NUll string.
 		 * For package zero is the deafult package, for Module zero is the unnamed module. ThreadGroup
 		 * zero is NULL threadGroup.
@@ -2294,6 +2646,16 @@ done:
 		pool_kill(_gcHeapSummaryTable);
 		pool_kill(_networkUtilizationTable);
 		pool_kill(_dataLossTable);
+		pool_kill(_objectAllocationSampleTable);
+		pool_kill(_compilationTable);
+		pool_kill(_codeCacheFullTable);
+		pool_kill(_compilerStatisticsTable);
+		pool_kill(_javaExceptionThrowTable);
+		pool_kill(_exceptionStatisticsTable);
+		pool_kill(_virtualThreadPinnedTable);
+		pool_kill(_referenceClassStatisticsTable);
+		pool_kill(_objectMonitorSpinTable);
+		pool_kill(_virtualThreadStatisticsTable);
 		freeNetworkInterfaceNames();
 		j9mem_free_memory(_globalStringTable);
 	}
@@ -0,0 +1,766 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#if !defined(JFRMETADATA_HPP_)
+#define JFRMETADATA_HPP_
+
+#include "j9cfg.h"
+#include "j9.h"
+
+#if defined(J9VM_OPT_JFR)
+
+#include "BufferWriter.hpp"
+#include "JFRChunkWriter.hpp"
+
+/**
+ * Adds the types of the events defined in Java by the JDK, which the VM records natively,
+ * and of the events specific to this VM, to the metadata blob loaded from $java.home/lib/metadata.blob.
+ *
+ * The blob holds the body of the chunk metadata event: the string pool followed by the tree
+ * of elements, where the "metadata" element holds one "class" element per type. The new event
+ * types are given ids above the largest id in the blob, and their class elements are added to
+ * the "metadata" element. If the blob already describes an event with the same fields, its id
+ * is used instead. The id of an event which cannot be described is left at 0, which disables it.
+ */
+class VM_JFRMetadata
+{
+	/*
+	 * Data members
+	 */
+private:
+	enum TypeIndex {
+		LongType = 0,
+		ThreadType,
+		StackTraceType,
+		StringType,
+		ClassType,
+		LabelType,
+		DescriptionType,
+		CategoryType,
+		TimestampType,
+		TimespanType,
+		TypeCount
+	};
+
+	enum EventIndex {
+		JavaExceptionThrowEvent = 0,
+		ExceptionStatisticsEvent,
+		VirtualThreadPinnedEvent,
+		ReferenceClassStatisticsEvent,
+		ObjectMonitorSpinEvent,
+		VirtualThreadStatisticsEvent,
+		EventCount
+	};
+
+	struct FieldDescription {
+		const char *name;
+		TypeIndex type;
+		bool constantPool;
+		const char *label;
+		TypeIndex annotation; /**< TypeCount for no annotation besides the label */
+		const char *annotationValue;
+	};
+
+	struct EventDescription {
+		const char *name;
+		const char *label;
+		const char *description;
+		const char *categories[2];
+		const FieldDescription *fields;
+		UDATA fieldCount;
+	};
+
+	static const UDATA MAX_NAME_LENGTH = 128;
+	static const UDATA MAX_ELEMENT_DEPTH = 16;
+	static const UDATA MAX_NEW_STRINGS = 128;
+	static const UDATA ELEMENTS_BUFFER_SIZE = 8192;
+	static const U_64 NO_STRING = ~(U_64)0;
+
+	J9JavaVM *_vm;
+	U_8 *_blobEnd;
+	U_8 *_cursor;
+	bool _error;
+	UDATA _stringCount;
+	U_8 **_strings;
+	U_8 *_metadataChildCount;
+	U_8 *_metadataChildren;
+	U_64 _metadataChildCountValue;
+	U_64 _maxTypeID;
+	U_64 _typeIDs[TypeCount];
+	U_64 _existingEventIDs[EventCount];
+	UDATA _existingEventFields[EventCount];
+	bool _existingEventMatches[EventCount];
+	const char *_newStrings[MAX_NEW_STRINGS];
+	UDATA _newStringCount;
+	char _eventIDStrings[EventCount][32];
+
+protected:
+
+public:
+
+	/*
+	 * Function members
+	 */
+private:
+	static const char *
+	typeName(TypeIndex type)
+	{
+		static const char *names[TypeCount] = {
+			"long",
+			"java.lang.Thread",
+			"jdk.types.StackTrace",
+			"java.lang.String",
+			"java.lang.Class",
+			"jdk.jfr.Label",
+			"jdk.jfr.Description",
+			"jdk.jfr.Category",
+			"jdk.jfr.Timestamp",
+			"jdk.jfr.Timespan",
+		};
+		return names[type];
+	}
+
+	static const EventDescription *
+	eventDescription(EventIndex event)
+	{
+		static const FieldDescription javaExceptionThrowFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "eventThread", ThreadType, true, "Event Thread", TypeCount, NULL },
+			{ "stackTrace", StackTraceType, true, "Stack Trace", TypeCount, NULL },
+			{ "message", StringType, false, "Message", TypeCount, NULL },
+			{ "thrownClass", ClassType, true, "Class", TypeCount, NULL },
+		};
+		static const FieldDescription exceptionStatisticsFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "throwables", LongType, false, "Exceptions Created", TypeCount, NULL },
+		};
+		static const FieldDescription virtualThreadPinnedFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "eventThread", ThreadType, true, "Event Thread", TypeCount, NULL },
+			{ "stackTrace", StackTraceType, true, "Stack Trace", TypeCount, NULL },
+			{ "blockingOperation", StringType, false, "Blocking Operation", TypeCount, NULL },
+			{ "pinnedReason", StringType, false, "Pinned Reason", TypeCount, NULL },
+			{ "carrierThread", ThreadType, true, "Carrier Thread", TypeCount, NULL },
+		};
+		static const FieldDescription referenceClassStatisticsFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "gcId", LongType, false, "GC Identifier", TypeCount, NULL },
+			{ "referenceClass", ClassType, true, "Reference Class", TypeCount, NULL },
+			{ "discovered", LongType, false, "Discovered", TypeCount, NULL },
+			{ "cleared", LongType, false, "Cleared", TypeCount, NULL },
+			{ "enqueued", LongType, false, "Enqueued", TypeCount, NULL },
+		};
+		static const FieldDescription objectMonitorSpinFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "eventThread", ThreadType, true, "Event Thread", TypeCount, NULL },
+			{ "monitorClass", ClassType, true, "Monitor Class", TypeCount, NULL },
+			{ "address", LongType, false, "Monitor Address", TypeCount, NULL },
+			{ "stopReason", StringType, false, "Stop Reason", TypeCount, NULL },
+			{ "spinScale", LongType, false, "Spin Scale", TypeCount, NULL },
+			{ "spinAcquires", LongType, false, "Spin Acquires", TypeCount, NULL },
+			{ "spinBlocks", LongType, false, "Spin Blocks", TypeCount, NULL },
+		};
+		static const FieldDescription virtualThreadStatisticsFields[] = {
+			{ "startTime", LongType, false, "Start Time", TimestampType, "TICKS" },
+			{ "duration", LongType, false, "Duration", TimespanType, "TICKS" },
+			{ "mountCount", LongType, false, "Mounts", TypeCount, NULL },
+			{ "unmountCount", LongType, false, "Unmounts", TypeCount, NULL },
+			{ "mountedCount", LongType, false, "Mounted Virtual Threads", TypeCount, NULL },
+			{ "continuationCount", LongType, false, "Continuations", TypeCount, NULL },
+			{ "continuationStackMemory", LongType, false, "Continuation Stack Memory", TypeCount, NULL },
+			{ "t1CacheHits", LongType, false, "T1 Cache Hits", TypeCount, NULL },
+			{ "t2CacheHits", LongType, false, "T2 Cache Hits", TypeCount, NULL },
+			{ "cacheMisses", LongType, false, "Cache Misses", TypeCount, NULL },
+			{ "cacheFrees", LongType, false, "Cache Frees", TypeCount, NULL },
+		};
+		static const EventDescription events[EventCount] = {
+			{
+				"jdk.JavaExceptionThrow", "Java Exception",
+				"An object derived from java.lang.Throwable has been created",
+				{ "Java Application", NULL },
+				javaExceptionThrowFields, sizeof(javaExceptionThrowFields) / sizeof(javaExceptionThrowFields[0])
+			},
+			{
+				"jdk.ExceptionStatistics", "Exception Statistics",
+				"Number of objects derived from java.lang.Throwable that have been created",
+				{ "Java Application", "Statistics" },
+				exceptionStatisticsFields, sizeof(exceptionStatisticsFields) / sizeof(exceptionStatisticsFields[0])
+			},
+			{
+				"jdk.VirtualThreadPinned", "Virtual Thread Pinned",
+				"A virtual thread parked or waited while pinned to its carrier thread",
+				{ "Java Application", NULL },
+				virtualThreadPinnedFields, sizeof(virtualThreadPinnedFields) / sizeof(virtualThreadPinnedFields[0])
+			},
+			{
+				"openj9.ReferenceClassStatistics", "Reference Class Statistics",
+				"Reference objects of one class processed by a garbage collection, with -Xgc:referenceClassStatistics",
+				{ "Java Virtual Machine", "GC" },
+				referenceClassStatisticsFields, sizeof(referenceClassStatisticsFields) / sizeof(referenceClassStatisticsFields[0])
+			},
+			{
+				"openj9.ObjectMonitorSpin", "Object Monitor Spin",
+				"A thread spun on an inflated object monitor without acquiring it, with -Xthr:adaptiveObjectMonitorSpinning",
+				{ "Java Application", NULL },
+				objectMonitorSpinFields, sizeof(objectMonitorSpinFields) / sizeof(objectMonitorSpinFields[0])
+			},
+			{
+				"openj9.VirtualThreadStatistics", "Virtual Thread Statistics",
+				"Virtual thread mounts and continuation cache usage",
+				{ "Java Application", "Statistics" },
+				virtualThreadStatisticsFields, sizeof(virtualThreadStatisticsFields) / sizeof(virtualThreadStatisticsFields[0])
+			},
+		};
+		return &events[event];
+	}
+
+	/**
+	 * Read an LEB128 value, in which the ninth byte holds a full eight bits.
+	 */
+	U_64
+	readLEB128(U_8 *&cursor)
+	{
+		U_64 value = 0;
+		for (UDATA shift = 0; !_error; shift += 7) {
+			if (cursor >= _blobEnd) {
+				_error = true;
+				break;
+			}
+			U_8 byte = *cursor++;
+			if (56 == shift) {
+				value |= ((U_64)byte) << shift;
+				break;
+			}
+			value |= ((U_64)(byte & 0x7F)) << shift;
+			if (0 == (byte & 0x80)) {
+				break;
+			}
+		}
+		return value;
+	}
+
+	void
+	skipString(U_8 *&cursor)
+	{
+		if (cursor >= _blobEnd) {
+			_error = true;
+			return;
+		}
+		U_8 encoding = *cursor++;
+		switch (encoding) {
+		case NullString:
+		case EmptyString:
+			break;
+		case StringConstant:
+			readLEB128(cursor);
+			break;
+		case UTF8:
+		case Latin1: {
+			U_64 length = readLEB128(cursor);
+			if (length > (U_64)(_blobEnd - cursor)) {
+				_error = true;
+			} else {
+				cursor += length;
+			}
+			break;
+		}
+		case UTF16: {
+			U_64 length = readLEB128(cursor);
+			for (U_64 i = 0; (i < length) && !_error; i++) {
+				readLEB128(cursor);
+			}
+			break;
+		}
+		default:
+			_error = true;
+			break;
+		}
+	}
+
+	/**
+	 * Decode a string of the string pool into a buffer of MAX_NAME_LENGTH characters.
+	 *
+	 * @return false if the string is null, not ASCII, or too long to be a name of interest
+	 */
+	bool
+	decodeString(U_64 index, char *buffer)
+	{
+		if (index >= _stringCount) {
+			_error = true;
+			return false;
+		}
+		U_8 *cursor = _strings[index];
+		U_8 encoding = *cursor++;
+		U_64 length = 0;
+		switch (encoding) {
+		case EmptyString:
+			break;
+		case UTF8:
+		case Latin1:
+		case UTF16:
+			length = readLEB128(cursor);
+			if (length >= MAX_NAME_LENGTH) {
+				return false;
+			}
+			for (U_64 i = 0; i < length; i++) {
+				U_64 character = (UTF16 == encoding) ? readLEB128(cursor) : *cursor++;
+				if (character > 0x7F) {
+					return false;
+				}
+				buffer[i] = (char)character;
+			}
+			break;
+		default:
+			return false;
+		}
+		buffer[length] = '\0';
+		return true;
+	}
+
+	bool
+	stringEquals(U_64 index, const char *value)
+	{
+		char buffer[MAX_NAME_LENGTH];
+		return decodeString(index, buffer) && (0 == strcmp(buffer, value));
+	}
+
+	void
+	parseClass(U_64 nameIndex, U_64 idIndex, IDATA *eventIndex)
+	{
+		char name[MAX_NAME_LENGTH];
+		char id[MAX_NAME_LENGTH];
+		if (!decodeString(nameIndex, name) || !decodeString(idIndex, id)) {
+			return;
+		}
+		U_64 typeID = 0;
+		for (char *digit = id; '\0' != *digit; digit++) {
+			if ((*digit < '0') || (*digit > '9')) {
+				return;
+			}
+			typeID = (typeID * 10) + (U_64)(*digit - '0');
+		}
+		_maxTypeID = OMR_MAX(_maxTypeID, typeID);
+		for (UDATA i = 0; i < TypeCount; i++) {
+			if (0 == strcmp(name, typeName((TypeIndex)i))) {
+				_typeIDs[i] = typeID;
+			}
+		}
+		for (UDATA i = 0; i < EventCount; i++) {
+			if (0 == strcmp(name, eventDescription((EventIndex)i)->name)) {
+				_existingEventIDs[i] = typeID;
+				_existingEventFields[i] = 0;
+				_existingEventMatches[i] = true;
+				*eventIndex = (IDATA)i;
+			}
+		}
+	}
+
+	void
+	parseField(U_64 nameIndex, IDATA eventIndex)
+	{
+		const EventDescription *event = eventDescription((EventIndex)eventIndex);
+		UDATA field = _existingEventFields[eventIndex];
+		if ((field >= event->fieldCount) || !stringEquals(nameIndex, event->fields[field].name)) {
+			_existingEventMatches[eventIndex] = false;
+		}
+		_existingEventFields[eventIndex] = field + 1;
+	}
+
+	/**
+	 * Parse an element and its children.
+	 *
+	 * @param depth[in] the depth of the element, 0 for the root
+	 * @param classEvent[in] for a child of a class element, the index of the event the class describes, otherwise -1
+	 */
+	void
+	parseElement(UDATA depth, IDATA classEvent)
+	{
+		if (depth > MAX_ELEMENT_DEPTH) {
+			_error = true;
+			return;
+		}
+		U_64 elementName = readLEB128(_cursor);
+		U_64 attributeCount = readLEB128(_cursor);
+		bool isClass = (2 == depth) && stringEquals(elementName, "class");
+		bool isField = (3 == depth) && (-1 != classEvent) && stringEquals(elementName, "field");
+		bool isMetadata = (1 == depth) && stringEquals(elementName, "metadata");
+		U_64 nameIndex = NO_STRING;
+		U_64 idIndex = NO_STRING;
+		for (U_64 i = 0; (i < attributeCount) && !_error; i++) {
+			U_64 key = readLEB128(_cursor);
+			U_64 value = readLEB128(_cursor);
+			if (isClass || isField) {
+				if (stringEquals(key, "name")) {
+					nameIndex = value;
+				} else if (stringEquals(key, "id")) {
+					idIndex = value;
+				}
+			}
+		}
+		if (_error) {
+			return;
+		}
+
+		IDATA childEvent = -1;
+		if (isClass && (NO_STRING != nameIndex) && (NO_STRING != idIndex)) {
+			parseClass(nameIndex, idIndex, &childEvent);
+		} else if (isField && (NO_STRING != nameIndex)) {
+			parseField(nameIndex, classEvent);
+		}
+
+		if (isMetadata) {
+			_metadataChildCount = _cursor;
+		}
+		U_64 childCount = readLEB128(_cursor);
+		if (isMetadata) {
+			_metadataChildCountValue = childCount;
+			_metadataChildren = _cursor;
+		}
+		for (U_64 i = 0; (i < childCount) && !_error; i++) {
+			parseElement(depth + 1, childEvent);
+		}
+	}
+
+	/**
+	 * Find a string in the string pool, adding it to the new strings if it is not there yet.
+	 *
+	 * @return the index of the string
+	 */
+	U_64
+	stringIndex(const char *value)
+	{
+		for (UDATA i = 0; i < _stringCount; i++) {
+			if (stringEquals(i, value)) {
+				return i;
+			}
+		}
+		for (UDATA i = 0; i < _newStringCount; i++) {
+			if (0 == strcmp(_newStrings[i], value)) {
+				return _stringCount + i;
+			}
+		}
+		if (_newStringCount >= MAX_NEW_STRINGS) {
+			_error = true;
+			return 0;
+		}
+		_newStrings[_newStringCount] = value;
+		_newStringCount += 1;
+		return _stringCount + _newStringCount - 1;
+	}
+
+	void
+	writeAttribute(VM_BufferWriter *writer, const char *key, const char *value)
+	{
+		writer->writeLEB128(stringIndex(key));
+		writer->writeLEB128(stringIndex(value));
+	}
+
+	/**
+	 * Write an attribute whose value is the id of an existing type, which is always in the string pool.
+	 */
+	void
+	writeTypeAttribute(VM_BufferWriter *writer, const char *key, TypeIndex type)
+	{
+		char typeID[32];
+		PORT_ACCESS_FROM_JAVAVM(_vm);
+		j9str_printf(typeID, sizeof(typeID), "%llu", _typeIDs[type]);
+		writer->writeLEB128(stringIndex(key));
+		for (UDATA i = 0; i < _stringCount; i++) {
+			if (stringEquals(i, typeID)) {
+				writer->writeLEB128(i);
+				return;
+			}
+		}
+		_error = true;
+	}
+
+	/**
+	 * Write an annotation element. The values of an array annotation, such as a category, are numbered.
+	 */
+	void
+	writeAnnotation(VM_BufferWriter *writer, TypeIndex type, const char * const *values, UDATA valueCount, bool isArray)
+	{
+		static const char *valueKeys[] = { "value-0", "value-1" };
+		writer->writeLEB128(stringIndex("annotation"));
+		writer->writeLEB128(1 + valueCount);
+		writeTypeAttribute(writer, "class", type);
+		for (UDATA i = 0; i < valueCount; i++) {
+			writeAttribute(writer, isArray ? valueKeys[i] : "value", values[i]);
+		}
+		writer->writeLEB128(0);
+	}
+
+	void
+	writeEvent(VM_BufferWriter *writer, EventIndex eventIndex, U_64 typeID)
+	{
+		const EventDescription *event = eventDescription(eventIndex);
+		UDATA annotationCount = 0;
+		PORT_ACCESS_FROM_JAVAVM(_vm);
+
+		j9str_printf(_eventIDStrings[eventIndex], sizeof(_eventIDStrings[eventIndex]), "%llu", typeID);
+
+		for (UDATA i = LabelType; i <= CategoryType; i++) {
+			if (0 != _typeIDs[i]) {
+				annotationCount += 1;
+			}
+		}
+
+		writer->writeLEB128(stringIndex("class"));
+		writer->writeLEB128(3);
+		writeAttribute(writer, "name", event->name);
+		writeAttribute(writer, "id", _eventIDStrings[eventIndex]);
+		writeAttribute(writer, "superType", "jdk.jfr.Event");
+		writer->writeLEB128(annotationCount + event->fieldCount);
+		if (0 != _typeIDs[LabelType]) {
+			writeAnnotation(writer, LabelType, &event->label, 1, false);
+		}
+		if (0 != _typeIDs[DescriptionType]) {
+			writeAnnotation(writer, DescriptionType, &event->description, 1, false);
+		}
+		if (0 != _typeIDs[CategoryType]) {
+			writeAnnotation(writer, CategoryType, event->categories, (NULL == event->categories[1]) ? 1 : 2, true);
+		}
+
+		for (UDATA i = 0; i < event->fieldCount; i++) {
+			const FieldDescription *field = &event->fields[i];
+			UDATA fieldAnnotationCount = 0;
+			if (0 != _typeIDs[LabelType]) {
+				fieldAnnotationCount += 1;
+			}
+			if ((TypeCount != field->annotation) && (0 != _typeIDs[field->annotation])) {
+				fieldAnnotationCount += 1;
+			}
+
+			writer->writeLEB128(stringIndex("field"));
+			writer->writeLEB128(field->constantPool ? 3 : 2);
+			writeAttribute(writer, "name", field->name);
+			writeTypeAttribute(writer, "class", field->type);
+			if (field->constantPool) {
+				writeAttribute(writer, "constantPool", "true");
+			}
+			writer->writeLEB128(fieldAnnotationCount);
+			if (0 != _typeIDs[LabelType]) {
+				writeAnnotation(writer, LabelType, &field->label, 1, false);
+			}
+			if ((TypeCount != field->annotation) && (0 != _typeIDs[field->annotation])) {
+				writeAnnotation(writer, field->annotation, &field->annotationValue, 1, false);
+			}
+		}
+	}
+
+	/**
+	 * Write the new strings, which are plain names, with the same character array encoding as the JDK.
+	 */
+	void
+	writeNewStrings(VM_BufferWriter *writer)
+	{
+		for (UDATA i = 0; i < _newStringCount; i++) {
+			const char *value = _newStrings[i];
+			UDATA length = strlen(value);
+			writer->writeU8(UTF16);
+			writer->writeLEB128(length);
+			for (UDATA j = 0; j < length; j++) {
+				writer->writeLEB128((U_8)value[j]);
+			}
+		}
+	}
+
+	VM_JFRMetadata(J9JavaVM *vm)
+		: _vm(vm)
+		, _blobEnd(NULL)
+		, _cursor(NULL)
+		, _error(false)
+		, _stringCount(0)
+		, _strings(NULL)
+		, _metadataChildCount(NULL)
+		, _metadataChildren(NULL)
+		, _metadataChildCountValue(0)
+		, _maxTypeID(0)
+		, _newStringCount(0)
+	{
+		for (UDATA i = 0; i < TypeCount; i++) {
+			_typeIDs[i] = 0;
+		}
+		for (UDATA i = 0; i < EventCount; i++) {
+			_existingEventIDs[i] = 0;
+			_existingEventFields[i] = 0;
+			_existingEventMatches[i] = false;
+		}
+	}
+
+	/**
+	 * Add the event types to the metadata blob of the VM.
+	 *
+	 * @return true if the blob describes the events, false if they are disabled
+	 */
+	bool
+	addEventTypes()
+	{
+		PORT_ACCESS_FROM_JAVAVM(_vm);
+		JFRState *jfrState = &_vm->jfrState;
+		U_8 *blob = jfrState->metaDataBlobFile;
+		U_8 *stringsStart = NULL;
+		U_8 *treeStart = NULL;
+		U_8 *elements = NULL;
+		U_8 *newBlob = NULL;
+		U_64 eventIDs[EventCount] = { 0 };
+		UDATA newEventCount = 0;
+		U_64 stringCount = 0;
+		bool result = false;
+
+		_cursor = blob;
+		_blobEnd = blob + jfrState->metaDataBlobFileSize;
+
+		/* Index the string pool. */
+		stringCount = readLEB128(_cursor);
+		if (_error || (stringCount > (U_64)(_blobEnd - _cursor))) {
+			goto done;
+		}
+		_stringCount = (UDATA)stringCount;
+		_strings = (U_8 **)j9mem_allocate_memory(OMR_MAX(_stringCount, 1) * sizeof(U_8 *), J9MEM_CATEGORY_JFR);
+		if (NULL == _strings) {
+			goto done;
+		}
+		stringsStart = _cursor;
+		for (UDATA i = 0; (i < _stringCount) && !_error; i++) {
+			_strings[i] = _cursor;
+			skipString(_cursor);
+		}
+		treeStart = _cursor;
+
+		/* Find the existing types and where the class elements go. */
+		parseElement(0, -1);
+		if (_error || (NULL == _metadataChildCount)) {
+			goto done;
+		}
+		for (UDATA i = LongType; i <= ClassType; i++) {
+			if (0 == _typeIDs[i]) {
+				goto done;
+			}
+		}
+
+		for (UDATA i = 0; i < EventCount; i++) {
+			if (0 != _existingEventIDs[i]) {
+				const EventDescription *event = eventDescription((EventIndex)i);
+				if (_existingEventMatches[i] && (event->fieldCount == _existingEventFields[i])) {
+					eventIDs[i] = _existingEventIDs[i];
+				}
+			} else {
+				eventIDs[i] = _maxTypeID + 1 + newEventCount;
+				newEventCount += 1;
+			}
+		}
+
+		if (0 != newEventCount) {
+			/* Write the new class elements, collecting the strings they add to the pool. */
+			elements = (U_8 *)j9mem_allocate_memory(ELEMENTS_BUFFER_SIZE, J9MEM_CATEGORY_JFR);
+			if (NULL == elements) {
+				goto done;
+			}
+			VM_BufferWriter elementWriter(PORTLIB, elements, ELEMENTS_BUFFER_SIZE);
+			for (UDATA i = 0; i < EventCount; i++) {
+				if (0 == _existingEventIDs[i]) {
+					writeEvent(&elementWriter, (EventIndex)i, eventIDs[i]);
+				}
+			}
+			if (_error || elementWriter.overflowOccurred()) {
+				goto done;
+			}
+			UDATA elementsSize = elementWriter.getCursor() - elements;
+
+			UDATA newStringsSize = 0;
+			for (UDATA i = 0; i < _newStringCount; i++) {
+				newStringsSize += 1 + 10 + strlen(_newStrings[i]);
+			}
+			UDATA newBlobSize = jfrState->metaDataBlobFileSize + newStringsSize + elementsSize + (2 * 10) + 1;
+			newBlob = (U_8 *)j9mem_allocate_memory(newBlobSize, OMRMEM_CATEGORY_VM);
+			if (NULL == newBlob) {
+				goto done;
+			}
+			VM_BufferWriter blobWriter(PORTLIB, newBlob, newBlobSize);
+			blobWriter.writeLEB128(_stringCount + _newStringCount);
+			blobWriter.writeData(stringsStart, treeStart - stringsStart);
+			writeNewStrings(&blobWriter);
+			blobWriter.writeData(treeStart, _metadataChildCount - treeStart);
+			blobWriter.writeLEB128(_metadataChildCountValue + newEventCount);
+			blobWriter.writeData(elements, elementsSize);
+			blobWriter.writeData(_metadataChildren, _blobEnd - _metadataChildren);
+			if (blobWriter.overflowOccurred()) {
+				goto done;
+			}
+
+			j9mem_free_memory(jfrState->metaDataBlobFile);
+			jfrState->metaDataBlobFile = newBlob;
+			jfrState->metaDataBlobFileSize = blobWriter.getCursor() - newBlob;
+			newBlob = NULL;
+		}
+
+		jfrState->javaExceptionThrowTypeID = eventIDs[JavaExceptionThrowEvent];
+		jfrState->exceptionStatisticsTypeID = eventIDs[ExceptionStatisticsEvent];
+		jfrState->virtualThreadPinnedTypeID = eventIDs[VirtualThreadPinnedEvent];
+		jfrState->referenceClassStatisticsTypeID = eventIDs[ReferenceClassStatisticsEvent];
+		jfrState->objectMonitorSpinTypeID = eventIDs[ObjectMonitorSpinEvent];
+		jfrState->virtualThreadStatisticsTypeID = eventIDs[VirtualThreadStatisticsEvent];
+		result = true;
+
+done:
+		j9mem_free_memory(newBlob);
+		j9mem_free_memory(elements);
+		j9mem_free_memory(_strings);
+		return result;
+	}
+
+protected:
+
+public:
+
+	/**
+	 * Add the types of the events defined in Java by the JDK, which the VM records natively, and of the
+	 * events specific to this VM to the metadata blob. If the blob cannot be parsed it is left unchanged and the events are disabled.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 * @return true if the events are described by the blob, false otherwise
+	 */
+	static bool
+	addJavaEventTypes(J9JavaVM *vm)
+	{
+		vm->jfrState.javaExceptionThrowTypeID = 0;
+		vm->jfrState.exceptionStatisticsTypeID = 0;
+		vm->jfrState.virtualThreadPinnedTypeID = 0;
+		vm->jfrState.referenceClassStatisticsTypeID = 0;
+		vm->jfrState.objectMonitorSpinTypeID = 0;
+		vm->jfrState.virtualThreadStatisticsTypeID = 0;
+		if (NULL == vm->jfrState.metaDataBlobFile) {
+			return false;
+		}
+		VM_JFRMetadata metadata(vm);
+		return metadata.addEventTypes();
+	}
+};
+
+#endif /* defined(J9VM_OPT_JFR) */
+
+#endif /* JFRMETADATA_HPP_ */
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#if !defined(JFRREPOSITORY_HPP_)
+#define JFRREPOSITORY_HPP_
+
+#include "j9cfg.h"
+#include "j9.h"
+#include "vm_api.h"
+
+#if defined(J9VM_OPT_JFR)
+
+#define J9JFR_REPOSITORY_SUFFIX ".repository"
+#define J9JFR_REPOSITORY_CHUNK_NAME_LENGTH 32
+#define J9JFR_REPOSITORY_COPY_BUFFER_SIZE (64 * 1024)
+
+/**
+ * The on-disk repository of a continuous recording. When a maximum age or size is set for the
+ * recording, each chunk is written to its own file in a directory next to the recording file,
+ * rather than being appended to the recording file. The oldest chunks are deleted once the
+ * repository exceeds the maximum age or size, so a recording can be left on indefinitely.
+ * A dump concatenates the chunks in order, which is itself a valid recording.
+ *
+ * Chunks are added while writing a chunk, which is done holding the jfrBufferMutex or exclusive
+ * VM access. The chunk list is only used while holding the repositoryMutex. A dump copies the
+ * chunk files without holding either, so chunks removed while a dump is in progress keep their
+ * files until no dumps are in progress.
+ */
+class VM_JFRRepository {
+	/*
+	 * Data members
+	 */
+private:
+
+protected:
+
+public:
+
+	/*
+	 * Function members
+	 */
+private:
+	static char *
+	allocateChunkFileName(J9JavaVM *vm, UDATA chunkIndex)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		const char *repositoryPath = vm->jfrState.repositoryPath;
+		UDATA fileNameLength = strlen(repositoryPath) + J9JFR_REPOSITORY_CHUNK_NAME_LENGTH;
+		char *fileName = (char *)j9mem_allocate_memory(fileNameLength, J9MEM_CATEGORY_JFR);
+
+		if (NULL != fileName) {
+			j9str_printf(fileName, fileNameLength, "%s" DIR_SEPARATOR_STR "chunk%zu.jfr", repositoryPath, chunkIndex);
+		}
+
+		return fileName;
+	}
+
+	/**
+	 * Delete the file of a chunk, and free the chunk.
+	 */
+	static void
+	deleteChunk(J9JavaVM *vm, J9JFRRepositoryChunk *chunk)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		char *fileName = allocateChunkFileName(vm, chunk->chunkIndex);
+
+		if (NULL != fileName) {
+			j9file_unlink(fileName);
+			j9mem_free_memory(fileName);
+		}
+		j9mem_free_memory(chunk);
+	}
+
+	/**
+	 * Remove the oldest chunk from the list. Must be holding the repositoryMutex.
+	 */
+	static void
+	removeOldestChunk(J9JavaVM *vm)
+	{
+		JFRState *jfrState = &vm->jfrState;
+		J9JFRRepositoryChunk *chunk = jfrState->repositoryHead;
+
+		jfrState->repositoryHead = chunk->next;
+		if (NULL == jfrState->repositoryHead) {
+			jfrState->repositoryTail = NULL;
+		}
+		jfrState->repositorySize -= chunk->size;
+
+		if (0 != jfrState->repositoryDumpCount) {
+			/* A dump may be copying the chunk, delete it once no dumps are in progress */
+			chunk->next = jfrState->repositoryRemoved;
+			jfrState->repositoryRemoved = chunk;
+		} else {
+			deleteChunk(vm, chunk);
+		}
+	}
+
+	/**
+	 * Append the contents of a chunk file to an open file.
+	 */
+	static bool
+	copyChunk(J9JavaVM *vm, UDATA chunkIndex, IDATA fd, U_8 *buffer)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = false;
+		IDATA chunkFd = -1;
+		char *fileName = allocateChunkFileName(vm, chunkIndex);
+
+		if (NULL == fileName) {
+			goto done;
+		}
+
+		chunkFd = j9file_open(fileName, EsOpenRead, 0);
+		if (-1 == chunkFd) {
+			goto done;
+		}
+
+		for (;;) {
+			IDATA bytesRead = j9file_read(chunkFd, buffer, J9JFR_REPOSITORY_COPY_BUFFER_SIZE);
+			if (0 == bytesRead) {
+				result = true;
+				break;
+			}
+			if ((bytesRead < 0) || (bytesRead != j9file_write(fd, buffer, bytesRead))) {
+				break;
+			}
+		}
+
+		j9file_close(chunkFd);
+done:
+		j9mem_free_memory(fileName);
+		return result;
+	}
+
+protected:
+
+public:
+
+	static bool
+	isEnabled(J9JavaVM *vm)
+	{
+		return NULL != vm->jfrState.repositoryPath;
+	}
+
+	/**
+	 * Create the repository directory next to the recording file, if a maximum age or size was set for the recording.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 *
+	 * @return true on success (including when no repository is needed), false on failure
+	 */
+	static bool
+	initialize(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		JFRState *jfrState = &vm->jfrState;
+		const char *jfrFileName = jfrState->jfrFileName;
+		UDATA pathLength = 0;
+		char *path = NULL;
+
+		if ((0 == jfrState->repositoryMaxAge) && (0 == jfrState->repositoryMaxSize)) {
+			return true;
+		}
+
+		if (NULL == jfrFileName) {
+			jfrFileName = DEFAULT_JFR_FILE_NAME;
+		}
+		pathLength = strlen(jfrFileName) + LITERAL_STRLEN(J9JFR_REPOSITORY_SUFFIX) + 1;
+		path = (char *)j9mem_allocate_memory(pathLength, J9MEM_CATEGORY_JFR);
+		if (NULL == path) {
+			return false;
+		}
+		j9str_printf(path, pathLength, "%s" J9JFR_REPOSITORY_SUFFIX, jfrFileName);
+
+		if ((EsIsDir != j9file_attr(path)) && (0 != j9file_mkdir(path))) {
+			j9mem_free_memory(path);
+			return false;
+		}
+
+		jfrState->repositoryPath = path;
+		jfrState->repositoryHead = NULL;
+		jfrState->repositoryTail = NULL;
+		jfrState->repositorySize = 0;
+		jfrState->repositoryDumpCount = 0;
+		jfrState->repositoryRemoved = NULL;
+
+		return true;
+	}
+
+	/**
+	 * Delete the chunks and the repository directory, and clear the maximum age and size of the recording.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 */
+	static void
+	tearDown(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		JFRState *jfrState = &vm->jfrState;
+
+		/* The repository is only created once the repositoryMutex exists */
+		if (NULL != jfrState->repositoryMutex) {
+			omrthread_monitor_enter(jfrState->repositoryMutex);
+			/* Dumps in progress use the repository path to copy the chunks */
+			while (0 != jfrState->repositoryDumpCount) {
+				omrthread_monitor_wait(jfrState->repositoryMutex);
+			}
+			if (NULL != jfrState->repositoryPath) {
+				while (NULL != jfrState->repositoryHead) {
+					removeOldestChunk(vm);
+				}
+				j9file_unlinkdir(jfrState->repositoryPath);
+				j9mem_free_memory(jfrState->repositoryPath);
+				jfrState->repositoryPath = NULL;
+			}
+			omrthread_monitor_exit(jfrState->repositoryMutex);
+		}
+		jfrState->repositoryMaxAge = 0;
+		jfrState->repositoryMaxSize = 0;
+	}
+
+	/**
+	 * Write a chunk to a new file in the repository, then delete the oldest chunks until the
+	 * repository is within the maximum size and age. The newest chunk is always kept.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 * @param data[in] the chunk
+	 * @param size[in] the size of the chunk in bytes
+	 * @param startTime[in] the start time of the chunk in nanoseconds since the epoch
+	 * @param endTime[in] the end time of the chunk in nanoseconds since the epoch
+	 *
+	 * @return true on success, false if the chunk could not be written
+	 */
+	static bool
+	addChunk(J9JavaVM *vm, U_8 *data, UDATA size, I_64 startTime, I_64 endTime)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		JFRState *jfrState = &vm->jfrState;
+		bool result = false;
+		IDATA fd = -1;
+		char *fileName = NULL;
+		J9JFRRepositoryChunk *chunk = (J9JFRRepositoryChunk *)j9mem_allocate_memory(sizeof(J9JFRRepositoryChunk), J9MEM_CATEGORY_JFR);
+
+		if (NULL == chunk) {
+			goto done;
+		}
+		chunk->next = NULL;
+		chunk->chunkIndex = jfrState->jfrChunkCount;
+		chunk->startTime = startTime;
+		chunk->endTime = endTime;
+		chunk->size = size;
+
+		fileName = allocateChunkFileName(vm, chunk->chunkIndex);
+		if (NULL == fileName) {
+			goto done;
+		}
+
+		fd = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate, 0666);
+		if (-1 == fd) {
+			goto done;
+		}
+		result = ((IDATA)size == j9file_write(fd, data, size));
+		j9file_close(fd);
+
+		if (!result) {
+			j9file_unlink(fileName);
+			goto done;
+		}
+
+		omrthread_monitor_enter(jfrState->repositoryMutex);
+		if (NULL == jfrState->repositoryTail) {
+			jfrState->repositoryHead = chunk;
+		} else {
+			jfrState->repositoryTail->next = chunk;
+		}
+		jfrState->repositoryTail = chunk;
+		jfrState->repositorySize += size;
+		chunk = NULL;
+
+		while (jfrState->repositoryHead != jfrState->repositoryTail) {
+			bool tooLarge = (0 != jfrState->repositoryMaxSize) && (jfrState->repositorySize > jfrState->repositoryMaxSize);
+			bool tooOld = (0 != jfrState->repositoryMaxAge) && ((endTime - jfrState->repositoryHead->endTime) > jfrState->repositoryMaxAge);
+			if (!tooLarge && !tooOld) {
+				break;
+			}
+			removeOldestChunk(vm);
+		}
+		omrthread_monitor_exit(jfrState->repositoryMutex);
+
+done:
+		j9mem_free_memory(fileName);
+		j9mem_free_memory(chunk);
+		return result;
+	}
+
+	/**
+	 * Write the chunks in the repository to a file, oldest first. The chunks to write are
+	 * chosen up front, and the chunk files are copied without holding any lock, so this
+	 * may be called without VM access. Chunks added meanwhile are not written.
+	 *
+	 * @param vm[in] the J9JavaVM
+	 * @param fileName[in] the file to write
+	 * @param maxAge[in] only chunks which ended within this many nanoseconds of now are written, 0 writes all chunks
+	 * @param now[in] the current time in nanoseconds since the epoch
+	 *
+	 * @return true on success (including when there is no repository), false on failure
+	 */
+	static bool
+	writeChunks(J9JavaVM *vm, const char *fileName, I_64 maxAge, I_64 now)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		JFRState *jfrState = &vm->jfrState;
+		bool result = false;
+		J9JFRRepositoryChunk *chunk = NULL;
+		UDATA *chunkIndexes = NULL;
+		UDATA chunkCount = 0;
+		IDATA fd = -1;
+		U_8 *buffer = NULL;
+
+		omrthread_monitor_enter(jfrState->repositoryMutex);
+		if (NULL == jfrState->repositoryPath) {
+			omrthread_monitor_exit(jfrState->repositoryMutex);
+			return true;
+		}
+		for (chunk = jfrState->repositoryHead; NULL != chunk; chunk = chunk->next) {
+			if ((0 == maxAge) || ((now - chunk->endTime) <= maxAge)) {
+				chunkCount += 1;
+			}
+		}
+		chunkIndexes = (UDATA *)j9mem_allocate_memory((chunkCount + 1) * sizeof(UDATA), J9MEM_CATEGORY_JFR);
+		if (NULL == chunkIndexes) {
+			omrthread_monitor_exit(jfrState->repositoryMutex);
+			return false;
+		}
+		chunkCount = 0;
+		for (chunk = jfrState->repositoryHead; NULL != chunk; chunk = chunk->next) {
+			if ((0 == maxAge) || ((now - chunk->endTime) <= maxAge)) {
+				chunkIndexes[chunkCount] = chunk->chunkIndex;
+				chunkCount += 1;
+			}
+		}
+		/* Keep the files of these chunks, and the repository, until the copy is done */
+		jfrState->repositoryDumpCount += 1;
+		omrthread_monitor_exit(jfrState->repositoryMutex);
+
+		buffer = (U_8 *)j9mem_allocate_memory(J9JFR_REPOSITORY_COPY_BUFFER_SIZE, J9MEM_CATEGORY_JFR);
+		if (NULL == buffer) {
+			goto done;
+		}
+
+		fd = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate, 0666);
+		if (-1 == fd) {
+			goto done;
+		}
+
+		result = true;
+		for (UDATA i = 0; (i < chunkCount) && result; i++) {
+			result = copyChunk(vm, chunkIndexes[i], fd, buffer);
+		}
+		j9file_close(fd);
+
+done:
+		j9mem_free_memory(buffer);
+		j9mem_free_memory(chunkIndexes);
+
+		omrthread_monitor_enter(jfrState->repositoryMutex);
+		jfrState->repositoryDumpCount -= 1;
+		if (0 == jfrState->repositoryDumpCount) {
+			while (NULL != jfrState->repositoryRemoved) {
+				chunk = jfrState->repositoryRemoved;
+				jfrState->repositoryRemoved = chunk->next;
+				deleteChunk(vm, chunk);
+			}
+			omrthread_monitor_notify_all(jfrState->repositoryMutex);
+		}
+		omrthread_monitor_exit(jfrState->repositoryMutex);
+
+		return result;
+	}
+};
+
+#endif /* defined(J9VM_OPT_JFR) */
+
+#endif /* JFRREPOSITORY_HPP_ */
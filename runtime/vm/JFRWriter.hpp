@@ -32,6 +32,7 @@
 #if defined(J9VM_OPT_JFR)
 
 #include "JFRChunkWriter.hpp"
+#include "JFRMetadata.hpp"
 
 #undef DEBUG
 
@@ -159,10 +160,18 @@ public:
 			goto done;
 		}
 
+		if (!VM_JFRRepository::initialize(vm)) {
+			result = false;
+			goto done;
+		}
+
 		if (!loadJFRMetadataBlob(vm)) {
 			PORT_ACCESS_FROM_JAVAVM(vm);
 			j9nls_printf(PORTLIB, J9NLS_WARNING, J9NLS_VM_OPENJ9_JFR_METADATA_FILE_NOT_LOAD);
 		}
+
+		/* The exception events are only recorded if their types can be added to the metadata */
+		VM_JFRMetadata::addJavaEventTypes(vm);
 done:
 		return result;
 	}
@@ -170,8 +179,22 @@ done:
 	static bool
 	teardownJFRWriter(J9JavaVM *vm)
 	{
+		bool result = true;
+
 		closeJFRFile(vm);
-		return true;
+
+		if (VM_JFRRepository::isEnabled(vm)) {
+			/* The recording file of a continuous recording holds the chunks still in the repository */
+			const char *jfrFileName = vm->jfrState.jfrFileName;
+
+			if (NULL == jfrFileName) {
+				jfrFileName = DEFAULT_JFR_FILE_NAME;
+			}
+			result = VM_JFRRepository::writeChunks(vm, jfrFileName, 0, 0);
+		}
+		VM_JFRRepository::tearDown(vm);
+
+		return result;
 	}
 
 	static bool
@@ -47,6 +47,10 @@ extern "C" {
 
 #define J9VM_SAMPLE_TIMESTAMP_FREQUENCY 1024
 
+/* Public flags of a monitor owner which is not running, and so cannot release the monitor soon */
+#define J9VM_SPIN_OWNER_BLOCKED_FLAGS (J9_PUBLIC_FLAGS_THREAD_BLOCKED | J9_PUBLIC_FLAGS_THREAD_WAITING \
+		| J9_PUBLIC_FLAGS_THREAD_SLEEPING | J9_PUBLIC_FLAGS_THREAD_PARKED)
+
 static bool
 spinOnFlatLock(J9VMThread *currentThread, j9objectmonitor_t volatile *lwEA, j9object_t object);
 
@@ -542,6 +546,10 @@ done:
 /**
  * Spin on a flat lock
  *
+ * A flat lock has no per-monitor state in which to adapt the amount of spinning, but with
+ * -Xthr:adaptiveObjectMonitorSpinning spinning stops as soon as the owner of the flat lock is
+ * found blocked, waiting, sleeping or parked, as it cannot release the lock until it runs again.
+ *
  * @param currentThread[in] the current J9VMThread
  * @param lwEA[in] the location of the lockword
  * @param object[in] the object to which the lockword belongs to
@@ -557,6 +565,7 @@ spinOnFlatLock(J9VMThread *currentThread, j9objectmonitor_t volatile *lwEA, j9ob
 	UDATA spinCount2 = vm->thrMaxSpins2BeforeBlocking;
 	UDATA yieldCount = vm->thrMaxYieldsBeforeBlocking;
 	UDATA const nestedSpinning = vm->thrNestedSpinning;
+	bool const adaptiveSpinning = (0 != vm->thrAdaptiveObjectMonitorSpinning);
 
 #if defined(J9VM_INTERP_CUSTOM_SPIN_OPTIONS)
 	J9Class *ramClass = J9OBJECT_CLAZZ(currentThread, object);
@@ -648,6 +657,19 @@ spinOnFlatLock(J9VMThread *currentThread, j9objectmonitor_t volatile *lwEA, j9ob
 			spinCount2 = 1;
 			nestedPath = false;
 		}
+		if (adaptiveSpinning) {
+			j9objectmonitor_t const lock = J9_LOAD_LOCKWORD(currentThread, lwEA);
+			if (J9_ARE_NO_BITS_SET(lock, bits)) {
+				/* J9VMThreads are recycled rather than freed, so reading the flags of an owner which
+				 * has since released the lock is safe; the result is only a heuristic.
+				 */
+				J9VMThread *ownerThread = J9_FLATLOCK_OWNER(lock);
+				if ((NULL != ownerThread) && J9_ARE_ANY_BITS_SET(ownerThread->publicFlags, J9VM_SPIN_OWNER_BLOCKED_FLAGS)) {
+					Trc_VM_spinOnFlatLock_ownerBlocked(currentThread, object, ownerThread);
+					goto done;
+				}
+			}
+		}
 #if defined(OMR_THR_YIELD_ALG)
 		omrthread_yield_new(yieldCount - _yieldCount);
 #else /* OMR_THR_YIELD_ALG */
@@ -662,6 +684,17 @@ done:
 /**
  * Spin on try enter
  *
+ * With -Xthr:adaptiveObjectMonitorSpinning, the number of yield rounds is scaled by the
+ * per-monitor tryEnterSpinScale, which grows when spinning acquires the monitor and shrinks
+ * when the thread has to block anyway. Spinning also stops early once the owner of the
+ * monitor has not changed for J9_OBJECT_MONITOR_SPIN_OWNER_STALL_YIELDS yield rounds, as
+ * the owner is then unlikely to release the monitor before this thread would block.
+ * Spinning stops immediately when the owner is a Java thread which is itself blocked,
+ * waiting, sleeping or parked, as it cannot release the monitor until it runs again.
+ * Each adaptive spin reports its result and the per-monitor spin counts through the
+ * Trc_VM_spinOnTryEnter_adaptiveSpin tracepoint. While a JFR recording is running, each
+ * adaptive spin which ends in blocking is also recorded as an openj9.ObjectMonitorSpin event.
+ *
  * @param currentThread[in] the current J9VMThread
  * @param objectMonitor[in] object monitor which is being acquired
  * @param lwEA[in] the location of the lockword
@@ -683,6 +716,10 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 	UDATA tryEnterSpinCount2 = vm->thrMaxTryEnterSpins2BeforeBlocking;
 	UDATA tryEnterYieldCount = vm->thrMaxTryEnterYieldsBeforeBlocking;
 	UDATA const tryEnterNestedSpinning = vm->thrTryEnterNestedSpinning;
+	bool const adaptiveSpinning = (0 != vm->thrAdaptiveObjectMonitorSpinning);
+	omrthread_t lastOwner = NULL;
+	UDATA ownerStallCount = 0;
+	bool ownerBlocked = false;
 
 #if defined(J9VM_INTERP_CUSTOM_SPIN_OPTIONS)
 	J9Class *ramClass = J9OBJECT_CLAZZ(currentThread, object);
@@ -705,6 +742,28 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 	UDATA const tryEnterSpinCount1 = vm->thrMaxTryEnterSpins1BeforeBlocking;
 #endif /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
 
+#if defined(J9VM_OPT_JFR)
+	I_64 spinStartTicks = 0;
+	if (adaptiveSpinning && vm->jfrState.isStarted) {
+		PORT_ACCESS_FROM_VMC(currentThread);
+		spinStartTicks = j9time_nano_time();
+	}
+#endif /* defined(J9VM_OPT_JFR) */
+
+	if (adaptiveSpinning) {
+		U_32 const spinScale = objectMonitor->tryEnterSpinScale;
+		if (0 == spinScale) {
+			/* spinning has not paid off recently, only probe the monitor once before blocking */
+			tryEnterSpinCount2 = 1;
+			tryEnterYieldCount = 1;
+		} else {
+			tryEnterYieldCount = (tryEnterYieldCount * spinScale) / J9_OBJECT_MONITOR_SPIN_SCALE_DEFAULT;
+			if (0 == tryEnterYieldCount) {
+				tryEnterYieldCount = 1;
+			}
+		}
+	}
+
 #if defined(OMR_THR_JLM)
 	/* Initialize JLM */
 	J9ThreadMonitorTracing *tracing = NULL;
@@ -779,6 +838,29 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 			tryEnterSpinCount2 = 1;
 			nestedPath = false;
 		}
+		if (adaptiveSpinning) {
+			omrthread_t const owner = monitor->owner;
+			if ((NULL != owner) && !IS_J9_OBJECT_MONITOR_OWNER_DETACHED(owner)) {
+				/* J9VMThreads are recycled rather than freed, so reading the flags of an owner which
+				 * has since released the monitor is safe; the result is only a heuristic.
+				 */
+				J9VMThread *ownerThread = getVMThreadFromOMRThread(vm, owner);
+				if ((NULL != ownerThread) && J9_ARE_ANY_BITS_SET(ownerThread->publicFlags, J9VM_SPIN_OWNER_BLOCKED_FLAGS)) {
+					/* the owner is not running and cannot release the monitor while this thread spins */
+					ownerBlocked = true;
+					goto update_jlm;
+				}
+			}
+			if ((NULL != owner) && (owner == lastOwner)) {
+				ownerStallCount += 1;
+				if (ownerStallCount >= J9_OBJECT_MONITOR_SPIN_OWNER_STALL_YIELDS) {
+					goto update_jlm;
+				}
+			} else {
+				lastOwner = owner;
+				ownerStallCount = 0;
+			}
+		}
 #if defined(OMR_THR_YIELD_ALG)
 		omrthread_yield_new(tryEnterYieldCount - _tryEnterYieldCount);
 #else /* OMR_THR_YIELD_ALG */
@@ -787,6 +869,37 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 	}
 
 update_jlm:
+	if (adaptiveSpinning) {
+		/* Racy updates are acceptable, the scale is only a heuristic */
+		U_32 spinScale = objectMonitor->tryEnterSpinScale;
+		if (rc) {
+			objectMonitor->tryEnterSpinAcquireCount += 1;
+			spinScale += J9_OBJECT_MONITOR_SPIN_SCALE_INCREMENT;
+			if (spinScale > J9_OBJECT_MONITOR_SPIN_SCALE_MAX) {
+				spinScale = J9_OBJECT_MONITOR_SPIN_SCALE_MAX;
+			}
+		} else {
+			objectMonitor->tryEnterSpinBlockCount += 1;
+			spinScale = (spinScale > J9_OBJECT_MONITOR_SPIN_SCALE_DECREMENT) ? (spinScale - J9_OBJECT_MONITOR_SPIN_SCALE_DECREMENT) : 0;
+		}
+		objectMonitor->tryEnterSpinScale = spinScale;
+		Trc_VM_spinOnTryEnter_adaptiveSpin(currentThread, objectMonitor, (UDATA)rc,
+				(UDATA)(ownerStallCount >= J9_OBJECT_MONITOR_SPIN_OWNER_STALL_YIELDS), (UDATA)ownerBlocked, spinScale,
+				objectMonitor->tryEnterSpinAcquireCount, objectMonitor->tryEnterSpinBlockCount);
+#if defined(J9VM_OPT_JFR)
+		/* Only the spins which end in blocking are recorded, the others are counted in the event of the next one */
+		if (!rc && vm->jfrState.isStarted) {
+			UDATA stopReason = J9_OBJECT_MONITOR_SPIN_STOP_LIMIT;
+			if (ownerBlocked) {
+				stopReason = J9_OBJECT_MONITOR_SPIN_STOP_OWNER_BLOCKED;
+			} else if (ownerStallCount >= J9_OBJECT_MONITOR_SPIN_OWNER_STALL_YIELDS) {
+				stopReason = J9_OBJECT_MONITOR_SPIN_STOP_OWNER_STALLED;
+			}
+			jfrObjectMonitorSpin(currentThread, objectMonitor, J9OBJECT_CLAZZ(currentThread, object), spinStartTicks, stopReason);
+		}
+#endif /* defined(J9VM_OPT_JFR) */
+	}
+
 #if defined(OMR_THR_JLM)
 	if (NULL != tracing) {
 		/* Add JLM counts atomically:
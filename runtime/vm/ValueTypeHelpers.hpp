@@ -70,7 +70,7 @@ private:
 	{
 #if defined(J9VM_OPT_VALHALLA_VALUE_TYPES)
 		J9JavaVM *vm = currentThread->javaVM;
-		U_32 walkFlags = J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE;
+		U_32 walkFlags = J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz);
 		J9ROMFieldOffsetWalkState state;
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
 		J9ROMFieldOffsetWalkResult *result = fieldOffsetsStartDo(vm, clazz->romClass, VM_VMHelpers::getSuperclass(clazz), &state, walkFlags, clazz->flattenedClassCache);
@@ -2772,6 +2772,7 @@ internalCreateRAMClassFromROMClassImpl(J9VMThread *vmThread, J9ClassLoader *clas
 	UDATA interfaceCount = 0;
 	J9ROMFieldOffsetWalkState romWalkState = {0};
 	J9ROMFieldOffsetWalkResult *romWalkResult;
+	U_32 hotFieldLayoutWalkFlags = 0;
 	BOOLEAN hotswapping = (0 != (options & J9_FINDCLASS_FLAG_NO_DEBUG_EVENTS));
 	BOOLEAN fastHCR = (0 != (options & J9_FINDCLASS_FLAG_FAST_HCR));
 	UDATA *iTable = NULL;
@@ -2882,6 +2883,14 @@ fail:
 		return internalCreateRAMClassDoneNoMutex(vmThread, romClass, options, state);
 	}
 
+	/*
+	 * Decide once, for this RAM class, whether the hot field layout profile reorders its fields. The decision is
+	 * kept in J9ClassHasHotFieldLayout, which later field offset walks turn back into the walk flag.
+	 */
+	if ((NULL != javaVM->hotFieldLayoutTable) && useHotFieldLayout(javaVM, classLoader, romClass, classBeingRedefined)) {
+		hotFieldLayoutWalkFlags = J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT;
+	}
+
 	/* computeRAMSizeForROMClass */
 	{
 		classSize = sizeof(J9Class) / sizeof(void *);
@@ -2925,7 +2934,7 @@ fail:
 		romWalkResult = fieldOffsetsStartDo(
 				javaVM, romClass, superclass, &romWalkState,
 				(J9VM_FIELD_OFFSET_WALK_CALCULATE_INSTANCE_SIZE | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE |
-				J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9VM_FIELD_OFFSET_WALK_INCLUDE_HIDDEN), flattenedClassCache);
+				J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9VM_FIELD_OFFSET_WALK_INCLUDE_HIDDEN | hotFieldLayoutWalkFlags), flattenedClassCache);
 
 		if (romWalkState.classRequiresPrePadding) {
 			*valueTypeFlags |= J9ClassRequiresPrePadding;
@@ -2934,7 +2943,7 @@ fail:
 		romWalkResult = fieldOffsetsStartDo(
 				javaVM, romClass, superclass, &romWalkState,
 				(J9VM_FIELD_OFFSET_WALK_CALCULATE_INSTANCE_SIZE | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE |
-				J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9VM_FIELD_OFFSET_WALK_INCLUDE_HIDDEN));
+				J9VM_FIELD_OFFSET_WALK_ONLY_OBJECT_SLOTS | J9VM_FIELD_OFFSET_WALK_INCLUDE_HIDDEN | hotFieldLayoutWalkFlags));
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 
 		/* inherited from superclass: superclasses array, instance shape and interface slots */
@@ -3479,7 +3488,7 @@ fail:
 			 *
 			 *                        + J9ClassLargestAlignmentConstraintDouble
 			 *                       + J9ClassIsExemptFromValidation (inherited)
-			 *                      + Unused
+			 *                      + J9ClassHasHotFieldLayout
 			 *                     + J9ClassCanSupportFastSubstitutability
 			 *
 			 *                   + J9ClassHasReferences
@@ -3565,6 +3574,11 @@ fail:
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 			}
 
+			if (0 != romWalkState.hotObjectFieldCount) {
+				/* the hot field layout profile moved some of the instance fields; field offset walks and DDR check this flag */
+				ramClass->classFlags |= J9ClassHasHotFieldLayout;
+			}
+
 			/* fill in the classLoader slot */
 			ramClass->classLoader = classLoader;
 
@@ -104,6 +104,14 @@ UDATA   growJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 }
 
 
+UDATA
+shrinkJavaStack(J9VMThread *vmThread, UDATA newStackSize)
+{
+	/* Shrinking is opportunistic, so unlike growJavaStack no GC is done if the new stack cannot be allocated. */
+	return internalGrowJavaStack(vmThread, newStackSize);
+}
+
+
 static UDATA internalGrowJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 {
 	PORT_ACCESS_FROM_VMC(vmThread);
@@ -117,6 +125,7 @@ static UDATA internalGrowJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 	UDATA oldStackEnd = (UDATA) (oldStack->end);
 	UDATA oldState;
 	UDATA rc = 0;
+	U_32 memoryCategory = OMRMEM_CATEGORY_THREADS_RUNTIME_STACK;
 
 	oldState = vmThread->omrVMThread->vmState;
 	vmThread->omrVMThread->vmState = J9VMSTATE_GROW_STACK;
@@ -128,7 +137,12 @@ static UDATA internalGrowJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 		rc = 3;
 		goto done;
 	}
-	newStack = allocateJavaStack(vmThread->javaVM, newStackSize, oldStack);
+#if JAVA_SPEC_VERSION >= 19
+	if (oldStack->isVirtual) {
+		memoryCategory = J9MEM_CATEGORY_VIRTUAL_THREAD_STACK;
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+	newStack = allocateJavaStack(vmThread->javaVM, newStackSize, oldStack, memoryCategory);
 	if (!newStack) {
 		Trc_VM_growJavaStack_AllocFailed(vmThread);
 		rc = 1;
@@ -464,6 +464,7 @@ J9InternalVMFunctions J9InternalFunctions = {
 	releaseVThreadInspector,
 	enterVThreadTransitionCritical,
 	exitVThreadTransitionCritical,
+	getVirtualThreadMountCounts,
 #endif /* JAVA_SPEC_VERSION >= 19 */
 	checkArgsConsumed,
 #if defined(J9VM_ZOS_3164_INTEROPERABILITY) && (JAVA_SPEC_VERSION >= 17)
@@ -475,6 +476,7 @@ J9InternalVMFunctions J9InternalFunctions = {
 	isJFRV2SupportEnabled,
 	isJFRRecordingStarted,
 	jfrDump,
+	jfrDumpRepository,
 	enableJFRRecordingOnThread,
 	disableJFRRecordingOnThread,
 	isJFRRecordingDisabledOnThread,
@@ -483,6 +485,10 @@ J9InternalVMFunctions J9InternalFunctions = {
 	jfrYoungGarbageCollection,
 	jfrGarbageCollection,
 	jfrGCHeapSummary,
+	jfrObjectAllocationSample,
+	jfrReferenceClassStatistics,
+	jfrCompilation,
+	jfrCodeCacheFull,
 	setJFRRecordingFileName,
 	tearDownJFR,
 	getTypeIdUTF8,
@@ -491,6 +497,9 @@ J9InternalVMFunctions J9InternalFunctions = {
 	jvmUpcallTransformArrayToList,
 	jfrInitializeInternalStructures,
 	jfrEmitDataLoss,
+#if JAVA_SPEC_VERSION >= 19
+	jfrVirtualThreadPinned,
+#endif /* JAVA_SPEC_VERSION >= 19 */
 #endif /* defined(J9VM_OPT_JFR) */
 #if defined(J9VM_OPT_SNAPSHOTS)
 	initializeSnapshotClassLoaderObject,
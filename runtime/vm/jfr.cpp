@@ -31,6 +31,7 @@
 #if defined(J9VM_OPT_JFR)
 
 #include "AtomicSupport.hpp"
+#include "JFRThrottler.hpp"
 #if JAVA_SPEC_VERSION >= 17
 #include "JFRTypeMappings.hpp"
 #endif /* JAVA_SPEC_VERSION >= 17 */
@@ -64,6 +65,7 @@ J9_DECLARE_CONSTANT_UTF8(jfrEventClassUTF8, "jdk/jfr/Event");
 static void jfrStartSamplingThread(J9JavaVM *vm);
 static void initializeEventFields(J9VMThread *currentThread, J9VMThread *sampleThread, J9JFREvent *jfrEvent, UDATA eventType);
 static I_64 getThreadTID(J9VMThread *currentThread, J9VMThread *vmThread);
+static I_64 getThreadObjectTID(J9VMThread *currentThread, j9object_t threadObject);
 static int J9THREAD_PROC jfrSamplingThreadProc(void *entryArg);
 static void jfrExecutionSampleCallback(J9VMThread *currentThread, IDATA handlerKey, void *userData);
 static void jfrThreadCPULoadCallback(J9VMThread *currentThread, IDATA handlerKey, void *userData);
@@ -178,6 +180,36 @@ jfrEventSize(J9JFREvent *jfrEvent)
 	case J9JFR_EVENT_TYPE_DATA_LOSS:
 		size = sizeof(J9JFRDataLoss);
 		break;
+	case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+		size = sizeof(J9JFRObjectAllocationSample) + (((J9JFRObjectAllocationSample *)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_COMPILATION:
+		size = sizeof(J9JFRCompilation);
+		break;
+	case J9JFR_EVENT_TYPE_CODE_CACHE_FULL:
+		size = sizeof(J9JFRCodeCacheFull);
+		break;
+	case J9JFR_EVENT_TYPE_COMPILER_STATISTICS:
+		size = sizeof(J9JFRCompilerStatistics);
+		break;
+	case J9JFR_EVENT_TYPE_JAVA_EXCEPTION_THROW:
+		size = sizeof(J9JFRJavaExceptionThrow) + (((J9JFRJavaExceptionThrow *)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_EXCEPTION_STATISTICS:
+		size = sizeof(J9JFRExceptionStatistics);
+		break;
+	case J9JFR_EVENT_TYPE_VIRTUAL_THREAD_PINNED:
+		size = sizeof(J9JFRVirtualThreadPinned) + (((J9JFRVirtualThreadPinned *)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_REFERENCE_CLASS_STATISTICS:
+		size = sizeof(J9JFRReferenceClassStatistics);
+		break;
+	case J9JFR_EVENT_TYPE_OBJECT_MONITOR_SPIN:
+		size = sizeof(J9JFRObjectMonitorSpin);
+		break;
+	case J9JFR_EVENT_TYPE_VIRTUAL_THREAD_STATISTICS:
+		size = sizeof(J9JFRVirtualThreadStatistics);
+		break;
 	default:
 		Assert_VM_unreachable();
 		break;
@@ -916,6 +948,257 @@ jfrGCHeapSummary(OMR_VMThread *omrVMThread, U_32 gcWhenID)
 	}
 }
 
+/**
+ * Object allocation sample event. Called with VM access from the GC allocation sampling hook.
+ *
+ * @param currentThread[in] the thread which allocated the sampled object
+ * @param objectClass[in] the class of the sampled object
+ * @param weight[in] the number of bytes allocated by the thread that the sample stands for
+ */
+void
+jfrObjectAllocationSample(J9VMThread *currentThread, J9Class *objectClass, UDATA weight)
+{
+	J9JFRObjectAllocationSample *jfrEvent = (J9JFRObjectAllocationSample *)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		jfrEvent->objectClass = objectClass;
+		jfrEvent->weight = (I_64)weight;
+	}
+}
+
+/**
+ * Reference class statistics event. Called without VM access by the GC at the end of a cycle.
+ *
+ * @param omrVMThread[in] the omr VM thread
+ * @param referenceClass[in] the class of the reference objects
+ * @param discovered[in] the number of reference objects found on the reference lists
+ * @param cleared[in] the number of reference objects whose referent was cleared
+ * @param enqueued[in] the number of cleared reference objects which were enqueued
+ */
+void
+jfrReferenceClassStatistics(OMR_VMThread *omrVMThread, J9Class *referenceClass, UDATA discovered, UDATA cleared, UDATA enqueued)
+{
+	J9VMThread *currentThread = (J9VMThread *)omrVMThread->_language_vmthread;
+	J9JavaVM *javaVM = currentThread->javaVM;
+
+	/* The event is only recorded if the metadata describes it */
+	if (0 != javaVM->jfrState.referenceClassStatisticsTypeID) {
+		J9JFRReferenceClassStatistics *jfrEvent = (J9JFRReferenceClassStatistics *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRReferenceClassStatistics));
+		if (NULL != jfrEvent) {
+			initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_REFERENCE_CLASS_STATISTICS);
+			jfrEvent->gcID = javaVM->memoryManagerFunctions->j9gc_get_unique_cycle_ID(currentThread);
+			jfrEvent->referenceClass = referenceClass;
+			jfrEvent->discovered = discovered;
+			jfrEvent->cleared = cleared;
+			jfrEvent->enqueued = enqueued;
+		}
+	}
+}
+
+/**
+ * Compilation event. Called with VM access by the JIT compilation thread at the end of a compilation.
+ * The compilation is also accumulated into the counters reported by the compiler statistics event,
+ * and the running count of compilations provides the compilation identifier.
+ *
+ * @param currentThread[in] the compilation thread
+ * @param method[in] the method which was compiled
+ * @param compileLevel[in] the optimization level of the compilation
+ * @param succeeded[in] TRUE if the compiled body was installed, FALSE if the compilation failed
+ * @param isOSR[in] TRUE for a compilation entered from a running loop rather than at the method entry
+ * @param bytecodeSize[in] the bytecode size of the method
+ * @param codeSize[in] the size of the compiled code
+ * @param inlinedBytes[in] the bytecode size of the inlined methods
+ * @param duration[in] the duration of the compilation in nanoseconds
+ */
+void
+jfrCompilation(J9VMThread *currentThread, J9Method *method, U_16 compileLevel, BOOLEAN succeeded, BOOLEAN isOSR, U_64 bytecodeSize, U_64 codeSize, U_64 inlinedBytes, I_64 duration)
+{
+	PORT_ACCESS_FROM_VMC(currentThread);
+	JFRState *jfrState = &currentThread->javaVM->jfrState;
+	U_32 compileID = VM_AtomicSupport::addU32(&jfrState->compileCount, 1);
+
+	if (succeeded) {
+		if (isOSR) {
+			VM_AtomicSupport::addU32(&jfrState->osrCompileCount, 1);
+			VM_AtomicSupport::addU64(&jfrState->osrBytesCompiled, bytecodeSize);
+		} else {
+			VM_AtomicSupport::addU64(&jfrState->standardBytesCompiled, bytecodeSize);
+		}
+		VM_AtomicSupport::addU64(&jfrState->compiledCodeSize, codeSize);
+	} else {
+		VM_AtomicSupport::addU32(&jfrState->bailoutCount, 1);
+	}
+	VM_AtomicSupport::addU64(&jfrState->totalCompileTime, (U_64)duration);
+	U_64 peakCompileTime = jfrState->peakCompileTime;
+	while ((U_64)duration > peakCompileTime) {
+		U_64 oldPeak = VM_AtomicSupport::lockCompareExchangeU64(&jfrState->peakCompileTime, peakCompileTime, (U_64)duration);
+		if (oldPeak == peakCompileTime) {
+			break;
+		}
+		peakCompileTime = oldPeak;
+	}
+
+	J9JFRCompilation *jfrEvent = (J9JFRCompilation *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRCompilation));
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_COMPILATION);
+
+		/* The event is recorded when the compilation ends, so move the start back by the duration. */
+		jfrEvent->startTicks = j9time_nano_time() - duration;
+		jfrEvent->duration = duration;
+		jfrEvent->method = method;
+		jfrEvent->compileID = compileID;
+		jfrEvent->compileLevel = compileLevel;
+		jfrEvent->succeeded = succeeded;
+		jfrEvent->isOSR = isOSR;
+		jfrEvent->codeSize = codeSize;
+		jfrEvent->inlinedBytes = inlinedBytes;
+	}
+}
+
+/**
+ * Code cache full event. Called with VM access by the JIT when it finds that it can no longer
+ * allocate code cache space.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param startAddress[in] the lowest address of the code caches
+ * @param topAddress[in] the highest address of the code caches
+ * @param unallocatedCapacity[in] the free space left in the code caches
+ * @param fullCount[in] the number of times the code caches have become full
+ */
+void
+jfrCodeCacheFull(J9VMThread *currentThread, U_64 startAddress, U_64 topAddress, U_64 unallocatedCapacity, I_32 fullCount)
+{
+	JFRState *jfrState = &currentThread->javaVM->jfrState;
+	J9JFRCodeCacheFull *jfrEvent = (J9JFRCodeCacheFull *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRCodeCacheFull));
+
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_CODE_CACHE_FULL);
+
+		/* The code caches are carved out of one repository which is reserved and committed up front. */
+		jfrEvent->startAddress = startAddress;
+		jfrEvent->committedTopAddress = topAddress;
+		jfrEvent->reservedTopAddress = topAddress;
+		/* Every entry in the code caches is a method body; the JIT has no separate adaptors. */
+		jfrEvent->methodCount = (I_32)(jfrState->compileCount - jfrState->bailoutCount);
+		jfrEvent->entryCount = jfrEvent->methodCount;
+		jfrEvent->unallocatedCapacity = unallocatedCapacity;
+		jfrEvent->fullCount = fullCount;
+	}
+}
+
+/**
+ * Throwable created event. Called with VM access by Throwable.fillInStackTrace() once the stack trace
+ * of a new throwable has been walked, and only while a recording is running.
+ *
+ * Every throwable is counted for the exception statistics event. The JavaExceptionThrow event is throttled
+ * to J9JFR_EXCEPTION_SAMPLE_RATE events per second, and reuses the stack trace walked for the throwable
+ * rather than walking the stack again. The JIT exception hooks are not used, as hooking exception throws
+ * stops the JIT from turning throws into branches to the catch blocks.
+ *
+ * @param currentThread[in] the thread which created the throwable
+ * @param throwableClass[in] the class of the throwable
+ * @param stackTrace[in] the walked stack trace of the throwable
+ * @param stackTraceSize[in] the number of frames in the stack trace
+ */
+void
+jfrThrowableCreated(J9VMThread *currentThread, J9Class *throwableClass, UDATA *stackTrace, UDATA stackTraceSize)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	JFRState *jfrState = &vm->jfrState;
+	UDATA recordedWeight = 0;
+
+	VM_AtomicSupport::add(&jfrState->throwableCount, 1);
+
+	/* The event is only recorded if the metadata describes it */
+	if ((0 != jfrState->javaExceptionThrowTypeID)
+		&& VM_JFRThrottler::sample(vm, &jfrState->exceptionThrottle, 1, &recordedWeight)
+	) {
+		UDATA stackTraceBytes = stackTraceSize * sizeof(UDATA);
+		J9JFRJavaExceptionThrow *jfrEvent = (J9JFRJavaExceptionThrow *)reserveBuffer(currentThread, currentThread, sizeof(*jfrEvent) + stackTraceBytes);
+		if (NULL != jfrEvent) {
+			initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_JAVA_EXCEPTION_THROW);
+			jfrEvent->stackTraceSize = stackTraceSize;
+			memcpy(J9JFRJAVAEXCEPTIONTHROW_STACKTRACE(jfrEvent), stackTrace, stackTraceBytes);
+			jfrEvent->thrownClass = throwableClass;
+		}
+	}
+}
+
+/**
+ * Object monitor spin event. Called with VM access when an adaptive spin on an inflated object
+ * monitor ends without acquiring it.
+ *
+ * @param currentThread[in] the thread which spun on the monitor
+ * @param objectMonitor[in] the object monitor
+ * @param monitorClass[in] the class of the object which owns the monitor
+ * @param spinStartTicks[in] the time at which the spin started
+ * @param stopReason[in] why the spin ended, one of the J9_OBJECT_MONITOR_SPIN_STOP_* values
+ */
+void
+jfrObjectMonitorSpin(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, J9Class *monitorClass, I_64 spinStartTicks, UDATA stopReason)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+
+	/* The event is only recorded if the metadata describes it */
+	if (0 != vm->jfrState.objectMonitorSpinTypeID) {
+		J9JFRObjectMonitorSpin *jfrEvent = (J9JFRObjectMonitorSpin *)reserveBuffer(currentThread, currentThread, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_OBJECT_MONITOR_SPIN);
+			/* The spin may have started before the recording did */
+			if ((0 != spinStartTicks) && (spinStartTicks <= jfrEvent->startTicks)) {
+				jfrEvent->duration = jfrEvent->startTicks - spinStartTicks;
+				jfrEvent->startTicks = spinStartTicks;
+			} else {
+				jfrEvent->duration = 0;
+			}
+			jfrEvent->monitorClass = monitorClass;
+			jfrEvent->monitorAddress = (UDATA)objectMonitor->monitor;
+			jfrEvent->stopReason = stopReason;
+			jfrEvent->spinScale = objectMonitor->tryEnterSpinScale;
+			jfrEvent->spinAcquireCount = objectMonitor->tryEnterSpinAcquireCount;
+			jfrEvent->spinBlockCount = objectMonitor->tryEnterSpinBlockCount;
+		}
+	}
+}
+
+#if JAVA_SPEC_VERSION >= 19
+/**
+ * Virtual thread pinned event. Called with VM access when a virtual thread parks or waits while
+ * pinned to its carrier thread.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param blockingOperation[in] the blocking operation which pinned the carrier thread, or NULL
+ */
+void
+jfrVirtualThreadPinned(J9VMThread *currentThread, const char *blockingOperation)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9ThreadJFRState *threadJfrState = &currentThread->threadJfrState;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* The event is only recorded if the metadata describes it */
+	if (0 != vm->jfrState.virtualThreadPinnedTypeID) {
+		J9JFRVirtualThreadPinned *jfrEvent = (J9JFRVirtualThreadPinned *)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_VIRTUAL_THREAD_PINNED, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			/* The event starts when the continuation failed to yield, if that was seen while recording */
+			if ((0 != threadJfrState->pinnedTicks) && (threadJfrState->pinnedTicks <= jfrEvent->startTicks)) {
+				jfrEvent->duration = jfrEvent->startTicks - threadJfrState->pinnedTicks;
+				jfrEvent->startTicks = threadJfrState->pinnedTicks;
+			} else {
+				jfrEvent->duration = 0;
+			}
+			jfrEvent->carrierThreadTID = getThreadObjectTID(currentThread, currentThread->carrierThreadObject);
+			jfrEvent->pinnedReason = threadJfrState->pinnedReason;
+			if (NULL == blockingOperation) {
+				blockingOperation = "";
+			}
+			j9str_printf(jfrEvent->blockingOperation, sizeof(jfrEvent->blockingOperation), "%s", blockingOperation);
+		}
+	}
+	threadJfrState->pinnedTicks = 0;
+	threadJfrState->pinnedReason = 0;
+}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 jint
 initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 {
@@ -1021,6 +1304,10 @@ initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 
 	vm->jfrState.prevProcTimestamp = -1;
 
+	/* Start counting throwables for the new recording. */
+	vm->jfrState.throwableCount = 0;
+	VM_JFRThrottler::reset(&vm->jfrState.exceptionThrottle, J9JFR_EXCEPTION_SAMPLE_RATE);
+
 	if (0 == omrsysinfo_get_number_context_switches(&vm->jfrState.prevContextSwitches)) {
 		vm->jfrState.prevContextSwitchTimestamp = j9time_nano_time();
 	} else {
@@ -1044,6 +1331,9 @@ initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 	if (omrthread_monitor_init_with_name(&vm->jfrState.threadObjectsMutex, 0, "Thread objects mutex")) {
 		goto fail;
 	}
+	if (omrthread_monitor_init_with_name(&vm->jfrState.repositoryMutex, 0, "JFR repository mutex")) {
+		goto fail;
+	}
 
 	if (!VM_JFRWriter::initializaJFRWriter(vm)) {
 		goto fail;
@@ -1145,6 +1435,10 @@ tearDownJFR(J9JavaVM *vm)
 		omrthread_monitor_destroy(vm->jfrState.isConstantEventsInitializedMutex);
 		vm->jfrState.isConstantEventsInitializedMutex = NULL;
 	}
+	if (NULL != vm->jfrState.repositoryMutex) {
+		omrthread_monitor_destroy(vm->jfrState.repositoryMutex);
+		vm->jfrState.repositoryMutex = NULL;
+	}
 	/* Clean up network interface stats linked list. */
 	JFRNetworkInterfaceStats *current = (JFRNetworkInterfaceStats *)vm->jfrState.networkInterfaceStatsList;
 	while (NULL != current) {
@@ -1156,6 +1450,12 @@ tearDownJFR(J9JavaVM *vm)
 	j9mem_free_memory(vm->jfrState.metaDataBlobFile);
 	vm->jfrState.metaDataBlobFile = NULL;
 	vm->jfrState.metaDataBlobFileSize = 0;
+	vm->jfrState.javaExceptionThrowTypeID = 0;
+	vm->jfrState.exceptionStatisticsTypeID = 0;
+	vm->jfrState.virtualThreadPinnedTypeID = 0;
+	vm->jfrState.referenceClassStatisticsTypeID = 0;
+	vm->jfrState.objectMonitorSpinTypeID = 0;
+	vm->jfrState.virtualThreadStatisticsTypeID = 0;
 	if (vm->jfrAsyncKey >= 0) {
 		J9UnregisterAsyncEvent(vm, vm->jfrAsyncKey);
 		vm->jfrAsyncKey = -1;
@@ -1168,25 +1468,41 @@ tearDownJFR(J9JavaVM *vm)
 
 static I_64
 getThreadTID(J9VMThread *currentThread, J9VMThread *vmThread)
+{
+	I_64 tid = 0;
+
+	if (NULL != vmThread) {
+		tid = getThreadObjectTID(currentThread, vmThread->threadObject);
+	}
+
+	return tid;
+}
+
+/**
+ * Get the java TID of a thread object, keeping a global reference to the object so that the
+ * thread can be written to the constant pool.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param threadObject[in] the thread object, which may be NULL
+ *
+ * @return the java TID, or 0 if there is no thread object
+ */
+static I_64
+getThreadObjectTID(J9VMThread *currentThread, j9object_t threadObject)
 {
 	J9JavaVM *vm = currentThread->javaVM;
 	U_64 tid = 0;
-	j9object_t threadObject = NULL;
 
 	Assert_VM_mustHaveVMAccess(currentThread);
 
 	J9JFRThreadObject threadEntryBuffer = {0};
 	J9JFRThreadObject *threadEntry = &threadEntryBuffer;
 
-	if (NULL == vmThread) {
+	if (NULL == threadObject) {
 		goto done;
 	}
 
-	if (NULL == vmThread->threadObject) {
-		goto done;
-	}
-
-	threadEntry->javaTID = J9VMJAVALANGTHREAD_TID(currentThread, vmThread->threadObject);
+	threadEntry->javaTID = J9VMJAVALANGTHREAD_TID(currentThread, threadObject);
 
 	omrthread_monitor_enter(vm->jfrState.threadObjectsMutex);
 
@@ -1198,21 +1514,19 @@ getThreadTID(J9VMThread *currentThread, J9VMThread *vmThread)
 	}
 
 	threadEntry = &threadEntryBuffer;
-	threadObject = vmThread->threadObject;
-	if (NULL != threadObject) {
-		threadEntry->threadObject = vm->internalVMFunctions->j9jni_createGlobalRef((JNIEnv *)currentThread, vmThread->threadObject, FALSE);
-		threadEntry->javaTID = J9VMJAVALANGTHREAD_TID(currentThread, vmThread->threadObject);
-		threadEntry->nativeTID = threadEntry->javaTID;
-		/* TODO JMC has trouble distinguishing different threads with the same native TID
-		 * in the same chunk which will happen if a a lof of threads are created and die
-		 * very quickly.
-		 * threadEntry->nativeTID = ((J9AbstractThread *)vmThread->osThread)->tid;
-		 */
-		threadEntry = (J9JFRThreadObject *)hashTableAdd(vm->jfrState.threadObjectJNIRefTable, threadEntry);
+	threadEntry->threadObject = vm->internalVMFunctions->j9jni_createGlobalRef((JNIEnv *)currentThread, threadObject, FALSE);
+	threadEntry->javaTID = J9VMJAVALANGTHREAD_TID(currentThread, threadObject);
+	threadEntry->nativeTID = threadEntry->javaTID;
+	/* TODO JMC has trouble distinguishing different threads with the same native TID
+	 * in the same chunk which will happen if a a lof of threads are created and die
+	 * very quickly.
+	 * threadEntry->nativeTID = ((J9AbstractThread *)vmThread->osThread)->tid;
+	 */
+	threadEntry = (J9JFRThreadObject *)hashTableAdd(vm->jfrState.threadObjectJNIRefTable, threadEntry);
+	if (NULL == threadEntry) {
+		vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
+	} else {
 		tid = threadEntry->javaTID;
-		if (NULL == threadEntry) {
-			vm->internalVMFunctions->setNativeOutOfMemoryError(vmThread, 0, 0);
-		}
 	}
 
 doneWithMutex:
@@ -1489,6 +1803,80 @@ jfrNetworkUtilization(J9VMThread *currentThread)
 	jfrState->prevNetworkTimestamp = currentTime;
 }
 
+static void
+jfrCompilerStatistics(J9VMThread *currentThread)
+{
+	JFRState *jfrState = &currentThread->javaVM->jfrState;
+	J9JFRCompilerStatistics *jfrEvent = (J9JFRCompilerStatistics *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRCompilerStatistics));
+
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_COMPILER_STATISTICS);
+
+		U_32 compileCount = jfrState->compileCount;
+		U_32 bailoutCount = jfrState->bailoutCount;
+		U_32 osrCompileCount = jfrState->osrCompileCount;
+		jfrEvent->compileCount = (I_32)compileCount;
+		jfrEvent->bailoutCount = (I_32)bailoutCount;
+		jfrEvent->osrCompileCount = (I_32)osrCompileCount;
+		jfrEvent->standardCompileCount = (I_32)(compileCount - bailoutCount - osrCompileCount);
+		jfrEvent->osrBytesCompiled = jfrState->osrBytesCompiled;
+		jfrEvent->standardBytesCompiled = jfrState->standardBytesCompiled;
+		jfrEvent->codeSize = jfrState->compiledCodeSize;
+		/* The event reports times in milliseconds. */
+		jfrEvent->peakTimeSpent = (I_64)(jfrState->peakCompileTime / 1000000);
+		jfrEvent->totalTimeSpent = (I_64)(jfrState->totalCompileTime / 1000000);
+	}
+}
+
+static void
+jfrExceptionStatistics(J9VMThread *currentThread)
+{
+	JFRState *jfrState = &currentThread->javaVM->jfrState;
+
+	/* The event is only recorded if the metadata describes it */
+	if (0 != jfrState->exceptionStatisticsTypeID) {
+		J9JFRExceptionStatistics *jfrEvent = (J9JFRExceptionStatistics *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRExceptionStatistics));
+
+		if (NULL != jfrEvent) {
+			initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_EXCEPTION_STATISTICS);
+
+			jfrEvent->throwables = (I_64)jfrState->throwableCount;
+		}
+	}
+}
+
+#if JAVA_SPEC_VERSION >= 19
+static void
+jfrVirtualThreadStatistics(J9VMThread *currentThread)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+
+	/* The event is only recorded if the metadata describes it */
+	if (0 != vm->jfrState.virtualThreadStatisticsTypeID) {
+		J9JFRVirtualThreadStatistics *jfrEvent = (J9JFRVirtualThreadStatistics *)reserveBuffer(currentThread, currentThread, sizeof(J9JFRVirtualThreadStatistics));
+
+		if (NULL != jfrEvent) {
+			UDATA mountCount = 0;
+			UDATA unmountCount = 0;
+			UDATA mountedCount = 0;
+
+			initializeEventFields(currentThread, currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_VIRTUAL_THREAD_STATISTICS);
+
+			getVirtualThreadMountCounts(vm, &mountCount, &unmountCount, &mountedCount);
+			jfrEvent->mountCount = mountCount;
+			jfrEvent->unmountCount = unmountCount;
+			jfrEvent->mountedCount = mountedCount;
+			jfrEvent->continuationCount = vm->liveContinuationCount;
+			jfrEvent->continuationStackBytes = vm->continuationStackBytes;
+			jfrEvent->t1CacheHitCount = vm->t1CacheHit;
+			jfrEvent->t2CacheHitCount = vm->t2CacheHit;
+			jfrEvent->cacheMissCount = vm->cacheMiss;
+			jfrEvent->cacheFreeCount = vm->cacheFree;
+		}
+	}
+}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 static void
 jfrThreadStatistics(J9VMThread *currentThread)
 {
@@ -1525,6 +1913,11 @@ jfrSamplingThreadProc(void *entryArg)
 				jfrCPULoad(currentThread);
 				jfrClassLoadingStatistics(currentThread);
 				jfrThreadStatistics(currentThread);
+				jfrCompilerStatistics(currentThread);
+				jfrExceptionStatistics(currentThread);
+#if JAVA_SPEC_VERSION >= 19
+				jfrVirtualThreadStatistics(currentThread);
+#endif /* JAVA_SPEC_VERSION >= 19 */
 				if (0 == (count % 1000)) { // 10 seconds
 					J9SignalAsyncEvent(vm, NULL, vm->jfrThreadCPULoadAsyncKey);
 					jfrThreadContextSwitchRate(currentThread);
@@ -1532,6 +1925,13 @@ jfrSamplingThreadProc(void *entryArg)
 				if (0 == (count % 500)) { // 5 seconds
 					jfrNetworkUtilization(currentThread);
 				}
+				if ((0 != count) && (0 == (count % 6000)) && VM_JFRRepository::isEnabled(vm)) { // 60 seconds
+					/* Start a new chunk, so that the oldest chunks of a continuous recording age out even if few events are recorded */
+					acquireExclusiveVMAccess(currentThread);
+					flushAllThreadBuffers(currentThread, false);
+					writeOutGlobalBuffer(currentThread, false, false);
+					releaseExclusiveVMAccess(currentThread);
+				}
 				internalReleaseVMAccess(currentThread);
 				omrthread_monitor_enter(vm->jfrSamplerMutex);
 			}
@@ -1570,6 +1970,54 @@ jfrDump(J9VMThread *currentThread, BOOLEAN finalWrite)
 	writeOutGlobalBuffer(currentThread, finalWrite, true);
 }
 
+/**
+ * Must have VM access, but not exclusive VM access.
+ */
+BOOLEAN
+jfrDumpRepository(J9VMThread *currentThread, const char *fileName, I_64 maxAge)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	BOOLEAN result = TRUE;
+
+	Assert_VM_mustHaveVMAccess(currentThread);
+
+	/* Write out the buffered events, which for a continuous recording adds a chunk to the repository */
+	acquireExclusiveVMAccess(currentThread);
+	jfrDump(currentThread, FALSE);
+	releaseExclusiveVMAccess(currentThread);
+
+	if (VM_JFRRepository::isEnabled(vm)) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		UDATA timeSuccess = 0;
+		I_64 now = (I_64)j9time_current_time_nanos(&timeSuccess);
+		char *fileNameCopy = NULL;
+		UDATA fileNameLength = 0;
+
+		if (NULL == fileName) {
+			fileName = (NULL != vm->jfrState.jfrFileName) ? vm->jfrState.jfrFileName : DEFAULT_JFR_FILE_NAME;
+		}
+
+		/* The recording file name can be replaced and freed once VM access is released, so use a copy */
+		fileNameLength = strlen(fileName) + 1;
+		fileNameCopy = (char *)j9mem_allocate_memory(fileNameLength, J9MEM_CATEGORY_JFR);
+		if (NULL == fileNameCopy) {
+			result = FALSE;
+		} else {
+			memcpy(fileNameCopy, fileName, fileNameLength);
+
+			/* Copying the chunks can take a while, don't hold up GC or other exclusive VM access requests meanwhile */
+			internalReleaseVMAccess(currentThread);
+			if ((0 == timeSuccess) || !VM_JFRRepository::writeChunks(vm, fileNameCopy, maxAge, now)) {
+				result = FALSE;
+			}
+			internalAcquireVMAccess(currentThread);
+			j9mem_free_memory(fileNameCopy);
+		}
+	}
+
+	return result;
+}
+
 void
 enableJFRRecordingOnThread(J9VMThread *currentThread, j9object_t threadObject)
 {
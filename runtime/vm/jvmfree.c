@@ -236,6 +236,14 @@ deallocateVMThread(J9VMThread * vmThread, UDATA decrementZombieCount, UDATA send
 
 	J9_LINKED_LIST_REMOVE(vm->mainThread, vmThread);
 
+#if JAVA_SPEC_VERSION >= 19
+	/* Keep the virtual thread mount counts of the exiting carrier, see getVirtualThreadMountCounts() */
+	vm->virtualThreadMountCount += vmThread->virtualThreadMountCount;
+	vm->virtualThreadUnmountCount += vmThread->virtualThreadUnmountCount;
+	vmThread->virtualThreadMountCount = 0;
+	vmThread->virtualThreadUnmountCount = 0;
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 	/* This must be called before the GC cleans up, as the cleanup deletes the gc extensions.  The
 	 * extensions are used by the RT vm's when calling getVMThreadName because it must go through
 	 * the access barrier.
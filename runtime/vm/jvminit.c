@@ -354,6 +354,10 @@ static IDATA initializeModulesPathEntry(J9JavaVM *javaVM, J9ClassPathEntry *cpEn
 static jint prependJimageVMOptions(J9JavaVM *vm);
 #endif /* JAVA_SPEC_VERSION >= 11 */
 
+#if defined(J9VM_OPT_JFR)
+static BOOLEAN scanJFRTimeOption(char **scan_start, I_64 *result);
+#endif /* defined(J9VM_OPT_JFR) */
+
 #if defined(COUNT_BYTECODE_PAIRS)
 static jint
 initializeBytecodePairs(J9JavaVM *vm)
@@ -801,6 +805,7 @@ freeJavaVM(J9JavaVM * vm)
 	}
 	cleanupLockwordConfig(vm);
 	cleanupEnsureHashedConfig(vm);
+	cleanupHotFieldLayout(vm);
 
 	destroyJvmInitArgs(vm->portLibrary, vm->vmArgsArray);
 	vm->vmArgsArray = NULL;
@@ -2113,11 +2118,16 @@ processMemoryInterleaveOptions(J9JavaVM * vm)
 
 #if JAVA_SPEC_VERSION >= 19
 /**
- * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>
+ * -XX:ContinuationCache:t1=<U_32>,t2=<U_32>,maxStackSize=<size>
  *
  * This helper searches for and consumes the Continuation cache option,
  * if option found, it is parsed based on the above syntax.
  * if option not found, default values are set for T1 and T2 cache size.
+ * maxStackSize is a single threshold rather than a set of size classes: the stack of a
+ * continuation which has grown beyond it is replaced with a new stack of the initial size
+ * before the continuation is cached, and a yielding continuation whose stack has grown beyond
+ * it is moved into a smaller stack. maxStackSize defaults to the initial stack size, so the
+ * caches only hold continuations with an ungrown stack.
  *
  * Returns 0 on success, -1 if option parsing failed.
  */
@@ -2142,6 +2152,8 @@ processContinuationCacheOptions(J9JavaVM *vm)
 					vm->continuationT2Size = cacheSize;
 					rc = 0;
 				}
+			} else if (try_scan(&cursor, "maxStackSize=") && (0 == scan_udata_memory_size(&cursor, &vm->continuationCacheMaxStackSize))) {
+				rc = 0;
 			} else if (try_scan(&cursor, "printSummary")) {
 				/* Set VM flag. */
 				vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_ENABLE_CONTINUATION_CACHE_SUMMARY;
@@ -2164,6 +2176,13 @@ processContinuationCacheOptions(J9JavaVM *vm)
 		vm->continuationT2Size = (U_32)(j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET) * 2);
 		rc = 0;
 	}
+	if (0 == vm->continuationCacheMaxStackSize) {
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+		vm->continuationCacheMaxStackSize = (vm->initialStackSize > (UDATA)vm->stackSize) ? vm->stackSize : vm->initialStackSize;
+#else /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+		vm->continuationCacheMaxStackSize = vm->stackSize;
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+	}
 
 	return rc;
 }
@@ -3728,7 +3747,10 @@ modifyDllLoadTable(J9JavaVM * vm, J9Pool* loadTable, J9VMInitArgs* j9vm_args)
 		JVMINIT_VERBOSE_INIT_VM_TRACE(vm, "-Xjit set\n");
 	}
 
-	if (xint == FALSE && xnoaot == FALSE && (vm->runtimeFlags & J9_RUNTIME_TUNE_FOOTPRINT) == 0) {
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_HOT_FIELD_LAYOUT)) {
+		/* AOT code assumes the field layout of the run that compiled it, which -XX:+HotFieldLayout may change */
+		JVMINIT_VERBOSE_INIT_VM_TRACE(vm, "-XX:+HotFieldLayout set, disabling AOT\n");
+	} else if (xint == FALSE && xnoaot == FALSE && (vm->runtimeFlags & J9_RUNTIME_TUNE_FOOTPRINT) == 0) {
 		/* Enable AOT if neither -Xint nor -Xnoaot is set as that is the default behavior */
 		vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_ENABLE_AOT;
 	}
@@ -3997,6 +4019,50 @@ modifyDllLoadTable(J9JavaVM * vm, J9Pool* loadTable, J9VMInitArgs* j9vm_args)
 	return JNI_OK;
 }
 
+#if defined(J9VM_OPT_JFR)
+/**
+ * Scan a JFR time option, which is a number followed by one of the units ns, us, ms, s, m, h or d.
+ * @param[in/out] scan_start The string to be scanned
+ * @param[out] result The time in nanoseconds
+ * @return TRUE on success, FALSE if the value has no unit or is too large
+ */
+static BOOLEAN
+scanJFRTimeOption(char **scan_start, I_64 *result)
+{
+	U_64 value = 0;
+	U_64 multiplier = 0;
+
+	if (0 != scan_u64(scan_start, &value)) {
+		return FALSE;
+	}
+
+	if (try_scan(scan_start, "ns")) {
+		multiplier = 1;
+	} else if (try_scan(scan_start, "us")) {
+		multiplier = 1000;
+	} else if (try_scan(scan_start, "ms")) {
+		multiplier = 1000 * 1000;
+	} else if (try_scan(scan_start, "s")) {
+		multiplier = J9CONST_U64(1000 * 1000 * 1000);
+	} else if (try_scan(scan_start, "m")) {
+		multiplier = J9CONST_U64(60) * 1000 * 1000 * 1000;
+	} else if (try_scan(scan_start, "h")) {
+		multiplier = J9CONST_U64(60 * 60) * 1000 * 1000 * 1000;
+	} else if (try_scan(scan_start, "d")) {
+		multiplier = J9CONST_U64(24 * 60 * 60) * 1000 * 1000 * 1000;
+	} else {
+		return FALSE;
+	}
+
+	if (value > (((U_64)I_64_MAX) / multiplier)) {
+		return FALSE;
+	}
+	*result = (I_64)(value * multiplier);
+
+	return TRUE;
+}
+#endif /* defined(J9VM_OPT_JFR) */
+
 /* Process VM args that are order-dependent */
 static jint
 processVMArgsFromFirstToLast(J9JavaVM * vm)
@@ -4675,6 +4741,8 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 #define JFR_OPTION_FILENAME "filename="
 #define JFR_OPTION_DELAY "delay="
 #define JFR_OPTION_DURATION "duration="
+#define JFR_OPTION_MAXAGE "maxage="
+#define JFR_OPTION_MAXSIZE "maxsize="
 					char *scan_start = optionBuffer;
 
 					while ('\0' != *scan_start) {
@@ -4693,6 +4761,19 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 							targetPtr = &vm->jfrState.delay;
 						} else if (try_scan(&scan_start, JFR_OPTION_DURATION)) {
 							targetPtr = &vm->jfrState.duration;
+						} else if (try_scan(&scan_start, JFR_OPTION_MAXAGE)) {
+							/* A maximum age or size makes the recording continuous, see JFRRepository.hpp */
+							if (!scanJFRTimeOption(&scan_start, &vm->jfrState.repositoryMaxAge)) {
+								j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_VM_UNRECOGNISED_CMD_LINE_OPT, optionBuffer);
+								return JNI_ERR;
+							}
+							continue;
+						} else if (try_scan(&scan_start, JFR_OPTION_MAXSIZE)) {
+							if (0 != scan_u64_memory_size(&scan_start, &vm->jfrState.repositoryMaxSize)) {
+								j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_VM_UNRECOGNISED_CMD_LINE_OPT, optionBuffer);
+								return JNI_ERR;
+							}
+							continue;
 						} else {
 							j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_VM_UNRECOGNISED_CMD_LINE_OPT, optionBuffer);
 							return JNI_ERR;
@@ -4717,6 +4798,8 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 #undef JFR_OPTION_FILENAME
 #undef JFR_OPTION_DELAY
 #undef JFR_OPTION_DURATION
+#undef JFR_OPTION_MAXAGE
+#undef JFR_OPTION_MAXSIZE
 				}
 			}
 		}
@@ -4734,6 +4817,16 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 		}
 	}
 
+	{
+		IDATA hotFieldLayout = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXHOTFIELDLAYOUT, NULL);
+		IDATA noHotFieldLayout = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXNOHOTFIELDLAYOUT, NULL);
+
+		/* Disabled by default. */
+		if (hotFieldLayout > noHotFieldLayout) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_HOT_FIELD_LAYOUT;
+		}
+	}
+
 #if JAVA_SPEC_VERSION >= 24
 	{
 		IDATA enableYieldPinning = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXYIELDPINNEDVIRTUALTHREADS, NULL);
@@ -7149,7 +7242,10 @@ runExitStages(J9JavaVM* vm, J9VMThread* vmThread)
 		j9tty_printf(PORTLIB, "\n\nCache store:                %u", vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss - vm->cacheFree);
 		j9tty_printf(PORTLIB, "\n     T1 Cache store:            %u", vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss - vm->cacheFree - vm->t2store);
 		j9tty_printf(PORTLIB, "\n     T2 Cache store:            %u", vm->t2store);
-		j9tty_printf(PORTLIB, "\nCache Freed:                %u\n", vm->cacheFree);
+		j9tty_printf(PORTLIB, "\nCache Freed:                %u", vm->cacheFree);
+		j9tty_printf(PORTLIB, "\n     Grown Stack Freed:         %u", vm->cacheGrownStackFree);
+		j9tty_printf(PORTLIB, "\nGrown Stack Replaced:       %u", vm->cacheGrownStackReplaced);
+		j9tty_printf(PORTLIB, "\nStack Shrunk on Yield:      %u\n", vm->continuationStackShrunk);
 		j9tty_printf(PORTLIB, "\nAvg Cache Stack Size:       %.2f KB\n", (double)vm->totalContinuationStackSize / (vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss) / 1024);
 	}
 #endif /* JAVA_SPEC_VERSION >= 19 */
@@ -8266,6 +8362,10 @@ protectedInitializeJavaVM(J9PortLibrary* portLibrary, void * userData)
 		if (J9VMDLLMAIN_OK != sharedapi->sharedClassesFinishInitialization(vm)) {
 			goto error;
 		}
+		/* The profile must be in place before any class is loaded, as it affects instance field offsets */
+		if (JNI_OK != initializeHotFieldLayout(env)) {
+			goto error;
+		}
 	}
 #endif
 
@@ -336,6 +336,10 @@ monitorTableAt(J9VMThread* vmStruct, j9object_t object)
 				key_objectMonitor.antiDeflationCount = 0;
 #endif /* J9VM_THR_SMART_DEFLATION */
 
+				key_objectMonitor.tryEnterSpinScale = J9_OBJECT_MONITOR_SPIN_SCALE_DEFAULT;
+				key_objectMonitor.tryEnterSpinAcquireCount = 0;
+				key_objectMonitor.tryEnterSpinBlockCount = 0;
+
 #if JAVA_SPEC_VERSION >= 24
 				key_objectMonitor.virtualThreadWaitCount = 0;
 				key_objectMonitor.platformThreadWaitCount = 0;
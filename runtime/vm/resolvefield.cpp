@@ -196,7 +196,7 @@ findFieldInClass(J9VMThread *vmStruct, J9Class *clazz, U_8 *fieldName, UDATA fie
 #endif
 
 	if (NULL == shape){
-		U_32 walkFlags = J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE;
+		U_32 walkFlags = J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz);
 
 #ifdef J9VM_IVE_RAW_BUILD /* J9VM_IVE_RAW_BUILD is not enabled by default */
 		/* temporary workaround to allow access to vm-inserted hidden fields, needed for constant pool resolution */
@@ -1001,6 +1001,18 @@ fieldOffsetsStartDo(J9JavaVM *vm, J9ROMClass *romClass, J9Class *superClazz, J9R
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 		}
 
+		/*
+		 * With -XX:+HotFieldLayout, the instance reference fields named by the hot field layout profile
+		 * take the first slots of the object area, so that they are close to the object header.
+		 * Callers walking a RAM class pass J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT using J9CLASS_FIELD_OFFSET_WALK_FLAGS().
+		 */
+		if (J9_ARE_ALL_BITS_SET(state->walkFlags, J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE)
+			&& (NULL != vm->hotFieldLayoutTable)
+			&& !fieldInfo.isContendedClassLayout()
+		) {
+			initializeHotObjectFields(vm, romClass, state);
+		}
+
 		/*
 		 * Calculate offsets (from the object header) for hidden fields.  Hidden fields follow immediately the instance fields of the same type.
 		 * Give instance fields priority for backfill slots.
@@ -1149,6 +1161,26 @@ fieldOffsetsNextDo(J9ROMFieldOffsetWalkState *state)
 	return &state->result;
 }
 
+/*
+ * Return the offset of an instance reference field which is not backfilled. The fields in
+ * state->hotObjectFields take the first slots of the object area, in that order; the
+ * remaining fields follow in declaration order.
+ */
+static VMINLINE UDATA
+nextObjectFieldOffset(J9ROMFieldOffsetWalkState *state, J9ROMFieldShape *field, UDATA referenceSize)
+{
+	UDATA slot = 0;
+
+	for (U_32 i = 0; i < state->hotObjectFieldCount; i++) {
+		if (field == state->hotObjectFields[i]) {
+			return state->firstObjectOffset + (i * referenceSize);
+		}
+	}
+	slot = state->hotObjectFieldCount + state->objectsSeen;
+	state->objectsSeen++;
+	return state->firstObjectOffset + (slot * referenceSize);
+}
+
 /*
  * Find the next appropriate field, starting with the field passed in, storing
  * the result in state->result.
@@ -1204,8 +1236,7 @@ fieldOffsetsFindNext(J9ROMFieldOffsetWalkState *state, J9ROMFieldShape *field)
 								state->result.offset = state->backfillOffsetToUse;
 								state->walkFlags &= ~(UDATA)J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD;
 							} else {
-								state->result.offset = state->firstObjectOffset + state->objectsSeen * referenceSize;
-								state->objectsSeen++;
+								state->result.offset = nextObjectFieldOffset(state, field, referenceSize);
 							}
 						} else {
 							U_32 size = (U_32)fieldClass->totalInstanceSize;
@@ -1261,8 +1292,7 @@ fieldOffsetsFindNext(J9ROMFieldOffsetWalkState *state, J9ROMFieldShape *field)
 							state->result.offset = state->backfillOffsetToUse;
 							state->walkFlags &= ~(UDATA)J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD;
 						} else {
-							state->result.offset = state->firstObjectOffset + state->objectsSeen * referenceSize;
-							state->objectsSeen++;
+							state->result.offset = nextObjectFieldOffset(state, field, referenceSize);
 						}
 					}
 #else /* J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES */
@@ -1271,8 +1301,7 @@ fieldOffsetsFindNext(J9ROMFieldOffsetWalkState *state, J9ROMFieldShape *field)
 						state->result.offset = state->backfillOffsetToUse;
 						state->walkFlags &= ~(UDATA)J9VM_FIELD_OFFSET_WALK_BACKFILL_OBJECT_FIELD;
 					} else {
-						state->result.offset = state->firstObjectOffset + state->objectsSeen * referenceSize;
-						state->objectsSeen++;
+						state->result.offset = nextObjectFieldOffset(state, field, referenceSize);
 					}
 #endif /* J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES */
 					break;
@@ -1357,9 +1386,9 @@ fullTraversalFieldOffsetsStartDo(J9JavaVM *vm, J9Class *clazz, J9ROMFullTraversa
 			}
 		}
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
-		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags, state->currentClass->flattenedClassCache);
+		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(state->currentClass), state->currentClass->flattenedClassCache);
 #else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
-		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags);
+		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(state->currentClass));
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 		field = result->field;
 		if (NULL != field) {
@@ -1429,9 +1458,9 @@ fullTraversalFieldOffsetsNextDo(J9ROMFullTraversalFieldOffsetWalkState *state)
 		}
 
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
-		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags, state->currentClass->flattenedClassCache);
+		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(state->currentClass), state->currentClass->flattenedClassCache);
 #else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
-		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags);
+		result = fieldOffsetsStartDo(state->javaVM, state->currentClass->romClass, SUPERCLASS(state->currentClass), &(state->fieldOffsetWalkState), state->walkFlags | J9CLASS_FIELD_OFFSET_WALK_FLAGS(state->currentClass));
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 
 		field = result->field;
@@ -1605,10 +1634,10 @@ createFieldTable(J9VMThread *vmThread, J9Class *clazz) {
 	/* get the field names and put them in the list in unsorted order */
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
 	result = fieldOffsetsStartDo(javaVM, romClass, SUPERCLASS(clazz),
-		&state, J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE, clazz->flattenedClassCache);
+		&state, J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz), clazz->flattenedClassCache);
 #else /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 	result = fieldOffsetsStartDo(javaVM, romClass, SUPERCLASS(clazz),
-		&state, J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE);
+		&state, J9VM_FIELD_OFFSET_WALK_INCLUDE_STATIC | J9VM_FIELD_OFFSET_WALK_INCLUDE_INSTANCE | J9CLASS_FIELD_OFFSET_WALK_FLAGS(clazz));
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
 
 	while (result->field != NULL) {
@@ -724,6 +724,66 @@ cleanupEnsureHashedConfig(J9JavaVM *jvm);
 UDATA
 parseEnsureHashedConfig(J9JavaVM *jvm, char *options, BOOLEAN isAdd);
 
+/* ------------------- HotFieldLayout.cpp ----------------- */
+
+/**
+ * @brief If -XX:+HotFieldLayout is enabled, load the hot field layout profile from the shared
+ * classes cache, or arrange for one to be stored at shutdown if the cache has none.
+ * Must be called after the shared classes cache is initialized and before any class is loaded.
+ *
+ * @param currentThread the current J9VMThread
+ * @returns JNI_OK on success
+ */
+jint
+initializeHotFieldLayout(J9VMThread *currentThread);
+
+/**
+ * @brief Build vm->hotFieldLayoutTable from a copy of a hot field layout profile, in the format
+ * stored in the shared classes cache. A malformed profile is ignored.
+ *
+ * @param vm pointer to J9JavaVM
+ * @param data the profile
+ * @param length the length of the profile in bytes
+ * @returns JNI_OK on success, JNI_ENOMEM on allocation failure
+ */
+jint
+loadHotFieldLayout(J9JavaVM *vm, const U_8 *data, UDATA length);
+
+/**
+ * @brief Free the hot field layout profile.
+ *
+ * @param vm pointer to J9JavaVM
+ */
+void
+cleanupHotFieldLayout(J9JavaVM *vm);
+
+/**
+ * @brief Decide whether the hot field layout profile reorders the fields of the RAM class being
+ * created from romClass: it does if the class is being defined by the application class loader
+ * and the profile names it, or if it redefines a class which was reordered. Called by createRAMClass
+ * before the field offsets of the class are first computed, when vm->hotFieldLayoutTable is not NULL.
+ *
+ * @param vm pointer to J9JavaVM
+ * @param classLoader the loader defining the class
+ * @param romClass the class being defined
+ * @param classBeingRedefined the class being redefined, or NULL
+ * @returns TRUE if the field offsets of the class are to be walked with J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT
+ */
+BOOLEAN
+useHotFieldLayout(J9JavaVM *vm, J9ClassLoader *classLoader, J9ROMClass *romClass, J9Class *classBeingRedefined);
+
+/**
+ * @brief Fill in state->hotObjectFields with the instance reference fields of romClass that
+ * the hot field layout profile names, hottest first.
+ * Called by fieldOffsetsStartDo() when the walk flags include J9VM_FIELD_OFFSET_WALK_HOT_FIELD_LAYOUT.
+ *
+ * @param vm pointer to J9JavaVM
+ * @param romClass the class being walked
+ * @param state the field offset walk state, with the backfill flags already set
+ */
+void
+initializeHotObjectFields(J9JavaVM *vm, J9ROMClass *romClass, J9ROMFieldOffsetWalkState *state);
+
 #if JAVA_SPEC_VERSION >= 11
 /**
  * Get Module Name.
@@ -117,7 +117,7 @@ allocateVMThread(J9JavaVM *vm, omrthread_t osThread, UDATA privateFlags, void *m
 
 	/* Allocate the stack */
 
-	if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL)) == NULL) {
+	if ((stack = allocateJavaStack(vm, VMTHR_INITIAL_STACK_SIZE, NULL, OMRMEM_CATEGORY_THREADS_RUNTIME_STACK)) == NULL) {
 		goto fail;
 	}
 
@@ -576,6 +576,7 @@ threadParseArguments(J9JavaVM *vm, char *optArg)
 	vm->thrMaxTryEnterYieldsBeforeBlocking = 45;
 	vm->thrNestedSpinning = 1;
 	vm->thrTryEnterNestedSpinning = 1;
+	vm->thrAdaptiveObjectMonitorSpinning = 0;
 
 #if JAVA_SPEC_VERSION >= 24
 	/* Currently, there are timing holes between JVM_TakeVirtualThreadListToUnblock and monitor deflation.
@@ -859,6 +860,16 @@ threadParseArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		if (try_scan(&scan_start, "adaptiveObjectMonitorSpinning")) {
+			vm->thrAdaptiveObjectMonitorSpinning = 1;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "noAdaptiveObjectMonitorSpinning")) {
+			vm->thrAdaptiveObjectMonitorSpinning = 0;
+			continue;
+		}
+
 		if (try_scan(&scan_start, "staggerStep=")) {
 			if (scan_udata(&scan_start, &vm->thrStaggerStep)) {
 				goto _error;
@@ -1489,6 +1500,7 @@ dumpThreadingInfo(J9JavaVM* jvm)
 	j9tty_printf(PORTLIB, LEADING_SPACE "tryEnterYield=%zu,\n", jvm->thrMaxTryEnterYieldsBeforeBlocking);
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sestedSpinning,\n", (jvm->thrNestedSpinning) ? "n" : "noN");
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sryEnterNestedSpinning,\n", (jvm->thrTryEnterNestedSpinning) ? "t" : "noT");
+	j9tty_printf(PORTLIB, LEADING_SPACE "%sdaptiveObjectMonitorSpinning,\n", (jvm->thrAdaptiveObjectMonitorSpinning) ? "a" : "noA");
 	j9tty_printf(PORTLIB, LEADING_SPACE "%sestroyMutexOnMonitorFree,\n",
 		J9_ARE_ALL_BITS_SET(omrthread_lib_get_flags(), J9THREAD_LIB_FLAG_DESTROY_MUTEX_ON_MONITOR_FREE) ? "d" : "noD");
 #if !defined(WIN32) && defined(OMR_NOTIFY_POLICY_CONTROL)
@@ -1557,7 +1569,7 @@ dumpThreadingInfo(J9JavaVM* jvm)
 }
 
 J9JavaStack *
-allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack)
+allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack, U_32 memoryCategory)
 {
 	PORT_ACCESS_FROM_JAVAVM(vm);
 	J9JavaStack *stack = NULL;
@@ -1584,9 +1596,9 @@ allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack)
 #endif /* defined(WIN32) */
 
 	if (J9JAVAVM_COMPRESS_OBJECT_REFERENCES(vm)) {
-		stack = (J9JavaStack *)j9mem_allocate_memory32(mallocSize, OMRMEM_CATEGORY_THREADS_RUNTIME_STACK);
+		stack = (J9JavaStack *)j9mem_allocate_memory32(mallocSize, memoryCategory);
 	} else {
-		stack = (J9JavaStack *)j9mem_allocate_memory(mallocSize, OMRMEM_CATEGORY_THREADS_RUNTIME_STACK);
+		stack = (J9JavaStack *)j9mem_allocate_memory(mallocSize, memoryCategory);
 	}
 
 	if (pageGuards) {
@@ -1647,6 +1659,10 @@ allocateJavaStack(J9JavaVM * vm, UDATA stackSize, J9JavaStack * previousStack)
 
 #if JAVA_SPEC_VERSION >= 19
 		stack->isVirtual = FALSE;
+		if (J9MEM_CATEGORY_VIRTUAL_THREAD_STACK == memoryCategory) {
+			stack->isVirtual = TRUE;
+			VM_AtomicSupport::add(&vm->continuationStackBytes, stackSize);
+		}
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
 		/* If this is a profiling VM, or verbose:stack is enabled, paint the stack with a distinctive pattern so we can
@@ -1675,6 +1691,11 @@ void
 freeJavaStack(J9JavaVM *vm, J9JavaStack *stack)
 {
 	PORT_ACCESS_FROM_JAVAVM(vm);
+#if JAVA_SPEC_VERSION >= 19
+	if (stack->isVirtual) {
+		VM_AtomicSupport::subtract(&vm->continuationStackBytes, stack->size);
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
 	if (J9_ARE_ALL_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_JAVA_STACK_GUARD_PAGES)) {
 		UDATA pageSize = vm->defaultPageSize;
 		Trc_VM_freeJavaStack_stackBounds(stack, stack->guardPage, pageSize, stack->end, stack->size);
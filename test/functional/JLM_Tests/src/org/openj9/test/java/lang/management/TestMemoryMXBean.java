@@ -59,6 +59,7 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 import javax.management.openmbean.CompositeData;
 
+import com.ibm.lang.management.CompactGroupStatistics;
 import com.ibm.lang.management.MemoryMXBean;
 
 import org.openj9.test.util.VersionCheck;
@@ -121,6 +122,8 @@ public class TestMemoryMXBean {
 		}
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("CompactGroupStatistics", new AttributeData(CompositeData[].class.getName(), true, false, false));
+		attribs.put("HeapMemoryReleasedUnderPressure", new AttributeData(Long.TYPE.getName(), true, false, false));
 		if (javaVersion >= 26) {
 			attribs.put("TotalGcCpuTime", new AttributeData(Long.TYPE.getName(), true, false, false));
 		}
@@ -743,11 +746,11 @@ public class TestMemoryMXBean {
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
 		if (javaVersion >= 26) {
-			AssertJUnit.assertEquals(25, attributes.length);
+			AssertJUnit.assertEquals(27, attributes.length);
 		} else if (javaVersion >= 16) {
-			AssertJUnit.assertEquals(24, attributes.length);
-		} else {
 			AssertJUnit.assertEquals(26, attributes.length);
+		} else {
+			AssertJUnit.assertEquals(28, attributes.length);
 		}
 		for (MBeanAttributeInfo info : attributes) {
 			AssertJUnit.assertNotNull(info);
@@ -824,6 +827,77 @@ public class TestMemoryMXBean {
 		AssertJUnit.assertTrue(mode.length() > 0);
 	}
 
+	/**
+	 * Test the getCompactGroupStatistics() API, directly and through the MBean server.
+	 */
+	@Test
+	public void testGetCompactGroupStatistics() {
+		mb.gc();
+		CompactGroupStatistics[] stats = mb.getCompactGroupStatistics();
+		AssertJUnit.assertNotNull(stats);
+		if (!"balanced".equals(mb.getGCMode())) {
+			AssertJUnit.assertEquals(0, stats.length);
+			return;
+		}
+		AssertJUnit.assertTrue(stats.length > 0);
+		long totalRegions = 0;
+		for (int i = 0; i < stats.length; i++) {
+			CompactGroupStatistics group = stats[i];
+			logger.debug("Compact group statistics: " + group);
+			AssertJUnit.assertEquals(i, group.getCompactGroup());
+			AssertJUnit.assertTrue(group.getAllocationContext() >= 0);
+			AssertJUnit.assertTrue(group.getAge() >= 0);
+			AssertJUnit.assertTrue(group.getRegionCount() >= 0);
+			AssertJUnit.assertTrue(group.getFreeBytes() >= 0);
+			AssertJUnit.assertTrue(group.getDarkMatterBytes() >= 0);
+			AssertJUnit.assertTrue(group.getProjectedLiveBytes() >= 0);
+			if (0 == group.getRegionCount()) {
+				AssertJUnit.assertEquals(0, group.getFreeBytes());
+				AssertJUnit.assertEquals(0, group.getProjectedLiveBytes());
+			}
+			assertSurvivalRate(group.getHistoricalSurvivalRate());
+			assertSurvivalRate(group.getWeightedSurvivalRate());
+			assertSurvivalRate(group.getProjectedSurvivalRate());
+			totalRegions += group.getRegionCount();
+		}
+		// The collection above leaves the surviving objects in at least one region.
+		AssertJUnit.assertTrue(totalRegions > 0);
+
+		try {
+			Object attribute = mbs.getAttribute(objName, "CompactGroupStatistics");
+			AssertJUnit.assertTrue(attribute instanceof CompositeData[]);
+			CompositeData[] data = (CompositeData[]) attribute;
+			AssertJUnit.assertEquals(stats.length, data.length);
+			CompactGroupStatistics first = CompactGroupStatistics.from(data[0]);
+			AssertJUnit.assertEquals(0, first.getCompactGroup());
+			AssertJUnit.assertEquals(stats[0].getAllocationContext(), first.getAllocationContext());
+			AssertJUnit.assertEquals(stats[0].getAge(), first.getAge());
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception : " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the getHeapMemoryReleasedUnderPressure() API, directly and through the MBean server.
+	 * These tests don't run with -Xgc:memoryPressureTrim, so nothing may have been released.
+	 */
+	@Test
+	public void testGetHeapMemoryReleasedUnderPressure() {
+		mb.gc();
+		AssertJUnit.assertEquals(0, mb.getHeapMemoryReleasedUnderPressure());
+		try {
+			Object attribute = mbs.getAttribute(objName, "HeapMemoryReleasedUnderPressure");
+			AssertJUnit.assertTrue(attribute instanceof Long);
+			AssertJUnit.assertEquals(0, ((Long) attribute).longValue());
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception : " + e.getMessage());
+		}
+	}
+
+	private static void assertSurvivalRate(double rate) {
+		AssertJUnit.assertTrue("Survival rate out of range: " + rate, (0.0 <= rate) && (rate <= 1.0));
+	}
+
 	/**
 	 * Test the getSharedClassCacheSize() API.
 	 */
@@ -95,6 +95,7 @@ public class TestThreadMXBean {
 		attribs.put("TotalStartedThreadCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 		if (!isIBMJava8) {
 			attribs.put("TotalThreadAllocatedBytes", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("VirtualThreadPinnedCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 		}
 	} // end static initializer
 
@@ -1568,7 +1569,7 @@ public class TestThreadMXBean {
 			numAttributes = 17;
 		} else {
 			numOperations = 20;
-			numAttributes = 19;
+			numAttributes = 20;
 		}
 		MBeanOperationInfo[] operations = mbi.getOperations();
 		AssertJUnit.assertNotNull(operations);
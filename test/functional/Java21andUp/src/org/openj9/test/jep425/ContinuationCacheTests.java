@@ -0,0 +1,183 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import org.testng.Assert;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.ibm.jvm.Dump;
+import com.ibm.lang.management.VirtualThreadMXBean;
+
+/**
+ * Test cases for the continuation cache stack size limit, the shrinking of grown stacks
+ * when a virtual thread yields, and the memory category of
+ * virtual thread stacks. Run with -XX:ContinuationCache:maxStackSize=16k.
+ */
+@Test(groups = { "level.sanity" })
+public class ContinuationCacheTests {
+
+	/* must match -XX:ContinuationCache:maxStackSize in playlist.xml */
+	private static final long MAX_STACK_SIZE = 16 * 1024;
+	private static final int NUM_THREADS = 20;
+	private static final int DEPTH = 2000;
+
+	private static VirtualThreadMXBean getBean() {
+		VirtualThreadMXBean bean = ManagementFactory.getPlatformMXBean(VirtualThreadMXBean.class);
+		AssertJUnit.assertNotNull("VirtualThreadMXBean is not available", bean);
+		return bean;
+	}
+
+	private static long recurse(int depth, CountDownLatch started, CountDownLatch release) throws InterruptedException {
+		if (0 == depth) {
+			started.countDown();
+			release.await();
+			return 0;
+		}
+		return recurse(depth - 1, started, release) + 1;
+	}
+
+	/**
+	 * Start virtual threads which wait for release at the bottom of a deep call chain,
+	 * so that their stacks have grown well beyond MAX_STACK_SIZE.
+	 */
+	private static Thread[] startDeepVirtualThreads(CountDownLatch started, CountDownLatch release) {
+		Thread[] threads = new Thread[NUM_THREADS];
+		for (int i = 0; i < NUM_THREADS; i++) {
+			threads[i] = Thread.ofVirtual().start(() -> {
+				try {
+					recurse(DEPTH, started, release);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			});
+		}
+		return threads;
+	}
+
+	private static void joinAll(Thread[] threads) throws InterruptedException {
+		for (Thread t : threads) {
+			t.join();
+		}
+	}
+
+	@Test
+	public void test_grownStacksAreNotCached() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		CountDownLatch started = new CountDownLatch(NUM_THREADS);
+		CountDownLatch release = new CountDownLatch(1);
+		long initialBytes = bean.getContinuationStackMemoryUsed();
+
+		Thread[] threads = startDeepVirtualThreads(started, release);
+		started.await();
+		long grownBytes = bean.getContinuationStackMemoryUsed() - initialBytes;
+		release.countDown();
+		joinAll(threads);
+
+		AssertJUnit.assertTrue("stacks of the waiting threads hold " + grownBytes + " bytes",
+				grownBytes > (NUM_THREADS * MAX_STACK_SIZE));
+
+		/* each terminated thread leaves at most one cached continuation with a stack no larger
+		 * than MAX_STACK_SIZE, allow some time for the last ones to be recycled
+		 */
+		long cachedBytes = bean.getContinuationStackMemoryUsed() - initialBytes;
+		for (int i = 0; (i < 100) && (cachedBytes > (NUM_THREADS * MAX_STACK_SIZE)); i++) {
+			Thread.sleep(50);
+			cachedBytes = bean.getContinuationStackMemoryUsed() - initialBytes;
+		}
+		if (cachedBytes > (NUM_THREADS * MAX_STACK_SIZE)) {
+			Assert.fail("stacks of the terminated threads still hold " + cachedBytes + " bytes");
+		}
+	}
+
+	@Test
+	public void test_grownStacksShrinkOnYield() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		CountDownLatch grown = new CountDownLatch(NUM_THREADS);
+		CountDownLatch release = new CountDownLatch(1);
+		long initialBytes = bean.getContinuationStackMemoryUsed();
+
+		Thread[] threads = new Thread[NUM_THREADS];
+		for (int i = 0; i < NUM_THREADS; i++) {
+			threads[i] = Thread.ofVirtual().start(() -> {
+				try {
+					/* grow the stack, then wait for release after the deep frames have returned */
+					recurse(DEPTH, new CountDownLatch(1), new CountDownLatch(0));
+					grown.countDown();
+					release.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			});
+		}
+		try {
+			grown.await();
+			/* the stacks are shrunk when the threads yield, allow some time for the last ones to park */
+			long parkedBytes = bean.getContinuationStackMemoryUsed() - initialBytes;
+			for (int i = 0; (i < 100) && (parkedBytes > (NUM_THREADS * MAX_STACK_SIZE)); i++) {
+				Thread.sleep(50);
+				parkedBytes = bean.getContinuationStackMemoryUsed() - initialBytes;
+			}
+			if (parkedBytes > (NUM_THREADS * MAX_STACK_SIZE)) {
+				Assert.fail("stacks of the parked threads still hold " + parkedBytes + " bytes");
+			}
+		} finally {
+			release.countDown();
+			joinAll(threads);
+		}
+	}
+
+	@Test
+	public void test_virtualThreadStacksMemoryCategory() throws Exception {
+		CountDownLatch started = new CountDownLatch(NUM_THREADS);
+		CountDownLatch release = new CountDownLatch(1);
+		File javacore = File.createTempFile("continuationCache", ".txt");
+		List<String> lines;
+
+		Thread[] threads = startDeepVirtualThreads(started, release);
+		try {
+			started.await();
+			javacore.delete();
+			lines = Files.readAllLines(new File(Dump.javaDumpToFile(javacore.getPath())).toPath());
+		} finally {
+			release.countDown();
+			joinAll(threads);
+			javacore.delete();
+		}
+
+		/* the waiting threads hold their stacks, which are charged to the child category of "Java Stack" */
+		boolean found = false;
+		for (String line : lines) {
+			if (line.matches("\\dMEMUSER\\s+.*\\+--Virtual Thread Stacks: [1-9][0-9,]* bytes / [1-9][0-9]* allocations?")) {
+				found = true;
+				break;
+			}
+		}
+		AssertJUnit.assertTrue("javacore NATIVEMEMINFO does not report the Virtual Thread Stacks category", found);
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import org.testng.Assert;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.VirtualThreadMXBean;
+
+/**
+ * Test cases for the com.ibm.lang.management.VirtualThreadMXBean, which reports
+ * the virtual thread mount and continuation statistics of the VM.
+ */
+@Test(groups = { "level.sanity" })
+public class VirtualThreadMXBeanTests {
+
+	private static final int NUM_THREADS = 100;
+
+	private static VirtualThreadMXBean getBean() {
+		VirtualThreadMXBean bean = ManagementFactory.getPlatformMXBean(VirtualThreadMXBean.class);
+		AssertJUnit.assertNotNull("VirtualThreadMXBean is not available", bean);
+		return bean;
+	}
+
+	private static Thread[] startVirtualThreads(Runnable task) {
+		Thread[] threads = new Thread[NUM_THREADS];
+		for (int i = 0; i < NUM_THREADS; i++) {
+			threads[i] = Thread.ofVirtual().start(task);
+		}
+		return threads;
+	}
+
+	private static void joinAll(Thread[] threads) throws InterruptedException {
+		for (Thread t : threads) {
+			t.join();
+		}
+	}
+
+	/* A virtual thread is unmounted for the last time after join() has returned, allow some time for that */
+	private static long waitForMountedCount(VirtualThreadMXBean bean, long expected) throws InterruptedException {
+		long mounted = bean.getMountedVirtualThreadCount();
+		for (int i = 0; (i < 100) && (mounted != expected); i++) {
+			Thread.sleep(50);
+			mounted = bean.getMountedVirtualThreadCount();
+		}
+		return mounted;
+	}
+
+	@Test
+	public void test_registeredInPlatformMBeanServer() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName("com.ibm.lang.management:type=VirtualThread");
+
+		AssertJUnit.assertTrue("VirtualThread bean is not registered", server.isRegistered(name));
+		AssertJUnit.assertEquals(name, getBean().getObjectName());
+		Object mountCount = server.getAttribute(name, "MountCount");
+		AssertJUnit.assertTrue("MountCount is not a long: " + mountCount, mountCount instanceof Long);
+	}
+
+	@Test
+	public void test_mountAndUnmountCounts() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		long mountCount = bean.getMountCount();
+		long unmountCount = bean.getUnmountCount();
+
+		/* each thread is mounted to start, and again after the park, and unmounted for the park and at the end */
+		joinAll(startVirtualThreads(() -> LockSupport.parkNanos(1_000_000)));
+
+		long mounts = bean.getMountCount() - mountCount;
+		long unmounts = bean.getUnmountCount() - unmountCount;
+		AssertJUnit.assertTrue("mount count grew by " + mounts, mounts >= NUM_THREADS);
+		AssertJUnit.assertTrue("unmount count grew by " + unmounts, unmounts >= NUM_THREADS);
+		/* every mount of a terminated thread has been matched by an unmount */
+		AssertJUnit.assertEquals("mounted count after the threads terminated", 0, waitForMountedCount(bean, 0));
+		AssertJUnit.assertEquals("mount and unmount counts after the threads terminated", bean.getMountCount(), bean.getUnmountCount());
+	}
+
+	@Test
+	public void test_mountedCountSeenFromVirtualThread() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		long[] mounted = new long[1];
+
+		Thread t = Thread.ofVirtual().start(() -> {
+			mounted[0] = bean.getMountedVirtualThreadCount();
+		});
+		t.join();
+
+		AssertJUnit.assertTrue("mounted count seen from a virtual thread is " + mounted[0], mounted[0] >= 1);
+	}
+
+	@Test
+	public void test_continuationAndCacheCounts() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		long cacheLookups = bean.getContinuationCacheT1HitCount() + bean.getContinuationCacheT2HitCount() + bean.getContinuationCacheMissCount();
+		Object lock = new Object();
+		long[] liveCount = new long[1];
+		long[] stackBytes = new long[1];
+
+		Thread[] threads;
+		synchronized (lock) {
+			threads = startVirtualThreads(() -> {
+				synchronized (lock) {
+					liveCount[0] = Math.max(liveCount[0], bean.getContinuationCount());
+					stackBytes[0] = Math.max(stackBytes[0], bean.getContinuationStackMemoryUsed());
+				}
+			});
+			/* all the threads are blocked on the lock, so none of them has terminated yet */
+		}
+		joinAll(threads);
+
+		AssertJUnit.assertTrue("continuation count while running is " + liveCount[0], liveCount[0] >= 1);
+		AssertJUnit.assertTrue("stack memory while running is " + stackBytes[0], stackBytes[0] > 0);
+		long lookups = bean.getContinuationCacheT1HitCount() + bean.getContinuationCacheT2HitCount() + bean.getContinuationCacheMissCount() - cacheLookups;
+		/* the cache counters are not updated atomically, so only check that they moved */
+		AssertJUnit.assertTrue("continuation cache lookups grew by " + lookups, lookups > 0);
+	}
+
+	@Test
+	public void test_continuationCacheFreeCount() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		/* The caches hold at most one continuation per carrier and twice the processor count
+		 * by default, so far more threads than that must free continuations as they terminate.
+		 */
+		int cacheBound = 4 * Runtime.getRuntime().availableProcessors();
+		int numThreads = Math.max(10 * NUM_THREADS, 2 * cacheBound);
+		CountDownLatch parked = new CountDownLatch(numThreads);
+		CountDownLatch release = new CountDownLatch(1);
+		long freeCount = bean.getContinuationCacheFreeCount();
+
+		Thread[] threads = new Thread[numThreads];
+		for (int i = 0; i < numThreads; i++) {
+			threads[i] = Thread.ofVirtual().start(() -> {
+				parked.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			});
+		}
+		/* every thread has its own continuation until they are released together */
+		parked.await();
+		release.countDown();
+		joinAll(threads);
+
+		long frees = bean.getContinuationCacheFreeCount() - freeCount;
+		/* the cache counters are not updated atomically, so allow for some lost updates */
+		long expected = (numThreads - cacheBound) / 2;
+		AssertJUnit.assertTrue("continuation cache free count grew by " + frees + ", expected at least " + expected, frees >= expected);
+	}
+
+	@Test
+	public void test_continuationCountDropsAfterTermination() throws Exception {
+		VirtualThreadMXBean bean = getBean();
+		Object lock = new Object();
+		Thread[] threads;
+		long runningCount;
+
+		synchronized (lock) {
+			threads = startVirtualThreads(() -> {
+				synchronized (lock) {
+				}
+			});
+			runningCount = bean.getContinuationCount();
+		}
+		joinAll(threads);
+
+		/* continuations are freed or cached as the threads terminate, allow some time for the last ones */
+		long count = bean.getContinuationCount();
+		for (int i = 0; (i < 100) && (count >= runningCount); i++) {
+			Thread.sleep(50);
+			count = bean.getContinuationCount();
+		}
+		if (count >= runningCount) {
+			Assert.fail("continuation count " + count + " did not drop below " + runningCount + " after the threads terminated");
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.ThreadMXBean;
+
+/**
+ * Test cases for com.ibm.lang.management.ThreadMXBean.getVirtualThreadPinnedCount(), which
+ * counts the virtual threads that parked while pinned to their carrier thread.
+ *
+ * The virtual threads are pinned with jdk.internal.vm.Continuation.pin(), which needs
+ * --add-exports java.base/jdk.internal.vm=ALL-UNNAMED.
+ */
+@Test(groups = { "level.sanity" })
+public class VirtualThreadPinnedTests {
+
+	private static final int NUM_THREADS = 10;
+
+	private static Method pin;
+
+	private static Method unpin;
+
+	static {
+		try {
+			Class<?> continuation = Class.forName("jdk.internal.vm.Continuation");
+			pin = continuation.getMethod("pin");
+			unpin = continuation.getMethod("unpin");
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private static ThreadMXBean getBean() {
+		ThreadMXBean bean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		AssertJUnit.assertNotNull("ThreadMXBean is not available", bean);
+		return bean;
+	}
+
+	/* Park while pinned, so the virtual thread cannot yield and parks its carrier thread instead. */
+	private static void parkPinned() {
+		try {
+			pin.invoke(null);
+			try {
+				LockSupport.parkNanos(1_000_000);
+			} finally {
+				unpin.invoke(null);
+			}
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void runPinnedThreads() throws InterruptedException {
+		Thread[] threads = new Thread[NUM_THREADS];
+		for (int i = 0; i < NUM_THREADS; i++) {
+			threads[i] = Thread.ofVirtual().start(VirtualThreadPinnedTests::parkPinned);
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+	}
+
+	@Test
+	public void test_pinnedParkIsCounted() throws Exception {
+		ThreadMXBean bean = getBean();
+		long pinnedCount = bean.getVirtualThreadPinnedCount();
+
+		runPinnedThreads();
+
+		long pinned = bean.getVirtualThreadPinnedCount() - pinnedCount;
+		AssertJUnit.assertTrue("pinned count grew by " + pinned, pinned >= NUM_THREADS);
+	}
+
+	@Test
+	public void test_unpinnedParkIsNotCounted() throws Exception {
+		ThreadMXBean bean = getBean();
+		long pinnedCount = bean.getVirtualThreadPinnedCount();
+
+		Thread t = Thread.ofVirtual().start(() -> LockSupport.parkNanos(1_000_000));
+		t.join();
+
+		AssertJUnit.assertEquals(pinnedCount, bean.getVirtualThreadPinnedCount());
+	}
+
+	@Test
+	public void test_pinnedCountAttribute() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME);
+
+		runPinnedThreads();
+
+		Object pinnedCount = server.getAttribute(name, "VirtualThreadPinnedCount");
+		AssertJUnit.assertTrue("VirtualThreadPinnedCount is not a long: " + pinnedCount, pinnedCount instanceof Long);
+		AssertJUnit.assertTrue("VirtualThreadPinnedCount is " + pinnedCount, (Long)pinnedCount >= NUM_THREADS);
+	}
+}
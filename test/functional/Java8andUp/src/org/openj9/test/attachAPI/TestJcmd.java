@@ -30,6 +30,7 @@ import static org.testng.Assert.fail;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -69,6 +70,7 @@ public class TestJcmd extends AttachApiTest {
 	private static final String GC_RUN = "GC.run";
 	private static final String HELP_COMMAND = "help";
 	private static final String THREAD_PRINT = "Thread.print";
+	private static final String COMPILER_LEDGER = "Compiler.ledger";
 	private static String[] JCMD_COMMANDS = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP,
 		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT};
 	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_CLASS_HISTOGRAM, GC_RUN, HELP_COMMAND, THREAD_PRINT};
@@ -508,6 +510,134 @@ public class TestJcmd extends AttachApiTest {
 		}
 	}
 
+	/**
+	 * Test the maxage and maxsize options of a continuous recording with the first JFR version,
+	 * which is used without -XX:+EnableOpenJ9ExperimentalFlightRecording.
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testJFRContinuousDump() throws IOException {
+		if (VersionCheck.major() < 11) {
+			log("Skip JFR test for JDK8");
+			return;
+		}
+		TargetManager tgt = new TargetManager(TestConstants.TARGET_VM_CLASS, null);
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		try {
+			List<String> args = new ArrayList<>();
+			args.add(targetId);
+			args.add(HELP_COMMAND);
+			List<String> jcmdOutput = runCommandAndLogOutput(args);
+			if (!StringUtilities.searchSubstring("JFR.dump", jcmdOutput).isPresent()) {
+				log("Skip JFR test, JFR is not supported");
+				return;
+			}
+
+			File recordingFile = new File(userDir, "continuous.jfr");
+			File dumpFile = new File(userDir, "continuousDump.jfr");
+			dumpFile.delete();
+			String[][] commandsAndOutputs = {
+					{ "JFR.start" + DIAGNOSTICS_OPTION_SEPARATOR + "maxsize=abc", "The maxsize isn't a valid size." },
+					{ "JFR.start" + DIAGNOSTICS_OPTION_SEPARATOR + "maxage=10", "The maxage doesn't have a time unit." },
+					{ "JFR.start" + DIAGNOSTICS_OPTION_SEPARATOR + "filename=" + recordingFile.getAbsolutePath()
+						+ DIAGNOSTICS_OPTION_SEPARATOR + "maxage=1h" + DIAGNOSTICS_OPTION_SEPARATOR + "maxsize=10m", "Start JFR recording to" },
+					{ "JFR.dump" + DIAGNOSTICS_OPTION_SEPARATOR + "maxage=10", "The maxage doesn't have a time unit." },
+					{ "JFR.dump" + DIAGNOSTICS_OPTION_SEPARATOR + "filename=" + dumpFile.getAbsolutePath()
+						+ DIAGNOSTICS_OPTION_SEPARATOR + "maxage=1m", "Dump JFR recording to " + dumpFile.getAbsolutePath() },
+					{ "JFR.stop", "Stop JFR recording" },
+			};
+			for (String[] commandAndOutput : commandsAndOutputs) {
+				args.clear();
+				args.add(targetId);
+				args.add(commandAndOutput[0]);
+				log("testJFRContinuousDump() command = " + commandAndOutput[0]);
+				jcmdOutput = runCommandAndLogOutput(args);
+				log("testJFRContinuousDump() jcmdOutput = " + jcmdOutput);
+				Optional<String> searchResult = StringUtilities.searchSubstring(commandAndOutput[1], jcmdOutput);
+				assertTrue(searchResult.isPresent(), "Unpexpected jcmd output: " + jcmdOutput);
+			}
+			/* the dump is written while the recording continues, it must not wait for the recording to stop */
+			assertTrue(dumpFile.length() > 0, "JFR.dump did not write " + dumpFile);
+			assertTrue(recordingFile.length() > 0, "JFR.stop did not write " + recordingFile);
+			assertTrue(!new File(userDir, "continuous.jfr.repository").exists(), "JFR.stop did not remove the repository");
+		} finally {
+			tgt.terminateTarget();
+		}
+	}
+
+	/**
+	 * Test writing the JIT compilation ledger with Compiler.ledger.
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testCompilerLedger() throws IOException {
+		File ledgerFile = new File(userDir, "compilationLedger.csv");
+		ledgerFile.delete();
+		TargetManager tgt = new TargetManager(TestConstants.TARGET_VM_CLASS, null,
+				new ArrayList<>(Arrays.asList("-Xjit:compilationLedgerSize=1000")), Collections.emptyList());
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		try {
+			String[][] commandsAndOutputs = {
+					{ COMPILER_LEDGER, "Error: a single <file path> argument is required" },
+					{ COMPILER_LEDGER + DIAGNOSTICS_OPTION_SEPARATOR + ledgerFile.getAbsolutePath(),
+						"Compilation ledger written to " + ledgerFile.getAbsolutePath() },
+			};
+			List<String> args = new ArrayList<>();
+			for (String[] commandAndOutput : commandsAndOutputs) {
+				args.clear();
+				args.add(targetId);
+				args.add(commandAndOutput[0]);
+				log("testCompilerLedger() command = " + commandAndOutput[0]);
+				List<String> jcmdOutput = runCommandAndLogOutput(args);
+				log("testCompilerLedger() jcmdOutput = " + jcmdOutput);
+				Optional<String> searchResult = StringUtilities.searchSubstring(commandAndOutput[1], jcmdOutput);
+				assertTrue(searchResult.isPresent(), "Unpexpected jcmd output: " + jcmdOutput);
+			}
+		} finally {
+			tgt.terminateTarget();
+		}
+		List<String> lines = Files.readAllLines(ledgerFile.toPath());
+		assertTrue(lines.size() > 0, "Compiler.ledger wrote an empty file");
+		assertEquals(lines.get(0), "timeMs,kind,optLevel,queueTimeUs,compTimeUs,cpuTimeUs,scratchMemKB,codeSize,j9method,method",
+				"Unexpected ledger header");
+		for (String line : lines.subList(1, lines.size())) {
+			/* the method signature is the last column and may contain commas */
+			String[] columns = line.split(",", 10);
+			assertEquals(columns.length, 10, "Unexpected ledger line: " + line);
+			assertTrue(Long.parseLong(columns[7]) > 0, "Ledger line without code size: " + line);
+		}
+	}
+
+	/**
+	 * Test that Compiler.ledger reports an error when the ledger is not enabled.
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testCompilerLedgerDisabled() throws IOException {
+		File ledgerFile = new File(userDir, "compilationLedgerDisabled.csv");
+		ledgerFile.delete();
+		TargetManager tgt = new TargetManager(TestConstants.TARGET_VM_CLASS, null);
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		try {
+			List<String> args = new ArrayList<>();
+			args.add(targetId);
+			args.add(COMPILER_LEDGER + DIAGNOSTICS_OPTION_SEPARATOR + ledgerFile.getAbsolutePath());
+			List<String> jcmdOutput = runCommandAndLogOutput(args);
+			log("testCompilerLedgerDisabled() jcmdOutput = " + jcmdOutput);
+			Optional<String> searchResult = StringUtilities.searchSubstring("the compilation ledger is not enabled", jcmdOutput);
+			assertTrue(searchResult.isPresent(), "Unpexpected jcmd output: " + jcmdOutput);
+			assertTrue(!ledgerFile.exists(), "Compiler.ledger wrote " + ledgerFile + " without a ledger");
+		} finally {
+			tgt.terminateTarget();
+		}
+	}
+
 	@Test
 	public void testJFRConfigure() throws IOException {
 		if (VersionCheck.major() != 17) {
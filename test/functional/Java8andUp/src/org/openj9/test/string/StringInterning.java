@@ -209,4 +209,93 @@ public class StringInterning {
 
 	}
 
+	public class internSharedStrings extends Thread {
+		private static final int NUM_STRINGS = 2000;
+		private String prefix;
+		private String[] interned;
+		private boolean collect;
+
+		public internSharedStrings(String prefix, boolean collect) {
+			super();
+			this.prefix = prefix;
+			this.collect = collect;
+			interned = new String[NUM_STRINGS];
+		}
+
+		@Override
+		public void run() {
+			for (int j = 0; j < 10; j++) {
+				for (int i = 0; i < NUM_STRINGS; i++) {
+					/* a new String object every time, so that only interning can make them identical */
+					String temp = new String((prefix + i).toCharArray()).intern();
+					if (null == interned[i]) {
+						interned[i] = temp;
+					} else if (interned[i] != temp) {
+						interned[i] = null;
+						return;
+					}
+				}
+				if (collect) {
+					/* move the interned strings, the lookups must find them at their new location */
+					System.gc();
+				}
+			}
+		}
+
+		public String getInterned(int i) {
+			return interned[i];
+		}
+	}
+
+	/**
+	 * Many threads intern the same strings at the same time, while one of them forces collections.
+	 * Every thread must get the same String object for the same value.
+	 */
+	public void testConcurrentInterningOfSharedStrings() {
+		internSharedStrings[] threads = new internSharedStrings[8];
+
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new internSharedStrings("testConcurrentInterningOfSharedStrings", 0 == i);
+			threads[i].start();
+		}
+		try {
+			for (int i = 0; i < threads.length; i++) {
+				threads[i].join();
+			}
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			Assert.fail("exception in internSharedStrings");
+		}
+
+		for (int i = 0; i < internSharedStrings.NUM_STRINGS; i++) {
+			String expected = threads[0].getInterned(i);
+			AssertJUnit.assertNotNull("string " + i + " was interned as different objects", expected);
+			for (int t = 1; t < threads.length; t++) {
+				AssertJUnit.assertSame("string " + i + " of thread " + t, expected, threads[t].getInterned(i));
+			}
+		}
+	}
+
+	/**
+	 * Interned strings which are still referenced keep their identity across collections,
+	 * and the ones which are not can be interned again.
+	 */
+	public void testInterningAcrossCollections() {
+		salt = "testInterningAcrossCollections";
+		String[] kept = new String[500];
+
+		for (int i = 0; i < kept.length; i++) {
+			kept[i] = new String((salt + "kept" + i).toCharArray()).intern();
+			new String((salt + "dropped" + i).toCharArray()).intern();
+		}
+		System.gc();
+		System.gc();
+		for (int i = 0; i < kept.length; i++) {
+			AssertJUnit.assertSame("kept string " + i, kept[i], new String((salt + "kept" + i).toCharArray()).intern());
+			String dropped = new String((salt + "dropped" + i).toCharArray()).intern();
+			AssertJUnit.assertEquals("dropped string " + i, salt + "dropped" + i, dropped);
+			AssertJUnit.assertSame("dropped string " + i + " interned again", dropped, (salt + "dropped" + i).intern());
+		}
+	}
+
 }
@@ -32,6 +32,8 @@ echo "start running script";
 # $6 is the NUM_CHECKPOINT
 # $7 is the KEEP_CHECKPOINT
 # $8 is the KEEP_TEST_OUTPUT
+# $9 is the additional JITServer options (optional)
+# $10 is the JVM options of a client run before the checkpoint run, e.g. to fill the server AOT cache (optional)
 
 TEST_ROOT=$1
 TEST_JDK_BIN=$2
@@ -41,6 +43,8 @@ APP_ARGS="$5"
 NUM_CHECKPOINT="$6"
 KEEP_CHECKPOINT="$7"
 KEEP_TEST_OUTPUT="$8"
+JITSERVER_EXTRA_OPTIONS="$9"
+WARMUP_JVM_OPTIONS="${10}"
 
 source $TEST_ROOT/jitserverconfig.sh
 
@@ -60,7 +64,13 @@ if grep -q -- "$JITSERVER_SSL" <<< "$APP_ARGS"; then
     fi
 fi
 
-JITSERVER_OPTIONS="-XX:JITServerPort=$JITSERVER_PORT -XX:JITServerHealthProbePort=$HEALTH_PORT $SSL_OPTS"
+JITSERVER_AOT_CACHE="-XX:+JITServerUseAOTCache"
+if grep -q -- "$JITSERVER_AOT_CACHE" <<< "$JVM_OPTIONS $APP_ARGS"; then
+    echo "Print JITServer AOT cache statistics"
+    export TR_PrintJITServerAOTCacheStats=1
+fi
+
+JITSERVER_OPTIONS="-XX:JITServerPort=$JITSERVER_PORT -XX:JITServerHealthProbePort=$HEALTH_PORT $SSL_OPTS $JITSERVER_EXTRA_OPTIONS"
 
 echo "Starting $TEST_JDK_BIN/jitserver $JITSERVER_OPTIONS"
 $TEST_JDK_BIN/jitserver $JITSERVER_OPTIONS &
@@ -73,6 +83,11 @@ JITSERVER_EXISTS=$?
 if [ "$JITSERVER_EXISTS" == 0 ]; then
     echo "JITSERVER EXISTS"
 
+    if [ -n "$WARMUP_JVM_OPTIONS" ]; then
+        echo "Warm-up client run"
+        $TEST_JDK_BIN/java -XX:JITServerPort=$JITSERVER_PORT $WARMUP_JVM_OPTIONS -version;
+    fi
+
     $TEST_JDK_BIN/java -XX:+EnableCRIUSupport -XX:JITServerPort=$JITSERVER_PORT $JVM_OPTIONS -cp "$TEST_ROOT/criu.jar" $MAINCLASS $APP_ARGS -XX:JITServerPort=$JITSERVER_PORT $NUM_CHECKPOINT>testOutput 2>&1;
 
     if [ "$KEEP_CHECKPOINT" != true ]; then
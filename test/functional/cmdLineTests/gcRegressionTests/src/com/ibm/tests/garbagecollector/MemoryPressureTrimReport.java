@@ -0,0 +1,80 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.MemoryMXBean;
+
+/**
+ * Reports the heap memory released under memory pressure (-Xgc:memoryPressureTrim) while the heap
+ * is repeatedly filled and emptied. The value must never be negative or decrease, and the MBean
+ * server must report the same attribute. With the argument "expectZero" the value must stay 0.
+ */
+public class MemoryPressureTrimReport
+{
+	private static final int ITERATIONS = 10;
+	public static Object[] _objectHolder;
+
+	public static void main(String[] args) throws Exception
+	{
+		boolean expectZero = (1 == args.length) && "expectZero".equals(args[0]);
+		MemoryMXBean bean = (MemoryMXBean) ManagementFactory.getMemoryMXBean();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(ManagementFactory.MEMORY_MXBEAN_NAME);
+		long previous = 0;
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			/* fill part of the heap, then free it so that the next cycle ends with large free entries */
+			_objectHolder = new Object[1024];
+			for (int j = 0; j < _objectHolder.length; j++) {
+				_objectHolder[j] = new byte[16 * 1024];
+			}
+			_objectHolder = null;
+			System.gc();
+
+			long released = bean.getHeapMemoryReleasedUnderPressure();
+			if (released < previous) {
+				fail("released bytes decreased from " + previous + " to " + released);
+			}
+			long attribute = ((Long) server.getAttribute(name, "HeapMemoryReleasedUnderPressure")).longValue();
+			if (attribute < released) {
+				fail("MBean attribute " + attribute + " is less than the earlier value " + released);
+			}
+			previous = attribute;
+		}
+		if (expectZero && (0 != previous)) {
+			fail("expected no memory to be released, but " + previous + " bytes were released");
+		}
+		System.out.println("Heap memory released under pressure: " + previous);
+		System.out.println("Memory pressure trim report complete");
+	}
+
+	private static void fail(String message)
+	{
+		System.out.println("Memory pressure trim report failed: " + message);
+		System.exit(2);
+	}
+}
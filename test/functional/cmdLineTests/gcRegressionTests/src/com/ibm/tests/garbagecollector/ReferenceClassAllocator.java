@@ -0,0 +1,78 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Creates weak and phantom references of their own classes (so that they can be told apart in the
+ * per class reference statistics of verbose GC) whose referents die, collects them and waits until
+ * every reference has been enqueued.
+ */
+public class ReferenceClassAllocator
+{
+	private static final int REFERENCE_COUNT = 1000;
+	private static final long TIMEOUT_MILLIS = 60000;
+
+	public static void main(String[] args) throws InterruptedException
+	{
+		ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+		Reference<?>[] references = new Reference<?>[2 * REFERENCE_COUNT];
+		for (int i = 0; i < REFERENCE_COUNT; i++) {
+			references[2 * i] = new CountedWeakReference(new Object(), queue);
+			references[(2 * i) + 1] = new CountedPhantomReference(new Object(), queue);
+		}
+
+		int enqueued = 0;
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while ((enqueued < references.length) && (System.currentTimeMillis() < deadline)) {
+			System.gc();
+			while (null != queue.remove(100)) {
+				enqueued += 1;
+			}
+		}
+		if (enqueued < references.length) {
+			System.out.println("Only " + enqueued + " of " + references.length + " references were enqueued");
+			System.exit(2);
+		}
+		System.out.println("All " + enqueued + " references were enqueued");
+	}
+}
+
+class CountedWeakReference extends WeakReference<Object>
+{
+	CountedWeakReference(Object referent, ReferenceQueue<Object> queue)
+	{
+		super(referent, queue);
+	}
+}
+
+class CountedPhantomReference extends PhantomReference<Object>
+{
+	CountedPhantomReference(Object referent, ReferenceQueue<Object> queue)
+	{
+		super(referent, queue);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tests.garbagecollector;
+
+import java.io.File;
+import java.math.BigDecimal;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Checks that a verbose GC log is a well formed XML document and reports how many GC
+ * operations and dropped record notices it contains, how many class loaders were
+ * unloaded and deferred to the finalizer thread, and how long the finalizer thread
+ * spent freeing them.
+ */
+public class VerboseLogValidator
+{
+	/**
+	 * @param args Takes one argument: the verbose GC log file to check.
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		if (1 != args.length)
+		{
+			System.err.println("Missing argument for the verbose GC log file name.");
+			System.exit(1);
+		}
+
+		Document document;
+		try
+		{
+			document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(args[0]));
+		}
+		catch (Exception e)
+		{
+			System.out.println("Verbose log is malformed: " + e.getMessage());
+			System.exit(2);
+			return;
+		}
+		System.out.println("Verbose log is well formed");
+
+		int gcOps = document.getElementsByTagName("gc-op").getLength();
+		System.out.println("gc-op stanzas: " + gcOps);
+
+		int droppedNotices = 0;
+		NodeList children = document.getDocumentElement().getChildNodes();
+		for (int i = 0; i < children.getLength(); i++)
+		{
+			Node child = children.item(i);
+			if ((Node.COMMENT_NODE == child.getNodeType()) && child.getNodeValue().contains("records dropped"))
+			{
+				droppedNotices += 1;
+			}
+		}
+		System.out.println("dropped record notices: " + droppedNotices);
+
+		long classLoadersUnloaded = 0;
+		long classLoadersDeferred = 0;
+		BigDecimal deferredFreeTime = BigDecimal.ZERO;
+		NodeList classUnloadInfos = document.getElementsByTagName("classunload-info");
+		for (int i = 0; i < classUnloadInfos.getLength(); i++)
+		{
+			Element classUnloadInfo = (Element)classUnloadInfos.item(i);
+			classLoadersUnloaded += Long.parseLong(classUnloadInfo.getAttribute("classloadersunloaded"));
+			if (classUnloadInfo.hasAttribute("classloadersdeferred"))
+			{
+				classLoadersDeferred += Long.parseLong(classUnloadInfo.getAttribute("classloadersdeferred"));
+			}
+			if (classUnloadInfo.hasAttribute("deferredfreems"))
+			{
+				deferredFreeTime = deferredFreeTime.add(new BigDecimal(classUnloadInfo.getAttribute("deferredfreems")));
+			}
+		}
+		System.out.println("class loaders unloaded: " + classLoadersUnloaded);
+		System.out.println("class loaders deferred: " + classLoadersDeferred);
+		System.out.println("deferred class loader free time us: " + deferredFreeTime.movePointRight(3).longValue());
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Check that the throttled events of a recording stay within their rate.
+ * Usage: JFREventRateTest <recording> <ObjectAllocationSample rate>
+ *
+ * The throttler spreads the rate across windows of 100ms and carries the unused budget of a window
+ * into the next one, so a one second bucket which straddles windows may hold somewhat more than the
+ * rate. The check allows twice the rate, which still fails if the events are not throttled at all.
+ */
+public class JFREventRateTest {
+	/* Same as J9JFR_EXCEPTION_SAMPLE_RATE. */
+	private static final long EXCEPTION_SAMPLE_RATE = 100;
+
+	private static boolean passed = true;
+
+	private static void checkRate(String eventName, Map<Long, Long> countPerSecond, long rate) {
+		long maxCount = 0;
+		for (long count : countPerSecond.values()) {
+			maxCount = Math.max(maxCount, count);
+		}
+		System.out.println(eventName + ": " + countPerSecond.size() + " seconds, at most " + maxCount + " events per second, rate " + rate);
+		if (maxCount > (2 * rate)) {
+			System.out.println(eventName + " exceeded its rate");
+			passed = false;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		long allocationSampleRate = Long.parseLong(args[1]);
+		Map<Long, Long> allocationSamples = new HashMap<>();
+		Map<Long, Long> exceptionThrows = new HashMap<>();
+		long allocationWeight = 0;
+		long lastThrowables = 0;
+
+		for (RecordedEvent event : RecordingFile.readAllEvents(Paths.get(args[0]))) {
+			Long second = event.getStartTime().getEpochSecond();
+			switch (event.getEventType().getName()) {
+			case "jdk.ObjectAllocationSample":
+				allocationSamples.merge(second, 1L, Long::sum);
+				allocationWeight += event.getLong("weight");
+				break;
+			case "jdk.JavaExceptionThrow":
+				exceptionThrows.merge(second, 1L, Long::sum);
+				break;
+			case "jdk.ExceptionStatistics":
+				long throwables = event.getLong("throwables");
+				if (throwables < lastThrowables) {
+					System.out.println("jdk.ExceptionStatistics throwables decreased from " + lastThrowables + " to " + throwables);
+					passed = false;
+				}
+				lastThrowables = throwables;
+				break;
+			default:
+				break;
+			}
+		}
+
+		if (allocationSamples.isEmpty() || (0 == allocationWeight)) {
+			System.out.println("No jdk.ObjectAllocationSample weight was recorded");
+			passed = false;
+		}
+		if (exceptionThrows.isEmpty() || (0 == lastThrowables)) {
+			System.out.println("No jdk.JavaExceptionThrow or jdk.ExceptionStatistics was recorded");
+			passed = false;
+		}
+		checkRate("jdk.ObjectAllocationSample", allocationSamples, allocationSampleRate);
+		checkRate("jdk.JavaExceptionThrow", exceptionThrows, EXCEPTION_SAMPLE_RATE);
+
+		if (passed) {
+			System.out.println("All events within their rate.");
+		}
+	}
+}
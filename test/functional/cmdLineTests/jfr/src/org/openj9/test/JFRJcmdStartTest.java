@@ -0,0 +1,75 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test;
+
+import java.io.File;
+
+import com.ibm.oti.vm.VM;
+
+/**
+ * Start and stop a JFR recording of this JVM with jcmd while a workload runs.
+ * Usage: JFRJcmdStartTest <recording>
+ *
+ * The JVM is started without -XX:StartFlightRecording, so the recording has events that are only
+ * enabled once JFR starts, such as ObjectAllocationSample, only if they can be enabled late.
+ */
+public class JFRJcmdStartTest {
+	private static void jcmd(String command) throws Exception {
+		String jcmd = System.getProperty("java.home") + File.separator + "bin" + File.separator + "jcmd";
+		String pid = Long.toString(ProcessHandle.current().pid());
+		Process process = new ProcessBuilder(jcmd, pid, command).inheritIO().start();
+		int exitCode = process.waitFor();
+		if (exitCode != 0) {
+			throw new RuntimeException("jcmd " + command + " failed with exit code " + exitCode);
+		}
+	}
+
+	public static void main(String[] args) throws Throwable {
+		final WorkLoad workLoad = new WorkLoad(200, 20000, 200, false);
+
+		if (VM.isJFRRecordingStarted()) {
+			System.out.println("Failed should not be recording.");
+			return;
+		}
+
+		Thread app = new Thread(() -> {
+			workLoad.runWork();
+		});
+		app.start();
+
+		jcmd("JFR.start filename=" + args[0]);
+		if (!VM.isJFRRecordingStarted()) {
+			System.out.println("Failed to record.");
+			return;
+		}
+
+		Thread.sleep(2000);
+		jcmd("JFR.stop");
+		app.join();
+
+		if (VM.isJFRRecordingStarted()) {
+			System.out.println("Failed to stop recording.");
+			return;
+		}
+		System.out.println("JFR recording started with jcmd complete.");
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test a continuous recording, started with -XX:StartFlightRecording=filename=<recording>,maxsize=<size>.
+ *
+ * run <recording> <maxsize in bytes>: run a workload, and check that the chunks kept in the
+ *     "<recording>.repository" directory stay within maxsize, besides the newest chunks.
+ * check <recording>: after the VM has exited, check that the retained chunks were written to the
+ *     recording file, which is a valid recording, and that the repository was removed.
+ */
+public class JFRRepositoryTest {
+	private static final String REPOSITORY_SUFFIX = ".repository";
+
+	private static volatile boolean workloadDone;
+
+	private static void run(String recording, long maxSize) throws Exception {
+		File repository = new File(recording + REPOSITORY_SUFFIX);
+		long maxRepositorySize = 0;
+		long maxChunkCount = 0;
+		boolean passed = true;
+
+		Thread workloadThread = new Thread(() -> {
+			new WorkLoad(10, 5000, 20, false).runWork();
+			workloadDone = true;
+		});
+		workloadThread.start();
+
+		while (!workloadDone) {
+			Thread.sleep(100);
+			File[] chunks = repository.listFiles();
+			if (null == chunks) {
+				continue;
+			}
+			long repositorySize = 0;
+			long largestChunk = 0;
+			for (File chunk : chunks) {
+				long chunkSize = chunk.length();
+				repositorySize += chunkSize;
+				largestChunk = Math.max(largestChunk, chunkSize);
+			}
+			maxRepositorySize = Math.max(maxRepositorySize, repositorySize);
+			maxChunkCount = Math.max(maxChunkCount, chunks.length);
+			/* the newest chunk is always kept, and the next one may be being written */
+			if (repositorySize > (maxSize + (2 * largestChunk))) {
+				System.out.println("The repository exceeded its maximum size: " + repositorySize + " bytes in " + chunks.length + " chunks");
+				passed = false;
+			}
+		}
+		workloadThread.join();
+
+		System.out.println("Repository: at most " + maxRepositorySize + " bytes in " + maxChunkCount + " chunks, maxsize " + maxSize);
+		if (0 == maxChunkCount) {
+			System.out.println("The repository " + repository + " was not created");
+			passed = false;
+		}
+		if (passed) {
+			System.out.println("The repository stayed within its limits.");
+		}
+	}
+
+	private static void check(String recording) throws Exception {
+		File recordingFile = new File(recording);
+		File repository = new File(recording + REPOSITORY_SUFFIX);
+		boolean passed = true;
+
+		if (!recordingFile.isFile() || (0 == recordingFile.length())) {
+			System.out.println("The recording " + recording + " was not written");
+			passed = false;
+		} else if (RecordingFile.readAllEvents(Paths.get(recording)).isEmpty()) {
+			System.out.println("The recording " + recording + " has no events");
+			passed = false;
+		}
+		if (repository.exists()) {
+			System.out.println("The repository " + repository + " was not removed");
+			passed = false;
+		}
+		if (passed) {
+			System.out.println("The continuous recording is complete.");
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		if ("run".equals(args[0])) {
+			run(args[1], Long.parseLong(args[2]));
+		} else {
+			check(args[1]);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+
+package org.openj9.test;
+
+/**
+ * Contend on an inflated object monitor whose owner sleeps while holding it, so that the
+ * adaptive spins of the contending threads end in blocking. Run with
+ * -Xthr:adaptiveObjectMonitorSpinning while recording, to produce openj9.ObjectMonitorSpin events.
+ */
+public class MonitorSpinWorkload {
+	private static final Object lock = new MonitorSpinWorkloadLock();
+	private static volatile long sink;
+
+	/* A class of its own, so that the events for this monitor can be told apart */
+	static class MonitorSpinWorkloadLock {
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int numberOfThreads = 4;
+		int rounds = 10;
+
+		for (int round = 0; round < rounds; round++) {
+			Thread[] threads = new Thread[numberOfThreads];
+			synchronized (lock) {
+				/* waiting inflates the monitor, so the contending threads spin on it */
+				lock.wait(1);
+				for (int i = 0; i < numberOfThreads; i++) {
+					threads[i] = new Thread(() -> {
+						synchronized (lock) {
+							sink += 1;
+						}
+					});
+					threads[i].start();
+				}
+				/* keep the monitor while sleeping, the contending threads find the owner blocked */
+				Thread.sleep(200);
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+
+		System.out.println("Monitor spin workload complete.");
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Creates weak and phantom references of their own classes whose referents die, and collects them
+ * until every reference has been enqueued, so that openj9.ReferenceClassStatistics events are
+ * recorded for both classes when the JVM runs with -Xgc:referenceClassStatistics.
+ */
+public class ReferenceWorkload {
+	private static final int REFERENCE_COUNT = 1000;
+	private static final long TIMEOUT_MILLIS = 60000;
+
+	static class WorkloadWeakReference extends WeakReference<Object> {
+		WorkloadWeakReference(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+		}
+	}
+
+	static class WorkloadPhantomReference extends PhantomReference<Object> {
+		WorkloadPhantomReference(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		ReferenceQueue<Object> queue = new ReferenceQueue<>();
+		Reference<?>[] references = new Reference<?>[2 * REFERENCE_COUNT];
+		for (int i = 0; i < REFERENCE_COUNT; i++) {
+			references[2 * i] = new WorkloadWeakReference(new Object(), queue);
+			references[(2 * i) + 1] = new WorkloadPhantomReference(new Object(), queue);
+		}
+
+		int enqueued = 0;
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while ((enqueued < references.length) && (System.currentTimeMillis() < deadline)) {
+			System.gc();
+			while (null != queue.remove(100)) {
+				enqueued += 1;
+			}
+		}
+		if (enqueued < references.length) {
+			System.out.println("Only " + enqueued + " of " + references.length + " references were enqueued");
+			return;
+		}
+		System.out.println("Reference workload complete.");
+	}
+}
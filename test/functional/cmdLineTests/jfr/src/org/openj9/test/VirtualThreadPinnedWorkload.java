@@ -0,0 +1,65 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Parks virtual threads while they are pinned to their carrier thread, so that
+ * jdk.VirtualThreadPinned events are recorded. Virtual threads and the pinning
+ * are reached by reflection since this source also builds for older releases,
+ * and jdk.internal.vm must be exported to the unnamed module.
+ */
+public class VirtualThreadPinnedWorkload {
+	public static void main(String[] args) throws Exception {
+		int numThreads = (args.length > 0) ? Integer.parseInt(args[0]) : 10;
+		Class<?> continuation = Class.forName("jdk.internal.vm.Continuation");
+		Method pin = continuation.getMethod("pin");
+		Method unpin = continuation.getMethod("unpin");
+		Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+		Method start = Class.forName("java.lang.Thread$Builder").getMethod("start", Runnable.class);
+
+		Runnable task = () -> {
+			try {
+				pin.invoke(null);
+				try {
+					LockSupport.parkNanos(10_000_000);
+				} finally {
+					unpin.invoke(null);
+				}
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		};
+
+		Thread[] threads = new Thread[numThreads];
+		for (int i = 0; i < numThreads; i++) {
+			threads[i] = (Thread)start.invoke(builder, task);
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		System.out.println("Virtual thread pinned workload complete.");
+	}
+}
@@ -30,6 +30,7 @@ echo "start running script";
 # $4 is the JVM Options
 # $5 is the Metrics
 # $6 is a boolean for testing the health port
+# $7 is the number of client runs against the same server (optional, defaults to 1)
 
 TEST_ROOT=$1
 TEST_JDK_BIN=$2
@@ -37,6 +38,7 @@ JITSERVER_OPTS="$3"
 JVM_OPTS="$4"
 METRICS=$5
 HEALTHPORTTEST=$6
+NUM_CLIENT_RUNS=${7:-1}
 
 source $TEST_ROOT/jitserverconfig.sh
 
@@ -53,6 +55,20 @@ if grep -q -- "$JITSERVER_SSL" <<< "$JVM_OPTS"; then
     fi
 fi
 
+JITSERVER_AOT_CACHE="-XX:+JITServerUseAOTCache"
+
+if grep -q -- "$JITSERVER_AOT_CACHE" <<< "$JVM_OPTS"; then
+    echo "Print JITServer AOT cache statistics"
+    export TR_PrintJITServerAOTCacheStats=1
+fi
+
+JITSERVER_SHARE_ROMCLASSES="JITServerShareROMClasses"
+
+if grep -q -- "$JITSERVER_SHARE_ROMCLASSES" <<< "$JITSERVER_OPTS"; then
+    echo "Print JITServer message statistics"
+    export TR_PrintJITServerMsgStats=1
+fi
+
 if [ "$METRICS" == true ]; then
     METRICS_PORT=$(random_port)
     METRICS_OPTS="-XX:+JITServerMetrics -XX:JITServerMetricsPort=$METRICS_PORT"
@@ -71,7 +87,10 @@ JITSERVER_EXISTS=$?
 if [ "$JITSERVER_EXISTS" == 0 ]; then
     echo "JITSERVER EXISTS"
 
-    $TEST_JDK_BIN/java -XX:JITServerPort=$JITSERVER_PORT $JVM_OPTS -version;
+    for ((i=1; i<=$NUM_CLIENT_RUNS; i++)); do
+        echo "Client run $i"
+        $TEST_JDK_BIN/java -XX:JITServerPort=$JITSERVER_PORT $JVM_OPTS -version;
+    done
 
     if [ "$METRICS" == true ]; then
         curl http://localhost:$METRICS_PORT/metrics
@@ -0,0 +1,78 @@
+#!/bin/sh
+
+#
+# Copyright IBM Corp. and others 2026
+#
+# This program and the accompanying materials are made available under
+# the terms of the Eclipse Public License 2.0 which accompanies this
+# distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+# or the Apache License, Version 2.0 which accompanies this distribution and
+# is available at https://www.apache.org/licenses/LICENSE-2.0.
+#
+# This Source Code may also be made available under the following
+# Secondary Licenses when the conditions for such availability set
+# forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+# General Public License, version 2 with the GNU Classpath
+# Exception [1] and GNU General Public License, version 2 with the
+# OpenJDK Assembly Exception [2].
+#
+# [1] https://www.gnu.org/software/classpath/license.html
+# [2] https://openjdk.org/legal/assembly-exception.html
+#
+# SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+#
+
+echo "start running script";
+# the expected arguments are:
+# $1 is the TEST_ROOT
+# $2 is the TEST_JDK_BIN
+# $3 is the JVM Options
+
+TEST_ROOT=$1
+TEST_JDK_BIN=$2
+JVM_OPTS="$3"
+
+source $TEST_ROOT/jitserverconfig.sh
+
+METRICS_PORT=$(random_port)
+WORK_DIR=$(mktemp -d)
+
+# The target runs a few global GCs, then waits until the metrics have been scraped
+cat > $WORK_DIR/MetricsTarget.java << 'END_OF_SOURCE'
+import java.io.File;
+
+public class MetricsTarget {
+	public static void main(String[] args) throws InterruptedException {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		File done = new File(args[0]);
+		for (int i = 0; (i < 600) && !done.exists(); i++) {
+			Thread.sleep(100);
+		}
+	}
+}
+END_OF_SOURCE
+$TEST_JDK_BIN/javac -d $WORK_DIR $WORK_DIR/MetricsTarget.java
+
+echo "Starting $TEST_JDK_BIN/java -XX:+JITServerMetrics -XX:JITServerMetricsPort=$METRICS_PORT $JVM_OPTS"
+$TEST_JDK_BIN/java -XX:+JITServerMetrics -XX:JITServerMetricsPort=$METRICS_PORT $JVM_OPTS -cp $WORK_DIR MetricsTarget $WORK_DIR/done &
+TARGET_PID=$!
+
+# Give the metrics thread time to open its port
+for i in 1 2 3 4 5 6 7 8 9 10; do
+    sleep 1
+    if curl -s -o /dev/null http://localhost:$METRICS_PORT/metrics; then
+        break
+    fi
+done
+# Wait for the GCs of the target to be recorded
+sleep 2
+curl -s http://localhost:$METRICS_PORT/metrics
+
+touch $WORK_DIR/done
+wait $TARGET_PID
+echo "TARGET EXIT CODE $?"
+rm -rf $WORK_DIR
+
+echo "finished script";
@@ -0,0 +1,100 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvmti.tests.iterateThroughHeapParallel;
+
+public class ithp001
+{
+	native static boolean compareWithIterateThroughHeap(Class<?> clazz, int maxWorkers, int expectedCount);
+	native static boolean abortIteration(int maxWorkers);
+	native static boolean checkArguments();
+
+	private final static int INSTANCE_COUNT = 10000;
+	private final static int MAX_WORKERS = 8;
+
+	static class Instance
+	{
+		long value;
+		Object next;
+
+		Instance(long value, Object next)
+		{
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	private static Object[] instances;
+
+	private static void createInstances()
+	{
+		if (null == instances) {
+			instances = new Object[INSTANCE_COUNT];
+			for (int i = 0; i < INSTANCE_COUNT; i++) {
+				/* mix in some arrays so that the instances are spread over the heap */
+				instances[i] = new Instance(i, new byte[i % 64]);
+			}
+		}
+	}
+
+	public boolean testCompareWithIterateThroughHeap()
+	{
+		createInstances();
+		return compareWithIterateThroughHeap(Instance.class, MAX_WORKERS, INSTANCE_COUNT);
+	}
+
+	public boolean testCompareOnOneWorker()
+	{
+		createInstances();
+		return compareWithIterateThroughHeap(Instance.class, 1, INSTANCE_COUNT);
+	}
+
+	public boolean testAbort()
+	{
+		createInstances();
+		return abortIteration(MAX_WORKERS);
+	}
+
+	public boolean testArguments()
+	{
+		return checkArguments();
+	}
+
+	public String helpCompareWithIterateThroughHeap()
+	{
+		return "Checks that IterateThroughHeapParallel reports the same instances and sizes as IterateThroughHeap";
+	}
+
+	public String helpCompareOnOneWorker()
+	{
+		return "Checks IterateThroughHeapParallel against IterateThroughHeap when it is limited to one worker";
+	}
+
+	public String helpAbort()
+	{
+		return "Checks that returning JVMTI_VISIT_ABORT stops the walk on all the workers";
+	}
+
+	public String helpArguments()
+	{
+		return "Checks that IterateThroughHeapParallel rejects bad arguments";
+	}
+}
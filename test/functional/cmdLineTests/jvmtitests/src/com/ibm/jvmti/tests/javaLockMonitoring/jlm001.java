@@ -37,6 +37,7 @@ public class jlm001
         // supported formats (ibmjvmti.h)
         public static final int COM_IBM_JLM_DUMP_FORMAT_OBJECT_ID = 0;
         public static final int COM_IBM_JLM_DUMP_FORMAT_TAGS      = 1;
+        public static final int COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS = 2;
         public static final int COM_IBM_JLM_DUMP_INVALID_FORMAT   = 0xffff; 
          
 	// expected error codes from the natives 
@@ -167,6 +168,51 @@ public class jlm001
         }
 
 
+	// class used to get info from the JLM dumps, format with tags and spin counts
+	public class MonitorInfoSpinStats{
+		public boolean valid = false;
+		public byte    monitorType;
+		public int     slowCount;
+		public long    tag;
+		public long    spinAcquireCount;
+		public long    spinBlockCount;
+
+		public MonitorInfoSpinStats(String monitorName, jlmresult001 dumpData){
+			ByteBuffer dumpBuffer = ByteBuffer.wrap(dumpData.dumpData);
+			dumpBuffer.order(ByteOrder.BIG_ENDIAN);
+			valid = false;
+			dumpBuffer.rewind();
+
+			while (dumpBuffer.hasRemaining()){
+				monitorType      = dumpBuffer.get();
+				dumpBuffer.get();     // held
+				dumpBuffer.getInt();  // enter count
+				slowCount        = dumpBuffer.getInt();
+				dumpBuffer.getInt();  // recursive count
+				dumpBuffer.getInt();  // spin2 count
+				dumpBuffer.getInt();  // yield count
+				dumpBuffer.getLong(); // hold time
+				tag              = dumpBuffer.getLong();
+				spinAcquireCount = dumpBuffer.getLong();
+				spinBlockCount   = dumpBuffer.getLong();
+
+				StringBuffer monitorNameBuffer = new StringBuffer();
+				byte nextByte = dumpBuffer.get();
+				while (nextByte != 0){
+					monitorNameBuffer.append((char) nextByte);
+					nextByte = dumpBuffer.get();
+				}
+				String currentMonitorName = monitorNameBuffer.toString();
+
+				if (currentMonitorName.contains(monitorName)){
+					valid = true;
+					break;
+				}
+			}
+		}
+	}
+
+
 	// this class is used to start a thread which inflates a monitor for us
 	class Inflator extends Thread{
 		Object syncObject;
@@ -887,6 +933,112 @@ public class jlm001
 		return "Tests the slow count for a jlm dump, jlm dump stats";
 	}
 	
+	public boolean testJLMDumpStats_DUMP_FORMAT_SPIN_STATS()
+	{
+		class ObjectWithMonitorOfInterestS4 extends Object{
+		};
+
+		boolean returnValue = false;
+		// set by the test which runs with -Xthr:adaptiveObjectMonitorSpinning
+		boolean adaptiveSpinning = Boolean.getBoolean("jlm001.adaptiveSpinning");
+
+		// start JLM
+		int result = jvmtiJlmSet(COM_IBM_JLM_START_TIME_STAMP);
+		if (result != JVMTI_ERROR_NONE) {
+			// we failed to start JLM so fail the test
+			System.out.println("Failed doing COM_IBM_JLM_START_TIME_STAMP");
+			return false;
+		}
+
+		// Enable Monitor Contended Entered event, which tags the monitor object
+		if (enableMonitoringEvent() == false) {
+			System.out.println("Failed enabling Monitor Contended Enter event");
+			return false;
+		}
+
+		// create the object monitor that we will use for the test and inflate it,
+		// so that the wanters spin on the inflated monitor before they block
+		Object syncObject = new ObjectWithMonitorOfInterestS4();
+		Inflator inflator = new Inflator(syncObject);
+		inflator.inflate();
+
+		// the holder sleeps while it holds the monitor, so the wanters have to block
+		MonitorHolder holder = new MonitorHolder(syncObject, 2000);
+		MonitorWanter wanter1 = new MonitorWanter(syncObject);
+		MonitorWanter wanter2 = new MonitorWanter(syncObject);
+
+		holder.startHold();
+		wanter1.startWant();
+		wanter2.startWant();
+
+		holder.doneHold();
+		wanter1.doneWant();
+		wanter2.doneWant();
+
+		if (disableMonitoringEvent() == false) {
+			System.out.println("Failed disabling Monitor Contended Enter event");
+			return false;
+		}
+
+		jlmresult001 dumpData = jvmtiJlmDump(JLM001_DUMP_STATS, COM_IBM_JLM_DUMP_FORMAT_SPIN_STATS);
+		if (dumpData.result != JVMTI_ERROR_NONE){
+			System.out.println("Call to jvmtiJlmDumpStats failed");
+			return false;
+		}
+
+		MonitorInfoSpinStats monInfo = new MonitorInfoSpinStats("ObjectWithMonitorOfInterestS4", dumpData);
+		if (monInfo.valid){
+			if (monInfo.monitorType != JVMTI_MONITOR_JAVA){
+				System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Wrong monitor type for ObjectWithMonitorOfInterestS4");
+				return false;
+			}
+
+			// the fields before the spin counts must be laid out as in FORMAT_TAGS
+			if (monInfo.slowCount < 2){
+				System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Slow count not as expected at least 2, was:" + monInfo.slowCount);
+				return false;
+			}
+
+			if (monInfo.tag != JLM001_TAG_VALUE) {
+				System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Tag not as expected, was:" + monInfo.tag);
+				return false;
+			}
+
+			if (adaptiveSpinning) {
+				// each wanter spun on the inflated monitor and then blocked
+				if (monInfo.spinBlockCount < 2){
+					System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Spin block count not as expected at least 2, was:" + monInfo.spinBlockCount);
+					return false;
+				}
+			} else {
+				// the spins are only counted with adaptive spinning
+				if ((monInfo.spinAcquireCount != 0) || (monInfo.spinBlockCount != 0)){
+					System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Spin counts not 0 without adaptive spinning, were:"
+						+ monInfo.spinAcquireCount + " " + monInfo.spinBlockCount);
+					return false;
+				}
+			}
+			returnValue = true;
+		} else {
+			System.out.println("JlmDumpStats, FORMAT_SPIN_STATS: Did not find ObjectWithMonitorOfInterestS4");
+			returnValue = false;
+		}
+
+		// stop JLM
+		result = jvmtiJlmSet(COM_IBM_JLM_STOP_TIME_STAMP);
+		if (result != JVMTI_ERROR_NONE) {
+			System.out.println("Failed doing COM_IBM_JLM_STOP");
+			return false;
+		}
+
+		return returnValue;
+	}
+
+	public String helpJLMDumpStats_DUMP_FORMAT_SPIN_STATS()
+	{
+		return "Tests the adaptive spin counts in a JLM dump with JlmDumpStats() in the spin stats format";
+	}
+
 	public boolean testJLMDumpStats_DUMP_FORMAT_INVALID() 
 	{
 		boolean returnValue = false;
@@ -0,0 +1,70 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.xtrace;
+
+/**
+ * Contend on an inflated object monitor whose owner sleeps while holding it, so that
+ * adaptive spinning finds the owner not running. Run with
+ * -Xthr:adaptiveObjectMonitorSpinning and the Trc_VM_spinOnTryEnter_adaptiveSpin
+ * tracepoint enabled, which reports ownerBlocked=1 for these spins.
+ * With "flat", the monitor is not inflated first, so the contending threads spin on
+ * the flat lock and the Trc_VM_spinOnFlatLock_ownerBlocked tracepoint reports the owner.
+ *
+ * Usage: MonitorSpinContention [contending threads] [rounds] [flat]
+ */
+public class MonitorSpinContention {
+	private static final Object lock = new Object();
+	private static volatile long sink;
+
+	public static void main(String[] args) throws InterruptedException {
+		int numberOfThreads = (args.length > 0) ? Integer.parseInt(args[0]) : 4;
+		int rounds = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+		boolean flat = (args.length > 2) && "flat".equals(args[2]);
+
+		for (int round = 0; round < rounds; round++) {
+			Thread[] threads = new Thread[numberOfThreads];
+			/* a new object for each round, as the monitor of the previous one stays inflated */
+			Object contended = flat ? new Object() : lock;
+			synchronized (contended) {
+				if (!flat) {
+					/* waiting inflates the monitor, so the contending threads spin on it */
+					contended.wait(1);
+				}
+				for (int i = 0; i < numberOfThreads; i++) {
+					threads[i] = new Thread(() -> {
+						synchronized (contended) {
+							sink += 1;
+						}
+					});
+					threads[i].start();
+				}
+				/* keep the monitor while sleeping, the contending threads find the owner blocked */
+				Thread.sleep(200);
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+
+		System.out.println("Monitor spin contention complete.");
+	}
+}
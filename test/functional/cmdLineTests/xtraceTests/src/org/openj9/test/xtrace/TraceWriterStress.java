@@ -0,0 +1,65 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.xtrace;
+
+/**
+ * Fill trace buffers from many threads at once, so that they hand full buffers to the
+ * trace writer both while it is busy writing and while it is waiting for more.
+ * Run with method trace of traced(), for example
+ * -Xtrace:none,maximal=mt,methods={org/openj9/test/xtrace/TraceWriterStress.traced*},buffers=8k,output={file}
+ *
+ * Usage: TraceWriterStress [threads] [calls per thread]
+ */
+public class TraceWriterStress {
+	private static volatile long sink;
+
+	private static long traced(long value) {
+		return value + 1;
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int numberOfThreads = (args.length > 0) ? Integer.parseInt(args[0]) : 16;
+		final int calls = (args.length > 1) ? Integer.parseInt(args[1]) : 20000;
+		Thread[] threads = new Thread[numberOfThreads];
+
+		for (int i = 0; i < numberOfThreads; i++) {
+			final int index = i;
+			threads[i] = new Thread(() -> {
+				long value = 0;
+				for (int j = 0; j < calls; j++) {
+					value = traced(value);
+					if (0 == ((j + index) % 1000)) {
+						/* let the writer catch up and wait, so that the next buffer has to wake it */
+						Thread.yield();
+					}
+				}
+				sink += value;
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		System.out.println("All threads complete.");
+	}
+}